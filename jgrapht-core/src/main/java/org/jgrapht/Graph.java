@@ -396,6 +396,126 @@ public interface Graph<V, E>
      */
     Set<E> outgoingEdgesOf(V vertex);
 
+    /**
+     * Performs the given action for each edge touching the specified vertex. The edges are those
+     * returned by {@link #edgesOf(Object)}, but implementations may visit them directly without
+     * creating any intermediate collection or set view.
+     *
+     * <p>
+     * The graph must not be modified while the action is being performed.
+     *
+     * @param vertex the vertex
+     * @param action the action to be performed for each edge
+     *
+     * @throws IllegalArgumentException if vertex is not found in the graph.
+     * @throws NullPointerException if vertex or action is <code>null</code>.
+     */
+    default void forEachEdgeOf(V vertex, Consumer<? super E> action)
+    {
+        Objects.requireNonNull(action);
+        edgesOf(vertex).forEach(action);
+    }
+
+    /**
+     * Performs the given action for each edge incoming into the specified vertex. The edges are
+     * those returned by {@link #incomingEdgesOf(Object)}, but implementations may visit them
+     * directly without creating any intermediate collection or set view.
+     *
+     * <p>
+     * The graph must not be modified while the action is being performed.
+     *
+     * @param vertex the vertex
+     * @param action the action to be performed for each edge
+     *
+     * @throws IllegalArgumentException if vertex is not found in the graph.
+     * @throws NullPointerException if vertex or action is <code>null</code>.
+     */
+    default void forEachIncomingEdge(V vertex, Consumer<? super E> action)
+    {
+        Objects.requireNonNull(action);
+        incomingEdgesOf(vertex).forEach(action);
+    }
+
+    /**
+     * Performs the given action for each edge outgoing from the specified vertex. The edges are
+     * those returned by {@link #outgoingEdgesOf(Object)}, but implementations may visit them
+     * directly without creating any intermediate collection or set view.
+     *
+     * <p>
+     * The graph must not be modified while the action is being performed.
+     *
+     * @param vertex the vertex
+     * @param action the action to be performed for each edge
+     *
+     * @throws IllegalArgumentException if vertex is not found in the graph.
+     * @throws NullPointerException if vertex or action is <code>null</code>.
+     */
+    default void forEachOutgoingEdge(V vertex, Consumer<? super E> action)
+    {
+        Objects.requireNonNull(action);
+        outgoingEdgesOf(vertex).forEach(action);
+    }
+
+    /**
+     * Performs the given action for the opposite endpoint of each edge touching the specified
+     * vertex. A neighbor is visited once per edge, thus the visited vertices are the same as those
+     * in {@link Graphs#neighborListOf(Graph, Object)}.
+     *
+     * <p>
+     * The graph must not be modified while the action is being performed.
+     *
+     * @param vertex the vertex
+     * @param action the action to be performed for each neighbor
+     *
+     * @throws IllegalArgumentException if vertex is not found in the graph.
+     * @throws NullPointerException if vertex or action is <code>null</code>.
+     */
+    default void forEachNeighbor(V vertex, Consumer<? super V> action)
+    {
+        Objects.requireNonNull(action);
+        forEachEdgeOf(vertex, e -> action.accept(Graphs.getOppositeVertex(this, e, vertex)));
+    }
+
+    /**
+     * Performs the given action for the opposite endpoint of each edge incoming into the specified
+     * vertex. A predecessor is visited once per edge, thus the visited vertices are the same as
+     * those in {@link Graphs#predecessorListOf(Graph, Object)}.
+     *
+     * <p>
+     * The graph must not be modified while the action is being performed.
+     *
+     * @param vertex the vertex
+     * @param action the action to be performed for each predecessor
+     *
+     * @throws IllegalArgumentException if vertex is not found in the graph.
+     * @throws NullPointerException if vertex or action is <code>null</code>.
+     */
+    default void forEachPredecessor(V vertex, Consumer<? super V> action)
+    {
+        Objects.requireNonNull(action);
+        forEachIncomingEdge(vertex, e -> action.accept(Graphs.getOppositeVertex(this, e, vertex)));
+    }
+
+    /**
+     * Performs the given action for the opposite endpoint of each edge outgoing from the specified
+     * vertex. A successor is visited once per edge, thus the visited vertices are the same as those
+     * in {@link Graphs#successorListOf(Graph, Object)}.
+     *
+     * <p>
+     * The graph must not be modified while the action is being performed.
+     *
+     * @param vertex the vertex
+     * @param action the action to be performed for each successor
+     *
+     * @throws IllegalArgumentException if vertex is not found in the graph.
+     * @throws NullPointerException if vertex or action is <code>null</code>.
+     */
+    default void forEachSuccessor(V vertex, Consumer<? super V> action)
+    {
+        Objects.requireNonNull(action);
+        forEachOutgoingEdge(vertex, e -> action.accept(Graphs.getOppositeVertex(this, e, vertex)));
+    }
+
     /**
      * Removes all the edges in this graph that are also contained in the specified edge collection.
      * After this call returns, this graph will contain no edges in common with the specified edges.
@@ -0,0 +1,48 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.interfaces;
+
+import java.util.*;
+
+/**
+ * An algorithm which computes the shortest path distances from a set of source vertices to a set of
+ * target vertices.
+ * 
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * 
+ * @author agent
+ */
+public interface ManyToManyShortestPathsAlgorithm<V, E>
+{
+
+    /**
+     * Compute a table with the shortest path distances from each source vertex to each target
+     * vertex. The entry at row $i$ and column $j$ of the table is the weight of a shortest path
+     * from the $i$-th source vertex to the $j$-th target vertex, or
+     * {@link Double#POSITIVE_INFINITY} if no such path exists. Vertices may appear multiple times
+     * in both lists.
+     * 
+     * @param sources the source vertices
+     * @param targets the target vertices
+     * @return the distance table with one row per source vertex and one column per target vertex
+     * @throws IllegalArgumentException if a source or target vertex is not contained in the graph
+     */
+    double[][] getDistances(List<V> sources, List<V> targets);
+
+}
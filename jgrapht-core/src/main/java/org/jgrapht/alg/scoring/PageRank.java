@@ -19,6 +19,7 @@ package org.jgrapht.alg.scoring;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
 
 import java.util.*;
 
@@ -52,6 +53,13 @@ import java.util.*;
  * edges of $v$.
  * </p>
  * 
+ * <p>
+ * The computation runs on a {@link GraphIndexView} of the graph. The constructors accepting a
+ * graph build a new index which is used only by this instance. In order to pay the cost of
+ * indexing once when several algorithms are executed on the same graph, create the view once and
+ * pass it to {@link #PageRank(GraphIndexView, double, int, double)}.
+ * </p>
+ * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * 
@@ -122,10 +130,27 @@ public final class PageRank<V, E>
      * @param maxIterations the maximum number of iterations to perform
      * @param tolerance the calculation will stop if the difference of PageRank values between
      *        iterations change less than this value
+     * @see #PageRank(GraphIndexView, double, int, double)
      */
     public PageRank(Graph<V, E> g, double dampingFactor, int maxIterations, double tolerance)
     {
-        this.g = g;
+        this(new GraphIndexView<>(g), dampingFactor, maxIterations, tolerance);
+    }
+
+    /**
+     * Create and execute an instance of PageRank using a precomputed index of the graph. The index
+     * can be shared between several algorithms executed on the same graph.
+     * 
+     * @param index the index of the input graph
+     * @param dampingFactor the damping factor
+     * @param maxIterations the maximum number of iterations to perform
+     * @param tolerance the calculation will stop if the difference of PageRank values between
+     *        iterations change less than this value
+     */
+    public PageRank(
+        GraphIndexView<V, E> index, double dampingFactor, int maxIterations, double tolerance)
+    {
+        this.g = index.getGraph();
         this.scores = new HashMap<>();
 
         if (maxIterations <= 0) {
@@ -140,7 +165,7 @@ public final class PageRank<V, E>
             throw new IllegalArgumentException("Tolerance not valid, must be positive");
         }
 
-        run(dampingFactor, maxIterations, tolerance);
+        run(index, dampingFactor, maxIterations, tolerance);
     }
 
     /**
@@ -164,78 +189,87 @@ public final class PageRank<V, E>
         return scores.get(v);
     }
 
-    private void run(double dampingFactor, int maxIterations, double tolerance)
+    private void run(
+        GraphIndexView<V, E> index, double dampingFactor, int maxIterations, double tolerance)
     {
         // initialization
-        int totalVertices = g.vertexSet().size();
+        int totalVertices = index.vertexCount();
         boolean weighted = g.getType().isWeighted();
-        Map<V, Double> weights;
-        if (weighted) {
-            weights = new HashMap<>(totalVertices);
-        } else {
-            weights = Collections.emptyMap();
-        }
+        int[] outOffsets = index.getOutOffsets();
+        int[] outEdges = index.getOutEdges();
+        int[] inOffsets = index.getInOffsets();
+        int[] inEdges = index.getInEdges();
+        int[] inNeighbors = index.getInNeighbors();
+        double[] edgeWeights = index.getEdgeWeights();
 
-        double initScore = 1.0d / totalVertices;
-        for (V v : g.vertexSet()) {
-            scores.put(v, initScore);
+        // total outgoing weight, or out-degree if unweighted
+        double[] weights = new double[totalVertices];
+        for (int v = 0; v < totalVertices; v++) {
             if (weighted) {
                 double sum = 0;
-                for (E e : g.outgoingEdgesOf(v)) {
-                    sum += g.getEdgeWeight(e);
+                for (int i = outOffsets[v]; i < outOffsets[v + 1]; i++) {
+                    sum += edgeWeights[outEdges[i]];
                 }
-                weights.put(v, sum);
+                weights[v] = sum;
+            } else {
+                weights[v] = outOffsets[v + 1] - outOffsets[v];
             }
         }
 
+        double[] curScores = new double[totalVertices];
+        Arrays.fill(curScores, 1.0d / totalVertices);
+
         // run PageRank
-        Map<V, Double> nextScores = new HashMap<>();
+        double[] nextScores = new double[totalVertices];
         double maxChange = tolerance;
 
         while (maxIterations > 0 && maxChange >= tolerance) {
             // compute next iteration scores
             double r = 0d;
-            for (V v : g.vertexSet()) {
-                if (g.outgoingEdgesOf(v).size() > 0) {
-                    r += (1d - dampingFactor) * scores.get(v);
+            for (int v = 0; v < totalVertices; v++) {
+                if (outOffsets[v + 1] > outOffsets[v]) {
+                    r += (1d - dampingFactor) * curScores[v];
                 } else {
-                    r += scores.get(v);
+                    r += curScores[v];
                 }
             }
             r /= totalVertices;
 
             maxChange = 0d;
-            for (V v : g.vertexSet()) {
+            for (int v = 0; v < totalVertices; v++) {
                 double contribution = 0d;
 
                 if (weighted) {
-                    for (E e : g.incomingEdgesOf(v)) {
-                        V w = Graphs.getOppositeVertex(g, e, v);
+                    for (int i = inOffsets[v]; i < inOffsets[v + 1]; i++) {
+                        int w = inNeighbors[i];
                         contribution +=
-                            dampingFactor * scores.get(w) * g.getEdgeWeight(e) / weights.get(w);
+                            dampingFactor * curScores[w] * edgeWeights[inEdges[i]] / weights[w];
                     }
                 } else {
-                    for (E e : g.incomingEdgesOf(v)) {
-                        V w = Graphs.getOppositeVertex(g, e, v);
-                        contribution += dampingFactor * scores.get(w) / g.outgoingEdgesOf(w).size();
+                    for (int i = inOffsets[v]; i < inOffsets[v + 1]; i++) {
+                        int w = inNeighbors[i];
+                        contribution += dampingFactor * curScores[w] / weights[w];
                     }
                 }
 
-                double vOldValue = scores.get(v);
+                double vOldValue = curScores[v];
                 double vNewValue = r + contribution;
                 maxChange = Math.max(maxChange, Math.abs(vNewValue - vOldValue));
-                nextScores.put(v, vNewValue);
+                nextScores[v] = vNewValue;
             }
 
             // swap scores
-            Map<V, Double> tmp = scores;
-            scores = nextScores;
+            double[] tmp = curScores;
+            curScores = nextScores;
             nextScores = tmp;
 
             // progress
             maxIterations--;
         }
 
+        for (int v = 0; v < totalVertices; v++) {
+            scores.put(index.getVertex(v), curScores[v]);
+        }
     }
 
 }
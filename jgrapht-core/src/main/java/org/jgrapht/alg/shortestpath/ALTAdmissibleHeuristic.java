@@ -19,11 +19,12 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
-import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
 import org.jgrapht.alg.util.*;
-import org.jgrapht.graph.*;
 
+import java.io.*;
+import java.nio.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * An admissible heuristic for the A* algorithm using a set of landmarks and the triangle
@@ -59,7 +60,15 @@ import java.util.*;
  * <p>
  * In general more landmarks will speed up A* but will need more space. Given an A* query with
  * vertices source and target, a good landmark appears "before" source or "after" target where
- * before and after are relative to the "direction" from source to target.
+ * before and after are relative to the "direction" from source to target. Instead of providing the
+ * landmarks, they can be chosen by one of the strategies of {@link LandmarkSelection}.
+ * 
+ * <p>
+ * The Dijkstra executions of the pre-processing phase are independent and are executed in
+ * parallel using a {@link ForkJoinPool}, by default the common pool. The distances are stored in
+ * arrays indexed by the vertex indices of a {@link GraphIndexView}. Since the pre-processing of
+ * large graphs is expensive, the distances can be written to a stream using
+ * {@link #save(OutputStream)} and read back using {@link #load(Graph, InputStream)}.
  * 
  * @author Dimitrios Michail
  *
@@ -70,11 +79,51 @@ public class ALTAdmissibleHeuristic<V, E>
     implements
     AStarAdmissibleHeuristic<V>
 {
+    /**
+     * Strategies for the selection of landmarks.
+     */
+    public enum LandmarkSelection
+    {
+        /**
+         * Select landmarks uniformly at random.
+         */
+        RANDOM,
+        /**
+         * Start from a vertex farthest from a random vertex and repeatedly select the vertex
+         * farthest from all landmarks selected so far.
+         */
+        FARTHEST,
+        /**
+         * The avoid strategy of Goldberg and Werneck. Compute a shortest path tree from a random
+         * root and weight each vertex by how much the current landmarks underestimate its
+         * distance from the root. The new landmark is a leaf of the subtree with the largest total
+         * weight that does not already contain a landmark.
+         */
+        AVOID,
+        /**
+         * A graph-based variant of the planar strategy, which does not require coordinates.
+         * Starting from an approximate center of the graph, the subtrees of the shortest path tree
+         * of the center are partitioned into groups of roughly equal size. Each group, playing the
+         * role of a sector around the center, contributes the vertex farthest from the center.
+         */
+        PARTITION
+    }
+
+    private static final int NIL = -1;
+    private static final int MAGIC = 0x414c5448;
+    private static final int VERSION = 1;
+    private static final int IO_CHUNK = 8192;
+
     private final Graph<V, E> graph;
-    private final Comparator<Double> comparator;
-    private final Map<V, Map<V, Double>> fromLandmark;
-    private final Map<V, Map<V, Double>> toLandmark;
+    private final GraphIndexView<V, E> index;
     private final boolean directed;
+    private final Comparator<Double> comparator;
+    private final ConcurrentLinkedQueue<DijkstraSearchSpace> searchSpaces;
+
+    private int[] landmarks;
+    private int[] landmarkPosition;
+    private double[][] fromLandmark;
+    private double[][] toLandmark;
 
     /**
      * Constructs a new {@link AStarAdmissibleHeuristic} using a set of landmarks.
@@ -87,37 +136,135 @@ public class ALTAdmissibleHeuristic<V, E>
      */
     public ALTAdmissibleHeuristic(Graph<V, E> graph, Set<V> landmarks)
     {
-        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this(graph, landmarks, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new {@link AStarAdmissibleHeuristic} using a set of landmarks.
+     * 
+     * @param graph the graph
+     * @param landmarks a set of vertices of the graph which will be used as landmarks
+     * @param pool the pool used to execute the pre-processing
+     * 
+     * @throws IllegalArgumentException if no landmarks are provided
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public ALTAdmissibleHeuristic(Graph<V, E> graph, Set<V> landmarks, ForkJoinPool pool)
+    {
+        this(graph);
         Objects.requireNonNull(landmarks, "Landmarks cannot be null");
+        Objects.requireNonNull(pool, "Pool cannot be null");
         if (landmarks.isEmpty()) {
             throw new IllegalArgumentException("At least one landmark must be provided");
         }
-        this.fromLandmark = new HashMap<>();
+        Selection selection = new Selection(pool);
+        int[] indices = new int[landmarks.size()];
+        int i = 0;
+        for (V v : landmarks) {
+            indices[i++] = index.getVertexIndex(v);
+        }
+        selection.add(indices);
+        selection.finish();
+    }
+
+    /**
+     * Constructs a new {@link AStarAdmissibleHeuristic} selecting the landmarks using a given
+     * strategy. The common pool is used.
+     * 
+     * @param graph the graph
+     * @param landmarksCount the number of landmarks
+     * @param strategy the landmark selection strategy
+     * @param rng the random number generator used by the selection strategy
+     * 
+     * @throws IllegalArgumentException if the number of landmarks is not positive or is larger
+     *         than the number of vertices
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public ALTAdmissibleHeuristic(
+        Graph<V, E> graph, int landmarksCount, LandmarkSelection strategy, Random rng)
+    {
+        this(graph, landmarksCount, strategy, rng, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new {@link AStarAdmissibleHeuristic} selecting the landmarks using a given
+     * strategy. Strategies {@link LandmarkSelection#FARTHEST} and {@link LandmarkSelection#AVOID}
+     * select the landmarks one after the other and the Dijkstra executions of each selected
+     * landmark are performed before the next landmark is selected.
+     * 
+     * @param graph the graph
+     * @param landmarksCount the number of landmarks
+     * @param strategy the landmark selection strategy
+     * @param rng the random number generator used by the selection strategy
+     * @param pool the pool used to execute the pre-processing
+     * 
+     * @throws IllegalArgumentException if the number of landmarks is not positive or is larger
+     *         than the number of vertices
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public ALTAdmissibleHeuristic(
+        Graph<V, E> graph, int landmarksCount, LandmarkSelection strategy, Random rng,
+        ForkJoinPool pool)
+    {
+        this(graph);
+        Objects.requireNonNull(strategy, "Strategy cannot be null");
+        Objects.requireNonNull(rng, "Random number generator cannot be null");
+        Objects.requireNonNull(pool, "Pool cannot be null");
+        int n = index.vertexCount();
+        if (landmarksCount < 1 || landmarksCount > n) {
+            throw new IllegalArgumentException(
+                "Number of landmarks must be between 1 and the number of vertices");
+        }
+
+        Selection selection = new Selection(pool);
+        switch (strategy) {
+        case RANDOM:
+            selection.selectRandom(landmarksCount, rng);
+            break;
+        case FARTHEST:
+            selection.selectFarthest(landmarksCount, rng);
+            break;
+        case AVOID:
+            selection.selectAvoid(landmarksCount, rng);
+            break;
+        case PARTITION:
+            selection.selectPartition(landmarksCount, rng);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown strategy " + strategy);
+        }
+        selection.finish();
+    }
+
+    /**
+     * Common initialization and validation.
+     */
+    private ALTAdmissibleHeuristic(Graph<V, E> graph)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
         if (graph.getType().isDirected()) {
             this.directed = true;
-            this.toLandmark = new HashMap<>();
         } else if (graph.getType().isUndirected()) {
             this.directed = false;
-            this.toLandmark = this.fromLandmark;
         } else {
             throw new IllegalArgumentException("Graph must be directed or undirected");
         }
+        this.index = new GraphIndexView<>(graph);
         this.comparator = new ToleranceDoubleComparator();
+        this.searchSpaces = new ConcurrentLinkedQueue<>();
 
-        // precomputation and validation
-        for (V v : landmarks) {
-            for (E e : graph.edgesOf(v)) {
-                if (comparator.compare(graph.getEdgeWeight(e), 0d) < 0) {
-                    throw new IllegalArgumentException("Graph edge weights cannot be negative");
-                }
+        for (double w : index.getEdgeWeights()) {
+            if (comparator.compare(w, 0d) < 0) {
+                throw new IllegalArgumentException("Graph edge weights cannot be negative");
             }
-            precomputeToFromLandmark(v);
         }
     }
 
     /**
      * An admissible heuristic estimate from a source vertex to a target vertex. The estimate is
-     * always non-negative and never overestimates the true distance.
+     * always non-negative and never overestimates the true distance. It is infinite if the
+     * landmarks prove that the target is not reachable from the source. The estimate is consistent,
+     * both as a function of the source and as a function of the target.
      * 
      * @param u the source vertex
      * @param t the target vertex
@@ -136,68 +283,613 @@ public class ALTAdmissibleHeuristic<V, E>
             return maxEstimate;
         }
 
+        int ui = index.getVertexIndex(u);
+        int ti = index.getVertexIndex(t);
+
         /*
          * Special case, source is landmark
          */
-        if (fromLandmark.containsKey(u)) {
-            return fromLandmark.get(u).get(t);
+        if (landmarkPosition[ui] != NIL) {
+            return fromLandmark[landmarkPosition[ui]][ti];
         }
 
         /*
          * Special case, target is landmark
          */
-        if (toLandmark.containsKey(t)) {
-            return toLandmark.get(t).get(u);
+        if (landmarkPosition[ti] != NIL) {
+            return toLandmark[landmarkPosition[ti]][ui];
         }
 
         /*
          * Compute from landmarks
          */
-        for (V l : fromLandmark.keySet()) {
-            double estimate;
-            Map<V, Double> from = fromLandmark.get(l);
-            if (directed) {
-                Map<V, Double> to = toLandmark.get(l);
-                estimate = Math.max(to.get(u) - to.get(t), from.get(t) - from.get(u));
-            } else {
-                estimate = Math.abs(from.get(u) - from.get(t));
+        for (int l = 0; l < landmarks.length; l++) {
+            double[] to = directed ? toLandmark[l] : null;
+            maxEstimate = Math.max(maxEstimate, landmarkBound(fromLandmark[l], to, ui, ti));
+        }
+
+        return maxEstimate;
+    }
+
+    /**
+     * Lower bound on the distance between two vertices given by a single landmark. Infinite bounds
+     * are kept, since they prove that there is no path. Ignoring them would make the heuristic
+     * inconsistent next to the landmarks, where the exact distances are used.
+     * 
+     * @param from the distances from the landmark
+     * @param to the distances to the landmark, or null if the graph is undirected
+     * @param u the source vertex
+     * @param v the target vertex
+     * @return the lower bound
+     */
+    private static double landmarkBound(double[] from, double[] to, int u, int v)
+    {
+        if (to == null) {
+            return Math.abs(difference(from[u], from[v]));
+        }
+        return Math.max(difference(to[u], to[v]), difference(from[v], from[u]));
+    }
+
+    /**
+     * Difference of two distances, where the difference of two infinite distances carries no
+     * information and is replaced by zero.
+     */
+    private static double difference(double a, double b)
+    {
+        double d = a - b;
+        return Double.isNaN(d) ? 0d : d;
+    }
+
+    /**
+     * Get the landmarks used by the heuristic.
+     * 
+     * @return the landmarks
+     */
+    public List<V> getLandmarks()
+    {
+        List<V> result = new ArrayList<>(landmarks.length);
+        for (int l : landmarks) {
+            result.add(index.getVertex(l));
+        }
+        return result;
+    }
+
+    /**
+     * Write the landmarks and their distances to a stream. The stream is flushed but not closed.
+     * The written data can only be loaded for the same graph, that is, a graph with equal vertices
+     * and edges, in the same iteration order, and with equal edge weights.
+     * 
+     * @param out the output stream
+     * @throws IOException in case of an I/O error
+     */
+    public void save(OutputStream out)
+        throws IOException
+    {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeBoolean(directed);
+        data.writeInt(index.vertexCount());
+        data.writeInt(index.edgeCount());
+        data.writeLong(fingerprint(index));
+        data.writeInt(landmarks.length);
+        for (int l : landmarks) {
+            data.writeInt(l);
+        }
+        for (double[] row : fromLandmark) {
+            writeRow(data, row);
+        }
+        if (directed) {
+            for (double[] row : toLandmark) {
+                writeRow(data, row);
             }
+        }
+        data.flush();
+    }
 
-            // max over all landmarks
-            if (Double.isFinite(estimate)) {
-                maxEstimate = Math.max(maxEstimate, estimate);
+    /**
+     * Read landmarks and their distances, previously written by {@link #save(OutputStream)}, from
+     * a stream. The stream is not closed.
+     * 
+     * @param graph the graph
+     * @param in the input stream
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the heuristic
+     * @throws IOException in case of an I/O error or if the stream does not contain landmark
+     *         distances
+     * @throws IllegalArgumentException if the landmark distances were computed for a different
+     *         graph
+     */
+    public static <V, E> ALTAdmissibleHeuristic<V, E> load(Graph<V, E> graph, InputStream in)
+        throws IOException
+    {
+        ALTAdmissibleHeuristic<V, E> h = new ALTAdmissibleHeuristic<>(graph);
+        GraphIndexView<V, E> index = h.index;
+
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC || data.readInt() != VERSION) {
+            throw new IOException("Stream does not contain landmark distances");
+        }
+        if (data.readBoolean() != h.directed || data.readInt() != index.vertexCount()
+            || data.readInt() != index.edgeCount() || data.readLong() != fingerprint(index))
+        {
+            throw new IllegalArgumentException("Landmark distances computed for a different graph");
+        }
+        int n = index.vertexCount();
+        int k = data.readInt();
+        if (k < 1 || k > n) {
+            throw new IOException("Invalid number of landmarks: " + k);
+        }
+        int[] landmarks = new int[k];
+        for (int i = 0; i < k; i++) {
+            landmarks[i] = data.readInt();
+            if (landmarks[i] < 0 || landmarks[i] >= n) {
+                throw new IOException("Invalid landmark: " + landmarks[i]);
+            }
+        }
+        double[][] from = new double[k][];
+        for (int i = 0; i < k; i++) {
+            from[i] = readRow(data, n);
+        }
+        double[][] to = from;
+        if (h.directed) {
+            to = new double[k][];
+            for (int i = 0; i < k; i++) {
+                to[i] = readRow(data, n);
             }
         }
+        h.setTables(landmarks, from, to);
+        return h;
+    }
 
-        return maxEstimate;
+    private void setTables(int[] landmarks, double[][] from, double[][] to)
+    {
+        this.landmarks = landmarks;
+        this.fromLandmark = from;
+        this.toLandmark = to;
+        this.landmarkPosition = new int[index.vertexCount()];
+        Arrays.fill(landmarkPosition, NIL);
+        for (int i = 0; i < landmarks.length; i++) {
+            landmarkPosition[landmarks[i]] = i;
+        }
     }
 
     /**
-     * Compute all distances to and from a landmark
+     * Compute a fingerprint of the vertices, the edges and the edge weights of an index.
+     */
+    private static long fingerprint(GraphIndexView<?, ?> index)
+    {
+        long h = 1;
+        for (int v = 0; v < index.vertexCount(); v++) {
+            h = 31 * h + index.getVertex(v).hashCode();
+        }
+        int[] sources = index.getEdgeSources();
+        int[] targets = index.getEdgeTargets();
+        double[] weights = index.getEdgeWeights();
+        for (int e = 0; e < weights.length; e++) {
+            h = 31 * h + sources[e];
+            h = 31 * h + targets[e];
+            h = 31 * h + Double.doubleToLongBits(weights[e]);
+        }
+        return h;
+    }
+
+    private static void writeRow(DataOutputStream data, double[] row)
+        throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(IO_CHUNK * Double.BYTES);
+        for (int i = 0; i < row.length; i += IO_CHUNK) {
+            int len = Math.min(IO_CHUNK, row.length - i);
+            buffer.clear();
+            buffer.asDoubleBuffer().put(row, i, len);
+            data.write(buffer.array(), 0, len * Double.BYTES);
+        }
+    }
+
+    private static double[] readRow(DataInputStream data, int n)
+        throws IOException
+    {
+        double[] row = new double[n];
+        ByteBuffer buffer = ByteBuffer.allocate(IO_CHUNK * Double.BYTES);
+        for (int i = 0; i < n; i += IO_CHUNK) {
+            int len = Math.min(IO_CHUNK, n - i);
+            data.readFully(buffer.array(), 0, len * Double.BYTES);
+            buffer.clear();
+            buffer.asDoubleBuffer().get(row, i, len);
+        }
+        return row;
+    }
+
+    /**
+     * Compute the distances from a vertex, or to a vertex if reverse is true, using Dijkstra's
+     * algorithm.
      * 
-     * @param landmark the landmark
+     * @param source the source vertex
+     * @param reverse whether to follow edges in reverse direction
+     * @param dist array to store the distances, all entries must be infinite
+     * @param predecessor array to store the predecessor edges, or null
+     * @param order array to store the vertices in the order they are settled, or null
+     * @return the number of vertices settled
      */
-    private void precomputeToFromLandmark(V landmark)
+    private int search(int source, boolean reverse, double[] dist, int[] predecessor, int[] order)
     {
-        // compute distances from landmark
-        SingleSourcePaths<V, E> fromLandmarkPaths =
-            new DijkstraShortestPath<>(graph).getPaths(landmark);
-        Map<V, Double> fromLandMarkDistances = new HashMap<>();
-        for (V v : graph.vertexSet()) {
-            fromLandMarkDistances.put(v, fromLandmarkPaths.getWeight(v));
+        int[] offsets = reverse ? index.getInOffsets() : index.getOutOffsets();
+        int[] edges = reverse ? index.getInEdges() : index.getOutEdges();
+        int[] neighbors = reverse ? index.getInNeighbors() : index.getOutNeighbors();
+        double[] weights = index.getEdgeWeights();
+
+        DijkstraSearchSpace space = searchSpaces.poll();
+        if (space == null) {
+            space = new DijkstraSearchSpace(index.vertexCount());
+        } else {
+            space.reset();
         }
-        fromLandmark.put(landmark, fromLandMarkDistances);
 
-        // compute distances to landmark (using reverse graph)
-        if (directed) {
-            Graph<V, E> reverseGraph = new EdgeReversedGraph<>(graph);
-            SingleSourcePaths<V, E> toLandmarkPaths =
-                new DijkstraShortestPath<>(reverseGraph).getPaths(landmark);
-            Map<V, Double> toLandMarkDistances = new HashMap<>();
-            for (V v : graph.vertexSet()) {
-                toLandMarkDistances.put(v, toLandmarkPaths.getWeight(v));
-            }
-            toLandmark.put(landmark, toLandMarkDistances);
+        int settled = 0;
+        space.relax(source, 0d, DijkstraSearchSpace.NIL);
+        while (!space.isEmpty()) {
+            int v = space.settleMin();
+            double d = space.getDistance(v);
+            dist[v] = d;
+            if (predecessor != null) {
+                predecessor[v] = space.getPredecessor(v);
+            }
+            if (order != null) {
+                order[settled] = v;
+            }
+            settled++;
+            for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                int e = edges[i];
+                space.relax(neighbors[i], d + Math.max(0d, weights[e]), e);
+            }
+        }
+        searchSpaces.add(space);
+        return settled;
+    }
+
+    /**
+     * The state of the landmark selection, holding the landmarks selected so far together with
+     * their distances.
+     */
+    private class Selection
+    {
+        private final ForkJoinPool pool;
+        private final int n;
+        private final List<Integer> selected;
+        private final List<double[]> from;
+        private final List<double[]> to;
+        private final boolean[] isLandmark;
+        // minimum distance from any selected landmark
+        private final double[] minDistance;
+
+        Selection(ForkJoinPool pool)
+        {
+            this.pool = pool;
+            this.n = index.vertexCount();
+            this.selected = new ArrayList<>();
+            this.from = new ArrayList<>();
+            this.to = new ArrayList<>();
+            this.isLandmark = new boolean[n];
+            this.minDistance = new double[n];
+            Arrays.fill(minDistance, Double.POSITIVE_INFINITY);
+        }
+
+        /**
+         * Add landmarks and compute their distances in parallel.
+         */
+        void add(int... vertices)
+        {
+            int directions = directed ? 2 : 1;
+            double[][] rows = new double[vertices.length * directions][];
+            pool.invoke(new SearchTask(vertices, directions, rows, 0, rows.length));
+            for (int i = 0; i < vertices.length; i++) {
+                int v = vertices[i];
+                if (isLandmark[v]) {
+                    continue;
+                }
+                isLandmark[v] = true;
+                selected.add(v);
+                double[] f = rows[i * directions];
+                from.add(f);
+                to.add(directed ? rows[i * directions + 1] : f);
+                for (int u = 0; u < n; u++) {
+                    minDistance[u] = Math.min(minDistance[u], f[u]);
+                }
+            }
+        }
+
+        void finish()
+        {
+            int[] result = new int[selected.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = selected.get(i);
+            }
+            double[][] fromRows = from.toArray(new double[0][]);
+            setTables(result, fromRows, directed ? to.toArray(new double[0][]) : fromRows);
+        }
+
+        void selectRandom(int k, Random rng)
+        {
+            int[] vertices = new int[n];
+            for (int i = 0; i < n; i++) {
+                vertices[i] = i;
+            }
+            for (int i = 0; i < k; i++) {
+                int j = i + rng.nextInt(n - i);
+                int tmp = vertices[i];
+                vertices[i] = vertices[j];
+                vertices[j] = tmp;
+            }
+            add(Arrays.copyOf(vertices, k));
+        }
+
+        void selectFarthest(int k, Random rng)
+        {
+            add(farthestFrom(rng.nextInt(n)));
+            while (selected.size() < k) {
+                add(farthest());
+            }
+        }
+
+        void selectAvoid(int k, Random rng)
+        {
+            add(farthestFrom(rng.nextInt(n)));
+
+            double[] dist = new double[n];
+            int[] predecessor = new int[n];
+            int[] order = new int[n];
+            double[] size = new double[n];
+            boolean[] containsLandmark = new boolean[n];
+            int[] offsets = index.getOutOffsets();
+            int[] edges = index.getOutEdges();
+            int[] neighbors = index.getOutNeighbors();
+
+            while (selected.size() < k) {
+                int root = rng.nextInt(n);
+                Arrays.fill(dist, Double.POSITIVE_INFINITY);
+                int settled = search(root, false, dist, predecessor, order);
+
+                // sizes of the subtrees of the shortest path tree, children before parents
+                for (int i = settled - 1; i >= 0; i--) {
+                    int v = order[i];
+                    size[v] += dist[v] - lowerBound(root, v);
+                    containsLandmark[v] |= isLandmark[v];
+                    if (v != root) {
+                        int p = opposite(predecessor[v], v);
+                        size[p] += size[v];
+                        containsLandmark[p] |= containsLandmark[v];
+                    }
+                }
+                int best = NIL;
+                for (int i = 0; i < settled; i++) {
+                    int v = order[i];
+                    if (containsLandmark[v]) {
+                        size[v] = 0d;
+                    }
+                    if (size[v] > 0d && (best == NIL || size[v] > size[best])) {
+                        best = v;
+                    }
+                }
+
+                // descend to a leaf following the largest subtrees
+                int landmark;
+                if (best == NIL) {
+                    landmark = farthest();
+                } else {
+                    landmark = best;
+                    while (true) {
+                        int child = NIL;
+                        for (int i = offsets[landmark]; i < offsets[landmark + 1]; i++) {
+                            int u = neighbors[i];
+                            if (u != root && predecessor[u] == edges[i]
+                                && dist[u] < Double.POSITIVE_INFINITY && size[u] > 0d
+                                && (child == NIL || size[u] > size[child]))
+                            {
+                                child = u;
+                            }
+                        }
+                        if (child == NIL) {
+                            break;
+                        }
+                        landmark = child;
+                    }
+                }
+
+                for (int i = 0; i < settled; i++) {
+                    int v = order[i];
+                    size[v] = 0d;
+                    containsLandmark[v] = false;
+                }
+                add(landmark);
+            }
+        }
+
+        void selectPartition(int k, Random rng)
+        {
+            int center = center(rng.nextInt(n));
+
+            double[] dist = new double[n];
+            Arrays.fill(dist, Double.POSITIVE_INFINITY);
+            int[] predecessor = new int[n];
+            int[] order = new int[n];
+            int settled = search(center, false, dist, predecessor, order);
+
+            // find the subtree of each vertex and the subtree sizes
+            int[] subtree = new int[n];
+            int[] subtreeSize = new int[n];
+            List<Integer> subtrees = new ArrayList<>();
+            for (int i = 1; i < settled; i++) {
+                int v = order[i];
+                int p = opposite(predecessor[v], v);
+                if (p == center) {
+                    subtree[v] = v;
+                    subtrees.add(v);
+                } else {
+                    subtree[v] = subtree[p];
+                }
+                subtreeSize[subtree[v]]++;
+            }
+
+            // assign subtrees to groups, largest first to the smallest group
+            subtrees.sort((a, b) -> Integer.compare(subtreeSize[b], subtreeSize[a]));
+            int groups = Math.min(k, subtrees.size());
+            int[] groupSize = new int[groups];
+            int[] groupOf = new int[n];
+            for (int s : subtrees) {
+                int g = 0;
+                for (int j = 1; j < groups; j++) {
+                    if (groupSize[j] < groupSize[g]) {
+                        g = j;
+                    }
+                }
+                groupOf[s] = g;
+                groupSize[g] += subtreeSize[s];
+            }
+
+            // the vertex farthest from the center in each group
+            int[] farthestInGroup = new int[groups];
+            Arrays.fill(farthestInGroup, NIL);
+            for (int i = 1; i < settled; i++) {
+                int v = order[i];
+                int g = groupOf[subtree[v]];
+                if (farthestInGroup[g] == NIL || dist[v] >= dist[farthestInGroup[g]]) {
+                    farthestInGroup[g] = v;
+                }
+            }
+            if (groups > 0) {
+                add(farthestInGroup);
+            }
+
+            // fewer groups than landmarks
+            while (selected.size() < k) {
+                add(selected.isEmpty() ? farthestFrom(center) : farthest());
+            }
+        }
+
+        /**
+         * Find an approximate center of the graph, the middle vertex of a shortest path between
+         * two vertices far apart.
+         */
+        private int center(int start)
+        {
+            double[] dist = new double[n];
+            Arrays.fill(dist, Double.POSITIVE_INFINITY);
+            search(start, false, dist, null, null);
+            int a = argmaxFinite(dist, start);
+
+            Arrays.fill(dist, Double.POSITIVE_INFINITY);
+            int[] predecessor = new int[n];
+            search(a, false, dist, predecessor, null);
+            int b = argmaxFinite(dist, a);
+
+            int v = b;
+            while (v != a && dist[v] > dist[b] / 2) {
+                v = opposite(predecessor[v], v);
+            }
+            return v;
+        }
+
+        /**
+         * Find the vertex farthest from a given vertex, preferring unreachable vertices.
+         */
+        private int farthestFrom(int start)
+        {
+            double[] dist = new double[n];
+            Arrays.fill(dist, Double.POSITIVE_INFINITY);
+            search(start, false, dist, null, null);
+            int best = start;
+            for (int v = 0; v < n; v++) {
+                if (dist[v] > dist[best]) {
+                    best = v;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Find the vertex which is not a landmark and is farthest from all landmarks.
+         */
+        private int farthest()
+        {
+            int best = NIL;
+            for (int v = 0; v < n; v++) {
+                if (!isLandmark[v] && (best == NIL || minDistance[v] > minDistance[best])) {
+                    best = v;
+                }
+            }
+            return best;
+        }
+
+        private int argmaxFinite(double[] dist, int start)
+        {
+            int best = start;
+            for (int v = 0; v < n; v++) {
+                if (dist[v] < Double.POSITIVE_INFINITY && dist[v] > dist[best]) {
+                    best = v;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Lower bound on the distance between two vertices using the landmarks selected so far.
+         */
+        private double lowerBound(int u, int v)
+        {
+            double bound = 0d;
+            for (int l = 0; l < selected.size(); l++) {
+                bound = Math.max(
+                    bound, landmarkBound(from.get(l), directed ? to.get(l) : null, u, v));
+            }
+            return bound;
+        }
+
+        private int opposite(int e, int v)
+        {
+            int s = index.getEdgeSources()[e];
+            return s == v ? index.getEdgeTargets()[e] : s;
+        }
+
+        /**
+         * A task computing the distances from and to a range of landmarks.
+         */
+        private class SearchTask
+            extends
+            RecursiveAction
+        {
+            private static final long serialVersionUID = 5239848093617183522L;
+
+            private final int[] vertices;
+            private final int directions;
+            private final double[][] rows;
+            private final int from;
+            private final int to;
+
+            SearchTask(int[] vertices, int directions, double[][] rows, int from, int to)
+            {
+                this.vertices = vertices;
+                this.directions = directions;
+                this.rows = rows;
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (to - from == 1) {
+                    double[] dist = new double[n];
+                    Arrays.fill(dist, Double.POSITIVE_INFINITY);
+                    search(vertices[from / directions], from % directions == 1, dist, null, null);
+                    rows[from] = dist;
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                    new SearchTask(vertices, directions, rows, from, mid),
+                    new SearchTask(vertices, directions, rows, mid, to));
+            }
         }
     }
 
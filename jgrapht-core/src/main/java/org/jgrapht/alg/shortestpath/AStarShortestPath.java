@@ -24,6 +24,7 @@ import org.jgrapht.graph.*;
 import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * A* shortest path.
@@ -33,13 +34,16 @@ import java.util.*;
  * mixed-graphs. The graph can also change between invocations of the
  * {@link #getPath(Object, Object)} method; no new instance of this class has to be created. The
  * heuristic is implemented using a FibonacciHeap data structure to maintain the set of open nodes.
- * However, there still exist several approaches in literature to improve the performance of this
- * heuristic which one could consider to implement. Another issue to take into consideration is the
- * following: given two candidate nodes, $i$, $j$ to expand, where $f(i)=f(j)$, $g(i)$ &gt; $g(j)$,
- * $h(i)$ &lt; $g(j)$, $f(i)=g(i)+h(i)$, $g(i)$ is the actual distance from the source node to $i$,
- * $h(i)$ is the estimated distance from $i$ to the target node. Usually a depth-first search is
- * desired, so ideally we would expand node $i$ first. Using the FibonacciHeap, this is not
- * necessarily the case though. This could be improved in a later version.
+ * Alternatively, an {@link AddressableDoubleHeap} such as a {@link DaryDoubleHeap} can be selected
+ * using the constructor, in which case the fields {@link #openList} and
+ * {@link #vertexToHeapNodeMap} are not used. However, there still exist several approaches in
+ * literature to improve the performance of this heuristic which one could consider to implement.
+ * Another issue to take into consideration is the following: given two candidate nodes, $i$, $j$
+ * to expand, where $f(i)=f(j)$, $g(i)$ &gt; $g(j)$, $h(i)$ &lt; $g(j)$, $f(i)=g(i)+h(i)$, $g(i)$
+ * is the actual distance from the source node to $i$, $h(i)$ is the estimated distance from $i$ to
+ * the target node. Usually a depth-first search is desired, so ideally we would expand node $i$
+ * first. Using the heap, this is not necessarily the case though. This could be improved in a
+ * later version.
  * 
  * <p>
  * Note: This implementation works with both consistent and inconsistent admissible heuristics. For
@@ -65,6 +69,12 @@ public class AStarShortestPath<V, E>
     protected FibonacciHeap<V> openList;
     protected Map<V, FibonacciHeapNode<V>> vertexToHeapNodeMap;
 
+    // List of open nodes and the mapping between nodes and their heap handles, if a heap supplier
+    // was given
+    private AddressableDoubleHeap openHeap;
+    private Map<V, Integer> vertexToHeapHandleMap;
+    private List<V> heapHandleToVertexList;
+
     // List of closed nodes
     protected Set<V> closedList;
 
@@ -84,6 +94,9 @@ public class AStarShortestPath<V, E>
     // Comparator for comparing doubles with tolerance
     protected Comparator<Double> comparator;
 
+    // Supplier of the heaps used as open lists, null if the FibonacciHeap is used
+    private final Supplier<AddressableDoubleHeap> heapSupplier;
+
     /**
      * Create a new instance of the A* shortest path algorithm.
      * 
@@ -97,6 +110,26 @@ public class AStarShortestPath<V, E>
         this.admissibleHeuristic =
             Objects.requireNonNull(admissibleHeuristic, "Heuristic function cannot be null!");
         this.comparator = new ToleranceDoubleComparator();
+        this.heapSupplier = null;
+    }
+
+    /**
+     * Create a new instance of the A* shortest path algorithm.
+     * 
+     * @param graph the input graph
+     * @param admissibleHeuristic admissible heuristic which estimates the distance from a node to
+     *        the target node. The heuristic must never overestimate the distance.
+     * @param heapSupplier supplier of new empty heaps used to maintain the set of open nodes
+     */
+    public AStarShortestPath(
+        Graph<V, E> graph, AStarAdmissibleHeuristic<V> admissibleHeuristic,
+        Supplier<AddressableDoubleHeap> heapSupplier)
+    {
+        super(graph);
+        this.admissibleHeuristic =
+            Objects.requireNonNull(admissibleHeuristic, "Heuristic function cannot be null!");
+        this.comparator = new ToleranceDoubleComparator();
+        this.heapSupplier = Objects.requireNonNull(heapSupplier, "Heap supplier cannot be null");
     }
 
     /**
@@ -107,8 +140,14 @@ public class AStarShortestPath<V, E>
     private void initialize(AStarAdmissibleHeuristic<V> admissibleHeuristic)
     {
         this.admissibleHeuristic = admissibleHeuristic;
-        openList = new FibonacciHeap<>();
-        vertexToHeapNodeMap = new HashMap<>();
+        if (heapSupplier == null) {
+            openList = new FibonacciHeap<>();
+            vertexToHeapNodeMap = new HashMap<>();
+        } else {
+            openHeap = heapSupplier.get();
+            vertexToHeapHandleMap = new HashMap<>();
+            heapHandleToVertexList = new ArrayList<>();
+        }
         closedList = new HashSet<>();
         gScoreMap = new HashMap<>();
         cameFrom = new HashMap<>();
@@ -137,23 +176,31 @@ public class AStarShortestPath<V, E>
 
         this.initialize(admissibleHeuristic);
         gScoreMap.put(sourceVertex, 0.0);
-        FibonacciHeapNode<V> heapNode = new FibonacciHeapNode<>(sourceVertex);
-        openList.insert(heapNode, 0.0);
-        vertexToHeapNodeMap.put(sourceVertex, heapNode);
+        addHeapNode(sourceVertex, 0.0);
 
         do {
-            FibonacciHeapNode<V> currentNode = openList.removeMin();
+            V currentVertex;
+            double currentKey;
+            if (heapSupplier == null) {
+                FibonacciHeapNode<V> currentNode = openList.removeMin();
+                currentVertex = currentNode.getData();
+                currentKey = currentNode.getKey();
+            } else {
+                int currentNode = openHeap.deleteMin();
+                currentVertex = heapHandleToVertexList.get(currentNode);
+                currentKey = openHeap.getKey(currentNode);
+            }
 
             // Check whether we reached the target vertex
-            if (currentNode.getData().equals(targetVertex)) {
+            if (currentVertex.equals(targetVertex)) {
                 // Build the path
-                return this.buildGraphPath(sourceVertex, targetVertex, currentNode.getKey());
+                return this.buildGraphPath(sourceVertex, targetVertex, currentKey);
             }
 
             // We haven't reached the target vertex yet; expand the node
-            expandNode(currentNode, targetVertex);
-            closedList.add(currentNode.getData());
-        } while (!openList.isEmpty());
+            expandNode(currentVertex, targetVertex);
+            closedList.add(currentVertex);
+        } while (heapSupplier == null ? !openList.isEmpty() : !openHeap.isEmpty());
 
         // No path exists from sourceVertex to TargetVertex
         return createEmptyPath(sourceVertex, targetVertex);
@@ -200,26 +247,27 @@ public class AStarShortestPath<V, E>
         return true;
     }
 
-    private void expandNode(FibonacciHeapNode<V> currentNode, V endVertex)
+    private void expandNode(V currentVertex, V endVertex)
     {
         numberOfExpandedNodes++;
 
-        Set<E> outgoingEdges = graph.outgoingEdgesOf(currentNode.getData());
+        Set<E> outgoingEdges = graph.outgoingEdgesOf(currentVertex);
 
         for (E edge : outgoingEdges) {
-            V successor = Graphs.getOppositeVertex(graph, edge, currentNode.getData());
+            V successor = Graphs.getOppositeVertex(graph, edge, currentVertex);
 
-            if (successor.equals(currentNode.getData())) { // Ignore self-loop
+            if (successor.equals(currentVertex)) { // Ignore self-loop
                 continue;
             }
 
-            double gScore_current = gScoreMap.get(currentNode.getData());
+            double gScore_current = gScoreMap.get(currentVertex);
             double tentativeGScore = gScore_current + graph.getEdgeWeight(edge);
             double fScore =
                 tentativeGScore + admissibleHeuristic.getCostEstimate(successor, endVertex);
 
-            if (vertexToHeapNodeMap.containsKey(successor)) { // We re-encountered a vertex. It's
-                                                              // either in the open or closed list.
+            if (heapSupplier == null ? vertexToHeapNodeMap.containsKey(successor)
+                : vertexToHeapHandleMap.containsKey(successor))
+            { // We re-encountered a vertex. It's either in the open or closed list.
                 if (tentativeGScore >= gScoreMap.get(successor)) // Ignore path since it is
                                                                  // non-improving
                     continue;
@@ -231,20 +279,36 @@ public class AStarShortestPath<V, E>
                                                       // open list, since we discovered a shorter
                                                       // path to this node
                     closedList.remove(successor);
-                    openList.insert(vertexToHeapNodeMap.get(successor), fScore);
-                } else { // It's in the open list
+                    if (heapSupplier == null) {
+                        openList.insert(vertexToHeapNodeMap.get(successor), fScore);
+                    } else {
+                        openHeap.reinsert(vertexToHeapHandleMap.get(successor), fScore);
+                    }
+                } else if (heapSupplier == null) { // It's in the open list
                     openList.decreaseKey(vertexToHeapNodeMap.get(successor), fScore);
+                } else {
+                    openHeap.decreaseKey(vertexToHeapHandleMap.get(successor), fScore);
                 }
             } else { // We've encountered a new vertex.
                 cameFrom.put(successor, edge);
                 gScoreMap.put(successor, tentativeGScore);
-                FibonacciHeapNode<V> heapNode = new FibonacciHeapNode<>(successor);
-                openList.insert(heapNode, fScore);
-                vertexToHeapNodeMap.put(successor, heapNode);
+                addHeapNode(successor, fScore);
             }
         }
     }
 
+    private void addHeapNode(V vertex, double fScore)
+    {
+        if (heapSupplier == null) {
+            FibonacciHeapNode<V> heapNode = new FibonacciHeapNode<>(vertex);
+            openList.insert(heapNode, fScore);
+            vertexToHeapNodeMap.put(vertex, heapNode);
+        } else {
+            vertexToHeapHandleMap.put(vertex, openHeap.insert(fScore));
+            heapHandleToVertexList.add(vertex);
+        }
+    }
+
     /**
      * Builds the graph path
      *
@@ -21,6 +21,7 @@ import org.jgrapht.*;
 import org.jgrapht.graph.*;
 
 import java.util.*;
+import java.util.function.*;
 import java.util.stream.*;
 
 /**
@@ -106,6 +107,151 @@ public class AllDirectedPaths<V, E>
             edgeMinDistancesFromTargets);
     }
 
+    /**
+     * Lazily enumerate all paths from the source vertex to the target vertex.
+     *
+     * @param sourceVertex the source vertex
+     * @param targetVertex the target vertex
+     * @param simplePathsOnly if true, only search simple (non-self-intersecting) paths
+     * @param maxPathLength maximum number of edges to allow in a path (if null, all paths are
+     *        considered)
+     * @return an iterator over all paths from the source vertex to the target vertex
+     * @see #getAllPathsIterator(Set, Set, boolean, Integer)
+     */
+    public Iterator<GraphPath<V, E>> getAllPathsIterator(
+        V sourceVertex, V targetVertex, boolean simplePathsOnly, Integer maxPathLength)
+    {
+        return getAllPathsIterator(
+            Collections.singleton(sourceVertex), Collections.singleton(targetVertex),
+            simplePathsOnly, maxPathLength);
+    }
+
+    /**
+     * Lazily enumerate all paths from the source vertices to the target vertices.
+     *
+     * <p>
+     * The paths are generated by a depth-first search which is pruned using the minimum number of
+     * edges from each edge to the targets. Only the current path is kept in memory, and therefore
+     * the iterator can be used even when the number of paths is too large to be stored. The
+     * paths of each source vertex are returned consecutively, in depth-first order, which in
+     * general differs from the order of {@link #getAllPaths(Set, Set, boolean, Integer)}. The graph
+     * must not be modified during the iteration.
+     *
+     * @param sourceVertices the source vertices
+     * @param targetVertices the target vertices
+     * @param simplePathsOnly if true, only search simple (non-self-intersecting) paths
+     * @param maxPathLength maximum number of edges to allow in a path (if null, all paths are
+     *        considered)
+     * @return an iterator over all paths from the sources to the targets containing no more than
+     *         maxPathLength edges
+     */
+    public Iterator<GraphPath<V, E>> getAllPathsIterator(
+        Set<V> sourceVertices, Set<V> targetVertices, boolean simplePathsOnly,
+        Integer maxPathLength)
+    {
+        if ((maxPathLength != null) && (maxPathLength < 0)) {
+            throw new IllegalArgumentException("maxPathLength must be non-negative if defined");
+        }
+
+        if (!simplePathsOnly && (maxPathLength == null)) {
+            throw new IllegalArgumentException(
+                "If search is not restricted to simple paths, a maximum path length must be set to avoid infinite cycles");
+        }
+
+        if ((sourceVertices.isEmpty()) || (targetVertices.isEmpty())) {
+            return Collections.emptyIterator();
+        }
+
+        // Decorate the edges with the minimum path lengths through them
+        Map<E, Integer> edgeMinDistancesFromTargets =
+            edgeMinDistancesBackwards(targetVertices, maxPathLength);
+
+        return new PathIterator(
+            sourceVertices, targetVertices, simplePathsOnly, maxPathLength,
+            edgeMinDistancesFromTargets);
+    }
+
+    /**
+     * Lazily enumerate all paths from the source vertex to the target vertex as a stream.
+     *
+     * @param sourceVertex the source vertex
+     * @param targetVertex the target vertex
+     * @param simplePathsOnly if true, only search simple (non-self-intersecting) paths
+     * @param maxPathLength maximum number of edges to allow in a path (if null, all paths are
+     *        considered)
+     * @return a sequential stream of all paths from the source vertex to the target vertex
+     * @see #getAllPathsIterator(Set, Set, boolean, Integer)
+     */
+    public Stream<GraphPath<V, E>> getAllPathsStream(
+        V sourceVertex, V targetVertex, boolean simplePathsOnly, Integer maxPathLength)
+    {
+        return getAllPathsStream(
+            Collections.singleton(sourceVertex), Collections.singleton(targetVertex),
+            simplePathsOnly, maxPathLength);
+    }
+
+    /**
+     * Lazily enumerate all paths from the source vertices to the target vertices as a stream.
+     * Short-circuiting operations such as {@link Stream#limit(long)} or
+     * {@link Stream#findFirst()} stop the enumeration early.
+     *
+     * @param sourceVertices the source vertices
+     * @param targetVertices the target vertices
+     * @param simplePathsOnly if true, only search simple (non-self-intersecting) paths
+     * @param maxPathLength maximum number of edges to allow in a path (if null, all paths are
+     *        considered)
+     * @return a sequential stream of all paths from the sources to the targets containing no more
+     *         than maxPathLength edges
+     * @see #getAllPathsIterator(Set, Set, boolean, Integer)
+     */
+    public Stream<GraphPath<V, E>> getAllPathsStream(
+        Set<V> sourceVertices, Set<V> targetVertices, boolean simplePathsOnly,
+        Integer maxPathLength)
+    {
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                getAllPathsIterator(
+                    sourceVertices, targetVertices, simplePathsOnly, maxPathLength),
+                Spliterator.ORDERED | Spliterator.NONNULL),
+            false);
+    }
+
+    /**
+     * Visit all paths from the source vertices to the target vertices, one at a time. The
+     * enumeration stops when the visitor returns false or when the maximum number of paths has
+     * been visited.
+     *
+     * @param sourceVertices the source vertices
+     * @param targetVertices the target vertices
+     * @param simplePathsOnly if true, only search simple (non-self-intersecting) paths
+     * @param maxPathLength maximum number of edges to allow in a path (if null, all paths are
+     *        considered)
+     * @param maxPaths maximum number of paths to visit
+     * @param visitor the visitor, which returns whether the enumeration should continue
+     * @return the number of visited paths
+     * @throws IllegalArgumentException if the maximum number of paths is negative
+     * @see #getAllPathsIterator(Set, Set, boolean, Integer)
+     */
+    public long visitAllPaths(
+        Set<V> sourceVertices, Set<V> targetVertices, boolean simplePathsOnly,
+        Integer maxPathLength, long maxPaths, Predicate<? super GraphPath<V, E>> visitor)
+    {
+        Objects.requireNonNull(visitor, "Visitor cannot be null");
+        if (maxPaths < 0) {
+            throw new IllegalArgumentException("maxPaths must be non-negative");
+        }
+        Iterator<GraphPath<V, E>> it =
+            getAllPathsIterator(sourceVertices, targetVertices, simplePathsOnly, maxPathLength);
+        long visited = 0;
+        while (visited < maxPaths && it.hasNext()) {
+            visited++;
+            if (!visitor.test(it.next())) {
+                break;
+            }
+        }
+        return visited;
+    }
+
     /**
      * Compute the minimum number of edges in a path to the targets through each edge, so long as it
      * is not greater than a bound.
@@ -287,6 +433,151 @@ public class AllDirectedPaths<V, E>
         return completePaths;
     }
 
+    /**
+     * A depth-first enumeration of the paths from the sources to the targets, using pre-computed
+     * minimum distances. The search keeps a stack of edge iterators, one for each vertex of the
+     * current path.
+     */
+    private class PathIterator
+        implements
+        Iterator<GraphPath<V, E>>
+    {
+        private final Iterator<V> sourceIterator;
+        private final Set<V> targetVertices;
+        private final boolean simplePathsOnly;
+        private final Integer maxPathLength;
+        private final Map<E, Integer> edgeMinDistancesFromTargets;
+
+        private final Deque<Iterator<E>> stack;
+        private final List<E> currentPath;
+        private final Set<V> currentPathVertices;
+        private GraphPath<V, E> nextPath;
+
+        /**
+         * Create a new iterator.
+         *
+         * @param sourceVertices the source vertices
+         * @param targetVertices the target vertices
+         * @param simplePathsOnly if true, only search simple (non-self-intersecting) paths
+         * @param maxPathLength maximum number of edges to allow in a path
+         * @param edgeMinDistancesFromTargets the minimum number of edges in a path to a target
+         *        through each edge, as computed by {@code edgeMinDistancesBackwards}.
+         */
+        PathIterator(
+            Set<V> sourceVertices, Set<V> targetVertices, boolean simplePathsOnly,
+            Integer maxPathLength, Map<E, Integer> edgeMinDistancesFromTargets)
+        {
+            this.sourceIterator = sourceVertices.iterator();
+            this.targetVertices = targetVertices;
+            this.simplePathsOnly = simplePathsOnly;
+            this.maxPathLength = maxPathLength;
+            this.edgeMinDistancesFromTargets = edgeMinDistancesFromTargets;
+            this.stack = new ArrayDeque<>();
+            this.currentPath = new ArrayList<>();
+            this.currentPathVertices = new HashSet<>();
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            if (nextPath == null) {
+                nextPath = advance();
+            }
+            return nextPath != null;
+        }
+
+        @Override
+        public GraphPath<V, E> next()
+        {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            GraphPath<V, E> result = nextPath;
+            nextPath = null;
+            return result;
+        }
+
+        /**
+         * Continue the search until the next complete path.
+         *
+         * @return the next path or null if the search is finished
+         */
+        private GraphPath<V, E> advance()
+        {
+            while (true) {
+                if (stack.isEmpty()) {
+                    // Bootstrap the search with the next source vertex
+                    if (!sourceIterator.hasNext()) {
+                        return null;
+                    }
+                    V source = sourceIterator.next();
+                    currentPath.clear();
+                    currentPathVertices.clear();
+                    currentPathVertices.add(source);
+                    if (maxPathLength == null || maxPathLength > 0) {
+                        stack.push(graph.outgoingEdgesOf(source).iterator());
+                    }
+                    if (targetVertices.contains(source)) {
+                        return GraphWalk.singletonWalk(graph, source, 0d);
+                    }
+                    continue;
+                }
+
+                Iterator<E> edges = stack.peek();
+                if (!edges.hasNext()) {
+                    // Backtrack
+                    stack.pop();
+                    if (!currentPath.isEmpty()) {
+                        E leafEdge = currentPath.remove(currentPath.size() - 1);
+                        V leafNode = graph.getEdgeTarget(leafEdge);
+                        if (simplePathsOnly && !leafNode.equals(graph.getEdgeSource(leafEdge))) {
+                            currentPathVertices.remove(leafNode);
+                        }
+                    }
+                    continue;
+                }
+
+                // Proceed if the outgoing edge is marked and the mark is sufficiently small
+                E outEdge = edges.next();
+                Integer minDistance = edgeMinDistancesFromTargets.get(outEdge);
+                if (minDistance == null || ((maxPathLength != null)
+                    && (minDistance + currentPath.size() > maxPathLength)))
+                {
+                    continue;
+                }
+
+                // If requested, make sure this path isn't self-intersecting. As a special case a
+                // self-loop on the source vertex is accepted as the first edge.
+                V leafNode = graph.getEdgeTarget(outEdge);
+                if (simplePathsOnly && !currentPath.isEmpty()
+                    && currentPathVertices.contains(leafNode))
+                {
+                    continue;
+                }
+
+                currentPath.add(outEdge);
+                if (simplePathsOnly) {
+                    currentPathVertices.add(leafNode);
+                }
+
+                // If this path is short enough, consider further extensions of it
+                if ((maxPathLength == null) || (currentPath.size() < maxPathLength)) {
+                    stack.push(graph.outgoingEdgesOf(leafNode).iterator());
+                } else {
+                    stack.push(Collections.emptyIterator());
+                }
+
+                // If this path reaches a target, report it
+                if (targetVertices.contains(leafNode)) {
+                    GraphPath<V, E> completePath = makePath(new ArrayList<>(currentPath));
+                    assert (maxPathLength == null)
+                        || (completePath.getLength() <= maxPathLength);
+                    return completePath;
+                }
+            }
+        }
+    }
+
     /**
      * Transform an ordered list of edges into a GraphPath.
      *
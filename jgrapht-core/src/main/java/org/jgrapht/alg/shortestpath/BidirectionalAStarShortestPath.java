@@ -0,0 +1,316 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A bidirectional version of the A* algorithm.
+ *
+ * <p>
+ * The algorithm alternates between a forward search from the source and a backward search from
+ * the sink. In order for the two searches to be guided by the heuristic and still meet correctly,
+ * both use the average potential functions $p_f(v) = (h(v,t) - h(s,v)) / 2$ and
+ * $p_r(v) = -p_f(v)$, where $h$ is the heuristic and $s$ and $t$ are the source and the sink. Each
+ * search is Dijkstra's algorithm on the edge weights reduced by its potential function. Since
+ * $p_f + p_r$ is constant, the search stops as soon as the sum of the minimum keys of the two
+ * searches is at least the length of the best path found so far, which is then a shortest path.
+ *
+ * <p>
+ * See the paper: A. V. Goldberg and C. Harrelson. Computing the shortest path: A* search meets
+ * graph theory. In Proceedings of the 16th Annual ACM-SIAM Symposium on Discrete Algorithms
+ * (SODA'05), 156--165, 2005.
+ *
+ * <p>
+ * The heuristic must be consistent, see
+ * {@link AStarShortestPath#isConsistentHeuristic(AStarAdmissibleHeuristic)}, both for estimates
+ * towards the sink and for estimates from the source, the latter being obtained by calling
+ * {@link AStarAdmissibleHeuristic#getCostEstimate(Object, Object)} with the source as the first
+ * argument. This holds for example for {@link ALTAdmissibleHeuristic}, also on directed graphs
+ * which are not strongly connected, or for Euclidean distances in an undirected graph with edge
+ * weights not smaller than the distances of their endpoints. With an inconsistent heuristic the
+ * reduced edge weights may become negative and the returned paths may not be shortest. An infinite
+ * estimate must only be returned if there is no path, in which case the vertex is never explored.
+ * Edge weights must be non-negative.
+ *
+ * <p>
+ * The priority queue implementation can be selected by providing a supplier of
+ * {@link AddressableDoubleHeap} instances. By default a {@link DaryDoubleHeap} is used.
+ * 
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see AStarShortestPath
+ * @see BidirectionalDijkstraShortestPath
+ *
+ * @author agent
+ */
+public class BidirectionalAStarShortestPath<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    private final AStarAdmissibleHeuristic<V> heuristic;
+    private final Supplier<AddressableDoubleHeap> heapSupplier;
+
+    /**
+     * Constructs a new instance for a specified graph.
+     *
+     * @param graph the input graph
+     * @param heuristic consistent admissible heuristic
+     */
+    public BidirectionalAStarShortestPath(Graph<V, E> graph, AStarAdmissibleHeuristic<V> heuristic)
+    {
+        this(graph, heuristic, DaryDoubleHeap::new);
+    }
+
+    /**
+     * Constructs a new instance for a specified graph.
+     *
+     * @param graph the input graph
+     * @param heuristic consistent admissible heuristic
+     * @param heapSupplier supplier of new empty priority queues used by the algorithm
+     */
+    public BidirectionalAStarShortestPath(
+        Graph<V, E> graph, AStarAdmissibleHeuristic<V> heuristic,
+        Supplier<AddressableDoubleHeap> heapSupplier)
+    {
+        super(graph);
+        this.heuristic = Objects.requireNonNull(heuristic, "Heuristic function cannot be null");
+        this.heapSupplier = Objects.requireNonNull(heapSupplier, "Heap supplier cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException if the search encounters an edge with negative weight
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+
+        // handle special case if source equals target
+        if (source.equals(sink)) {
+            return createEmptyPath(source, sink);
+        }
+
+        // forward potentials, the backward potentials are their negation
+        Map<V, Double> potentials = new HashMap<>();
+        ToDoubleFunction<V> forwardPotential = v -> potentials.computeIfAbsent(
+            v, x -> (heuristic.getCostEstimate(x, sink) - heuristic.getCostEstimate(source, x))
+                / 2d);
+        ToDoubleFunction<V> backwardPotential = v -> -forwardPotential.applyAsDouble(v);
+
+        // create frontiers
+        SearchFrontier forwardFrontier = new SearchFrontier(graph, forwardPotential);
+        SearchFrontier backwardFrontier;
+        if (graph.getType().isDirected()) {
+            backwardFrontier =
+                new SearchFrontier(new EdgeReversedGraph<>(graph), backwardPotential);
+        } else {
+            backwardFrontier = new SearchFrontier(graph, backwardPotential);
+        }
+
+        // initialize both frontiers
+        forwardFrontier.updateDistance(source, null, 0d);
+        backwardFrontier.updateDistance(sink, null, 0d);
+
+        // initialize best path
+        double bestPath = Double.POSITIVE_INFINITY;
+        V bestPathCommonVertex = null;
+
+        SearchFrontier frontier = forwardFrontier;
+        SearchFrontier otherFrontier = backwardFrontier;
+
+        while (true) {
+            // stopping condition
+            if (frontier.heap.isEmpty() || otherFrontier.heap.isEmpty()
+                || frontier.getMinKey() + otherFrontier.getMinKey() >= bestPath)
+            {
+                break;
+            }
+
+            // frontier scan
+            int vHandle = frontier.heap.deleteMin();
+            V v = frontier.vertices.get(vHandle);
+            double vDistance = frontier.distances[vHandle];
+
+            for (E e : frontier.graph.outgoingEdgesOf(v)) {
+                V u = Graphs.getOppositeVertex(frontier.graph, e, v);
+
+                double eWeight = frontier.graph.getEdgeWeight(e);
+                if (eWeight < 0d) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+
+                frontier.updateDistance(u, e, vDistance + eWeight);
+
+                // check path with u's distance from the other frontier
+                double pathDistance = vDistance + eWeight + otherFrontier.getDistance(u);
+
+                if (pathDistance < bestPath) {
+                    bestPath = pathDistance;
+                    bestPathCommonVertex = u;
+                }
+            }
+
+            // swap frontiers
+            SearchFrontier tmpFrontier = frontier;
+            frontier = otherFrontier;
+            otherFrontier = tmpFrontier;
+        }
+
+        // create path if found
+        if (Double.isFinite(bestPath)) {
+            return createPath(
+                forwardFrontier, backwardFrontier, bestPath, source, bestPathCommonVertex, sink);
+        } else {
+            return createEmptyPath(source, sink);
+        }
+    }
+
+    private GraphPath<V, E> createPath(
+        SearchFrontier forwardFrontier, SearchFrontier backwardFrontier, double weight, V source,
+        V commonVertex, V sink)
+    {
+        LinkedList<E> edgeList = new LinkedList<>();
+        LinkedList<V> vertexList = new LinkedList<>();
+
+        // add common vertex
+        vertexList.add(commonVertex);
+
+        // traverse forward path
+        V v = commonVertex;
+        while (true) {
+            E e = forwardFrontier.getTreeEdge(v);
+
+            if (e == null) {
+                break;
+            }
+
+            edgeList.addFirst(e);
+            v = Graphs.getOppositeVertex(forwardFrontier.graph, e, v);
+            vertexList.addFirst(v);
+        }
+
+        // traverse reverse path
+        v = commonVertex;
+        while (true) {
+            E e = backwardFrontier.getTreeEdge(v);
+
+            if (e == null) {
+                break;
+            }
+
+            edgeList.addLast(e);
+            v = Graphs.getOppositeVertex(backwardFrontier.graph, e, v);
+            vertexList.addLast(v);
+        }
+
+        return new GraphWalk<>(graph, source, sink, vertexList, edgeList, weight);
+    }
+
+    /**
+     * Helper class to maintain the search frontier. The key of a vertex in the heap is its
+     * distance plus its potential.
+     */
+    class SearchFrontier
+    {
+        final Graph<V, E> graph;
+        final ToDoubleFunction<V> potential;
+
+        final AddressableDoubleHeap heap;
+        final Map<V, Integer> seen;
+        // vertices, tree edges and distances indexed by heap handle
+        final List<V> vertices;
+        final List<E> treeEdges;
+        double[] distances;
+
+        SearchFrontier(Graph<V, E> graph, ToDoubleFunction<V> potential)
+        {
+            this.graph = graph;
+            this.potential = potential;
+            this.heap = heapSupplier.get();
+            this.seen = new HashMap<>();
+            this.vertices = new ArrayList<>();
+            this.treeEdges = new ArrayList<>();
+            this.distances = new double[16];
+        }
+
+        void updateDistance(V v, E e, double distance)
+        {
+            Integer handle = seen.get(v);
+            if (handle == null) {
+                double p = potential.applyAsDouble(v);
+                if (!Double.isFinite(p)) {
+                    // no path from source to sink through this vertex
+                    return;
+                }
+                int h = heap.insert(distance + p);
+                seen.put(v, h);
+                vertices.add(v);
+                treeEdges.add(e);
+                if (h == distances.length) {
+                    distances = Arrays.copyOf(distances, 2 * distances.length);
+                }
+                distances[h] = distance;
+            } else if (distance < distances[handle] && heap.contains(handle)) {
+                heap.decreaseKey(handle, distance + potential.applyAsDouble(v));
+                treeEdges.set(handle, e);
+                distances[handle] = distance;
+            }
+        }
+
+        double getMinKey()
+        {
+            return heap.getKey(heap.findMin());
+        }
+
+        double getDistance(V v)
+        {
+            Integer handle = seen.get(v);
+            if (handle == null) {
+                return Double.POSITIVE_INFINITY;
+            } else {
+                return distances[handle];
+            }
+        }
+
+        E getTreeEdge(V v)
+        {
+            Integer handle = seen.get(v);
+            if (handle == null) {
+                return null;
+            } else {
+                return treeEdges.get(handle);
+            }
+        }
+    }
+
+}
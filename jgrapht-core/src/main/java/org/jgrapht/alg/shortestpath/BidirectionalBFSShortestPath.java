@@ -0,0 +1,337 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+
+/**
+ * A bidirectional breadth-first search for shortest paths in unweighted graphs.
+ *
+ * <p>
+ * The graph is treated as unweighted and the weight of a path is its number of edges. A forward
+ * search from the source and a backward search from the sink are expanded one whole level at a
+ * time. Each step expands the frontier which has fewer edges to scan, and the search stops as soon
+ * as the two searches meet. The first meeting vertex lies on a shortest path, since the vertices
+ * visited by the two searches were disjoint before the current level. On small-world graphs the
+ * number of vertices visited is usually orders of magnitude smaller than with a unidirectional
+ * search.
+ *
+ * <p>
+ * The implementation works on a {@link GraphIndexView} of the graph and keeps the search state of
+ * each thread in arrays which are not cleared between queries, therefore a query costs time
+ * proportional to the part of the graph it explores. Instances may be queried concurrently from
+ * multiple threads. The index is computed on first use and reused afterwards. If the graph is
+ * modified the index must be invalidated, see {@link GraphIndexView#invalidate()}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see DirectionOptimizingBFSShortestPath
+ *
+ * @author agent
+ */
+public class BidirectionalBFSShortestPath<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    private static final int NIL = -1;
+
+    private final GraphIndexView<V, E> index;
+    private final ThreadLocal<SearchState> searchStates;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     */
+    public BidirectionalBFSShortestPath(Graph<V, E> graph)
+    {
+        this(new GraphIndexView<>(graph));
+    }
+
+    /**
+     * Constructs a new instance of the algorithm using an existing index of a graph.
+     *
+     * @param index the index of the graph
+     */
+    public BidirectionalBFSShortestPath(GraphIndexView<V, E> index)
+    {
+        super(Objects.requireNonNull(index, "Index cannot be null").getGraph());
+        this.index = index;
+        this.searchStates = new ThreadLocal<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        assertVertices(source, sink);
+        if (source.equals(sink)) {
+            return createEmptyPath(source, sink);
+        }
+
+        SearchState state = state();
+        int meeting = state.search(index.getVertexIndex(source), index.getVertexIndex(sink));
+        if (meeting == NIL) {
+            return null;
+        }
+
+        int[] edgeSources = index.getEdgeSources();
+        int[] edgeTargets = index.getEdgeTargets();
+        LinkedList<E> edgeList = new LinkedList<>();
+        int v = meeting;
+        int e = state.forwardParent[v];
+        while (e != NIL) {
+            edgeList.addFirst(index.getEdge(e));
+            v = edgeTargets[e] == v ? edgeSources[e] : edgeTargets[e];
+            e = state.forwardParent[v];
+        }
+        v = meeting;
+        e = state.backwardParent[v];
+        while (e != NIL) {
+            edgeList.addLast(index.getEdge(e));
+            v = edgeTargets[e] == v ? edgeSources[e] : edgeTargets[e];
+            e = state.backwardParent[v];
+        }
+        return new GraphWalk<>(graph, source, sink, edgeList, edgeList.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        assertVertices(source, sink);
+        if (source.equals(sink)) {
+            return 0d;
+        }
+        SearchState state = state();
+        int meeting = state.search(index.getVertexIndex(source), index.getVertexIndex(sink));
+        if (meeting == NIL) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return state.forwardDistance[meeting] + state.backwardDistance[meeting];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+
+        SearchState state = state();
+        int reached = state.searchAll(index.getVertexIndex(source));
+        Map<V, Pair<Double, E>> distanceAndPredecessorMap = new HashMap<>();
+        for (int i = 0; i < reached; i++) {
+            int v = state.forwardQueue[i];
+            int e = state.forwardParent[v];
+            distanceAndPredecessorMap.put(
+                index.getVertex(v), Pair.of(
+                    (double) state.forwardDistance[v], e == NIL ? null : index.getEdge(e)));
+        }
+        return new TreeSingleSourcePathsImpl<>(graph, source, distanceAndPredecessorMap);
+    }
+
+    private void assertVertices(V source, V sink)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+    }
+
+    /**
+     * Get the search state of the calling thread.
+     */
+    private SearchState state()
+    {
+        SearchState state = searchStates.get();
+        if (state == null || state.forwardMark.length != index.vertexCount()) {
+            state = new SearchState(index.vertexCount());
+            searchStates.set(state);
+        }
+        return state;
+    }
+
+    /**
+     * The search state of a thread. A vertex has been visited by the forward search of the current
+     * query if its forward mark equals the current stamp, and similarly for the backward search.
+     * Each search keeps its visited vertices in a queue in order of discovery, which contains the
+     * current frontier at its end.
+     */
+    private class SearchState
+    {
+        final int[] forwardMark;
+        final int[] forwardDistance;
+        final int[] forwardParent;
+        final int[] forwardQueue;
+        final int[] backwardMark;
+        final int[] backwardDistance;
+        final int[] backwardParent;
+        final int[] backwardQueue;
+        int stamp;
+
+        SearchState(int n)
+        {
+            this.forwardMark = new int[n];
+            this.forwardDistance = new int[n];
+            this.forwardParent = new int[n];
+            this.forwardQueue = new int[n];
+            this.backwardMark = new int[n];
+            this.backwardDistance = new int[n];
+            this.backwardParent = new int[n];
+            this.backwardQueue = new int[n];
+            this.stamp = 0;
+        }
+
+        private void nextStamp()
+        {
+            if (stamp == Integer.MAX_VALUE) {
+                Arrays.fill(forwardMark, 0);
+                Arrays.fill(backwardMark, 0);
+                stamp = 0;
+            }
+            stamp++;
+        }
+
+        /**
+         * Search from the source and the sink until the searches meet.
+         * 
+         * @return a vertex on a shortest path or {@link #NIL} if the sink is not reachable
+         */
+        int search(int source, int sink)
+        {
+            int[] outOffsets = index.getOutOffsets();
+            int[] outEdges = index.getOutEdges();
+            int[] outNeighbors = index.getOutNeighbors();
+            int[] inOffsets = index.getInOffsets();
+            int[] inEdges = index.getInEdges();
+            int[] inNeighbors = index.getInNeighbors();
+
+            nextStamp();
+            forwardMark[source] = stamp;
+            forwardDistance[source] = 0;
+            forwardParent[source] = NIL;
+            forwardQueue[0] = source;
+            int forwardHead = 0, forwardTail = 1;
+            long forwardEdges = outOffsets[source + 1] - outOffsets[source];
+
+            backwardMark[sink] = stamp;
+            backwardDistance[sink] = 0;
+            backwardParent[sink] = NIL;
+            backwardQueue[0] = sink;
+            int backwardHead = 0, backwardTail = 1;
+            long backwardEdges = inOffsets[sink + 1] - inOffsets[sink];
+
+            while (forwardHead < forwardTail && backwardHead < backwardTail) {
+                if (forwardEdges <= backwardEdges) {
+                    // expand one level of the forward search
+                    int levelEnd = forwardTail;
+                    forwardEdges = 0;
+                    for (; forwardHead < levelEnd; forwardHead++) {
+                        int v = forwardQueue[forwardHead];
+                        int d = forwardDistance[v] + 1;
+                        for (int i = outOffsets[v]; i < outOffsets[v + 1]; i++) {
+                            int u = outNeighbors[i];
+                            if (forwardMark[u] == stamp) {
+                                continue;
+                            }
+                            forwardMark[u] = stamp;
+                            forwardDistance[u] = d;
+                            forwardParent[u] = outEdges[i];
+                            if (backwardMark[u] == stamp) {
+                                return u;
+                            }
+                            forwardQueue[forwardTail++] = u;
+                            forwardEdges += outOffsets[u + 1] - outOffsets[u];
+                        }
+                    }
+                } else {
+                    // expand one level of the backward search
+                    int levelEnd = backwardTail;
+                    backwardEdges = 0;
+                    for (; backwardHead < levelEnd; backwardHead++) {
+                        int v = backwardQueue[backwardHead];
+                        int d = backwardDistance[v] + 1;
+                        for (int i = inOffsets[v]; i < inOffsets[v + 1]; i++) {
+                            int u = inNeighbors[i];
+                            if (backwardMark[u] == stamp) {
+                                continue;
+                            }
+                            backwardMark[u] = stamp;
+                            backwardDistance[u] = d;
+                            backwardParent[u] = inEdges[i];
+                            if (forwardMark[u] == stamp) {
+                                return u;
+                            }
+                            backwardQueue[backwardTail++] = u;
+                            backwardEdges += inOffsets[u + 1] - inOffsets[u];
+                        }
+                    }
+                }
+            }
+            return NIL;
+        }
+
+        /**
+         * Search forward from the source until all reachable vertices are visited.
+         * 
+         * @return the number of reached vertices, which are the first entries of the forward queue
+         */
+        int searchAll(int source)
+        {
+            int[] outOffsets = index.getOutOffsets();
+            int[] outEdges = index.getOutEdges();
+            int[] outNeighbors = index.getOutNeighbors();
+
+            nextStamp();
+            forwardMark[source] = stamp;
+            forwardDistance[source] = 0;
+            forwardParent[source] = NIL;
+            forwardQueue[0] = source;
+            int head = 0, tail = 1;
+            while (head < tail) {
+                int v = forwardQueue[head++];
+                int d = forwardDistance[v] + 1;
+                for (int i = outOffsets[v]; i < outOffsets[v + 1]; i++) {
+                    int u = outNeighbors[i];
+                    if (forwardMark[u] != stamp) {
+                        forwardMark[u] = stamp;
+                        forwardDistance[u] = d;
+                        forwardParent[u] = outEdges[i];
+                        forwardQueue[tail++] = u;
+                    }
+                }
+            }
+            return tail;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.jgrapht.graph.*;
 import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * A bidirectional version of Dijkstra's algorithm.
@@ -32,6 +33,10 @@ import java.util.*;
  * technique does not change the worst-case behavior of the algorithm but reduces, in some cases,
  * the number of visited vertices in practice. This implementation alternatively constructs forward
  * and reverse paths from the source and target vertices respectively.
+ *
+ * <p>
+ * The priority queue implementation can be selected by providing a supplier of
+ * {@link AddressableDoubleHeap} instances. By default a {@link FibonacciDoubleHeap} is used.
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -46,6 +51,7 @@ public final class BidirectionalDijkstraShortestPath<V, E>
     BaseShortestPathAlgorithm<V, E>
 {
     private double radius;
+    private final Supplier<AddressableDoubleHeap> heapSupplier;
 
     /**
      * Constructs a new instance for a specified graph.
@@ -64,12 +70,38 @@ public final class BidirectionalDijkstraShortestPath<V, E>
      * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
      */
     public BidirectionalDijkstraShortestPath(Graph<V, E> graph, double radius)
+    {
+        this(graph, radius, FibonacciDoubleHeap::new);
+    }
+
+    /**
+     * Constructs a new instance for a specified graph.
+     *
+     * @param graph the input graph
+     * @param heapSupplier supplier of new empty priority queues used by the algorithm
+     */
+    public BidirectionalDijkstraShortestPath(
+        Graph<V, E> graph, Supplier<AddressableDoubleHeap> heapSupplier)
+    {
+        this(graph, Double.POSITIVE_INFINITY, heapSupplier);
+    }
+
+    /**
+     * Constructs a new instance for a specified graph.
+     *
+     * @param graph the input graph
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @param heapSupplier supplier of new empty priority queues used by the algorithm
+     */
+    public BidirectionalDijkstraShortestPath(
+        Graph<V, E> graph, double radius, Supplier<AddressableDoubleHeap> heapSupplier)
     {
         super(graph);
         if (radius < 0.0) {
             throw new IllegalArgumentException("Radius must be non-negative");
         }
         this.radius = radius;
+        this.heapSupplier = Objects.requireNonNull(heapSupplier, "Heap supplier cannot be null");
     }
 
     @Override
@@ -112,15 +144,15 @@ public final class BidirectionalDijkstraShortestPath<V, E>
         while (true) {
             // stopping condition
             if (frontier.heap.isEmpty() || otherFrontier.heap.isEmpty()
-                || frontier.heap.min().getKey() + otherFrontier.heap.min().getKey() >= bestPath)
+                || frontier.getMinDistance() + otherFrontier.getMinDistance() >= bestPath)
             {
                 break;
             }
 
             // frontier scan
-            FibonacciHeapNode<QueueEntry> node = frontier.heap.removeMin();
-            V v = node.getData().v;
-            double vDistance = node.getKey();
+            int vHandle = frontier.heap.deleteMin();
+            V v = frontier.vertices.get(vHandle);
+            double vDistance = frontier.heap.getKey(vHandle);
 
             for (E e : frontier.graph.outgoingEdgesOf(v)) {
                 V u = Graphs.getOppositeVertex(frontier.graph, e, v);
@@ -221,65 +253,63 @@ public final class BidirectionalDijkstraShortestPath<V, E>
     {
         final Graph<V, E> graph;
 
-        final FibonacciHeap<QueueEntry> heap;
-        final Map<V, FibonacciHeapNode<QueueEntry>> seen;
+        final AddressableDoubleHeap heap;
+        final Map<V, Integer> seen;
+        // vertices and tree edges indexed by heap handle
+        final List<V> vertices;
+        final List<E> treeEdges;
 
         public SearchFrontier(Graph<V, E> graph)
         {
             this.graph = graph;
-            this.heap = new FibonacciHeap<>();
+            this.heap = heapSupplier.get();
             this.seen = new HashMap<>();
+            this.vertices = new ArrayList<>();
+            this.treeEdges = new ArrayList<>();
         }
 
         public void updateDistance(V v, E e, double distance)
         {
-            FibonacciHeapNode<QueueEntry> node = seen.get(v);
-            if (node == null) {
-                node = new FibonacciHeapNode<>(new QueueEntry(e, v));
-                heap.insert(node, distance);
-                seen.put(v, node);
+            Integer handle = seen.get(v);
+            if (handle == null) {
+                seen.put(v, heap.insert(distance));
+                vertices.add(v);
+                treeEdges.add(e);
             } else {
-                if (distance < node.getKey()) {
-                    heap.decreaseKey(node, distance);
-                    node.getData().e = e;
+                if (distance < heap.getKey(handle)) {
+                    heap.decreaseKey(handle, distance);
+                    treeEdges.set(handle, e);
                 }
             }
         }
 
+        public double getMinDistance()
+        {
+            return heap.getKey(heap.findMin());
+        }
+
         public double getDistance(V v)
         {
-            FibonacciHeapNode<QueueEntry> node = seen.get(v);
-            if (node == null) {
+            Integer handle = seen.get(v);
+            if (handle == null) {
                 return Double.POSITIVE_INFINITY;
             } else {
-                return node.getKey();
+                return heap.getKey(handle);
             }
         }
 
         public E getTreeEdge(V v)
         {
-            FibonacciHeapNode<QueueEntry> node = seen.get(v);
-            if (node == null) {
+            Integer handle = seen.get(v);
+            if (handle == null) {
                 return null;
             } else {
-                return node.getData().e;
+                return treeEdges.get(handle);
             }
         }
 
     }
 
-    class QueueEntry
-    {
-        E e;
-        V v;
-
-        public QueueEntry(E e, V v)
-        {
-            this.e = e;
-            this.v = v;
-        }
-    }
-
 }
 
 // End BidirectionalDijkstraShortestPath.java
@@ -0,0 +1,574 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * A blocked and parallel version of the Floyd-Warshall algorithm.
+ *
+ * <p>
+ * The distance matrix is divided into square tiles of $b \times b$ entries. The algorithm performs
+ * one round per tile row. In round $k$ the diagonal tile $(k,k)$ is first updated using only its
+ * own entries. Afterwards the tiles of row $k$ and column $k$ are updated using the diagonal tile
+ * and finally all remaining tiles are updated using the tiles of row $k$ and column $k$. The tiles
+ * updated in the second and the third phase are independent of each other and are processed in
+ * parallel in a {@link ForkJoinPool}, by default the common pool. Each tile update touches only
+ * three tiles, which for the default tile size fit in the processor cache. The running time is
+ * $O(n^3)$ as for {@link FloydWarshallShortestPaths}.
+ *
+ * <p>
+ * See the paper: G. Venkataraman, S. Sahni and S. Mukhopadhyaya. A blocked all-pairs
+ * shortest-paths algorithm. Journal of Experimental Algorithmics, 8, 2003.
+ *
+ * <p>
+ * Since the tiles are not processed in the order of the classical algorithm, ties between paths
+ * of equal weight are broken by the number of edges. Otherwise zero-weight cycles could make the
+ * stored first edges point in a circle. With this tie-breaking every cycle is strictly longer than
+ * zero and, under exact arithmetic, the first edges always form shortest path trees. Since
+ * floating point addition is not associative, sums of equal value may still differ in the last
+ * bits. After the computation the first edges towards each target are therefore checked and, if
+ * they contain a cycle, recomputed by a single-target search which uses the known distances.
+ *
+ * <p>
+ * Distances are stored in a single array of $n^2$ <code>double</code> values, the number of edges
+ * of each path in an array of $n^2$ <code>int</code> values and the first edge of each shortest
+ * path is stored as an <code>int</code> edge index of a {@link GraphIndexView}. Paths are only
+ * created when requested. This requires 16 bytes per pair of vertices, compared to the two object
+ * matrices of {@link FloydWarshallShortestPaths}. As with that implementation, no
+ * computations are performed during construction. All computations are performed the first time
+ * one of the query methods is invoked and the results are reused afterwards. If the graph is
+ * modified a new instance must be created.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see FloydWarshallShortestPaths
+ *
+ * @author agent
+ */
+public class BlockedFloydWarshallShortestPaths<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * The default tile size.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    private static final int NIL = -1;
+
+    private final GraphIndexView<V, E> index;
+    private final int blockSize;
+    private final ForkJoinPool pool;
+
+    private boolean computed;
+    private int n;
+    private double[] dist;
+    private int[] hops;
+    private int[] succ;
+    private int[] edgeSources;
+    private int[] edgeTargets;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph using the common pool.
+     *
+     * @param graph the graph
+     */
+    public BlockedFloydWarshallShortestPaths(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     * @param pool the pool used to update the tiles
+     */
+    public BlockedFloydWarshallShortestPaths(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this(new GraphIndexView<>(graph), DEFAULT_BLOCK_SIZE, pool);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm using an existing index of a graph.
+     *
+     * @param index the index of the graph
+     * @param blockSize the number of rows and columns of a tile
+     * @param pool the pool used to update the tiles
+     * @throws IllegalArgumentException if the block size is not positive
+     */
+    public BlockedFloydWarshallShortestPaths(
+        GraphIndexView<V, E> index, int blockSize, ForkJoinPool pool)
+    {
+        super(Objects.requireNonNull(index, "Index cannot be null").getGraph());
+        this.index = index;
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.blockSize = blockSize;
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * Get the total number of shortest paths. Does not count the paths from a vertex to itself.
+     * 
+     * @return total number of shortest paths
+     */
+    public int getShortestPathsCount()
+    {
+        lazyCalculateMatrix();
+
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            int row = i * n;
+            for (int j = 0; j < n; j++) {
+                if (i != j && Double.isFinite(dist[row + j])) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+
+        lazyCalculateMatrix();
+
+        int s = index.getVertexIndex(source);
+        int t = index.getVertexIndex(sink);
+        if (succ[s * n + t] == NIL) {
+            return createEmptyPath(source, sink);
+        }
+
+        List<E> edges = new ArrayList<>();
+        int u = s;
+        while (u != t) {
+            int e = succ[u * n + t];
+            edges.add(index.getEdge(e));
+            u = opposite(e, u);
+            assertSimple(edges.size());
+        }
+        return new GraphWalk<>(graph, source, sink, null, edges, dist[s * n + t]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+
+        lazyCalculateMatrix();
+
+        return dist[index.getVertexIndex(source) * n + index.getVertexIndex(sink)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        return new BlockedFloydWarshallSingleSourcePaths(source);
+    }
+
+    /**
+     * Returns the first hop, i.e., the second node on the shortest path from $a$ to $b$. Lookup
+     * time is $O(1)$.
+     * 
+     * @param a source vertex
+     * @param b target vertex
+     * @return next hop on the shortest path from $a$ to $b$, or null when there exists no path from
+     *         $a$ to $b$.
+     */
+    public V getFirstHop(V a, V b)
+    {
+        lazyCalculateMatrix();
+
+        int s = index.getVertexIndex(a);
+        int e = succ[s * n + index.getVertexIndex(b)];
+        if (e == NIL) {
+            return null;
+        }
+        return index.getVertex(opposite(e, s));
+    }
+
+    /**
+     * Returns the last hop, i.e., the second to last node on the shortest path from $a$ to $b$.
+     * Since only first hops are stored, the lookup time is linear in the number of edges of the
+     * path.
+     * 
+     * @param a source vertex
+     * @param b target vertex
+     * @return last hop on the shortest path from $a$ to $b$, or null when there exists no path from
+     *         $a$ to $b$.
+     */
+    public V getLastHop(V a, V b)
+    {
+        lazyCalculateMatrix();
+
+        int u = index.getVertexIndex(a);
+        int t = index.getVertexIndex(b);
+        if (succ[u * n + t] == NIL) {
+            return null;
+        }
+        for (int steps = 1;; steps++) {
+            assertSimple(steps);
+            int v = opposite(succ[u * n + t], u);
+            if (v == t) {
+                return index.getVertex(u);
+            }
+            u = v;
+        }
+    }
+
+    /**
+     * A shortest path has less than $n$ edges. Longer walks can only be created when the graph
+     * contains a negative-weight cycle, in which case shortest paths are not well defined.
+     */
+    private void assertSimple(int edges)
+    {
+        if (edges >= n) {
+            throw new IllegalStateException("Graph contains a negative-weight cycle");
+        }
+    }
+
+    private int opposite(int e, int u)
+    {
+        return edgeSources[e] == u ? edgeTargets[e] : edgeSources[e];
+    }
+
+    /**
+     * Calculates the distance and first hop matrices.
+     */
+    private synchronized void lazyCalculateMatrix()
+    {
+        if (computed) {
+            return;
+        }
+
+        n = index.vertexCount();
+        if ((long) n * n > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Graph too large: " + n + " vertices");
+        }
+        edgeSources = index.getEdgeSources();
+        edgeTargets = index.getEdgeTargets();
+        dist = new double[n * n];
+        hops = new int[n * n];
+        succ = new int[n * n];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        Arrays.fill(succ, NIL);
+
+        // the out arrays contain all incident edges in undirected graphs and are thus
+        // correct for directed, undirected and mixed graphs
+        int[] outOffsets = index.getOutOffsets();
+        int[] outEdges = index.getOutEdges();
+        int[] outNeighbors = index.getOutNeighbors();
+        double[] weights = index.getEdgeWeights();
+        for (int u = 0; u < n; u++) {
+            int row = u * n;
+            dist[row + u] = 0d;
+            for (int i = outOffsets[u]; i < outOffsets[u + 1]; i++) {
+                int v = outNeighbors[i];
+                if (v != u) {
+                    int e = outEdges[i];
+                    if (Double.compare(weights[e], dist[row + v]) < 0) {
+                        dist[row + v] = weights[e];
+                        hops[row + v] = 1;
+                        succ[row + v] = e;
+                    }
+                }
+            }
+        }
+
+        int blocks = (n + blockSize - 1) / blockSize;
+        for (int k = 0; k < blocks; k++) {
+            // phase 1: the diagonal tile
+            relaxTile(k, k, k);
+            if (blocks == 1) {
+                break;
+            }
+            // phase 2: the remaining tiles of row and column k
+            pool.invoke(new TileTask(k, false, 0, 2 * (blocks - 1), blocks));
+            // phase 3: all other tiles
+            pool.invoke(new TileTask(k, true, 0, (blocks - 1) * (blocks - 1), blocks));
+        }
+
+        if (!hasNegativeCycle()) {
+            int[] state = new int[n];
+            for (int t = 0; t < n; t++) {
+                if (hasFirstHopCycle(t, state)) {
+                    rebuildFirstHops(t);
+                }
+            }
+        }
+
+        computed = true;
+    }
+
+    private boolean hasNegativeCycle()
+    {
+        for (int u = 0; u < n; u++) {
+            if (dist[u * n + u] < 0d) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check whether the first hops towards a target contain a cycle. The tie-breaking by number of
+     * edges excludes such cycles only under exact arithmetic. With fractional weights two sums of
+     * equal value may differ in the last bits, depending on the order in which the tiles added
+     * them, and the first hops of vertices joined by zero-weight edges can then point at each
+     * other.
+     * 
+     * @param t the target vertex
+     * @param state an array of length $n$ used to mark vertices
+     * @return true if the first hops towards the target contain a cycle
+     */
+    private boolean hasFirstHopCycle(int t, int[] state)
+    {
+        // 0: unvisited, 1: on the current walk, 2: leads to the target or to no path
+        Arrays.fill(state, 0);
+        state[t] = 2;
+        for (int v = 0; v < n; v++) {
+            int u = v;
+            while (state[u] == 0) {
+                state[u] = 1;
+                int e = succ[u * n + t];
+                if (e == NIL) {
+                    break;
+                }
+                u = opposite(e, u);
+            }
+            if (state[u] == 1 && succ[u * n + t] != NIL) {
+                return true;
+            }
+            for (u = v; state[u] == 1; u = opposite(succ[u * n + t], u)) {
+                state[u] = 2;
+                if (succ[u * n + t] == NIL) {
+                    break;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Recompute the first hops towards a target as a shortest path tree. The tree is grown from
+     * the target by Dijkstra's algorithm on the reduced weights $w(u,v) + d(v,t) - d(u,t)$, which
+     * are non-negative up to rounding errors since the distances are already known. Each vertex
+     * enters the tree after its first hop and therefore the first hops cannot form a cycle.
+     * 
+     * @param t the target vertex
+     */
+    private void rebuildFirstHops(int t)
+    {
+        int[] inOffsets = index.getInOffsets();
+        int[] inEdges = index.getInEdges();
+        int[] inNeighbors = index.getInNeighbors();
+        double[] weights = index.getEdgeWeights();
+
+        DaryDoubleHeap heap = new DaryDoubleHeap(DaryDoubleHeap.DEFAULT_ARITY, n);
+        for (int u = 0; u < n; u++) {
+            // the handle of each vertex is its index
+            heap.insert(Double.POSITIVE_INFINITY);
+            succ[u * n + t] = NIL;
+        }
+        heap.decreaseKey(t, 0d);
+        while (!heap.isEmpty() && heap.getKey(heap.findMin()) < Double.POSITIVE_INFINITY) {
+            int v = heap.deleteMin();
+            double key = heap.getKey(v);
+            double dv = dist[v * n + t];
+            for (int i = inOffsets[v]; i < inOffsets[v + 1]; i++) {
+                int u = inNeighbors[i];
+                if (u == v || u == t || !heap.contains(u)) {
+                    continue;
+                }
+                double du = dist[u * n + t];
+                if (du == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                int e = inEdges[i];
+                double reduced = key + Math.max(0d, weights[e] + dv - du);
+                if (reduced < heap.getKey(u)) {
+                    heap.decreaseKey(u, reduced);
+                    succ[u * n + t] = e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Relax all entries of a tile using the vertices of a block as intermediate vertices. Paths are
+     * compared by weight and then by number of edges.
+     * 
+     * @param ib the row of the tile
+     * @param jb the column of the tile
+     * @param kb the block of intermediate vertices
+     */
+    private void relaxTile(int ib, int jb, int kb)
+    {
+        int i0 = ib * blockSize, i1 = Math.min(n, i0 + blockSize);
+        int j0 = jb * blockSize, j1 = Math.min(n, j0 + blockSize);
+        int k0 = kb * blockSize, k1 = Math.min(n, k0 + blockSize);
+
+        for (int k = k0; k < k1; k++) {
+            int kRow = k * n;
+            for (int i = i0; i < i1; i++) {
+                int iRow = i * n;
+                double dik = dist[iRow + k];
+                if (dik == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                int hik = hops[iRow + k];
+                int sik = succ[iRow + k];
+                for (int j = j0; j < j1; j++) {
+                    double d = dik + dist[kRow + j];
+                    double current = dist[iRow + j];
+                    if (d > current || d == Double.POSITIVE_INFINITY) {
+                        continue;
+                    }
+                    int h = hik + hops[kRow + j];
+                    if (d < current || h < hops[iRow + j]) {
+                        dist[iRow + j] = d;
+                        hops[iRow + j] = h;
+                        succ[iRow + j] = sik;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A task updating a range of the independent tiles of a phase. In the second phase tile $t$
+     * is the $t$-th tile of row $k$ if $t$ is smaller than the number of blocks minus one and a
+     * tile of column $k$ otherwise. In the third phase tiles are numbered row by row, skipping row
+     * and column $k$.
+     */
+    private class TileTask
+        extends
+        RecursiveAction
+    {
+        private static final long serialVersionUID = -2740478929411547394L;
+
+        private final int k;
+        private final boolean last;
+        private final int from;
+        private final int to;
+        private final int blocks;
+
+        TileTask(int k, boolean last, int from, int to, int blocks)
+        {
+            this.k = k;
+            this.last = last;
+            this.from = from;
+            this.to = to;
+            this.blocks = blocks;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                    new TileTask(k, last, from, mid, blocks),
+                    new TileTask(k, last, mid, to, blocks));
+                return;
+            }
+            int other = blocks - 1;
+            if (last) {
+                int i = from / other;
+                int j = from % other;
+                relaxTile(i < k ? i : i + 1, j < k ? j : j + 1, k);
+            } else if (from < other) {
+                relaxTile(k, from < k ? from : from + 1, k);
+            } else {
+                int i = from - other;
+                relaxTile(i < k ? i : i + 1, k, k);
+            }
+        }
+    }
+
+    class BlockedFloydWarshallSingleSourcePaths
+        implements
+        SingleSourcePaths<V, E>
+    {
+        private V source;
+
+        public BlockedFloydWarshallSingleSourcePaths(V source)
+        {
+            this.source = source;
+        }
+
+        @Override
+        public Graph<V, E> getGraph()
+        {
+            return graph;
+        }
+
+        @Override
+        public V getSourceVertex()
+        {
+            return source;
+        }
+
+        @Override
+        public double getWeight(V sink)
+        {
+            return BlockedFloydWarshallShortestPaths.this.getPathWeight(source, sink);
+        }
+
+        @Override
+        public GraphPath<V, E> getPath(V sink)
+        {
+            return BlockedFloydWarshallShortestPaths.this.getPath(source, sink);
+        }
+    }
+
+}
@@ -0,0 +1,1188 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Shortest path queries using contraction hierarchies.
+ *
+ * <p>
+ * The algorithm first preprocesses the graph by contracting its vertices one after the other in
+ * order of importance. Contracting a vertex $v$ removes it from the graph and, for every pair of
+ * neighbors $u$ and $w$ such that the path $u, v, w$ is the only shortest path between them in the
+ * remaining graph, inserts a shortcut edge $(u, w)$. Whether a shortcut is needed is decided by a
+ * local witness search. The importance of a vertex is its edge difference, that is the number of
+ * shortcuts its contraction would add minus the number of edges it would remove, plus the number of
+ * its neighbors which are already contracted. When estimating the edge difference, only witness
+ * paths with at most two edges are considered, which is much cheaper. In each round an independent
+ * set of vertices with locally minimal importance is contracted in parallel using a
+ * {@link ForkJoinPool}.
+ *
+ * <p>
+ * A query is answered by a bidirectional Dijkstra search in which both searches only follow edges
+ * leading to vertices contracted later. Such searches are typically very small. Shortcuts of the
+ * resulting path are finally unpacked into the original edges of the graph. Distance tables between
+ * many sources and targets are computed with the bucket-based method, see
+ * {@link #getDistances(List, List)}.
+ *
+ * <p>
+ * See the paper: R. Geisberger, P. Sanders, D. Schultes and D. Delling. Contraction hierarchies:
+ * faster and simpler hierarchical routing in road networks. In Proceedings of the 7th International
+ * Workshop on Experimental Algorithms (WEA), 319--333, 2008.
+ *
+ * <p>
+ * The preprocessing is performed on first use. The graph must not be modified afterwards, since
+ * the hierarchy is not updated. Edge weights must be non-negative. Queries reuse internal search
+ * space and therefore an instance must not be queried concurrently by multiple threads.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see BidirectionalDijkstraShortestPath
+ *
+ * @author agent
+ */
+public class ContractionHierarchyShortestPath<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+    implements
+    ManyToManyShortestPathsAlgorithm<V, E>
+{
+    // maximum number of vertices settled by a witness search
+    private static final int WITNESS_SEARCH_SETTLED_LIMIT = 500;
+
+    // maximum number of vertices processed by a single task
+    private static final int PARALLEL_THRESHOLD = 16;
+
+    private static final int NIL = -1;
+
+    // states of a vertex during contraction
+    private static final byte REMAINING = 0;
+    private static final byte IN_BATCH = 1;
+    private static final byte CONTRACTED = 2;
+
+    private final GraphIndexView<V, E> index;
+    private final ForkJoinPool pool;
+
+    private boolean preprocessed;
+    private int shortcutCount;
+
+    // arcs of the hierarchy, either original edges or shortcuts of two arcs
+    private int[] arcEdge;
+    private int[] arcFirst;
+    private int[] arcSecond;
+
+    // arcs towards vertices contracted later, out-arcs for the forward search and in-arcs for the
+    // backward search
+    private int[] upOffsets;
+    private int[] upNeighbors;
+    private int[] upArcs;
+    private double[] upWeights;
+    private int[] downOffsets;
+    private int[] downNeighbors;
+    private int[] downArcs;
+    private double[] downWeights;
+
+    private SearchSpace forward;
+    private SearchSpace backward;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph using the common pool for the
+     * preprocessing.
+     *
+     * @param graph the graph
+     */
+    public ContractionHierarchyShortestPath(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     * @param pool the pool used to execute the preprocessing
+     */
+    public ContractionHierarchyShortestPath(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this(new GraphIndexView<>(graph), pool);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm using an existing index of a graph.
+     *
+     * @param index the index of the graph
+     * @param pool the pool used to execute the preprocessing
+     */
+    public ContractionHierarchyShortestPath(GraphIndexView<V, E> index, ForkJoinPool pool)
+    {
+        super(Objects.requireNonNull(index, "Index cannot be null").getGraph());
+        this.index = index;
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * Get the number of shortcuts inserted by the preprocessing. Calling this method performs the
+     * preprocessing if it has not been performed yet.
+     *
+     * @return the number of shortcuts
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    public int getShortcutCount()
+    {
+        lazyPreprocess();
+        return shortcutCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        assertVertices(source, sink);
+        if (source.equals(sink)) {
+            return createEmptyPath(source, sink);
+        }
+        lazyPreprocess();
+
+        int meeting = search(index.getVertexIndex(source), index.getVertexIndex(sink));
+        if (meeting == NIL) {
+            return null;
+        }
+
+        // collect the arcs of both halves of the path
+        IntList arcs = new IntList();
+        for (int v = meeting; forward.pred[v] != NIL; v = forward.prevVertex[v]) {
+            arcs.add(forward.pred[v]);
+        }
+        arcs.reverse();
+        for (int v = meeting; backward.pred[v] != NIL; v = backward.prevVertex[v]) {
+            arcs.add(backward.pred[v]);
+        }
+
+        // unpack shortcuts
+        List<E> edgeList = new ArrayList<>();
+        IntList stack = new IntList();
+        for (int i = 0; i < arcs.size; i++) {
+            stack.add(arcs.values[i]);
+            while (stack.size > 0) {
+                int a = stack.values[--stack.size];
+                if (arcFirst[a] == NIL) {
+                    edgeList.add(index.getEdge(arcEdge[a]));
+                } else {
+                    stack.add(arcSecond[a]);
+                    stack.add(arcFirst[a]);
+                }
+            }
+        }
+
+        double weight = forward.getDistance(meeting) + backward.getDistance(meeting);
+        return new GraphWalk<>(graph, source, sink, edgeList, weight);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        assertVertices(source, sink);
+        if (source.equals(sink)) {
+            return 0d;
+        }
+        lazyPreprocess();
+
+        int meeting = search(index.getVertexIndex(source), index.getVertexIndex(sink));
+        if (meeting == NIL) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return forward.getDistance(meeting) + backward.getDistance(meeting);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * The distance table is computed with the bucket-based method. First, an upward search is
+     * performed backwards from every target vertex, and the distance to the target is stored in a
+     * bucket at each vertex reached. Then an upward search is performed from every source vertex,
+     * combining the distance to each reached vertex with the entries of its bucket. The searches
+     * of each phase are executed in parallel using the pool of the algorithm.
+     * 
+     * <p>
+     * See the paper: S. Knopp, P. Sanders, D. Schultes, F. Schulz and D. Wagner. Computing
+     * many-to-many shortest paths using highway hierarchies. In Proceedings of the 9th Workshop on
+     * Algorithm Engineering and Experiments (ALENEX), 36--45, 2007.
+     * 
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    @Override
+    public double[][] getDistances(List<V> sources, List<V> targets)
+    {
+        int[] s = toIndices(sources, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        int[] t = toIndices(targets, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        lazyPreprocess();
+
+        int n = upOffsets.length - 1;
+        Queue<SearchSpace> spaces = new ConcurrentLinkedQueue<>();
+        Supplier<SearchSpace> spaceSupplier = () -> new SearchSpace(n);
+
+        // backward searches from all targets
+        int[][] reachedVertices = new int[t.length][];
+        double[][] reachedDistances = new double[t.length][];
+        if (t.length > 0) {
+            pool.invoke(new ParallelFor<>(0, t.length, 1, (j, space) -> {
+                IntList reached =
+                    upwardSearch(space, t[j], downOffsets, downNeighbors, downWeights);
+                reachedVertices[j] = reached.toArray();
+                reachedDistances[j] = new double[reached.size];
+                for (int k = 0; k < reached.size; k++) {
+                    reachedDistances[j][k] = space.getDistance(reached.values[k]);
+                }
+            }, spaces, spaceSupplier));
+        }
+
+        // buckets of all vertices
+        int[] bucketOffsets = new int[n + 1];
+        for (int[] reached : reachedVertices) {
+            for (int v : reached) {
+                bucketOffsets[v + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            bucketOffsets[v + 1] += bucketOffsets[v];
+        }
+        int[] bucketTargets = new int[bucketOffsets[n]];
+        double[] bucketDistances = new double[bucketOffsets[n]];
+        int[] bucketPos = Arrays.copyOf(bucketOffsets, n);
+        for (int j = 0; j < t.length; j++) {
+            for (int k = 0; k < reachedVertices[j].length; k++) {
+                int i = bucketPos[reachedVertices[j][k]]++;
+                bucketTargets[i] = j;
+                bucketDistances[i] = reachedDistances[j][k];
+            }
+        }
+
+        // forward searches from all sources
+        double[][] distances = new double[s.length][];
+        if (s.length > 0) {
+            pool.invoke(new ParallelFor<>(0, s.length, 1, (i, space) -> {
+                double[] row = new double[t.length];
+                Arrays.fill(row, Double.POSITIVE_INFINITY);
+                IntList reached = upwardSearch(space, s[i], upOffsets, upNeighbors, upWeights);
+                for (int k = 0; k < reached.size; k++) {
+                    int v = reached.values[k];
+                    double d = space.getDistance(v);
+                    for (int b = bucketOffsets[v]; b < bucketOffsets[v + 1]; b++) {
+                        int j = bucketTargets[b];
+                        double pathDistance = d + bucketDistances[b];
+                        if (pathDistance < row[j]) {
+                            row[j] = pathDistance;
+                        }
+                    }
+                }
+                distances[i] = row;
+            }, spaces, spaceSupplier));
+        }
+        return distances;
+    }
+
+    private int[] toIndices(List<V> vertices, String errorMessage)
+    {
+        int[] result = new int[vertices.size()];
+        int i = 0;
+        for (V v : vertices) {
+            if (!graph.containsVertex(v)) {
+                throw new IllegalArgumentException(errorMessage);
+            }
+            result[i++] = index.getVertexIndex(v);
+        }
+        return result;
+    }
+
+    /**
+     * Exhaustive upward search. Returns the vertices settled by the search.
+     */
+    private IntList upwardSearch(
+        SearchSpace space, int source, int[] offsets, int[] neighbors, double[] weights)
+    {
+        IntList settled = new IntList();
+        space.init(source);
+        while (!space.heap.isEmpty()) {
+            int handle = space.heap.deleteMin();
+            double d = space.heap.getKey(handle);
+            int v = space.handleVertex[handle];
+            settled.add(v);
+            for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                space.relax(neighbors[i], d + weights[i], NIL, v);
+            }
+        }
+        return settled;
+    }
+
+    private void assertVertices(V source, V sink)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+    }
+
+    /**
+     * Bidirectional upward search. Returns the vertex where the shortest path is found or
+     * {@link #NIL} if the sink is not reachable.
+     */
+    private int search(int source, int sink)
+    {
+        forward.init(source);
+        backward.init(sink);
+
+        double best = Double.POSITIVE_INFINITY;
+        int meeting = NIL;
+        while (true) {
+            boolean forwardDone = forward.heap.isEmpty() || forward.minDistance() >= best;
+            boolean backwardDone = backward.heap.isEmpty() || backward.minDistance() >= best;
+            if (forwardDone && backwardDone) {
+                break;
+            }
+
+            SearchSpace space, other;
+            int[] offsets, neighbors, arcs;
+            double[] weights;
+            if (!forwardDone && (backwardDone || forward.minDistance() <= backward.minDistance()))
+            {
+                space = forward;
+                other = backward;
+                offsets = upOffsets;
+                neighbors = upNeighbors;
+                arcs = upArcs;
+                weights = upWeights;
+            } else {
+                space = backward;
+                other = forward;
+                offsets = downOffsets;
+                neighbors = downNeighbors;
+                arcs = downArcs;
+                weights = downWeights;
+            }
+
+            int handle = space.heap.deleteMin();
+            double d = space.heap.getKey(handle);
+            int v = space.handleVertex[handle];
+
+            if (other.isReached(v)) {
+                double pathDistance = d + other.getDistance(v);
+                if (pathDistance < best) {
+                    best = pathDistance;
+                    meeting = v;
+                }
+            }
+
+            for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                space.relax(neighbors[i], d + weights[i], arcs[i], v);
+            }
+        }
+        return meeting;
+    }
+
+    /**
+     * Compute the hierarchy if not already computed.
+     */
+    private synchronized void lazyPreprocess()
+    {
+        if (preprocessed) {
+            return;
+        }
+        new Contraction().run();
+        preprocessed = true;
+    }
+
+    /**
+     * The search space of one direction of a query.
+     */
+    private static class SearchSpace
+    {
+        final DaryDoubleHeap heap;
+        final int[] handleVertex;
+        final int[] vertexHandle;
+        final int[] vertexStamp;
+        final int[] pred;
+        final int[] prevVertex;
+        int stamp;
+
+        SearchSpace(int n)
+        {
+            this.heap = new DaryDoubleHeap(DaryDoubleHeap.DEFAULT_ARITY, n);
+            this.handleVertex = new int[n];
+            this.vertexHandle = new int[n];
+            this.vertexStamp = new int[n];
+            this.pred = new int[n];
+            this.prevVertex = new int[n];
+        }
+
+        void init(int source)
+        {
+            heap.clear();
+            if (++stamp == 0) {
+                Arrays.fill(vertexStamp, 0);
+                stamp = 1;
+            }
+            relax(source, 0d, NIL, NIL);
+        }
+
+        boolean isReached(int v)
+        {
+            return vertexStamp[v] == stamp;
+        }
+
+        double getDistance(int v)
+        {
+            return heap.getKey(vertexHandle[v]);
+        }
+
+        double minDistance()
+        {
+            return heap.getKey(heap.findMin());
+        }
+
+        void relax(int v, double d, int arc, int prev)
+        {
+            if (vertexStamp[v] != stamp) {
+                vertexStamp[v] = stamp;
+                int handle = heap.insert(d);
+                handleVertex[handle] = v;
+                vertexHandle[v] = handle;
+            } else {
+                int handle = vertexHandle[v];
+                if (!heap.contains(handle) || d >= heap.getKey(handle)) {
+                    return;
+                }
+                heap.decreaseKey(handle, d);
+            }
+            pred[v] = arc;
+            prevVertex[v] = prev;
+        }
+    }
+
+    /**
+     * The preprocessing which contracts all vertices and builds the search graphs.
+     */
+    private class Contraction
+    {
+        final int n;
+
+        // all arcs created so far
+        int arcCount;
+        int[] tail;
+        int[] head;
+        double[] weight;
+        int[] edge;
+        int[] first;
+        int[] second;
+
+        // arcs incident to each vertex, possibly including arcs to contracted vertices
+        final ArcList[] out;
+        final ArcList[] in;
+
+        final byte[] state;
+        final int[] priority;
+        final int[] tieBreak;
+        final int[] contractedNeighbors;
+        final int[] rank;
+        final int[] mark;
+        int markStamp;
+
+        final ConcurrentLinkedQueue<WitnessSearch> witnessSearches;
+
+        Contraction()
+        {
+            this.n = index.vertexCount();
+            int[] offsets = index.getOutOffsets();
+            int[] outEdges = index.getOutEdges();
+            int[] outNeighbors = index.getOutNeighbors();
+            double[] edgeWeights = index.getEdgeWeights();
+
+            int capacity = Math.max(16, outEdges.length);
+            this.tail = new int[capacity];
+            this.head = new int[capacity];
+            this.weight = new double[capacity];
+            this.edge = new int[capacity];
+            this.first = new int[capacity];
+            this.second = new int[capacity];
+            this.out = new ArcList[n];
+            this.in = new ArcList[n];
+            for (int v = 0; v < n; v++) {
+                out[v] = new ArcList();
+                in[v] = new ArcList();
+            }
+
+            for (int v = 0; v < n; v++) {
+                for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                    int e = outEdges[i];
+                    double w = edgeWeights[e];
+                    if (w < 0d) {
+                        throw new IllegalArgumentException("Negative edge weight not allowed");
+                    }
+                    int u = outNeighbors[i];
+                    if (u != v) {
+                        addArc(v, u, w, e, NIL, NIL);
+                    }
+                }
+            }
+
+            this.state = new byte[n];
+            this.priority = new int[n];
+            this.contractedNeighbors = new int[n];
+            this.rank = new int[n];
+            this.mark = new int[n];
+
+            // random tie breaking results in large independent sets
+            this.tieBreak = new int[n];
+            for (int v = 0; v < n; v++) {
+                tieBreak[v] = v;
+            }
+            Random rng = new Random(n);
+            for (int v = n - 1; v > 0; v--) {
+                int u = rng.nextInt(v + 1);
+                int tmp = tieBreak[v];
+                tieBreak[v] = tieBreak[u];
+                tieBreak[u] = tmp;
+            }
+
+            this.witnessSearches = new ConcurrentLinkedQueue<>();
+        }
+
+        void run()
+        {
+            int[] remaining = new int[n];
+            for (int v = 0; v < n; v++) {
+                remaining[v] = v;
+            }
+            int remainingCount = n;
+            int nextRank = 0;
+            int originalArcCount = arcCount;
+
+            parallelFor(remaining, remainingCount, (i, ws) -> updatePriority(remaining[i], ws));
+
+            while (remainingCount > 0) {
+                // select vertices with locally minimal priority
+                boolean[] selected = new boolean[remainingCount];
+                parallelFor(
+                    remaining, remainingCount,
+                    (i, ws) -> selected[i] = isLocalMinimum(remaining[i]));
+                IntList batchList = new IntList();
+                for (int i = 0; i < remainingCount; i++) {
+                    if (selected[i]) {
+                        batchList.add(remaining[i]);
+                        state[remaining[i]] = IN_BATCH;
+                    }
+                }
+                int[] batch = batchList.toArray();
+
+                // compute shortcuts in parallel, ignoring all vertices of the batch
+                List<List<Shortcut>> shortcuts =
+                    new ArrayList<>(Collections.nCopies(batch.length, null));
+                parallelFor(batch, batch.length, (i, ws) -> {
+                    List<Shortcut> list = new ArrayList<>();
+                    findShortcuts(batch[i], ws, list);
+                    shortcuts.set(i, list);
+                });
+
+                // contract
+                for (int i = 0; i < batch.length; i++) {
+                    int v = batch[i];
+                    state[v] = CONTRACTED;
+                    rank[v] = nextRank++;
+                    for (Shortcut s : shortcuts.get(i)) {
+                        addArc(s.tail, s.head, s.weight, NIL, s.first, s.second);
+                    }
+                }
+
+                // update neighbors
+                IntList neighbors = new IntList();
+                for (int v : batch) {
+                    markStamp++;
+                    countContractedNeighbor(out[v]);
+                    countContractedNeighbor(in[v]);
+                }
+                markStamp++;
+                for (int v : batch) {
+                    collectNeighbors(out[v], neighbors);
+                    collectNeighbors(in[v], neighbors);
+                }
+                int[] affected = neighbors.toArray();
+                for (int u : affected) {
+                    out[u].removeContracted(state);
+                    in[u].removeContracted(state);
+                }
+                int k = 0;
+                for (int i = 0; i < remainingCount; i++) {
+                    if (state[remaining[i]] != CONTRACTED) {
+                        remaining[k++] = remaining[i];
+                    }
+                }
+                remainingCount = k;
+
+                parallelFor(affected, affected.length, (i, ws) -> updatePriority(affected[i], ws));
+            }
+
+            shortcutCount = arcCount - originalArcCount;
+            buildSearchGraphs();
+        }
+
+        /*
+         * Increment the count of contracted neighbors of the remaining endpoints of the arcs of a
+         * contracted vertex, once for each endpoint.
+         */
+        private void countContractedNeighbor(ArcList arcs)
+        {
+            for (int i = 0; i < arcs.size; i++) {
+                int u = arcs.ends[i];
+                if (state[u] != CONTRACTED && mark[u] != markStamp) {
+                    mark[u] = markStamp;
+                    contractedNeighbors[u]++;
+                }
+            }
+        }
+
+        /*
+         * Collect the remaining endpoints of arcs which are not already collected.
+         */
+        private void collectNeighbors(ArcList arcs, IntList neighbors)
+        {
+            for (int i = 0; i < arcs.size; i++) {
+                int u = arcs.ends[i];
+                if (state[u] != CONTRACTED && mark[u] != markStamp) {
+                    mark[u] = markStamp;
+                    neighbors.add(u);
+                }
+            }
+        }
+
+        private boolean isLocalMinimum(int v)
+        {
+            return isLocalMinimum(v, out[v]) && isLocalMinimum(v, in[v]);
+        }
+
+        private boolean isLocalMinimum(int v, ArcList arcs)
+        {
+            for (int i = 0; i < arcs.size; i++) {
+                int u = arcs.ends[i];
+                if (state[u] == CONTRACTED) {
+                    continue;
+                }
+                if (priority[u] < priority[v]
+                    || (priority[u] == priority[v] && tieBreak[u] < tieBreak[v]))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void updatePriority(int v, WitnessSearch ws)
+        {
+            int shortcuts = findShortcuts(v, ws, null);
+            int removed = out[v].countRemaining(state) + in[v].countRemaining(state);
+            priority[v] = shortcuts - removed + contractedNeighbors[v];
+        }
+
+        /*
+         * Find the shortcuts needed when contracting a vertex and return their number. If a list
+         * is given the shortcuts are collected, otherwise the contraction is only simulated using
+         * witness paths of at most two arcs.
+         */
+        private int findShortcuts(int v, WitnessSearch ws, List<Shortcut> shortcuts)
+        {
+            int count = 0;
+            ArcList inArcs = in[v];
+            ArcList outArcs = out[v];
+            for (int i = 0; i < inArcs.size; i++) {
+                int x = inArcs.ends[i];
+                if (state[x] != REMAINING) {
+                    continue;
+                }
+                double inWeight = inArcs.weights[i];
+
+                ws.newSearch();
+                double bound = Double.NEGATIVE_INFINITY;
+                for (int j = 0; j < outArcs.size; j++) {
+                    int y = outArcs.ends[j];
+                    if (y != x && state[y] == REMAINING) {
+                        bound = Math.max(bound, inWeight + outArcs.weights[j]);
+                        ws.addTarget(y);
+                    }
+                }
+                if (bound == Double.NEGATIVE_INFINITY) {
+                    continue;
+                }
+
+                if (shortcuts != null) {
+                    ws.search(x, v, bound, WITNESS_SEARCH_SETTLED_LIMIT);
+                } else {
+                    ws.twoHopSearch(x, v, bound);
+                }
+
+                for (int j = 0; j < outArcs.size; j++) {
+                    int y = outArcs.ends[j];
+                    if (y == x || state[y] != REMAINING) {
+                        continue;
+                    }
+                    double via = inWeight + outArcs.weights[j];
+                    if (ws.getDistance(y) > via) {
+                        count++;
+                        if (shortcuts != null) {
+                            shortcuts.add(
+                                new Shortcut(x, y, via, inArcs.arcs[i], outArcs.arcs[j]));
+                        }
+                    }
+                }
+            }
+            return count;
+        }
+
+        /*
+         * Add an arc or decrease the weight of an existing arc with the same endpoints.
+         */
+        private void addArc(int x, int y, double w, int e, int a1, int a2)
+        {
+            ArcList arcs = out[x];
+            for (int i = 0; i < arcs.size; i++) {
+                if (arcs.ends[i] == y) {
+                    int a = arcs.arcs[i];
+                    if (w < weight[a]) {
+                        weight[a] = w;
+                        edge[a] = e;
+                        first[a] = a1;
+                        second[a] = a2;
+                        arcs.weights[i] = w;
+                        in[y].updateWeight(a, w);
+                    }
+                    return;
+                }
+            }
+
+            if (arcCount == tail.length) {
+                int capacity = arcCount + (arcCount >> 1);
+                tail = Arrays.copyOf(tail, capacity);
+                head = Arrays.copyOf(head, capacity);
+                weight = Arrays.copyOf(weight, capacity);
+                edge = Arrays.copyOf(edge, capacity);
+                first = Arrays.copyOf(first, capacity);
+                second = Arrays.copyOf(second, capacity);
+            }
+            int a = arcCount++;
+            tail[a] = x;
+            head[a] = y;
+            weight[a] = w;
+            edge[a] = e;
+            first[a] = a1;
+            second[a] = a2;
+            out[x].add(a, y, w);
+            in[y].add(a, x, w);
+        }
+
+        /*
+         * Split all arcs into arcs leading to higher ranked vertices, which are followed by the
+         * forward search, and arcs coming from higher ranked vertices, which are followed backwards
+         * by the backward search.
+         */
+        private void buildSearchGraphs()
+        {
+            upOffsets = new int[n + 1];
+            downOffsets = new int[n + 1];
+            for (int a = 0; a < arcCount; a++) {
+                if (rank[tail[a]] < rank[head[a]]) {
+                    upOffsets[tail[a] + 1]++;
+                } else {
+                    downOffsets[head[a] + 1]++;
+                }
+            }
+            for (int v = 0; v < n; v++) {
+                upOffsets[v + 1] += upOffsets[v];
+                downOffsets[v + 1] += downOffsets[v];
+            }
+            upNeighbors = new int[upOffsets[n]];
+            upArcs = new int[upOffsets[n]];
+            upWeights = new double[upOffsets[n]];
+            downNeighbors = new int[downOffsets[n]];
+            downArcs = new int[downOffsets[n]];
+            downWeights = new double[downOffsets[n]];
+            int[] upPos = Arrays.copyOf(upOffsets, n);
+            int[] downPos = Arrays.copyOf(downOffsets, n);
+            for (int a = 0; a < arcCount; a++) {
+                if (rank[tail[a]] < rank[head[a]]) {
+                    int i = upPos[tail[a]]++;
+                    upNeighbors[i] = head[a];
+                    upArcs[i] = a;
+                    upWeights[i] = weight[a];
+                } else {
+                    int i = downPos[head[a]]++;
+                    downNeighbors[i] = tail[a];
+                    downArcs[i] = a;
+                    downWeights[i] = weight[a];
+                }
+            }
+
+            arcEdge = Arrays.copyOf(edge, arcCount);
+            arcFirst = Arrays.copyOf(first, arcCount);
+            arcSecond = Arrays.copyOf(second, arcCount);
+            forward = new SearchSpace(n);
+            backward = new SearchSpace(n);
+        }
+
+        private void parallelFor(int[] items, int size, Job<WitnessSearch> job)
+        {
+            if (size > 0) {
+                pool.invoke(
+                    new ParallelFor<>(
+                        0, size, PARALLEL_THRESHOLD, job, witnessSearches, WitnessSearch::new));
+            }
+        }
+
+        /**
+         * A local Dijkstra search which ignores contracted vertices and vertices being contracted.
+         */
+        private class WitnessSearch
+        {
+            final DaryDoubleHeap heap;
+            final int[] handleVertex;
+            final int[] vertexHandle;
+            final int[] vertexStamp;
+            final double[] distance;
+            final int[] targetStamp;
+            int stamp;
+            int targets;
+
+            WitnessSearch()
+            {
+                this.heap = new DaryDoubleHeap();
+                this.handleVertex = new int[n];
+                this.vertexHandle = new int[n];
+                this.vertexStamp = new int[n];
+                this.distance = new double[n];
+                this.targetStamp = new int[n];
+            }
+
+            void newSearch()
+            {
+                heap.clear();
+                if (++stamp == 0) {
+                    Arrays.fill(vertexStamp, 0);
+                    Arrays.fill(targetStamp, 0);
+                    stamp = 1;
+                }
+                targets = 0;
+            }
+
+            void addTarget(int v)
+            {
+                if (targetStamp[v] != stamp) {
+                    targetStamp[v] = stamp;
+                    targets++;
+                }
+            }
+
+            /*
+             * Search until all targets are settled, the bound is exceeded or the limit of settled
+             * vertices is reached.
+             */
+            void search(int source, int avoid, double bound, int limit)
+            {
+                relax(source, 0d);
+
+                int settled = 0;
+                while (!heap.isEmpty() && settled < limit && targets > 0) {
+                    int handle = heap.deleteMin();
+                    double d = heap.getKey(handle);
+                    settled++;
+                    int v = handleVertex[handle];
+                    if (targetStamp[v] == stamp) {
+                        targets--;
+                    }
+                    ArcList arcs = out[v];
+                    for (int i = 0; i < arcs.size; i++) {
+                        int u = arcs.ends[i];
+                        double ud = d + arcs.weights[i];
+                        if (ud <= bound && u != avoid && state[u] == REMAINING) {
+                            relax(u, ud);
+                        }
+                    }
+                }
+            }
+
+            /*
+             * Find the shortest paths with at most two arcs.
+             */
+            void twoHopSearch(int source, int avoid, double bound)
+            {
+                ArcList arcs = out[source];
+                for (int i = 0; i < arcs.size; i++) {
+                    int z = arcs.ends[i];
+                    if (z != avoid && state[z] == REMAINING) {
+                        update(z, arcs.weights[i]);
+                    }
+                }
+                for (int i = 0; i < arcs.size; i++) {
+                    int z = arcs.ends[i];
+                    if (z == avoid || state[z] != REMAINING) {
+                        continue;
+                    }
+                    double dz = arcs.weights[i];
+                    ArcList zArcs = out[z];
+                    for (int j = 0; j < zArcs.size; j++) {
+                        int y = zArcs.ends[j];
+                        double dy = dz + zArcs.weights[j];
+                        if (dy <= bound && targetStamp[y] == stamp) {
+                            update(y, dy);
+                        }
+                    }
+                }
+            }
+
+            /*
+             * The length of the shortest path found to a vertex, which is an upper bound of the
+             * distance.
+             */
+            double getDistance(int v)
+            {
+                if (vertexStamp[v] != stamp) {
+                    return Double.POSITIVE_INFINITY;
+                }
+                return distance[v];
+            }
+
+            private void relax(int v, double d)
+            {
+                if (vertexStamp[v] != stamp) {
+                    vertexStamp[v] = stamp;
+                    distance[v] = d;
+                    int handle = heap.insert(d);
+                    handleVertex[handle] = v;
+                    vertexHandle[v] = handle;
+                } else if (d < distance[v]) {
+                    int handle = vertexHandle[v];
+                    if (heap.contains(handle)) {
+                        distance[v] = d;
+                        heap.decreaseKey(handle, d);
+                    }
+                }
+            }
+
+            private void update(int v, double d)
+            {
+                if (vertexStamp[v] != stamp) {
+                    vertexStamp[v] = stamp;
+                    distance[v] = d;
+                } else if (d < distance[v]) {
+                    distance[v] = d;
+                }
+            }
+        }
+    }
+
+    /**
+     * A job of a parallel loop.
+     *
+     * @param <W> the type of the workspace
+     */
+    private interface Job<W>
+    {
+        void run(int i, W workspace);
+    }
+
+    /**
+     * A parallel loop over a range of positions. Workspaces are taken from a queue and returned to
+     * it after use, so that they are reused by subsequent tasks.
+     *
+     * @param <W> the type of the workspace
+     */
+    private static class ParallelFor<W>
+        extends
+        RecursiveAction
+    {
+        private static final long serialVersionUID = -2434612412658447102L;
+
+        private final int from;
+        private final int to;
+        private final int threshold;
+        private final Job<W> job;
+        private final Queue<W> workspaces;
+        private final Supplier<W> workspaceSupplier;
+
+        ParallelFor(
+            int from, int to, int threshold, Job<W> job, Queue<W> workspaces,
+            Supplier<W> workspaceSupplier)
+        {
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.job = job;
+            this.workspaces = workspaces;
+            this.workspaceSupplier = workspaceSupplier;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from <= threshold) {
+                W workspace = workspaces.poll();
+                if (workspace == null) {
+                    workspace = workspaceSupplier.get();
+                }
+                for (int i = from; i < to; i++) {
+                    job.run(i, workspace);
+                }
+                workspaces.add(workspace);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                new ParallelFor<>(from, mid, threshold, job, workspaces, workspaceSupplier),
+                new ParallelFor<>(mid, to, threshold, job, workspaces, workspaceSupplier));
+        }
+    }
+
+    /**
+     * A shortcut found during contraction.
+     */
+    private static class Shortcut
+    {
+        final int tail;
+        final int head;
+        final double weight;
+        final int first;
+        final int second;
+
+        Shortcut(int tail, int head, double weight, int first, int second)
+        {
+            this.tail = tail;
+            this.head = head;
+            this.weight = weight;
+            this.first = first;
+            this.second = second;
+        }
+    }
+
+    /**
+     * A list of arcs incident to a vertex. The opposite endpoint and the weight of each arc are
+     * stored next to it for locality.
+     */
+    private static class ArcList
+    {
+        int[] arcs = new int[4];
+        int[] ends = new int[4];
+        double[] weights = new double[4];
+        int size;
+
+        void add(int arc, int end, double weight)
+        {
+            if (size == arcs.length) {
+                arcs = Arrays.copyOf(arcs, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            arcs[size] = arc;
+            ends[size] = end;
+            weights[size] = weight;
+            size++;
+        }
+
+        void updateWeight(int arc, double weight)
+        {
+            for (int i = 0; i < size; i++) {
+                if (arcs[i] == arc) {
+                    weights[i] = weight;
+                    return;
+                }
+            }
+        }
+
+        int countRemaining(byte[] state)
+        {
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (state[ends[i]] != CONTRACTED) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        void removeContracted(byte[] state)
+        {
+            int k = 0;
+            for (int i = 0; i < size; i++) {
+                if (state[ends[i]] != CONTRACTED) {
+                    arcs[k] = arcs[i];
+                    ends[k] = ends[i];
+                    weights[k] = weights[i];
+                    k++;
+                }
+            }
+            size = k;
+        }
+    }
+
+    /**
+     * A growable list of integers.
+     */
+    private static class IntList
+    {
+        int[] values = new int[4];
+        int size;
+
+        void add(int v)
+        {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = v;
+        }
+
+        void reverse()
+        {
+            for (int i = 0, j = size - 1; i < j; i++, j--) {
+                int tmp = values[i];
+                values[i] = values[j];
+                values[j] = tmp;
+            }
+        }
+
+        int[] toArray()
+        {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,488 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * A parallel implementation of the delta-stepping single-source shortest path algorithm.
+ *
+ * <p>
+ * The algorithm maintains tentative distances and keeps the vertices in buckets of width $\Delta$
+ * according to their tentative distance. Buckets are processed in increasing order. The edges of
+ * the graph are split into light edges, with weight at most $\Delta$, and heavy edges. While the
+ * current bucket is non-empty, all its vertices relax their light edges in parallel, possibly
+ * re-inserting vertices into the current bucket. Afterwards, all vertices removed from the bucket
+ * relax their heavy edges in parallel. A $\Delta$ equal to the smallest edge weight results in
+ * Dijkstra's algorithm, while an infinite $\Delta$ results in a parallel Bellman-Ford algorithm.
+ *
+ * <p>
+ * See the paper: U. Meyer and P. Sanders. $\Delta$-stepping: a parallelizable shortest path
+ * algorithm. Journal of Algorithms, 49(1):114--152, 2003.
+ *
+ * <p>
+ * The relaxations are executed in a {@link ForkJoinPool}, by default the common pool. When no
+ * $\Delta$ is provided it is chosen as the maximum edge weight divided by the average degree. The
+ * algorithm computes the same distances as {@link DijkstraShortestPath}. When several shortest
+ * paths exist, the returned path may differ. Edge weights must be non-negative.
+ *
+ * <p>
+ * The algorithm works on a {@link GraphIndexView} of the graph, which is computed on first use
+ * and reused by subsequent computations. If the graph is modified the index must be invalidated,
+ * see {@link GraphIndexView#invalidate()}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see DijkstraShortestPath
+ *
+ * @author agent
+ */
+public class DeltaSteppingShortestPath<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * Value of $\Delta$ which requests automatic selection.
+     */
+    public static final double AUTOMATIC_DELTA = 0d;
+
+    // minimum number of vertices relaxed by a single task
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    // number of locks used to update tentative distances, must be a power of two
+    private static final int LOCK_STRIPES = 1024;
+
+    private final GraphIndexView<V, E> index;
+    private final double delta;
+    private final ForkJoinPool pool;
+
+    private Adjacency adjacency;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph. The value of $\Delta$ is
+     * selected automatically and the common pool is used.
+     *
+     * @param graph the graph
+     */
+    public DeltaSteppingShortestPath(Graph<V, E> graph)
+    {
+        this(graph, AUTOMATIC_DELTA);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph using the common pool.
+     *
+     * @param graph the graph
+     * @param delta the bucket width, or {@link #AUTOMATIC_DELTA} for automatic selection
+     */
+    public DeltaSteppingShortestPath(Graph<V, E> graph, double delta)
+    {
+        this(graph, delta, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     * @param delta the bucket width, or {@link #AUTOMATIC_DELTA} for automatic selection
+     * @param pool the pool used to execute the relaxations
+     */
+    public DeltaSteppingShortestPath(Graph<V, E> graph, double delta, ForkJoinPool pool)
+    {
+        this(new GraphIndexView<>(graph), delta, pool);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm using an existing index of a graph.
+     *
+     * @param index the index of the graph
+     * @param delta the bucket width, or {@link #AUTOMATIC_DELTA} for automatic selection
+     * @param pool the pool used to execute the relaxations
+     */
+    public DeltaSteppingShortestPath(GraphIndexView<V, E> index, double delta, ForkJoinPool pool)
+    {
+        super(Objects.requireNonNull(index, "Index cannot be null").getGraph());
+        this.index = index;
+        if (!(delta >= 0d)) {
+            throw new IllegalArgumentException("Delta must be non-negative");
+        }
+        this.delta = delta;
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        if (source.equals(sink)) {
+            return createEmptyPath(source, sink);
+        }
+        return getPaths(source).getPath(sink);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+
+        Computation c = new Computation(getAdjacency(), index.getVertexIndex(source));
+        c.run();
+
+        Map<V, Pair<Double, E>> distanceAndPredecessorMap = new HashMap<>();
+        for (int v = 0; v < c.n; v++) {
+            double d = c.getDistance(v);
+            if (d < Double.POSITIVE_INFINITY) {
+                int e = c.pred[v];
+                distanceAndPredecessorMap
+                    .put(index.getVertex(v), Pair.of(d, e < 0 ? null : index.getEdge(e)));
+            }
+        }
+        return new TreeSingleSourcePathsImpl<>(graph, source, distanceAndPredecessorMap);
+    }
+
+    /**
+     * Get the adjacency with light edges first, rebuilding it if the index has changed.
+     */
+    private synchronized Adjacency getAdjacency()
+    {
+        int[] offsets = index.getOutOffsets();
+        if (adjacency == null || adjacency.offsets != offsets) {
+            adjacency = new Adjacency(offsets);
+        }
+        return adjacency;
+    }
+
+    /**
+     * The outgoing adjacency of each vertex, reordered so that light edges come first.
+     */
+    private class Adjacency
+    {
+        final int n;
+        final int[] offsets;
+        final int[] lightEnd;
+        final int[] edges;
+        final int[] neighbors;
+        final double[] weights;
+        final double delta;
+
+        Adjacency(int[] offsets)
+        {
+            this.n = index.vertexCount();
+            this.offsets = offsets;
+            int[] outEdges = index.getOutEdges();
+            int[] outNeighbors = index.getOutNeighbors();
+            double[] edgeWeights = index.getEdgeWeights();
+
+            double maxWeight = 0d;
+            for (int i = 0; i < outEdges.length; i++) {
+                double w = edgeWeights[outEdges[i]];
+                if (w < 0d) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+                maxWeight = Math.max(maxWeight, w);
+            }
+            this.delta = selectDelta(maxWeight, outEdges.length);
+
+            // stable partition of each adjacency segment into light and heavy edges
+            this.lightEnd = new int[n];
+            this.edges = new int[outEdges.length];
+            this.neighbors = new int[outEdges.length];
+            this.weights = new double[outEdges.length];
+            for (int v = 0; v < n; v++) {
+                int k = offsets[v];
+                for (int pass = 0; pass < 2; pass++) {
+                    for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                        double w = edgeWeights[outEdges[i]];
+                        if ((w <= this.delta) == (pass == 0)) {
+                            edges[k] = outEdges[i];
+                            neighbors[k] = outNeighbors[i];
+                            weights[k] = w;
+                            k++;
+                        }
+                    }
+                    if (pass == 0) {
+                        lightEnd[v] = k;
+                    }
+                }
+            }
+        }
+
+        private double selectDelta(double maxWeight, int adjacencySize)
+        {
+            double requested = DeltaSteppingShortestPath.this.delta;
+            if (requested != AUTOMATIC_DELTA) {
+                return requested;
+            }
+            double averageDegree = n == 0 ? 0d : (double) adjacencySize / n;
+            double d = maxWeight / Math.max(1d, averageDegree);
+            return d > 0d ? d : 1d;
+        }
+    }
+
+    /**
+     * A single-source computation.
+     */
+    private class Computation
+    {
+        final Adjacency adj;
+        final int n;
+        final double delta;
+        final AtomicLongArray dist;
+        final int[] pred;
+        final Object[] locks;
+        final TreeMap<Long, IntList> buckets;
+
+        // marks used to remove duplicates from frontiers and from the settled vertices
+        final int[] frontierMark;
+        final int[] settledMark;
+        int frontierRound;
+        int settledRound;
+
+        Computation(Adjacency adj, int source)
+        {
+            this.adj = adj;
+            this.n = adj.n;
+            this.delta = adj.delta;
+            this.dist = new AtomicLongArray(n);
+            long infinity = Double.doubleToLongBits(Double.POSITIVE_INFINITY);
+            for (int v = 0; v < n; v++) {
+                dist.lazySet(v, infinity);
+            }
+            this.pred = new int[n];
+            Arrays.fill(pred, -1);
+            this.locks = new Object[LOCK_STRIPES];
+            for (int i = 0; i < LOCK_STRIPES; i++) {
+                locks[i] = new Object();
+            }
+            this.buckets = new TreeMap<>();
+            this.frontierMark = new int[n];
+            this.settledMark = new int[n];
+
+            dist.set(source, Double.doubleToLongBits(0d));
+            IntList initial = new IntList();
+            initial.add(source);
+            buckets.put(0L, initial);
+        }
+
+        double getDistance(int v)
+        {
+            // the bit patterns of non-negative doubles are ordered as the doubles themselves
+            return Double.longBitsToDouble(dist.get(v));
+        }
+
+        long bucketOf(int v)
+        {
+            return (long) (getDistance(v) / delta);
+        }
+
+        void run()
+        {
+            while (!buckets.isEmpty()) {
+                Map.Entry<Long, IntList> entry = buckets.pollFirstEntry();
+                long i = entry.getKey();
+                IntList current = entry.getValue();
+                IntList settled = new IntList();
+                settledRound++;
+
+                // relax light edges until the bucket stays empty
+                while (current.size > 0) {
+                    int[] frontier = createFrontier(current, i, settled);
+                    current = new IntList();
+                    distribute(relax(frontier, true), i, current);
+                }
+
+                // relax heavy edges of all vertices removed from the bucket
+                distribute(relax(settled.toArray(), false), i, null);
+            }
+        }
+
+        private int[] createFrontier(IntList list, long i, IntList settled)
+        {
+            frontierRound++;
+            IntList frontier = new IntList();
+            for (int k = 0; k < list.size; k++) {
+                int v = list.values[k];
+                if (frontierMark[v] != frontierRound && bucketOf(v) == i) {
+                    frontierMark[v] = frontierRound;
+                    frontier.add(v);
+                    if (settledMark[v] != settledRound) {
+                        settledMark[v] = settledRound;
+                        settled.add(v);
+                    }
+                }
+            }
+            return frontier.toArray();
+        }
+
+        private void distribute(IntList improved, long i, IntList current)
+        {
+            for (int k = 0; k < improved.size; k++) {
+                int v = improved.values[k];
+                long b = bucketOf(v);
+                if (b == i && current != null) {
+                    current.add(v);
+                } else {
+                    buckets.computeIfAbsent(b, x -> new IntList()).add(v);
+                }
+            }
+        }
+
+        private IntList relax(int[] vertices, boolean light)
+        {
+            if (vertices.length <= PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+                IntList improved = new IntList();
+                relax(vertices, 0, vertices.length, light, false, improved);
+                return improved;
+            }
+            return pool.invoke(new RelaxTask(vertices, 0, vertices.length, light));
+        }
+
+        private void relax(
+            int[] vertices, int from, int to, boolean light, boolean concurrent, IntList improved)
+        {
+            int[] offsets = adj.offsets;
+            int[] lightEnd = adj.lightEnd;
+            int[] neighbors = adj.neighbors;
+            int[] edges = adj.edges;
+            double[] weights = adj.weights;
+
+            for (int k = from; k < to; k++) {
+                int v = vertices[k];
+                double dv = getDistance(v);
+                int start = light ? offsets[v] : lightEnd[v];
+                int end = light ? lightEnd[v] : offsets[v + 1];
+                for (int j = start; j < end; j++) {
+                    int u = neighbors[j];
+                    double nd = dv + weights[j];
+                    if (nd < getDistance(u)) {
+                        if (concurrent) {
+                            synchronized (locks[u & (LOCK_STRIPES - 1)]) {
+                                update(u, nd, edges[j], improved);
+                            }
+                        } else {
+                            update(u, nd, edges[j], improved);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void update(int u, double nd, int e, IntList improved)
+        {
+            if (nd < getDistance(u)) {
+                dist.set(u, Double.doubleToLongBits(nd));
+                pred[u] = e;
+                improved.add(u);
+            }
+        }
+
+        /**
+         * A task relaxing the edges of a range of vertices.
+         */
+        private class RelaxTask
+            extends
+            RecursiveTask<IntList>
+        {
+            private static final long serialVersionUID = 4536226829408461425L;
+
+            private final int[] vertices;
+            private final int from;
+            private final int to;
+            private final boolean light;
+
+            RelaxTask(int[] vertices, int from, int to, boolean light)
+            {
+                this.vertices = vertices;
+                this.from = from;
+                this.to = to;
+                this.light = light;
+            }
+
+            @Override
+            protected IntList compute()
+            {
+                if (to - from <= PARALLEL_THRESHOLD) {
+                    IntList improved = new IntList();
+                    relax(vertices, from, to, light, true, improved);
+                    return improved;
+                }
+                int mid = (from + to) >>> 1;
+                RelaxTask left = new RelaxTask(vertices, from, mid, light);
+                left.fork();
+                IntList right = new RelaxTask(vertices, mid, to, light).compute();
+                IntList result = left.join();
+                result.addAll(right);
+                return result;
+            }
+        }
+    }
+
+    /**
+     * A growable list of integers.
+     */
+    private static class IntList
+    {
+        int[] values = new int[8];
+        int size;
+
+        void add(int v)
+        {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = v;
+        }
+
+        void addAll(IntList other)
+        {
+            if (size + other.size > values.length) {
+                values = Arrays.copyOf(values, Math.max(size + other.size, size * 2));
+            }
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+        }
+
+        int[] toArray()
+        {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.jgrapht.alg.util.*;
 import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * A light-weight version of the closest-first iterator for a directed or undirected graphs. For
@@ -40,6 +41,10 @@ import java.util.*;
  * implementation is must faster since it does not support graph traversal listeners nor
  * disconnected components.
  *
+ * <p>
+ * The priority queue used by the iterator can be selected by providing a supplier of
+ * {@link AddressableDoubleHeap} instances. By default a {@link FibonacciDoubleHeap} is used.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -53,8 +58,16 @@ class DijkstraClosestFirstIterator<V, E>
     private final Graph<V, E> graph;
     private final V source;
     private final double radius;
-    private final FibonacciHeap<QueueEntry> heap;
-    private final Map<V, FibonacciHeapNode<QueueEntry>> seen;
+    private final AddressableDoubleHeap heap;
+    private final Map<V, Integer> seen;
+    // vertices and tree edges indexed by heap handle
+    private final List<V> vertices;
+    private final List<E> treeEdges;
+    private final Consumer<E> edgeRelaxer = this::relaxEdge;
+
+    // the vertex being settled and its distance, used while relaxing its edges
+    private V settledVertex;
+    private double settledDistance;
 
     /**
      * Creates a new iterator for the specified graph. Iteration will start at the specified start
@@ -79,6 +92,23 @@ class DijkstraClosestFirstIterator<V, E>
      * @param radius limit on weighted path length, or Double.POSITIVE_INFINITY for unbounded search
      */
     public DijkstraClosestFirstIterator(Graph<V, E> graph, V source, double radius)
+    {
+        this(graph, source, radius, FibonacciDoubleHeap::new);
+    }
+
+    /**
+     * Creates a new radius-bounded iterator for the specified graph. Iteration will start at the
+     * specified start vertex and will be limited to the subset of the connected component which
+     * includes that vertex and is reachable via paths of weighted length less than or equal to the
+     * specified radius.
+     *
+     * @param graph the graph
+     * @param source the source vertex
+     * @param radius limit on weighted path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @param heapSupplier supplier of new empty priority queues used by the iterator
+     */
+    public DijkstraClosestFirstIterator(
+        Graph<V, E> graph, V source, double radius, Supplier<AddressableDoubleHeap> heapSupplier)
     {
         this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
         this.source = Objects.requireNonNull(source, "Sourve vertex cannot be null");
@@ -86,8 +116,12 @@ class DijkstraClosestFirstIterator<V, E>
             throw new IllegalArgumentException("Radius must be non-negative");
         }
         this.radius = radius;
-        this.heap = new FibonacciHeap<>();
+        this.heap = Objects.requireNonNull(
+            Objects.requireNonNull(heapSupplier, "Heap supplier cannot be null").get(),
+            "Heap cannot be null");
         this.seen = new HashMap<>();
+        this.vertices = new ArrayList<>();
+        this.treeEdges = new ArrayList<>();
 
         // initialize with source vertex
         updateDistance(source, null, 0d);
@@ -102,13 +136,8 @@ class DijkstraClosestFirstIterator<V, E>
         if (heap.isEmpty()) {
             return false;
         }
-        FibonacciHeapNode<QueueEntry> vNode = heap.min();
-        double vDistance = vNode.getKey();
-        if (radius < vDistance) {
-            heap.clear();
-            return false;
-        }
-        return true;
+        double vDistance = heap.getKey(heap.findMin());
+        return vDistance <= radius;
     }
 
     /**
@@ -122,19 +151,15 @@ class DijkstraClosestFirstIterator<V, E>
         }
 
         // settle next node
-        FibonacciHeapNode<QueueEntry> vNode = heap.removeMin();
-        V v = vNode.getData().v;
-        double vDistance = vNode.getKey();
+        int vHandle = heap.deleteMin();
+        V v = vertices.get(vHandle);
+        double vDistance = heap.getKey(vHandle);
 
         // relax edges
-        for (E e : graph.outgoingEdgesOf(v)) {
-            V u = Graphs.getOppositeVertex(graph, e, v);
-            double eWeight = graph.getEdgeWeight(e);
-            if (eWeight < 0.0) {
-                throw new IllegalArgumentException("Negative edge weight not allowed");
-            }
-            updateDistance(u, e, vDistance + eWeight);
-        }
+        settledVertex = v;
+        settledDistance = vDistance;
+        graph.forEachOutgoingEdge(v, edgeRelaxer);
+        settledVertex = null;
 
         return v;
     }
@@ -169,40 +194,38 @@ class DijkstraClosestFirstIterator<V, E>
     {
         Map<V, Pair<Double, E>> distanceAndPredecessorMap = new HashMap<>();
 
-        for (FibonacciHeapNode<QueueEntry> vNode : seen.values()) {
-            double vDistance = vNode.getKey();
+        for (int handle = 0; handle < vertices.size(); handle++) {
+            double vDistance = heap.getKey(handle);
             if (radius < vDistance) {
                 continue;
             }
-            V v = vNode.getData().v;
-            distanceAndPredecessorMap.put(v, Pair.of(vDistance, vNode.getData().e));
+            distanceAndPredecessorMap
+                .put(vertices.get(handle), Pair.of(vDistance, treeEdges.get(handle)));
         }
 
         return distanceAndPredecessorMap;
     }
 
-    private void updateDistance(V v, E e, double distance)
+    private void relaxEdge(E e)
     {
-        FibonacciHeapNode<QueueEntry> node = seen.get(v);
-        if (node == null) {
-            node = new FibonacciHeapNode<>(new QueueEntry(e, v));
-            heap.insert(node, distance);
-            seen.put(v, node);
-        } else if (distance < node.getKey()) {
-            heap.decreaseKey(node, distance);
-            node.getData().e = e;
+        V u = Graphs.getOppositeVertex(graph, e, settledVertex);
+        double eWeight = graph.getEdgeWeight(e);
+        if (eWeight < 0.0) {
+            throw new IllegalArgumentException("Negative edge weight not allowed");
         }
+        updateDistance(u, e, settledDistance + eWeight);
     }
 
-    class QueueEntry
+    private void updateDistance(V v, E e, double distance)
     {
-        E e;
-        V v;
-
-        public QueueEntry(E e, V v)
-        {
-            this.e = e;
-            this.v = v;
+        Integer handle = seen.get(v);
+        if (handle == null) {
+            seen.put(v, heap.insert(distance));
+            vertices.add(v);
+            treeEdges.add(e);
+        } else if (distance < heap.getKey(handle)) {
+            heap.decreaseKey(handle, distance);
+            treeEdges.set(handle, e);
         }
     }
 }
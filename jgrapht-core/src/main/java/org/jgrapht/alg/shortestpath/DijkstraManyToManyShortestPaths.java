@@ -0,0 +1,223 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Many-to-many shortest path distances using one Dijkstra search per source vertex.
+ *
+ * <p>
+ * The searches of different source vertices are executed in parallel using a
+ * {@link ForkJoinPool}, by default the common pool. Each search stops as soon as all target
+ * vertices are settled. Searches operate on a {@link GraphIndexView} of the graph and reuse
+ * search spaces whose size is linear in the number of vertices. A search space is reset in time
+ * proportional to the part of the graph explored by its previous search. The running time is
+ * $O(s (m + n \log n))$ in the worst case, where $s$ is the number of source vertices, but usually
+ * much less when the targets are close to the sources.
+ *
+ * <p>
+ * The index is computed on first use and reused by subsequent computations. If the graph is
+ * modified the index must be invalidated, see {@link GraphIndexView#invalidate()}. Edge weights
+ * must be non-negative.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see ContractionHierarchyShortestPath
+ *
+ * @author agent
+ */
+public class DijkstraManyToManyShortestPaths<V, E>
+    implements
+    ManyToManyShortestPathsAlgorithm<V, E>
+{
+    private final Graph<V, E> graph;
+    private final GraphIndexView<V, E> index;
+    private final ForkJoinPool pool;
+    private final ConcurrentLinkedQueue<DijkstraSearchSpace> searchSpaces;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph using the common pool.
+     *
+     * @param graph the graph
+     */
+    public DijkstraManyToManyShortestPaths(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     * @param pool the pool used to execute the searches
+     */
+    public DijkstraManyToManyShortestPaths(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this(new GraphIndexView<>(graph), pool);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm using an existing index of a graph.
+     *
+     * @param index the index of the graph
+     * @param pool the pool used to execute the searches
+     */
+    public DijkstraManyToManyShortestPaths(GraphIndexView<V, E> index, ForkJoinPool pool)
+    {
+        this.index = Objects.requireNonNull(index, "Index cannot be null");
+        this.graph = index.getGraph();
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+        this.searchSpaces = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    @Override
+    public double[][] getDistances(List<V> sources, List<V> targets)
+    {
+        int[] s =
+            toIndices(sources, BaseShortestPathAlgorithm.GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        int[] t =
+            toIndices(targets, BaseShortestPathAlgorithm.GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        for (double w : index.getEdgeWeights()) {
+            if (w < 0d) {
+                throw new IllegalArgumentException("Negative edge weight not allowed");
+            }
+        }
+
+        int n = index.vertexCount();
+        boolean[] isTarget = new boolean[n];
+        int distinctTargets = 0;
+        for (int v : t) {
+            if (!isTarget[v]) {
+                isTarget[v] = true;
+                distinctTargets++;
+            }
+        }
+
+        double[][] distances = new double[s.length][];
+        if (s.length > 0) {
+            pool.invoke(new SearchTask(s, t, isTarget, distinctTargets, distances, 0, s.length));
+        }
+        return distances;
+    }
+
+    private int[] toIndices(List<V> vertices, String errorMessage)
+    {
+        int[] result = new int[vertices.size()];
+        int i = 0;
+        for (V v : vertices) {
+            if (!graph.containsVertex(v)) {
+                throw new IllegalArgumentException(errorMessage);
+            }
+            result[i++] = index.getVertexIndex(v);
+        }
+        return result;
+    }
+
+    /**
+     * Search until all targets are settled or no more vertices are reachable. The distances of the
+     * targets are then final.
+     */
+    private void search(DijkstraSearchSpace space, int source, boolean[] isTarget, int targets)
+    {
+        int[] offsets = index.getOutOffsets();
+        int[] outEdges = index.getOutEdges();
+        int[] outNeighbors = index.getOutNeighbors();
+        double[] weights = index.getEdgeWeights();
+
+        space.relax(source, 0d, DijkstraSearchSpace.NIL);
+        while (!space.isEmpty() && targets > 0) {
+            int v = space.settleMin();
+            if (isTarget[v]) {
+                targets--;
+            }
+            double d = space.getDistance(v);
+            for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                int e = outEdges[i];
+                space.relax(outNeighbors[i], d + weights[e], e);
+            }
+        }
+    }
+
+    /**
+     * A task computing the rows of the distance table of a range of source vertices.
+     */
+    private class SearchTask
+        extends
+        RecursiveAction
+    {
+        private static final long serialVersionUID = 6113208476425935617L;
+
+        private final int[] sources;
+        private final int[] targets;
+        private final boolean[] isTarget;
+        private final int distinctTargets;
+        private final double[][] distances;
+        private final int from;
+        private final int to;
+
+        SearchTask(
+            int[] sources, int[] targets, boolean[] isTarget, int distinctTargets,
+            double[][] distances, int from, int to)
+        {
+            this.sources = sources;
+            this.targets = targets;
+            this.isTarget = isTarget;
+            this.distinctTargets = distinctTargets;
+            this.distances = distances;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from == 1) {
+                DijkstraSearchSpace space = searchSpaces.poll();
+                if (space == null || space.getVertexCount() != index.vertexCount()) {
+                    space = new DijkstraSearchSpace(index.vertexCount());
+                } else {
+                    space.reset();
+                }
+                search(space, sources[from], isTarget, distinctTargets);
+                double[] row = new double[targets.length];
+                for (int j = 0; j < targets.length; j++) {
+                    row[j] = space.getDistance(targets[j]);
+                }
+                distances[from] = row;
+                searchSpaces.add(space);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                new SearchTask(sources, targets, isTarget, distinctTargets, distances, from, mid),
+                new SearchTask(sources, targets, isTarget, distinctTargets, distances, mid, to));
+        }
+    }
+}
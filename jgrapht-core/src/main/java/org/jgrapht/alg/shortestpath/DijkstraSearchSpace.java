@@ -0,0 +1,186 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * Reusable state of a Dijkstra search over integer vertex indices.
+ *
+ * <p>
+ * The search space holds the tentative distance and the predecessor edge of every vertex together
+ * with the storage of the heap. All entries touched by a search are recorded, and
+ * {@link #reset()} only restores those entries, so that back-to-back searches cost time
+ * proportional to the part of the graph they explore instead of the size of the graph. After
+ * construction no further allocation is performed, except for growing the heap storage while it
+ * is being warmed up.
+ *
+ * <p>
+ * <b>Note that this implementation is not synchronized.</b> Each thread must use its own search
+ * space.
+ *
+ * @author agent
+ */
+class DijkstraSearchSpace
+{
+    static final int NIL = -1;
+
+    private final int n;
+    private final DaryDoubleHeap heap;
+    private final int[] handleVertex;
+    private final int[] vertexHandle;
+    private final double[] distance;
+    private final int[] predecessor;
+    private final int[] touched;
+    private int touchedCount;
+
+    /**
+     * Create a new search space.
+     *
+     * @param n the number of vertices
+     */
+    DijkstraSearchSpace(int n)
+    {
+        this.n = n;
+        this.heap = new DaryDoubleHeap();
+        this.handleVertex = new int[n];
+        this.vertexHandle = new int[n];
+        Arrays.fill(vertexHandle, NIL);
+        this.distance = new double[n];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        this.predecessor = new int[n];
+        Arrays.fill(predecessor, NIL);
+        this.touched = new int[n];
+        this.touchedCount = 0;
+    }
+
+    /**
+     * Get the number of vertices this search space was created for.
+     *
+     * @return the number of vertices
+     */
+    int getVertexCount()
+    {
+        return n;
+    }
+
+    /**
+     * Restore all entries touched by the last search.
+     */
+    void reset()
+    {
+        for (int i = 0; i < touchedCount; i++) {
+            int v = touched[i];
+            vertexHandle[v] = NIL;
+            distance[v] = Double.POSITIVE_INFINITY;
+            predecessor[v] = NIL;
+        }
+        touchedCount = 0;
+        heap.clear();
+    }
+
+    /**
+     * Reach a vertex with a given distance through a given edge, if this improves its tentative
+     * distance and it is not yet settled.
+     *
+     * @param v the vertex
+     * @param d the distance
+     * @param edge the predecessor edge or {@link #NIL}
+     */
+    void relax(int v, double d, int edge)
+    {
+        int handle = vertexHandle[v];
+        if (handle == NIL) {
+            touched[touchedCount++] = v;
+            handle = heap.insert(d);
+            handleVertex[handle] = v;
+            vertexHandle[v] = handle;
+        } else if (d < distance[v] && heap.contains(handle)) {
+            heap.decreaseKey(handle, d);
+        } else {
+            return;
+        }
+        distance[v] = d;
+        predecessor[v] = edge;
+    }
+
+    /**
+     * Whether vertices remain to be settled.
+     *
+     * @return true if no vertices remain to be settled, false otherwise
+     */
+    boolean isEmpty()
+    {
+        return heap.isEmpty();
+    }
+
+    /**
+     * Settle the vertex with the minimum tentative distance.
+     *
+     * @return the settled vertex
+     */
+    int settleMin()
+    {
+        return handleVertex[heap.deleteMin()];
+    }
+
+    /**
+     * Get the tentative distance of a vertex, which is final if the vertex is settled.
+     *
+     * @param v the vertex
+     * @return the distance or {@link Double#POSITIVE_INFINITY} if the vertex is not reached
+     */
+    double getDistance(int v)
+    {
+        return distance[v];
+    }
+
+    /**
+     * Get the predecessor edge of a vertex.
+     *
+     * @param v the vertex
+     * @return the predecessor edge or {@link #NIL}
+     */
+    int getPredecessor(int v)
+    {
+        return predecessor[v];
+    }
+
+    /**
+     * Get the number of vertices reached by the last search.
+     *
+     * @return the number of vertices reached
+     */
+    int getReachedCount()
+    {
+        return touchedCount;
+    }
+
+    /**
+     * Get the $i$-th vertex reached by the last search.
+     *
+     * @param i the position
+     * @return the vertex
+     */
+    int getReached(int i)
+    {
+        return touched[i];
+    }
+}
@@ -18,10 +18,20 @@
 package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.function.*;
 
 /**
  * An implementation of <a href="http://mathworld.wolfram.com/DijkstrasAlgorithm.html">Dijkstra's
- * shortest path algorithm</a> using a Fibonacci heap.
+ * shortest path algorithm</a> using a priority queue.
+ *
+ * <p>
+ * The priority queue implementation can be selected by providing a supplier of
+ * {@link AddressableDoubleHeap} instances. By default a {@link FibonacciDoubleHeap} is used. An
+ * array based heap such as a {@link DaryDoubleHeap} has a worse worst-case bound, but is in
+ * practice often faster.
  *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -33,6 +43,7 @@ public final class DijkstraShortestPath<V, E>
     BaseShortestPathAlgorithm<V, E>
 {
     private final double radius;
+    private final Supplier<AddressableDoubleHeap> heapSupplier;
 
     /**
      * Constructs a new instance of the algorithm for a given graph.
@@ -51,12 +62,37 @@ public final class DijkstraShortestPath<V, E>
      * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
      */
     public DijkstraShortestPath(Graph<V, E> graph, double radius)
+    {
+        this(graph, radius, FibonacciDoubleHeap::new);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     * @param heapSupplier supplier of new empty priority queues used by the algorithm
+     */
+    public DijkstraShortestPath(Graph<V, E> graph, Supplier<AddressableDoubleHeap> heapSupplier)
+    {
+        this(graph, Double.POSITIVE_INFINITY, heapSupplier);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @param heapSupplier supplier of new empty priority queues used by the algorithm
+     */
+    public DijkstraShortestPath(
+        Graph<V, E> graph, double radius, Supplier<AddressableDoubleHeap> heapSupplier)
     {
         super(graph);
         if (radius < 0.0) {
             throw new IllegalArgumentException("Radius must be non-negative");
         }
         this.radius = radius;
+        this.heapSupplier = Objects.requireNonNull(heapSupplier, "Heap supplier cannot be null");
     }
 
     /**
@@ -76,7 +112,7 @@ public final class DijkstraShortestPath<V, E>
         }
 
         DijkstraClosestFirstIterator<V, E> it =
-            new DijkstraClosestFirstIterator<>(graph, source, radius);
+            new DijkstraClosestFirstIterator<>(graph, source, radius, heapSupplier);
 
         while (it.hasNext()) {
             V vertex = it.next();
@@ -103,7 +139,7 @@ public final class DijkstraShortestPath<V, E>
         }
 
         DijkstraClosestFirstIterator<V, E> it =
-            new DijkstraClosestFirstIterator<>(graph, source, radius);
+            new DijkstraClosestFirstIterator<>(graph, source, radius, heapSupplier);
 
         while (it.hasNext()) {
             it.next();
@@ -0,0 +1,559 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * A parallel direction-optimizing breadth-first search computing hop distances on an indexed
+ * graph.
+ *
+ * <p>
+ * The graph is treated as unweighted and the weight of a path is its number of edges. The search
+ * is level synchronous: all vertices of a level are expanded in parallel before the next level
+ * begins. Each level is expanded in one of two directions. A top-down step scans the outgoing
+ * edges of the vertices of the frontier and claims their unvisited neighbors. A bottom-up step
+ * scans the incoming edges of every unvisited vertex until a parent in the frontier is found,
+ * which is much cheaper when the frontier contains a large part of the graph. The search switches
+ * to bottom-up when the number of edges leaving the frontier exceeds $1/\alpha$ of the edges
+ * leading to unvisited vertices, and back to top-down when the frontier shrinks below $n/\beta$
+ * vertices. Top-down steps keep the frontier as an array of vertices, while bottom-up steps keep
+ * it as a bitset.
+ *
+ * <p>
+ * See the paper: S. Beamer, K. Asanović and D. Patterson. Direction-optimizing breadth-first
+ * search. In Proceedings of the International Conference on High Performance Computing,
+ * Networking, Storage and Analysis (SC '12), 2012.
+ *
+ * <p>
+ * Besides the {@link org.jgrapht.alg.interfaces.ShortestPathAlgorithm} interface, the method
+ * {@link #search(int, int[], int[])} fills arrays of hop distances and parent edges indexed by the
+ * vertex indices of the {@link GraphIndexView}, which avoids creating a map over all vertices. The
+ * index is computed on first use and reused afterwards. If the graph is modified the index must be
+ * invalidated, see {@link GraphIndexView#invalidate()}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class DirectionOptimizingBFSShortestPath<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * Default value of $\alpha$, which controls the switch from top-down to bottom-up steps.
+     */
+    public static final double DEFAULT_ALPHA = 14d;
+
+    /**
+     * Default value of $\beta$, which controls the switch from bottom-up to top-down steps.
+     */
+    public static final double DEFAULT_BETA = 24d;
+
+    /**
+     * Hop distance of vertices which are not reachable from the source.
+     */
+    public static final int UNREACHABLE = -1;
+
+    private static final int NIL = -1;
+    private static final int TOP_DOWN_CHUNK_SIZE = 1024;
+    private static final int BOTTOM_UP_CHUNK_WORDS = 64;
+
+    private final GraphIndexView<V, E> index;
+    private final double alpha;
+    private final double beta;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph using the common pool.
+     *
+     * @param graph the graph
+     */
+    public DirectionOptimizingBFSShortestPath(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     * @param pool the pool used to expand the levels in parallel
+     */
+    public DirectionOptimizingBFSShortestPath(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this(new GraphIndexView<>(graph), DEFAULT_ALPHA, DEFAULT_BETA, pool);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm using an existing index of a graph.
+     *
+     * @param index the index of the graph
+     * @param alpha switch to bottom-up steps when the edges leaving the frontier exceed the edges
+     *        leading to unvisited vertices divided by alpha
+     * @param beta switch to top-down steps when the frontier has less than $n/\beta$ vertices
+     * @param pool the pool used to expand the levels in parallel
+     * @throws IllegalArgumentException if alpha or beta is not positive
+     */
+    public DirectionOptimizingBFSShortestPath(
+        GraphIndexView<V, E> index, double alpha, double beta, ForkJoinPool pool)
+    {
+        super(Objects.requireNonNull(index, "Index cannot be null").getGraph());
+        if (!(alpha > 0d)) {
+            throw new IllegalArgumentException("Alpha must be positive");
+        }
+        if (!(beta > 0d)) {
+            throw new IllegalArgumentException("Beta must be positive");
+        }
+        this.index = index;
+        this.alpha = alpha;
+        this.beta = beta;
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        assertVertices(source, sink);
+        if (source.equals(sink)) {
+            return createEmptyPath(source, sink);
+        }
+
+        int n = index.vertexCount();
+        int t = index.getVertexIndex(sink);
+        int[] distances = new int[n];
+        int[] parentEdges = new int[n];
+        search(index.getVertexIndex(source), t, distances, parentEdges);
+        if (distances[t] == UNREACHABLE) {
+            return null;
+        }
+
+        int[] edgeSources = index.getEdgeSources();
+        int[] edgeTargets = index.getEdgeTargets();
+        LinkedList<E> edgeList = new LinkedList<>();
+        int v = t;
+        int e = parentEdges[v];
+        while (e != NIL) {
+            edgeList.addFirst(index.getEdge(e));
+            v = edgeTargets[e] == v ? edgeSources[e] : edgeTargets[e];
+            e = parentEdges[v];
+        }
+        return new GraphWalk<>(graph, source, sink, edgeList, distances[t]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        assertVertices(source, sink);
+        if (source.equals(sink)) {
+            return 0d;
+        }
+        int n = index.vertexCount();
+        int t = index.getVertexIndex(sink);
+        int[] distances = new int[n];
+        search(index.getVertexIndex(source), t, distances, new int[n]);
+        return distances[t] == UNREACHABLE ? Double.POSITIVE_INFINITY : distances[t];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+
+        int n = index.vertexCount();
+        int[] distances = new int[n];
+        int[] parentEdges = new int[n];
+        search(index.getVertexIndex(source), distances, parentEdges);
+
+        Map<V, Pair<Double, E>> distanceAndPredecessorMap = new HashMap<>();
+        for (int v = 0; v < n; v++) {
+            if (distances[v] != UNREACHABLE) {
+                int e = parentEdges[v];
+                distanceAndPredecessorMap.put(
+                    index.getVertex(v),
+                    Pair.of((double) distances[v], e == NIL ? null : index.getEdge(e)));
+            }
+        }
+        return new TreeSingleSourcePathsImpl<>(graph, source, distanceAndPredecessorMap);
+    }
+
+    /**
+     * Compute the hop distances from a source vertex to all vertices of the graph. Vertices are
+     * identified by their indices in the {@link GraphIndexView}. After the search
+     * {@code distances[v]} is the number of edges of a shortest path from the source to $v$, or
+     * {@link #UNREACHABLE}, and {@code parentEdges[v]} is the index of the last edge of such a
+     * path, or $-1$ for the source and the unreachable vertices.
+     *
+     * @param source the index of the source vertex
+     * @param distances an array of length at least $n$ which receives the hop distances
+     * @param parentEdges an array of length at least $n$ which receives the parent edges
+     * @throws IllegalArgumentException if the source is not a valid vertex index or an array is
+     *         too short
+     */
+    public void search(int source, int[] distances, int[] parentEdges)
+    {
+        search(source, NIL, distances, parentEdges);
+    }
+
+    private void assertVertices(V source, V sink)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+    }
+
+    /**
+     * Search from a source until all reachable vertices are visited, or until the level of the
+     * sink is complete if the sink is not {@link #NIL}.
+     */
+    private void search(int source, int sink, int[] distances, int[] parentEdges)
+    {
+        int n = index.vertexCount();
+        if (source < 0 || source >= n) {
+            throw new IllegalArgumentException("Invalid source vertex index: " + source);
+        }
+        if (distances.length < n || parentEdges.length < n) {
+            throw new IllegalArgumentException("Arrays must have length at least " + n);
+        }
+        new Search(source, sink, distances, parentEdges).run();
+    }
+
+    /**
+     * The state of a single search.
+     */
+    private class Search
+    {
+        private final int n;
+        private final int source;
+        private final int sink;
+        private final int[] distances;
+        private final int[] parentEdges;
+
+        private final int[] outOffsets;
+        private final int[] outEdges;
+        private final int[] outNeighbors;
+        private final int[] inOffsets;
+        private final int[] inEdges;
+        private final int[] inNeighbors;
+
+        // visited vertices, updated concurrently by top-down steps
+        private final AtomicLongArray visited;
+        // the frontier of bottom-up steps
+        private long[] frontierBits;
+        private long[] nextBits;
+        // the frontier of top-down steps
+        private int[] frontier;
+        private int frontierSize;
+        private int[] next;
+
+        // per chunk output of a step
+        private int[][] chunkVertices;
+        private int[] chunkCounts;
+        private long[] chunkOutDegrees;
+        private long[] chunkInDegrees;
+
+        Search(int source, int sink, int[] distances, int[] parentEdges)
+        {
+            this.n = index.vertexCount();
+            this.source = source;
+            this.sink = sink;
+            this.distances = distances;
+            this.parentEdges = parentEdges;
+            this.outOffsets = index.getOutOffsets();
+            this.outEdges = index.getOutEdges();
+            this.outNeighbors = index.getOutNeighbors();
+            this.inOffsets = index.getInOffsets();
+            this.inEdges = index.getInEdges();
+            this.inNeighbors = index.getInNeighbors();
+            this.visited = new AtomicLongArray((n + 63) >>> 6);
+            this.frontier = new int[n];
+            this.next = new int[n];
+            this.chunkVertices = new int[0][];
+            this.chunkCounts = new int[0];
+            this.chunkOutDegrees = new long[0];
+            this.chunkInDegrees = new long[0];
+        }
+
+        void run()
+        {
+            Arrays.fill(distances, 0, n, UNREACHABLE);
+            Arrays.fill(parentEdges, 0, n, NIL);
+
+            distances[source] = 0;
+            visited.set(source >>> 6, 1L << source);
+            frontier[0] = source;
+            frontierSize = 1;
+            long frontierEdges = outOffsets[source + 1] - outOffsets[source];
+            long unvisitedEdges = inOffsets[n] - (inOffsets[source + 1] - inOffsets[source]);
+
+            boolean bottomUp = false;
+            int previousSize = 0;
+            int level = 0;
+            while (frontierSize > 0 && (sink == NIL || distances[sink] == UNREACHABLE)) {
+                if (!bottomUp) {
+                    if (frontierEdges > unvisitedEdges / alpha) {
+                        bottomUp = true;
+                        toBitset();
+                    }
+                } else if (frontierSize < n / beta && frontierSize < previousSize) {
+                    bottomUp = false;
+                }
+
+                level++;
+                int chunks = bottomUp ? bottomUpStep(level) : topDownStep(level);
+
+                // gather the next frontier
+                int size = 0;
+                frontierEdges = 0;
+                for (int c = 0; c < chunks; c++) {
+                    System.arraycopy(chunkVertices[c], 0, next, size, chunkCounts[c]);
+                    size += chunkCounts[c];
+                    frontierEdges += chunkOutDegrees[c];
+                    unvisitedEdges -= chunkInDegrees[c];
+                }
+                int[] tmp = frontier;
+                frontier = next;
+                next = tmp;
+                previousSize = frontierSize;
+                frontierSize = size;
+                if (bottomUp) {
+                    long[] bits = frontierBits;
+                    frontierBits = nextBits;
+                    nextBits = bits;
+                }
+            }
+        }
+
+        /**
+         * Convert the frontier from an array to a bitset.
+         */
+        private void toBitset()
+        {
+            int words = (n + 63) >>> 6;
+            if (frontierBits == null) {
+                frontierBits = new long[words];
+                nextBits = new long[words];
+            } else {
+                Arrays.fill(frontierBits, 0L);
+            }
+            for (int i = 0; i < frontierSize; i++) {
+                int v = frontier[i];
+                frontierBits[v >>> 6] |= 1L << v;
+            }
+        }
+
+        /**
+         * Expand the frontier by scanning the outgoing edges of its vertices.
+         * 
+         * @return the number of chunks
+         */
+        private int topDownStep(int level)
+        {
+            int chunks = (frontierSize + TOP_DOWN_CHUNK_SIZE - 1) / TOP_DOWN_CHUNK_SIZE;
+            ensureChunks(chunks);
+            forEach(chunks, c -> {
+                int from = c * TOP_DOWN_CHUNK_SIZE;
+                int to = Math.min(frontierSize, from + TOP_DOWN_CHUNK_SIZE);
+                int[] vertices = chunkVertices[c];
+                int count = 0;
+                long outDegrees = 0, inDegrees = 0;
+                for (int i = from; i < to; i++) {
+                    int v = frontier[i];
+                    for (int j = outOffsets[v]; j < outOffsets[v + 1]; j++) {
+                        int u = outNeighbors[j];
+                        if (!claim(u)) {
+                            continue;
+                        }
+                        distances[u] = level;
+                        parentEdges[u] = outEdges[j];
+                        if (count == vertices.length) {
+                            vertices = Arrays.copyOf(vertices, 2 * count);
+                        }
+                        vertices[count++] = u;
+                        outDegrees += outOffsets[u + 1] - outOffsets[u];
+                        inDegrees += inOffsets[u + 1] - inOffsets[u];
+                    }
+                }
+                chunkVertices[c] = vertices;
+                chunkCounts[c] = count;
+                chunkOutDegrees[c] = outDegrees;
+                chunkInDegrees[c] = inDegrees;
+            });
+            return chunks;
+        }
+
+        /**
+         * Expand the frontier by scanning the incoming edges of the unvisited vertices. Each chunk
+         * owns a range of whole words of the bitsets, and therefore needs no synchronization.
+         * 
+         * @return the number of chunks
+         */
+        private int bottomUpStep(int level)
+        {
+            int words = (n + 63) >>> 6;
+            int chunks = (words + BOTTOM_UP_CHUNK_WORDS - 1) / BOTTOM_UP_CHUNK_WORDS;
+            ensureChunks(chunks);
+            forEach(chunks, c -> {
+                int fromWord = c * BOTTOM_UP_CHUNK_WORDS;
+                int toWord = Math.min(words, fromWord + BOTTOM_UP_CHUNK_WORDS);
+                int[] vertices = chunkVertices[c];
+                int count = 0;
+                long outDegrees = 0, inDegrees = 0;
+                for (int w = fromWord; w < toWord; w++) {
+                    long visitedWord = visited.get(w);
+                    long nextWord = 0L;
+                    long unvisited = ~visitedWord;
+                    while (unvisited != 0L) {
+                        int v = (w << 6) + Long.numberOfTrailingZeros(unvisited);
+                        unvisited &= unvisited - 1;
+                        if (v >= n) {
+                            break;
+                        }
+                        for (int j = inOffsets[v]; j < inOffsets[v + 1]; j++) {
+                            int u = inNeighbors[j];
+                            if ((frontierBits[u >>> 6] & (1L << u)) == 0L) {
+                                continue;
+                            }
+                            distances[v] = level;
+                            parentEdges[v] = inEdges[j];
+                            nextWord |= 1L << v;
+                            if (count == vertices.length) {
+                                vertices = Arrays.copyOf(vertices, 2 * count);
+                            }
+                            vertices[count++] = v;
+                            outDegrees += outOffsets[v + 1] - outOffsets[v];
+                            inDegrees += inOffsets[v + 1] - inOffsets[v];
+                            break;
+                        }
+                    }
+                    nextBits[w] = nextWord;
+                    if (nextWord != 0L) {
+                        visited.set(w, visitedWord | nextWord);
+                    }
+                }
+                chunkVertices[c] = vertices;
+                chunkCounts[c] = count;
+                chunkOutDegrees[c] = outDegrees;
+                chunkInDegrees[c] = inDegrees;
+            });
+            return chunks;
+        }
+
+        /**
+         * Atomically mark a vertex as visited.
+         * 
+         * @return true if the vertex was not visited before
+         */
+        private boolean claim(int v)
+        {
+            int w = v >>> 6;
+            long bit = 1L << v;
+            while (true) {
+                long word = visited.get(w);
+                if ((word & bit) != 0L) {
+                    return false;
+                }
+                if (visited.compareAndSet(w, word, word | bit)) {
+                    return true;
+                }
+            }
+        }
+
+        private void ensureChunks(int chunks)
+        {
+            int old = chunkVertices.length;
+            if (chunks <= old) {
+                return;
+            }
+            chunkVertices = Arrays.copyOf(chunkVertices, chunks);
+            for (int c = old; c < chunks; c++) {
+                chunkVertices[c] = new int[16];
+            }
+            chunkCounts = Arrays.copyOf(chunkCounts, chunks);
+            chunkOutDegrees = Arrays.copyOf(chunkOutDegrees, chunks);
+            chunkInDegrees = Arrays.copyOf(chunkInDegrees, chunks);
+        }
+
+        /**
+         * Apply an action to the chunks $0, \dots, count-1$, in parallel if there is more than
+         * one.
+         */
+        private void forEach(int chunks, IntConsumer action)
+        {
+            if (chunks == 1) {
+                action.accept(0);
+            } else {
+                pool.invoke(new ChunkTask(action, 0, chunks));
+            }
+        }
+    }
+
+    /**
+     * A task processing a range of chunks.
+     */
+    private static class ChunkTask
+        extends
+        RecursiveAction
+    {
+        private static final long serialVersionUID = -2709352627498516478L;
+
+        private final IntConsumer action;
+        private final int from;
+        private final int to;
+
+        ChunkTask(IntConsumer action, int from, int to)
+        {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from == 1) {
+                action.accept(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ChunkTask(action, from, mid), new ChunkTask(action, mid, to));
+        }
+    }
+}
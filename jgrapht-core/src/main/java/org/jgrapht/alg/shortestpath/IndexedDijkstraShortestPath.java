@@ -0,0 +1,203 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+
+/**
+ * Dijkstra's shortest path algorithm for repeated queries on an indexed graph.
+ *
+ * <p>
+ * Contrary to {@link DijkstraShortestPath}, which creates new maps and a new heap for every query,
+ * this implementation works on a {@link GraphIndexView} of the graph and keeps one search space per
+ * thread. A search space holds arrays of tentative distances and predecessors together with the
+ * heap storage, and only the entries touched by the previous search are reset before a new search
+ * begins. Point-to-point searches stop as soon as the sink is settled. Therefore back-to-back
+ * queries cost time proportional to the part of the graph they explore, and
+ * {@link #getPathWeight(Object, Object)} does not allocate memory once the search space of the
+ * calling thread is warmed up.
+ *
+ * <p>
+ * Instances may be queried concurrently from multiple threads. The memory used is $O(n)$ per
+ * thread which has queried the instance. The index is computed on first use and reused afterwards.
+ * If the graph is modified the index must be invalidated, see {@link GraphIndexView#invalidate()}.
+ * Edge weights must be non-negative.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see DijkstraShortestPath
+ *
+ * @author agent
+ */
+public class IndexedDijkstraShortestPath<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    private static final int NIL = DijkstraSearchSpace.NIL;
+
+    private final GraphIndexView<V, E> index;
+    private final ThreadLocal<DijkstraSearchSpace> searchSpaces;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     */
+    public IndexedDijkstraShortestPath(Graph<V, E> graph)
+    {
+        this(new GraphIndexView<>(graph));
+    }
+
+    /**
+     * Constructs a new instance of the algorithm using an existing index of a graph.
+     *
+     * @param index the index of the graph
+     */
+    public IndexedDijkstraShortestPath(GraphIndexView<V, E> index)
+    {
+        super(Objects.requireNonNull(index, "Index cannot be null").getGraph());
+        this.index = index;
+        this.searchSpaces = new ThreadLocal<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException if the search encounters an edge with negative weight
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        assertVertices(source, sink);
+        if (source.equals(sink)) {
+            return createEmptyPath(source, sink);
+        }
+
+        int t = index.getVertexIndex(sink);
+        DijkstraSearchSpace space = search(index.getVertexIndex(source), t);
+        double weight = space.getDistance(t);
+        if (weight == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+
+        int[] edgeSources = index.getEdgeSources();
+        int[] edgeTargets = index.getEdgeTargets();
+        LinkedList<E> edgeList = new LinkedList<>();
+        int v = t;
+        int e = space.getPredecessor(v);
+        while (e != NIL) {
+            edgeList.addFirst(index.getEdge(e));
+            v = edgeTargets[e] == v ? edgeSources[e] : edgeTargets[e];
+            e = space.getPredecessor(v);
+        }
+        return new GraphWalk<>(graph, source, sink, edgeList, weight);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException if the search encounters an edge with negative weight
+     */
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        assertVertices(source, sink);
+        if (source.equals(sink)) {
+            return 0d;
+        }
+        int t = index.getVertexIndex(sink);
+        return search(index.getVertexIndex(source), t).getDistance(t);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+
+        DijkstraSearchSpace space = search(index.getVertexIndex(source), NIL);
+        Map<V, Pair<Double, E>> distanceAndPredecessorMap = new HashMap<>();
+        for (int i = 0; i < space.getReachedCount(); i++) {
+            int v = space.getReached(i);
+            int e = space.getPredecessor(v);
+            distanceAndPredecessorMap.put(
+                index.getVertex(v),
+                Pair.of(space.getDistance(v), e == NIL ? null : index.getEdge(e)));
+        }
+        return new TreeSingleSourcePathsImpl<>(graph, source, distanceAndPredecessorMap);
+    }
+
+    private void assertVertices(V source, V sink)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+    }
+
+    /**
+     * Search from a source until the sink is settled, or until all reachable vertices are settled
+     * if the sink is {@link #NIL}. Returns the search space of the calling thread.
+     */
+    private DijkstraSearchSpace search(int source, int sink)
+    {
+        int[] offsets = index.getOutOffsets();
+        int[] outEdges = index.getOutEdges();
+        int[] outNeighbors = index.getOutNeighbors();
+        double[] weights = index.getEdgeWeights();
+
+        DijkstraSearchSpace space = searchSpaces.get();
+        if (space == null || space.getVertexCount() != index.vertexCount()) {
+            space = new DijkstraSearchSpace(index.vertexCount());
+            searchSpaces.set(space);
+        } else {
+            space.reset();
+        }
+
+        space.relax(source, 0d, NIL);
+        while (!space.isEmpty()) {
+            int v = space.settleMin();
+            if (v == sink) {
+                break;
+            }
+            double d = space.getDistance(v);
+            for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                int e = outEdges[i];
+                double w = weights[e];
+                if (w < 0d) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+                space.relax(outNeighbors[i], d + w, e);
+            }
+        }
+        return space;
+    }
+}
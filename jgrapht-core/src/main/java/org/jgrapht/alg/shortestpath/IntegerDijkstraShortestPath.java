@@ -0,0 +1,197 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+import java.util.function.*;
+
+/**
+ * Dijkstra's shortest path algorithm for graphs with non-negative integer edge weights.
+ *
+ * <p>
+ * Instead of a comparison based heap, the algorithm uses a monotone bucket based priority queue,
+ * exploiting the fact that all distances are integers and that the distances of the vertices
+ * extracted from the queue never decrease. The algorithm computes exactly the same results as
+ * {@link DijkstraShortestPath}.
+ *
+ * <p>
+ * The maximum edge weight $C$ can either be provided by the user or it is detected by scanning all
+ * edges of the graph before each computation. When $C$ is at most {@link #MAX_BUCKET_QUEUE_WEIGHT}
+ * Dial's bucket queue ({@link BucketDoubleHeap}) is used, resulting in a running time of $O(m +
+ * nC)$. Otherwise a radix heap ({@link RadixDoubleHeap}) is used, resulting in a running time of
+ * $O(m + n \log C)$.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see DijkstraShortestPath
+ *
+ * @author agent
+ */
+public final class IntegerDijkstraShortestPath<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * The largest maximum edge weight for which Dial's bucket queue is used when the maximum edge
+     * weight is detected automatically.
+     */
+    public static final int MAX_BUCKET_QUEUE_WEIGHT = 1 << 16;
+
+    private static final int DETECT_MAX_WEIGHT = -1;
+
+    private final double radius;
+    private final int maxWeight;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph. The maximum edge weight is
+     * detected automatically.
+     * 
+     * @param graph the graph
+     */
+    public IntegerDijkstraShortestPath(Graph<V, E> graph)
+    {
+        this(graph, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph. The maximum edge weight is
+     * detected automatically.
+     *
+     * @param graph the graph
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     */
+    public IntegerDijkstraShortestPath(Graph<V, E> graph, double radius)
+    {
+        super(graph);
+        if (radius < 0.0) {
+            throw new IllegalArgumentException("Radius must be non-negative");
+        }
+        this.radius = radius;
+        this.maxWeight = DETECT_MAX_WEIGHT;
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph with a known maximum edge
+     * weight. Dial's bucket queue is always used. Edge weights are not validated in advance. An
+     * exception is thrown during a computation when an edge weight is not a non-negative integer,
+     * or when it exceeds the maximum weight and the resulting distance cannot be stored in the
+     * bucket queue.
+     *
+     * @param graph the graph
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @param maxWeight the maximum edge weight of the graph
+     */
+    public IntegerDijkstraShortestPath(Graph<V, E> graph, double radius, int maxWeight)
+    {
+        super(graph);
+        if (radius < 0.0) {
+            throw new IllegalArgumentException("Radius must be non-negative");
+        }
+        if (maxWeight < 0 || maxWeight == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Illegal maximum edge weight: " + maxWeight);
+        }
+        this.radius = radius;
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException if an edge weight is not a non-negative integer or, when
+     *         a maximum edge weight is provided at construction time, a distance does not fit in
+     *         the bucket queue
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        if (source.equals(sink)) {
+            return createEmptyPath(source, sink);
+        }
+
+        DijkstraClosestFirstIterator<V, E> it =
+            new DijkstraClosestFirstIterator<>(graph, source, radius, createHeapSupplier());
+
+        while (it.hasNext()) {
+            V vertex = it.next();
+            if (vertex.equals(sink)) {
+                break;
+            }
+        }
+
+        return it.getPaths().getPath(sink);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException if an edge weight is not a non-negative integer or, when
+     *         a maximum edge weight is provided at construction time, a distance does not fit in
+     *         the bucket queue
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+
+        DijkstraClosestFirstIterator<V, E> it =
+            new DijkstraClosestFirstIterator<>(graph, source, radius, createHeapSupplier());
+
+        while (it.hasNext()) {
+            it.next();
+        }
+
+        return it.getPaths();
+    }
+
+    private Supplier<AddressableDoubleHeap> createHeapSupplier()
+    {
+        if (maxWeight != DETECT_MAX_WEIGHT) {
+            return () -> new BucketDoubleHeap(maxWeight);
+        }
+
+        double max = 0d;
+        for (E e : graph.edgeSet()) {
+            double weight = graph.getEdgeWeight(e);
+            if (!(weight >= 0d && weight <= RadixDoubleHeap.MAX_KEY)
+                || weight != Math.rint(weight))
+            {
+                throw new IllegalArgumentException(
+                    "Edge weights must be non-negative integers: " + weight);
+            }
+            max = Math.max(max, weight);
+        }
+
+        if (max <= MAX_BUCKET_QUEUE_WEIGHT) {
+            int c = (int) max;
+            return () -> new BucketDoubleHeap(c);
+        }
+        return RadixDoubleHeap::new;
+    }
+
+}
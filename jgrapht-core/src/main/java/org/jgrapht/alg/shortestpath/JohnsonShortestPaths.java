@@ -23,6 +23,8 @@ import org.jgrapht.graph.*;
 import org.jgrapht.graph.builder.*;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
 
 /**
  * Johnson's all pairs shortest paths algorithm.
@@ -37,6 +39,16 @@ import java.util.*;
  * Running time is $O(n m + n^2 \log n)$.
  *
  * <p>
+ * The Dijkstra searches of the different source vertices are independent and are executed in
+ * parallel using a {@link ForkJoinPool}, by default the common pool. The searches operate on a
+ * {@link GraphIndexView} of the graph and reuse search spaces whose size is linear in the number
+ * of vertices. The result of each source vertex is stored as an array of distances and an array
+ * of predecessor edge indices, and paths are only created when requested. Since storing the
+ * results of all source vertices requires $\Theta(n^2)$ memory, the method
+ * {@link #forEachSourcePaths(Consumer)} allows to process the result of each source vertex as
+ * soon as it is computed without storing it.
+ *
+ * <p>
  * Since Johnson's algorithm creates additional vertices, this implementation requires the user to
  * provide a graph which is initialized with a vertex supplier.
  *
@@ -50,9 +62,14 @@ public class JohnsonShortestPaths<V, E>
     extends
     BaseShortestPathAlgorithm<V, E>
 {
-    private Map<V, SingleSourcePaths<V, E>> paths;
     private final Comparator<Double> comparator;
+    private final GraphIndexView<V, E> index;
+    private final ForkJoinPool pool;
+    private final ConcurrentLinkedQueue<DijkstraSearchSpace> searchSpaces;
 
+    private double[] vertexWeights;
+    private double[] reducedWeights;
+    private List<IndexedSingleSourcePaths> paths;
 
     /**
      * Construct a new instance.
@@ -71,9 +88,35 @@ public class JohnsonShortestPaths<V, E>
      * @param epsilon tolerance when comparing floating point values
      */
     public JohnsonShortestPaths(Graph<V, E> graph, double epsilon)
+    {
+        this(graph, epsilon, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param graph the input graph
+     * @param pool the pool used to execute the Dijkstra searches
+     */
+    public JohnsonShortestPaths(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this(graph, ToleranceDoubleComparator.DEFAULT_EPSILON, pool);
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param graph the input graph
+     * @param epsilon tolerance when comparing floating point values
+     * @param pool the pool used to execute the Dijkstra searches
+     */
+    public JohnsonShortestPaths(Graph<V, E> graph, double epsilon, ForkJoinPool pool)
     {
         super(graph);
         this.comparator = new ToleranceDoubleComparator(epsilon);
+        this.index = new GraphIndexView<>(graph);
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+        this.searchSpaces = new ConcurrentLinkedQueue<>();
     }
 
     /**
@@ -91,8 +134,7 @@ public class JohnsonShortestPaths<V, E>
         if (!graph.containsVertex(sink)) {
             throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
         }
-        run();
-        return paths.get(source).getPath(sink);
+        return getPaths(source).getPath(sink);
     }
 
     /**
@@ -110,8 +152,7 @@ public class JohnsonShortestPaths<V, E>
         if (!graph.containsVertex(sink)) {
             throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
         }
-        run();
-        return paths.get(source).getWeight(sink);
+        return getPaths(source).getWeight(sink);
     }
 
     /**
@@ -123,18 +164,68 @@ public class JohnsonShortestPaths<V, E>
     @Override
     public SingleSourcePaths<V, E> getPaths(V source)
     {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
         run();
-        return paths.get(source);
+        return paths.get(index.getVertexIndex(source));
     }
 
     /**
-     * Executes the actual algorithm.
+     * Compute the shortest paths from every vertex of the graph and pass them to a consumer, one
+     * source vertex at a time. Unless the shortest paths have already been computed and stored by
+     * one of the other methods, the result of a source vertex is not retained by this instance and
+     * can be reclaimed as soon as the consumer no longer references it. This allows to process all
+     * shortest paths of large graphs using memory linear in the number of vertices per thread.
+     *
+     * <p>
+     * The consumer is invoked from the threads of the pool, possibly concurrently, and in no
+     * particular order of source vertices. It must therefore be thread-safe.
+     *
+     * @param consumer the consumer of the shortest paths of each source vertex
+     * @throws IllegalArgumentException in case the provided vertex factory creates vertices which
+     *         are already in the original graph
      */
-    private void run()
+    public void forEachSourcePaths(Consumer<? super SingleSourcePaths<V, E>> consumer)
+    {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        List<IndexedSingleSourcePaths> stored = prepare();
+        if (stored != null) {
+            for (IndexedSingleSourcePaths p : stored) {
+                consumer.accept(p);
+            }
+        } else if (index.vertexCount() > 0) {
+            pool.invoke(new SearchTask(consumer, 0, index.vertexCount()));
+        }
+    }
+
+    /**
+     * Executes the actual algorithm, storing the shortest paths of all source vertices.
+     */
+    private synchronized void run()
     {
         if (paths != null) {
             return;
         }
+        prepare();
+        int n = index.vertexCount();
+        List<IndexedSingleSourcePaths> result = new ArrayList<>(Collections.nCopies(n, null));
+        if (n > 0) {
+            pool.invoke(new SearchTask(p -> result.set(p.sourceIndex, p), 0, n));
+        }
+        paths = result;
+    }
+
+    /**
+     * Compute the vertex weights and the transformed edge weights, if not already computed.
+     *
+     * @return the stored shortest paths of all source vertices, or null if not yet computed
+     */
+    private synchronized List<IndexedSingleSourcePaths> prepare()
+    {
+        if (reducedWeights != null) {
+            return paths;
+        }
         GraphTests.requireDirectedOrUndirected(graph);
 
         boolean graphHasNegativeEdgeWeights = false;
@@ -144,91 +235,77 @@ public class JohnsonShortestPaths<V, E>
                 break;
             }
 
+        int n = index.vertexCount();
+        double[] weights = index.getEdgeWeights();
+        double[] h = new double[n];
+        double[] w = new double[weights.length];
         if (graphHasNegativeEdgeWeights) {
             if (graph.getType().isUndirected())
                 throw new RuntimeException(GRAPH_CONTAINS_A_NEGATIVE_WEIGHT_CYCLE);
-            runWithNegativeEdgeWeights(graph);
-        } else
-            runWithPositiveEdgeWeights(graph);
-    }
 
-    /**
-     * Graph has no edges with negative weights. Only perform the last step of Johnson's algorithm:
-     * run Dijkstra's algorithm from every vertex.
-     *
-     * @param g the input graph
-     */
-    private void runWithPositiveEdgeWeights(Graph<V, E> g)
-    {
-        /*
-         * Run Dijkstra for all vertices.
-         */
-        paths = new HashMap<>();
-        DijkstraShortestPath<V, E> dijkstraAlg = new DijkstraShortestPath<>(g);
-        for (V v : g.vertexSet()) {
-            paths.put(v, dijkstraAlg.getPaths(v));
+            /*
+             * Compute vertex weights using Bellman-Ford and new non-negative edge weights. The
+             * new weights are non-negative up to rounding errors.
+             */
+            Map<V, Double> vertexWeightsMap = computeVertexWeights(graph);
+            for (int v = 0; v < n; v++) {
+                h[v] = vertexWeightsMap.get(index.getVertex(v));
+            }
+            int[] sources = index.getEdgeSources();
+            int[] targets = index.getEdgeTargets();
+            for (int e = 0; e < weights.length; e++) {
+                w[e] = Math.max(0d, weights[e] + h[sources[e]] - h[targets[e]]);
+            }
+        } else {
+            for (int e = 0; e < weights.length; e++) {
+                if (weights[e] < 0d) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+                w[e] = weights[e];
+            }
         }
+        vertexWeights = h;
+        reducedWeights = w;
+        return paths;
     }
 
     /**
-     * Graph contains edges with negative weights. Transform the input graph, thereby ensuring that
-     * there are no edges with negative weights. Then run Dijkstra's algorithm for all vertices.
+     * Run Dijkstra's algorithm with the transformed edge weights from a source vertex and
+     * transform the distances back to the original weights.
      *
-     * @param g the input graph
+     * @param space the search space to use
+     * @param source the source vertex index
+     * @return the shortest paths from the source vertex
      */
-    private void runWithNegativeEdgeWeights(Graph<V, E> g)
+    private IndexedSingleSourcePaths search(DijkstraSearchSpace space, int source)
     {
-        /*
-         * Compute vertex weights using Bellman-Ford
-         */
-        Map<V, Double> vertexWeights = computeVertexWeights(g);
-
-        /*
-         * Compute new non-negative edge weights
-         */
-        Map<E, Double> newEdgeWeights = new HashMap<>();
-        for (E e : g.edgeSet()) {
-            V u = g.getEdgeSource(e);
-            V v = g.getEdgeTarget(e);
-            double weight = g.getEdgeWeight(e);
-            newEdgeWeights.put(e, weight + vertexWeights.get(u) - vertexWeights.get(v));
-        }
+        int[] offsets = index.getOutOffsets();
+        int[] outEdges = index.getOutEdges();
+        int[] outNeighbors = index.getOutNeighbors();
+        double[] w = reducedWeights;
+        double[] h = vertexWeights;
 
-        /*
-         * Create graph with new edge weights
-         */
-        Graph<V, E> newEdgeWeightsGraph = new AsWeightedGraph<>(g, newEdgeWeights);
-
-        /*
-         * Run Dijkstra using new weights for all vertices
-         */
-        paths = new HashMap<>();
-        for (V v : g.vertexSet()) {
-            // execute Dijkstra
-            DijkstraClosestFirstIterator<V, E> it = new DijkstraClosestFirstIterator<>(
-                newEdgeWeightsGraph, v, Double.POSITIVE_INFINITY);
-            while (it.hasNext()) {
-                it.next();
-            }
-            Map<V, Pair<Double, E>> distanceAndPredecessorMap = it.getDistanceAndPredecessorMap();
-
-            // transform distances to original weights
-            Map<V, Pair<Double, E>> newDistanceAndPredecessorMap = new HashMap<>();
-            for (V u : g.vertexSet()) {
-                Pair<Double, E> oldPair = distanceAndPredecessorMap.get(u);
-                if (oldPair != null) {
-                    Pair<Double,
-                        E> newPair = Pair.of(
-                            oldPair.getFirst() - vertexWeights.get(v) + vertexWeights.get(u),
-                            oldPair.getSecond());
-                    newDistanceAndPredecessorMap.put(u, newPair);
-                }
+        space.relax(source, 0d, DijkstraSearchSpace.NIL);
+        while (!space.isEmpty()) {
+            int v = space.settleMin();
+            double d = space.getDistance(v);
+            for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                int e = outEdges[i];
+                space.relax(outNeighbors[i], d + w[e], e);
             }
-
-            // store shortest path tree
-            paths.put(v, new TreeSingleSourcePathsImpl<>(g, v, newDistanceAndPredecessorMap));
         }
 
+        int n = index.vertexCount();
+        double[] distance = new double[n];
+        int[] predecessor = new int[n];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        Arrays.fill(predecessor, DijkstraSearchSpace.NIL);
+        for (int i = 0; i < space.getReachedCount(); i++) {
+            int v = space.getReached(i);
+            distance[v] = space.getDistance(v) - h[source] + h[v];
+            predecessor[v] = space.getPredecessor(v);
+        }
+        return new IndexedSingleSourcePaths(source, distance, predecessor);
     }
 
     /**
@@ -279,4 +356,112 @@ public class JohnsonShortestPaths<V, E>
         return weights;
     }
 
+    /**
+     * A task computing the shortest paths of a range of source vertices.
+     */
+    private class SearchTask
+        extends
+        RecursiveAction
+    {
+        private static final long serialVersionUID = -6201372418512935620L;
+
+        private final Consumer<? super IndexedSingleSourcePaths> consumer;
+        private final int from;
+        private final int to;
+
+        SearchTask(Consumer<? super IndexedSingleSourcePaths> consumer, int from, int to)
+        {
+            this.consumer = consumer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from == 1) {
+                DijkstraSearchSpace space = searchSpaces.poll();
+                if (space == null) {
+                    space = new DijkstraSearchSpace(index.vertexCount());
+                } else {
+                    space.reset();
+                }
+                IndexedSingleSourcePaths result = search(space, from);
+                searchSpaces.add(space);
+                consumer.accept(result);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SearchTask(consumer, from, mid), new SearchTask(consumer, mid, to));
+        }
+    }
+
+    /**
+     * The shortest paths from a source vertex, stored as arrays indexed by vertex index.
+     */
+    private class IndexedSingleSourcePaths
+        implements
+        SingleSourcePaths<V, E>
+    {
+        private final int sourceIndex;
+        private final double[] distance;
+        private final int[] predecessor;
+
+        IndexedSingleSourcePaths(int sourceIndex, double[] distance, int[] predecessor)
+        {
+            this.sourceIndex = sourceIndex;
+            this.distance = distance;
+            this.predecessor = predecessor;
+        }
+
+        @Override
+        public Graph<V, E> getGraph()
+        {
+            return graph;
+        }
+
+        @Override
+        public V getSourceVertex()
+        {
+            return index.getVertex(sourceIndex);
+        }
+
+        @Override
+        public double getWeight(V sink)
+        {
+            if (!graph.containsVertex(sink)) {
+                throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+            }
+            return distance[index.getVertexIndex(sink)];
+        }
+
+        @Override
+        public GraphPath<V, E> getPath(V sink)
+        {
+            if (!graph.containsVertex(sink)) {
+                throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+            }
+            V source = getSourceVertex();
+            int t = index.getVertexIndex(sink);
+            if (t == sourceIndex) {
+                return GraphWalk.singletonWalk(graph, source, 0d);
+            }
+            if (distance[t] == Double.POSITIVE_INFINITY) {
+                return null;
+            }
+
+            int[] edgeSources = index.getEdgeSources();
+            int[] edgeTargets = index.getEdgeTargets();
+            List<E> edges = new ArrayList<>();
+            int v = t;
+            while (v != sourceIndex) {
+                int e = predecessor[v];
+                edges.add(index.getEdge(e));
+                v = edgeSources[e] == v ? edgeTargets[e] : edgeSources[e];
+            }
+            Collections.reverse(edges);
+            return new GraphWalk<>(graph, source, sink, null, edges, distance[t]);
+        }
+    }
+
 }
@@ -18,12 +18,12 @@
 package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
-import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
-import java.util.stream.*;
 
 /**
  * Martin's algorithm for the multi-objective shortest paths problem.
@@ -34,6 +34,21 @@ import java.util.stream.*;
  * efficient paths when all the cost values are non-negative.
  * 
  * <p>
+ * The implementation stores the labels and their cost vectors in primitive arrays and keeps the
+ * temporary labels in a lexicographically ordered binary heap of label indices. Labels which are
+ * dominated while waiting in the heap are discarded when they are removed from it. When paths
+ * towards a single sink are requested with {@link #getPaths(Object, Object)}, a lower bound on the
+ * remaining cost in each objective is first computed by a backward Dijkstra search from the sink.
+ * A label is discarded if its cost plus the lower bound is dominated by a label of the sink, and
+ * labels of the sink are not extended.
+ * 
+ * <p>
+ * Optionally, labels can be processed in parallel using a {@link ForkJoinPool}. The algorithm
+ * then removes from the heap a batch of labels, none of which is dominated by another, which are
+ * therefore all permanent. The new labels of the whole batch are computed in parallel and the
+ * dominance tests are performed in parallel for different vertices.
+ * 
+ * <p>
  * Note that the multi-objective shortest path problem is a well-known NP-hard problem.
  * 
  * @author Dimitrios Michail
@@ -45,14 +60,20 @@ public class MartinShortestPath<V, E>
     extends
     BaseMultiObjectiveShortestPathAlgorithm<V, E>
 {
+    private static final int NIL = -1;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final int PARALLEL_LEAF_SIZE = 16;
+
     // the edge weight function
     private final Function<E, double[]> edgeWeightFunction;
     // the number of objectives
     private final int objectives;
-    // final labels for each node
-    private final Map<V, LinkedList<Label>> nodeLabels;
-    // temporary labels ordered lexicographically
-    private final GenericFibonacciHeap<Label, Void> heap;
+    // the pool used for parallel processing or null
+    private final ForkJoinPool pool;
+    // the graph index and the edge costs, computed lazily
+    private GraphIndexView<V, E> index;
+    private double[] edgeCosts;
 
     /**
      * Create a new shortest path algorithm
@@ -66,144 +87,99 @@ public class MartinShortestPath<V, E>
         this.edgeWeightFunction =
             Objects.requireNonNull(edgeWeightFunction, "Function cannot be null");
         this.objectives = validateEdgeWeightFunction(edgeWeightFunction);
-        this.nodeLabels = new HashMap<>();
-        this.heap = new GenericFibonacciHeap<>(new LabelComparator());
+        this.pool = null;
     }
 
-    @Override
-    public List<GraphPath<V, E>> getPaths(V source, V sink)
+    /**
+     * Create a new shortest path algorithm which processes labels in parallel.
+     * 
+     * @param graph the input graph
+     * @param edgeWeightFunction the edge weight function
+     * @param pool the pool used to process labels in parallel
+     */
+    public MartinShortestPath(
+        Graph<V, E> graph, Function<E, double[]> edgeWeightFunction, ForkJoinPool pool)
     {
-        return this.getPaths(source).getPaths(sink);
+        super(graph);
+        this.edgeWeightFunction =
+            Objects.requireNonNull(edgeWeightFunction, "Function cannot be null");
+        this.objectives = validateEdgeWeightFunction(edgeWeightFunction);
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
     }
 
     @Override
-    public MultiObjectiveSingleSourcePaths<V, E> getPaths(V source)
+    public List<GraphPath<V, E>> getPaths(V source, V sink)
     {
         if (!graph.containsVertex(source)) {
             throw new IllegalArgumentException(
                 BaseMultiObjectiveShortestPathAlgorithm.GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
         }
-
-        if (graph.vertexSet().isEmpty() || graph.edgeSet().isEmpty()) {
-            return new ListMultiObjectiveSingleSourcePathsImpl<>(
-                graph, source, Collections.emptyMap());
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(
+                BaseMultiObjectiveShortestPathAlgorithm.GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
         }
 
-        if (nodeLabels.isEmpty()) {
-            runAlgorithm(source);
+        if (source.equals(sink)) {
+            return Arrays.asList(createEmptyPath(source, sink));
+        }
+        if (graph.edgeSet().isEmpty()) {
+            return Collections.emptyList();
         }
 
-        Map<V, List<GraphPath<V, E>>> paths = buildPaths(source);
-        return new ListMultiObjectiveSingleSourcePathsImpl<>(graph, source, paths);
+        lazyIndex();
+        int t = index.getVertexIndex(sink);
+        Search search = new Search(index.getVertexIndex(source), t);
+        search.run();
+        return search.buildPaths(source, t);
     }
 
-    /**
-     * Execute the main algorithm
-     */
-    private void runAlgorithm(V source)
+    @Override
+    public MultiObjectiveSingleSourcePaths<V, E> getPaths(V source)
     {
-        Label sourceLabel = new Label(source, new double[objectives], null, null);
-        for (V v : graph.vertexSet()) {
-            nodeLabels.put(v, new LinkedList<>());
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(
+                BaseMultiObjectiveShortestPathAlgorithm.GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
         }
-        nodeLabels.get(source).add(sourceLabel);
-        heap.insert(sourceLabel, null);
-
-        while (!heap.isEmpty()) {
-            Label curLabel = heap.removeMin().getKey();
-            V v = curLabel.node;
-            for (E e : graph.outgoingEdgesOf(v)) {
-                V u = Graphs.getOppositeVertex(graph, e, v);
-                Label newLabel =
-                    new Label(u, sum(curLabel.value, edgeWeightFunction.apply(e)), curLabel, e);
-
-                boolean isDominated = false;
-                LinkedList<Label> uLabels = nodeLabels.get(u);
-                ListIterator<Label> it = uLabels.listIterator();
-                while (it.hasNext()) {
-                    Label oldLabel = it.next();
-                    if (dominates(oldLabel.value, newLabel.value)) {
-                        isDominated = true;
-                        break;
-                    }
-                    if (dominates(newLabel.value, oldLabel.value)) {
-                        it.remove();
-                    }
-                }
-                if (!isDominated) {
-                    uLabels.add(newLabel);
-                    heap.insert(newLabel, null);
-                }
-            }
+
+        if (graph.vertexSet().isEmpty() || graph.edgeSet().isEmpty()) {
+            return new ListMultiObjectiveSingleSourcePathsImpl<>(
+                graph, source, Collections.emptyMap());
         }
-    }
 
-    /**
-     * Build the actual paths from the final labels of each node.
-     * 
-     * @param source the source vertex
-     * @return the paths
-     */
-    private Map<V, List<GraphPath<V, E>>> buildPaths(V source)
-    {
+        lazyIndex();
+        int s = index.getVertexIndex(source);
+        Search search = new Search(s, NIL);
+        search.run();
+
         Map<V, List<GraphPath<V, E>>> paths = new HashMap<>();
-        for (V sink : graph.vertexSet()) {
-            if (sink.equals(source)) {
-                paths.put(sink, Arrays.asList(createEmptyPath(source, sink)));
+        for (int v = 0; v < index.vertexCount(); v++) {
+            if (v == s) {
+                paths.put(source, Arrays.asList(createEmptyPath(source, source)));
             } else {
-                paths.put(sink, nodeLabels.get(sink).stream().map(l -> {
-                    double weight = 0d;
-                    LinkedList<E> edgeList = new LinkedList<>();
-                    Label cur = l;
-                    while (cur != null && cur.fromPrevious != null) {
-                        weight += graph.getEdgeWeight(cur.fromPrevious);
-                        edgeList.push(cur.fromPrevious);
-                        cur = cur.previous;
-                    }
-                    return new GraphWalk<>(graph, source, sink, edgeList, weight);
-                }).collect(Collectors.toList()));
+                paths.put(index.getVertex(v), search.buildPaths(source, v));
             }
         }
-        return paths;
+        return new ListMultiObjectiveSingleSourcePathsImpl<>(graph, source, paths);
     }
 
     /**
-     * Compute the sum of two vectors
-     * 
-     * @param a the first vector
-     * @param b the second vector
-     * @return the sum
+     * Index the graph and copy the edge costs in a single array.
      */
-    private static double[] sum(double[] a, double b[])
+    private synchronized void lazyIndex()
     {
-        int d = a.length;
-        double[] res = new double[d];
-        for (int i = 0; i < d; i++) {
-            res[i] = a[i] + b[i];
+        if (edgeCosts != null) {
+            return;
         }
-        return res;
-    }
-
-    /**
-     * Return whether a vector dominates another.
-     * 
-     * @param a the first vector
-     * @param b the second vector
-     * @return true if the first vector dominates the second
-     */
-    private static boolean dominates(double[] a, double[] b)
-    {
-        boolean strict = false;
-        int d = a.length;
-        for (int i = 0; i < d; i++) {
-            if (a[i] > b[i]) {
-                return false;
-            }
-            if (a[i] < b[i]) {
-                strict = true;
-            }
+        GraphIndexView<V, E> index = new GraphIndexView<>(graph);
+        int m = index.edgeCount();
+        double[] edgeCosts = new double[m * objectives];
+        for (int e = 0; e < m; e++) {
+            System.arraycopy(
+                edgeWeightFunction.apply(index.getEdge(e)), 0, edgeCosts, e * objectives,
+                objectives);
         }
-        return strict;
+        this.index = index;
+        this.edgeCosts = edgeCosts;
     }
 
     /**
@@ -237,53 +213,537 @@ public class MartinShortestPath<V, E>
     }
 
     /**
-     * A node label.
+     * The state of a single execution of the algorithm.
+     * 
+     * <p>
+     * Label $l$ is located at vertex {@code labelVertex[l]}, has cost vector
+     * {@code labelCost[l*d], ..., labelCost[l*d+d-1]} and was created from label
+     * {@code labelPred[l]} using edge {@code labelEdge[l]}. The non-dominated labels of each vertex
+     * are kept in creation order.
      */
-    private class Label
+    private class Search
     {
-        public V node;
-        public double[] value;
-        public Label previous;
-        public E fromPrevious;
+        private final int d;
+        private final int source;
+        private final int sink;
+        private final double[] lowerBounds;
+
+        private int[] labelVertex;
+        private int[] labelPred;
+        private int[] labelEdge;
+        private double[] labelCost;
+        private boolean[] labelDead;
+        private int labelCount;
 
-        public Label(V node, double[] value, Label previous, E fromPrevious)
+        private final int[][] vertexLabels;
+        private final int[] vertexLabelCount;
+
+        private int[] heap;
+        private int heapSize;
+
+        /**
+         * Create a new search.
+         * 
+         * @param source the source vertex
+         * @param sink the sink vertex or {@link MartinShortestPath#NIL} for all vertices
+         */
+        Search(int source, int sink)
         {
-            this.node = node;
-            this.value = value;
-            this.previous = previous;
-            this.fromPrevious = fromPrevious;
+            int n = index.vertexCount();
+            this.d = objectives;
+            this.source = source;
+            this.sink = sink;
+            this.lowerBounds = sink == NIL ? null : computeLowerBounds(sink);
+            this.labelVertex = new int[DEFAULT_CAPACITY];
+            this.labelPred = new int[DEFAULT_CAPACITY];
+            this.labelEdge = new int[DEFAULT_CAPACITY];
+            this.labelCost = new double[DEFAULT_CAPACITY * d];
+            this.labelDead = new boolean[DEFAULT_CAPACITY];
+            this.labelCount = 0;
+            this.vertexLabels = new int[n][];
+            this.vertexLabelCount = new int[n];
+            this.heap = new int[DEFAULT_CAPACITY];
+            this.heapSize = 0;
         }
 
-        @Override
-        public String toString()
+        /**
+         * Execute the main algorithm
+         */
+        void run()
         {
-            return "Label [node=" + node + ", value=" + Arrays.toString(value) + ", fromPrevious="
-                + fromPrevious + "]";
+            ensureLabelCapacity(1);
+            int l = labelCount++;
+            labelVertex[l] = source;
+            labelPred[l] = NIL;
+            labelEdge[l] = NIL;
+            if (isPruned(l)) {
+                return;
+            }
+            insert(source, l);
+            heapAdd(l);
+
+            if (pool == null) {
+                runSequential();
+            } else {
+                runParallel();
+            }
         }
 
+        private void runSequential()
+        {
+            int[] offsets = index.getOutOffsets();
+            int[] outEdges = index.getOutEdges();
+            int[] outNeighbors = index.getOutNeighbors();
+
+            while (heapSize > 0) {
+                int l = heapPoll();
+                int v = labelVertex[l];
+                if (labelDead[l] || v == sink || isPruned(l)) {
+                    continue;
+                }
+                for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                    int u = outNeighbors[i];
+                    ensureLabelCapacity(1);
+                    int c = labelCount;
+                    createLabel(c, u, l, outEdges[i]);
+                    if (isPruned(c) || !insert(u, c)) {
+                        // reuse the label slot
+                        continue;
+                    }
+                    labelCount++;
+                    heapAdd(c);
+                }
+            }
+        }
+
+        private void runParallel()
+        {
+            int n = index.vertexCount();
+            int[] offsets = index.getOutOffsets();
+            int[] outEdges = index.getOutEdges();
+            int[] outNeighbors = index.getOutNeighbors();
+
+            int[] batch = new int[MAX_BATCH_SIZE];
+            int[] batchStart = new int[MAX_BATCH_SIZE + 1];
+            double[] batchMin = new double[d];
+            int[] vertexGroup = new int[n];
+            Arrays.fill(vertexGroup, NIL);
+            int[] groupVertex = new int[DEFAULT_CAPACITY];
+            int[] groupStart = new int[DEFAULT_CAPACITY + 1];
+            int[] grouped = new int[DEFAULT_CAPACITY];
+
+            while (heapSize > 0) {
+                /*
+                 * Remove labels from the heap as long as they are not dominated by a label of the
+                 * batch. Labels remaining in the heap are lexicographically larger and cannot
+                 * dominate them, therefore the labels of the batch are permanent.
+                 */
+                int batchSize = 0;
+                Arrays.fill(batchMin, Double.POSITIVE_INFINITY);
+                while (heapSize > 0 && batchSize < MAX_BATCH_SIZE) {
+                    int l = heap[0];
+                    if (labelDead[l] || isPruned(l)) {
+                        heapPoll();
+                        continue;
+                    }
+                    if (isDominatedByBatch(l, batch, batchSize, batchMin)) {
+                        break;
+                    }
+                    heapPoll();
+                    batch[batchSize++] = l;
+                    for (int i = 0; i < d; i++) {
+                        batchMin[i] = Math.min(batchMin[i], labelCost[l * d + i]);
+                    }
+                }
+
+                // reserve one label for each edge leaving the batch
+                int total = 0;
+                for (int b = 0; b < batchSize; b++) {
+                    batchStart[b] = total;
+                    int v = labelVertex[batch[b]];
+                    if (v != sink) {
+                        total += offsets[v + 1] - offsets[v];
+                    }
+                }
+                batchStart[batchSize] = total;
+                ensureLabelCapacity(total);
+                final int base = labelCount;
+                labelCount += total;
+
+                // create the new labels
+                forEach(batchSize, b -> {
+                    int l = batch[b];
+                    int v = labelVertex[l];
+                    int c = base + batchStart[b];
+                    int end = offsets[v] + batchStart[b + 1] - batchStart[b];
+                    for (int i = offsets[v]; i < end; i++) {
+                        createLabel(c, outNeighbors[i], l, outEdges[i]);
+                        labelDead[c] = isPruned(c);
+                        c++;
+                    }
+                });
+
+                // group the new labels by vertex
+                int groups = 0;
+                for (int c = base; c < base + total; c++) {
+                    if (!labelDead[c] && vertexGroup[labelVertex[c]] == NIL) {
+                        if (groups == groupVertex.length) {
+                            groupVertex = Arrays.copyOf(groupVertex, 2 * groups);
+                            groupStart = Arrays.copyOf(groupStart, 2 * groups + 1);
+                        }
+                        vertexGroup[labelVertex[c]] = groups;
+                        groupVertex[groups] = labelVertex[c];
+                        groupStart[groups] = 0;
+                        groups++;
+                    }
+                    if (!labelDead[c]) {
+                        groupStart[vertexGroup[labelVertex[c]]]++;
+                    }
+                }
+                int alive = 0;
+                for (int g = 0; g < groups; g++) {
+                    int size = groupStart[g];
+                    groupStart[g] = alive;
+                    alive += size;
+                }
+                groupStart[groups] = alive;
+                if (grouped.length < alive) {
+                    grouped = new int[Math.max(alive, 2 * grouped.length)];
+                }
+                int[] position = Arrays.copyOf(groupStart, groups);
+                for (int c = base; c < base + total; c++) {
+                    if (!labelDead[c]) {
+                        grouped[position[vertexGroup[labelVertex[c]]]++] = c;
+                    }
+                }
+                for (int g = 0; g < groups; g++) {
+                    vertexGroup[groupVertex[g]] = NIL;
+                }
+
+                // insert the new labels, in parallel for different vertices
+                final int[] finalGroupVertex = groupVertex;
+                final int[] finalGroupStart = groupStart;
+                final int[] finalGrouped = grouped;
+                forEach(groups, g -> {
+                    int u = finalGroupVertex[g];
+                    for (int i = finalGroupStart[g]; i < finalGroupStart[g + 1]; i++) {
+                        int c = finalGrouped[i];
+                        if (!insert(u, c)) {
+                            labelDead[c] = true;
+                        }
+                    }
+                });
+
+                for (int c = base; c < base + total; c++) {
+                    if (!labelDead[c]) {
+                        heapAdd(c);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Apply an action to the integers $0, \dots, count-1$, in parallel if there are enough of
+         * them.
+         */
+        private void forEach(int count, IntConsumer action)
+        {
+            if (count <= PARALLEL_LEAF_SIZE) {
+                for (int i = 0; i < count; i++) {
+                    action.accept(i);
+                }
+            } else {
+                pool.invoke(new RangeTask(action, 0, count));
+            }
+        }
+
+        /**
+         * Whether a label is dominated by a label of the batch. The componentwise minimum of the
+         * batch is used as a quick filter.
+         */
+        private boolean isDominatedByBatch(int l, int[] batch, int batchSize, double[] batchMin)
+        {
+            int lo = l * d;
+            for (int i = 0; i < d; i++) {
+                if (batchMin[i] > labelCost[lo + i]) {
+                    return false;
+                }
+            }
+            for (int b = 0; b < batchSize; b++) {
+                if (compare(batch[b], l) < 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Initialize a label created from another label using an edge.
+         */
+        private void createLabel(int c, int u, int l, int e)
+        {
+            labelVertex[c] = u;
+            labelPred[c] = l;
+            labelEdge[c] = e;
+            labelDead[c] = false;
+            int co = c * d, lo = l * d, eo = e * d;
+            for (int i = 0; i < d; i++) {
+                labelCost[co + i] = labelCost[lo + i] + edgeCosts[eo + i];
+            }
+        }
+
+        /**
+         * Add a label to the labels of a vertex, unless it is dominated. Labels of the vertex
+         * which are dominated by the new label are removed.
+         * 
+         * @return true if the label was added, false if it is dominated
+         */
+        private boolean insert(int u, int c)
+        {
+            int[] labels = vertexLabels[u];
+            int count = vertexLabelCount[u];
+            int w = 0;
+            for (int i = 0; i < count; i++) {
+                int o = labels[i];
+                int cmp = compare(o, c);
+                if (cmp < 0) {
+                    /*
+                     * By transitivity no label of the vertex has been removed, since the labels
+                     * of a vertex do not dominate each other.
+                     */
+                    return false;
+                }
+                if (cmp > 0) {
+                    labelDead[o] = true;
+                } else {
+                    labels[w++] = o;
+                }
+            }
+            if (labels == null) {
+                labels = vertexLabels[u] = new int[2];
+            } else if (w == labels.length) {
+                labels = vertexLabels[u] = Arrays.copyOf(labels, 2 * w);
+            }
+            labels[w++] = c;
+            vertexLabelCount[u] = w;
+            return true;
+        }
+
+        /**
+         * Whether a label can be discarded since all paths to the sink through it are dominated
+         * by a label of the sink.
+         */
+        private boolean isPruned(int l)
+        {
+            if (lowerBounds == null) {
+                return false;
+            }
+            int vo = labelVertex[l] * d, lo = l * d;
+            if (lowerBounds[vo] == Double.POSITIVE_INFINITY) {
+                return true;
+            }
+            int[] sinkLabels = vertexLabels[sink];
+            int count = vertexLabelCount[sink];
+            for (int j = 0; j < count; j++) {
+                int so = sinkLabels[j] * d;
+                boolean strict = false;
+                boolean dominates = true;
+                for (int i = 0; i < d; i++) {
+                    double bound = labelCost[lo + i] + lowerBounds[vo + i];
+                    if (labelCost[so + i] > bound) {
+                        dominates = false;
+                        break;
+                    }
+                    if (labelCost[so + i] < bound) {
+                        strict = true;
+                    }
+                }
+                if (dominates && strict) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Compute for each vertex and objective the minimum cost of a path to the sink.
+         */
+        private double[] computeLowerBounds(int sink)
+        {
+            int n = index.vertexCount();
+            int[] offsets = index.getInOffsets();
+            int[] inEdges = index.getInEdges();
+            int[] inNeighbors = index.getInNeighbors();
+            double[] bounds = new double[n * d];
+            Arrays.fill(bounds, Double.POSITIVE_INFINITY);
+            DijkstraSearchSpace space = new DijkstraSearchSpace(n);
+            for (int i = 0; i < d; i++) {
+                space.reset();
+                space.relax(sink, 0d, NIL);
+                while (!space.isEmpty()) {
+                    int v = space.settleMin();
+                    double dist = space.getDistance(v);
+                    bounds[v * d + i] = dist;
+                    for (int j = offsets[v]; j < offsets[v + 1]; j++) {
+                        space.relax(inNeighbors[j], dist + edgeCosts[inEdges[j] * d + i], NIL);
+                    }
+                }
+            }
+            return bounds;
+        }
+
+        /**
+         * Build the actual paths from the final labels of a vertex.
+         * 
+         * @param source the source vertex
+         * @param v the vertex
+         * @return the paths
+         */
+        List<GraphPath<V, E>> buildPaths(V source, int v)
+        {
+            V sink = index.getVertex(v);
+            List<GraphPath<V, E>> paths = new ArrayList<>(vertexLabelCount[v]);
+            for (int j = 0; j < vertexLabelCount[v]; j++) {
+                double weight = 0d;
+                LinkedList<E> edgeList = new LinkedList<>();
+                for (int l = vertexLabels[v][j]; labelEdge[l] != NIL; l = labelPred[l]) {
+                    E e = index.getEdge(labelEdge[l]);
+                    weight += graph.getEdgeWeight(e);
+                    edgeList.push(e);
+                }
+                paths.add(new GraphWalk<>(graph, source, sink, edgeList, weight));
+            }
+            return paths;
+        }
+
+        /**
+         * Compare the costs of two labels with respect to dominance.
+         * 
+         * @return a negative value if the first label dominates the second, a positive value if
+         *         the second dominates the first and zero otherwise
+         */
+        private int compare(int a, int b)
+        {
+            int ao = a * d, bo = b * d;
+            boolean aLess = false, bLess = false;
+            for (int i = 0; i < d; i++) {
+                double x = labelCost[ao + i], y = labelCost[bo + i];
+                if (x < y) {
+                    if (bLess) {
+                        return 0;
+                    }
+                    aLess = true;
+                } else if (y < x) {
+                    if (aLess) {
+                        return 0;
+                    }
+                    bLess = true;
+                }
+            }
+            return aLess ? -1 : (bLess ? 1 : 0);
+        }
+
+        /**
+         * Lexicographic order of the label costs, ties broken by creation order.
+         */
+        private boolean lexLess(int a, int b)
+        {
+            int ao = a * d, bo = b * d;
+            for (int i = 0; i < d; i++) {
+                double x = labelCost[ao + i], y = labelCost[bo + i];
+                if (x < y) {
+                    return true;
+                } else if (y < x) {
+                    return false;
+                }
+            }
+            return a < b;
+        }
+
+        private void ensureLabelCapacity(int extra)
+        {
+            int required = labelCount + extra;
+            if (required <= labelVertex.length) {
+                return;
+            }
+            int capacity = Math.max(required, labelVertex.length + (labelVertex.length >> 1));
+            labelVertex = Arrays.copyOf(labelVertex, capacity);
+            labelPred = Arrays.copyOf(labelPred, capacity);
+            labelEdge = Arrays.copyOf(labelEdge, capacity);
+            labelCost = Arrays.copyOf(labelCost, capacity * d);
+            labelDead = Arrays.copyOf(labelDead, capacity);
+        }
+
+        private void heapAdd(int l)
+        {
+            if (heapSize == heap.length) {
+                heap = Arrays.copyOf(heap, heapSize + (heapSize >> 1));
+            }
+            int i = heapSize++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!lexLess(l, heap[parent])) {
+                    break;
+                }
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = l;
+        }
+
+        private int heapPoll()
+        {
+            int min = heap[0];
+            int l = heap[--heapSize];
+            int i = 0;
+            int half = heapSize >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < heapSize && lexLess(heap[child + 1], heap[child])) {
+                    child++;
+                }
+                if (!lexLess(heap[child], l)) {
+                    break;
+                }
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = l;
+            return min;
+        }
     }
 
     /**
-     * Lexicographic comparator of two node labels.
+     * A task applying an action to a range of integers.
      */
-    private class LabelComparator
-        implements
-        Comparator<Label>
+    private static class RangeTask
+        extends
+        RecursiveAction
     {
+        private static final long serialVersionUID = 4829604370425961235L;
+
+        private final IntConsumer action;
+        private final int from;
+        private final int to;
+
+        RangeTask(IntConsumer action, int from, int to)
+        {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+        }
 
         @Override
-        public int compare(Label o1, Label o2)
+        protected void compute()
         {
-            for (int i = 0; i < objectives; i++) {
-                if (o1.value[i] < o2.value[i]) {
-                    return -1;
-                } else if (o1.value[i] > o2.value[i]) {
-                    return 1;
+            if (to - from <= PARALLEL_LEAF_SIZE) {
+                for (int i = from; i < to; i++) {
+                    action.accept(i);
                 }
+                return;
             }
-            return 0;
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(action, from, mid), new RangeTask(action, mid, to));
         }
-
     }
-
 }
@@ -0,0 +1,105 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Implementation of Yen's algorithm with Lawler's optimization for the $k$ shortest simple paths
+ * between two vertices.
+ *
+ * <p>
+ * The paths are computed by a {@link YenShortestPathIterator}, which requires a single shortest
+ * path tree computation and at most one spur path search per vertex of each returned path. This
+ * is usually much faster than {@link KShortestSimplePaths} for large graphs and values of $k$.
+ * Edge weights must be non-negative. The graph is indexed once and the index is shared by all
+ * queries, therefore the graph must not be modified while this object is in use.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see YenShortestPathIterator
+ *
+ * @author agent
+ */
+public class YenKShortestPath<V, E>
+    implements
+    KShortestPathAlgorithm<V, E>
+{
+    private final GraphIndexView<V, E> index;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a new instance of the algorithm using the common pool.
+     *
+     * @param graph the graph
+     */
+    public YenKShortestPath(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new instance of the algorithm.
+     *
+     * @param graph the graph
+     * @param pool the pool used to compute the spur paths
+     */
+    public YenKShortestPath(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this.index = new GraphIndexView<>(Objects.requireNonNull(graph, "Graph cannot be null"));
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * Returns a list of the $k$ shortest simple paths in increasing order of weight.
+     *
+     * @param startVertex source vertex of the calculated paths.
+     * @param endVertex target vertex of the calculated paths.
+     * @param k the number of shortest paths to return
+     *
+     * @return a list of at most $k$ paths between the start vertex and the end vertex
+     * @throws IllegalArgumentException if the graph does not contain the startVertex or the
+     *         endVertex
+     * @throws IllegalArgumentException if the startVertex and the endVertex are the same vertices
+     * @throws IllegalArgumentException if k is negative or zero
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    @Override
+    public List<GraphPath<V, E>> getPaths(V startVertex, V endVertex, int k)
+    {
+        Objects.requireNonNull(startVertex, "Start vertex cannot be null");
+        Objects.requireNonNull(endVertex, "End vertex cannot be null");
+        if (k <= 0) {
+            throw new IllegalArgumentException("Number of paths must be positive");
+        }
+
+        YenShortestPathIterator<V, E> it =
+            new YenShortestPathIterator<>(index, startVertex, endVertex, pool);
+        List<GraphPath<V, E>> paths = new ArrayList<>();
+        while (paths.size() < k && it.hasNext()) {
+            paths.add(it.next());
+        }
+        return paths;
+    }
+}
@@ -0,0 +1,526 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * An iterator over the simple paths between two vertices in increasing order of weight, using
+ * Yen's algorithm with Lawler's optimization.
+ *
+ * <p>
+ * Paths are generated lazily, one per invocation of {@link #next()}. Every path $P$ returned
+ * deviates from a previously returned path at some vertex. For each vertex $v_i$ of $P$ from its
+ * deviation vertex onwards, a spur path is computed from $v_i$ to the sink which avoids the
+ * vertices $v_0, \dots, v_{i-1}$ of $P$ and the edges leaving $v_i$ of all returned paths which
+ * share the prefix $v_0, \dots, v_i$ with $P$. The prefix followed by the spur path is a candidate
+ * path. Lawler's optimization consists in skipping the vertices before the deviation vertex, whose
+ * spur paths have already been computed for the path $P$ deviates from.
+ *
+ * <p>
+ * A shortest path tree towards the sink is computed once and shared by all spur path
+ * computations. If the tree path from $v_i$ to the sink avoids the forbidden vertices and edges,
+ * it is the spur path and no search is necessary. Otherwise the spur path is computed by the A*
+ * algorithm, using the tree distances, which never overestimate the distances when vertices and
+ * edges are removed, as the heuristic. The spur paths of a path are computed in parallel using a
+ * {@link ForkJoinPool}, by default the common pool.
+ *
+ * <p>
+ * See the papers:
+ * <ul>
+ * <li>J. Y. Yen. Finding the k shortest loopless paths in a network. Management Science,
+ * 17(11):712--716, 1971.</li>
+ * <li>E. L. Lawler. A procedure for computing the k best solutions to discrete optimization
+ * problems and its application to the shortest path problem. Management Science, 18(7):401--405,
+ * 1972.</li>
+ * </ul>
+ *
+ * <p>
+ * The memory required is linear in the total length of the returned and candidate paths, plus
+ * linear in the size of the graph per thread. Edge weights must be non-negative. Graphs with
+ * multiple edges are allowed and paths which differ only in parallel edges are different paths.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see YenKShortestPath
+ *
+ * @author agent
+ */
+public class YenShortestPathIterator<V, E>
+    implements
+    Iterator<GraphPath<V, E>>
+{
+    private static final int NIL = DijkstraSearchSpace.NIL;
+
+    private final Graph<V, E> graph;
+    private final GraphIndexView<V, E> index;
+    private final ForkJoinPool pool;
+    private final int source;
+    private final int sink;
+
+    // shortest path tree towards the sink
+    private final double[] sinkDistance;
+    private final int[] sinkTreeEdge;
+
+    private final List<Path> returned;
+    private final PriorityQueue<Path> candidates;
+    private final Set<Path> candidateSet;
+    private final ConcurrentLinkedQueue<SpurSearch> searches;
+    private Path pending;
+
+    /**
+     * Create a new iterator using the common pool.
+     * 
+     * @param graph the graph
+     * @param source the source vertex
+     * @param sink the sink vertex
+     * @throws IllegalArgumentException if the graph does not contain the source or the sink
+     *         vertex, if the source is equal to the sink or if the graph contains an edge with
+     *         negative weight
+     */
+    public YenShortestPathIterator(Graph<V, E> graph, V source, V sink)
+    {
+        this(graph, source, sink, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a new iterator.
+     * 
+     * @param graph the graph
+     * @param source the source vertex
+     * @param sink the sink vertex
+     * @param pool the pool used to compute the spur paths
+     * @throws IllegalArgumentException if the graph does not contain the source or the sink
+     *         vertex, if the source is equal to the sink or if the graph contains an edge with
+     *         negative weight
+     */
+    public YenShortestPathIterator(Graph<V, E> graph, V source, V sink, ForkJoinPool pool)
+    {
+        this(new GraphIndexView<>(Objects.requireNonNull(graph, "Graph cannot be null")), source,
+            sink, pool);
+    }
+
+    /**
+     * Create a new iterator using an existing index of a graph.
+     * 
+     * @param index the index of the graph
+     * @param source the source vertex
+     * @param sink the sink vertex
+     * @param pool the pool used to compute the spur paths
+     * @throws IllegalArgumentException if the graph does not contain the source or the sink
+     *         vertex, if the source is equal to the sink or if the graph contains an edge with
+     *         negative weight
+     */
+    public YenShortestPathIterator(GraphIndexView<V, E> index, V source, V sink, ForkJoinPool pool)
+    {
+        this.index = Objects.requireNonNull(index, "Index cannot be null");
+        this.graph = index.getGraph();
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException("Graph must contain the start vertex!");
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException("Graph must contain the end vertex!");
+        }
+        if (source.equals(sink)) {
+            throw new IllegalArgumentException("The end vertex is the same as the start vertex!");
+        }
+        for (double w : index.getEdgeWeights()) {
+            if (w < 0d) {
+                throw new IllegalArgumentException("Negative edge weight not allowed");
+            }
+        }
+        this.source = index.getVertexIndex(source);
+        this.sink = index.getVertexIndex(sink);
+        this.returned = new ArrayList<>();
+        this.candidates = new PriorityQueue<>();
+        this.candidateSet = new HashSet<>();
+        this.searches = new ConcurrentLinkedQueue<>();
+
+        // shortest path tree towards the sink
+        int n = index.vertexCount();
+        this.sinkDistance = new double[n];
+        this.sinkTreeEdge = new int[n];
+        Arrays.fill(sinkDistance, Double.POSITIVE_INFINITY);
+        Arrays.fill(sinkTreeEdge, NIL);
+        int[] offsets = index.getInOffsets();
+        int[] inEdges = index.getInEdges();
+        int[] inNeighbors = index.getInNeighbors();
+        double[] weights = index.getEdgeWeights();
+        DijkstraSearchSpace space = new DijkstraSearchSpace(n);
+        space.relax(this.sink, 0d, NIL);
+        while (!space.isEmpty()) {
+            int v = space.settleMin();
+            double d = space.getDistance(v);
+            sinkDistance[v] = d;
+            sinkTreeEdge[v] = space.getPredecessor(v);
+            for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                int e = inEdges[i];
+                space.relax(inNeighbors[i], d + weights[e], e);
+            }
+        }
+
+        // the shortest path
+        if (sinkDistance[this.source] < Double.POSITIVE_INFINITY) {
+            Path shortest = treePath(this.source, null, 0, 0d);
+            candidates.add(shortest);
+            candidateSet.add(shortest);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext()
+    {
+        if (pending != null) {
+            addCandidates(pending);
+            pending = null;
+        }
+        return !candidates.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> next()
+    {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Path path = candidates.poll();
+        candidateSet.remove(path);
+        returned.add(path);
+        pending = path;
+
+        List<V> vertices = new ArrayList<>(path.vertices.length);
+        for (int v : path.vertices) {
+            vertices.add(index.getVertex(v));
+        }
+        List<E> edges = new ArrayList<>(path.edges.length);
+        for (int e : path.edges) {
+            edges.add(index.getEdge(e));
+        }
+        return new GraphWalk<>(
+            graph, vertices.get(0), vertices.get(vertices.size() - 1), vertices, edges,
+            path.weight);
+    }
+
+    /**
+     * Compute the candidates deviating from a returned path.
+     */
+    private void addCandidates(Path path)
+    {
+        int spurs = path.edges.length - path.deviation;
+        Path[] result = new Path[spurs];
+
+        /*
+         * For each returned path, the length of the common prefix with the path in edges. The
+         * edge following the prefix of length i is forbidden at spur vertex i if the common
+         * prefix has length at least i.
+         */
+        int[][] forbidden = new int[spurs][];
+        int[] forbiddenCount = new int[spurs];
+        for (Path other : returned) {
+            int common = 0;
+            int max = Math.min(path.edges.length, other.edges.length);
+            while (common < max && path.edges[common] == other.edges[common]) {
+                common++;
+            }
+            for (int i = path.deviation; i <= common && i < other.edges.length
+                && i < path.edges.length; i++)
+            {
+                int s = i - path.deviation;
+                if (forbidden[s] == null) {
+                    forbidden[s] = new int[4];
+                } else if (forbiddenCount[s] == forbidden[s].length) {
+                    forbidden[s] = Arrays.copyOf(forbidden[s], 2 * forbidden[s].length);
+                }
+                forbidden[s][forbiddenCount[s]++] = other.edges[i];
+            }
+        }
+
+        if (spurs == 1) {
+            result[0] = spurPath(path, path.deviation, forbidden[0], forbiddenCount[0]);
+        } else if (spurs > 1) {
+            pool.invoke(new SpurTask(path, forbidden, forbiddenCount, result, 0, spurs));
+        }
+
+        for (Path candidate : result) {
+            if (candidate != null && candidateSet.add(candidate)) {
+                candidates.add(candidate);
+            }
+        }
+    }
+
+    /**
+     * Compute the candidate path using a spur path from the i-th vertex of a path.
+     */
+    private Path spurPath(Path path, int i, int[] forbiddenEdges, int forbiddenCount)
+    {
+        SpurSearch search = searches.poll();
+        if (search == null) {
+            search = new SpurSearch();
+        }
+        try {
+            return search.run(path, i, forbiddenEdges, forbiddenCount);
+        } finally {
+            searches.add(search);
+        }
+    }
+
+    /**
+     * Create a path following a prefix of a path and then the shortest path tree towards the
+     * sink.
+     */
+    private Path treePath(int from, Path prefix, int prefixEdges, double prefixWeight)
+    {
+        int length = prefixEdges;
+        for (int v = from; v != sink; v = opposite(sinkTreeEdge[v], v)) {
+            length++;
+        }
+        int[] vertices = new int[length + 1];
+        int[] edges = new int[length];
+        if (prefix != null) {
+            System.arraycopy(prefix.vertices, 0, vertices, 0, prefixEdges);
+            System.arraycopy(prefix.edges, 0, edges, 0, prefixEdges);
+        }
+        int pos = prefixEdges;
+        double weight = prefixWeight;
+        double[] weights = index.getEdgeWeights();
+        int v = from;
+        while (v != sink) {
+            int e = sinkTreeEdge[v];
+            vertices[pos] = v;
+            edges[pos++] = e;
+            weight += weights[e];
+            v = opposite(e, v);
+        }
+        vertices[pos] = sink;
+        return new Path(vertices, edges, weight, prefixEdges);
+    }
+
+    private int opposite(int e, int v)
+    {
+        int s = index.getEdgeSources()[e];
+        return s == v ? index.getEdgeTargets()[e] : s;
+    }
+
+    /**
+     * A path in the index, together with the position at which it deviates from the path it was
+     * derived from.
+     */
+    private static class Path
+        implements
+        Comparable<Path>
+    {
+        final int[] vertices;
+        final int[] edges;
+        final double weight;
+        final int deviation;
+        final int hash;
+
+        Path(int[] vertices, int[] edges, double weight, int deviation)
+        {
+            this.vertices = vertices;
+            this.edges = edges;
+            this.weight = weight;
+            this.deviation = deviation;
+            this.hash = Arrays.hashCode(edges);
+        }
+
+        @Override
+        public int compareTo(Path o)
+        {
+            int c = Double.compare(weight, o.weight);
+            if (c != 0) {
+                return c;
+            }
+            return Integer.compare(edges.length, o.edges.length);
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Path)) {
+                return false;
+            }
+            return Arrays.equals(edges, ((Path) obj).edges);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+    }
+
+    /**
+     * The state of a spur path search, reused by subsequent searches of the same thread.
+     */
+    private class SpurSearch
+    {
+        private final DijkstraSearchSpace space;
+        private final int[] vertexMark;
+        private final int[] edgeMark;
+        private int mark;
+
+        SpurSearch()
+        {
+            this.space = new DijkstraSearchSpace(index.vertexCount());
+            this.vertexMark = new int[index.vertexCount()];
+            this.edgeMark = new int[index.edgeCount()];
+            this.mark = 0;
+        }
+
+        Path run(Path path, int i, int[] forbiddenEdges, int forbiddenCount)
+        {
+            int spur = path.vertices[i];
+
+            // forbid the prefix vertices and the edges of returned paths with the same prefix
+            mark++;
+            for (int j = 0; j < i; j++) {
+                vertexMark[path.vertices[j]] = mark;
+            }
+            for (int j = 0; j < forbiddenCount; j++) {
+                edgeMark[forbiddenEdges[j]] = mark;
+            }
+            double prefixWeight = 0d;
+            double[] weights = index.getEdgeWeights();
+            for (int j = 0; j < i; j++) {
+                prefixWeight += weights[path.edges[j]];
+            }
+
+            // try the shortest path tree
+            if (sinkDistance[spur] == Double.POSITIVE_INFINITY) {
+                return null;
+            }
+            boolean treePathAllowed = edgeMark[sinkTreeEdge[spur]] != mark;
+            for (int v = spur; treePathAllowed && v != sink; v = opposite(sinkTreeEdge[v], v)) {
+                if (vertexMark[v] == mark) {
+                    treePathAllowed = false;
+                }
+            }
+            if (treePathAllowed && vertexMark[sink] != mark) {
+                return treePath(spur, path, i, prefixWeight);
+            }
+
+            // A* search using the tree distances as heuristic
+            int[] offsets = index.getOutOffsets();
+            int[] outEdges = index.getOutEdges();
+            int[] outNeighbors = index.getOutNeighbors();
+            space.reset();
+            space.relax(spur, sinkDistance[spur], NIL);
+            boolean found = false;
+            while (!space.isEmpty()) {
+                int v = space.settleMin();
+                if (v == sink) {
+                    found = true;
+                    break;
+                }
+                double g = space.getDistance(v) - sinkDistance[v];
+                for (int j = offsets[v]; j < offsets[v + 1]; j++) {
+                    int e = outEdges[j];
+                    int u = outNeighbors[j];
+                    if (edgeMark[e] == mark || vertexMark[u] == mark
+                        || sinkDistance[u] == Double.POSITIVE_INFINITY)
+                    {
+                        continue;
+                    }
+                    space.relax(u, g + weights[e] + sinkDistance[u], e);
+                }
+            }
+            if (!found) {
+                return null;
+            }
+
+            // assemble prefix and spur path
+            int spurLength = 0;
+            for (int v = sink; v != spur; v = opposite(space.getPredecessor(v), v)) {
+                spurLength++;
+            }
+            int[] vertices = Arrays.copyOf(path.vertices, i + spurLength + 1);
+            int[] edges = Arrays.copyOf(path.edges, i + spurLength);
+            double weight = prefixWeight;
+            int pos = i + spurLength;
+            int v = sink;
+            while (v != spur) {
+                int e = space.getPredecessor(v);
+                vertices[pos] = v;
+                edges[--pos] = e;
+                weight += weights[e];
+                v = opposite(e, v);
+            }
+            vertices[pos] = spur;
+            return new Path(vertices, edges, weight, i);
+        }
+    }
+
+    /**
+     * A task computing the spur paths of a range of vertices of a path.
+     */
+    private class SpurTask
+        extends
+        RecursiveAction
+    {
+        private static final long serialVersionUID = -4305934651926811730L;
+
+        private final Path path;
+        private final int[][] forbidden;
+        private final int[] forbiddenCount;
+        private final Path[] result;
+        private final int from;
+        private final int to;
+
+        SpurTask(
+            Path path, int[][] forbidden, int[] forbiddenCount, Path[] result, int from, int to)
+        {
+            this.path = path;
+            this.forbidden = forbidden;
+            this.forbiddenCount = forbiddenCount;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from == 1) {
+                result[from] =
+                    spurPath(path, path.deviation + from, forbidden[from], forbiddenCount[from]);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                new SpurTask(path, forbidden, forbiddenCount, result, from, mid),
+                new SpurTask(path, forbidden, forbiddenCount, result, mid, to));
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.jgrapht.util.*;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.function.*;
 
 /**
  * An implementation of <a href="http://en.wikipedia.org/wiki/Prim's_algorithm"> Prim's
@@ -30,7 +31,10 @@ import java.util.*;
  * weighted undirected graph. The algorithm was developed by Czech mathematician V. Jarník and later
  * independently by computer scientist Robert C. Prim and rediscovered by E. Dijkstra.
  *
- * This implementation relies on a Fibonacci heap, and runs in $O(|E| + |V|log(|V|))$.
+ * This implementation relies on a Fibonacci heap, and runs in $O(|E| + |V|log(|V|))$. A different
+ * {@link AddressableDoubleHeap} can be selected using the constructor. With a d-ary heap such as
+ * {@link DaryDoubleHeap}, the algorithm runs in $O(|E| log(|V|))$, which in practice is often
+ * faster.
  *
  *
  * @param <V> the graph vertex type
@@ -45,6 +49,7 @@ public class PrimMinimumSpanningTree<V, E>
     SpanningTreeAlgorithm<E>
 {
     private final Graph<V, E> g;
+    private final Supplier<AddressableDoubleHeap> heapSupplier;
 
     /**
      * Construct a new instance of the algorithm.
@@ -52,8 +57,20 @@ public class PrimMinimumSpanningTree<V, E>
      * @param graph the input graph
      */
     public PrimMinimumSpanningTree(Graph<V, E> graph)
+    {
+        this(graph, FibonacciDoubleHeap::new);
+    }
+
+    /**
+     * Construct a new instance of the algorithm.
+     * 
+     * @param graph the input graph
+     * @param heapSupplier supplier of new empty heaps used by the algorithm
+     */
+    public PrimMinimumSpanningTree(Graph<V, E> graph, Supplier<AddressableDoubleHeap> heapSupplier)
     {
         this.g = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.heapSupplier = Objects.requireNonNull(heapSupplier, "Heap supplier cannot be null");
     }
 
     /**
@@ -80,22 +97,21 @@ public class PrimMinimumSpanningTree<V, E>
         }
 
         VertexInfo[] vertices = (VertexInfo[]) Array.newInstance(VertexInfo.class, N);
-        FibonacciHeapNode<VertexInfo>[] fibNodes =
-            (FibonacciHeapNode<VertexInfo>[]) Array.newInstance(FibonacciHeapNode.class, N);
-        FibonacciHeap<VertexInfo> fibonacciHeap = new FibonacciHeap<>();
+        AddressableDoubleHeap heap = heapSupplier.get();
 
+        /*
+         * Heap handles are issued consecutively, thus the handle of each vertex equals its index.
+         */
         for (int i = 0; i < N; i++) {
             vertices[i] = new VertexInfo();
             vertices[i].id = i;
             vertices[i].distance = Double.MAX_VALUE;
-            fibNodes[i] = new FibonacciHeapNode<>(vertices[i]);
 
-            fibonacciHeap.insert(fibNodes[i], vertices[i].distance);
+            heap.insert(vertices[i].distance);
         }
 
-        while (!fibonacciHeap.isEmpty()) {
-            FibonacciHeapNode<VertexInfo> fibNode = fibonacciHeap.removeMin();
-            VertexInfo vertexInfo = fibNode.getData();
+        while (!heap.isEmpty()) {
+            VertexInfo vertexInfo = vertices[heap.deleteMin()];
 
             V p = indexList.get(vertexInfo.id);
             vertexInfo.spanned = true;
@@ -119,7 +135,7 @@ public class PrimMinimumSpanningTree<V, E>
                         vertices[id].distance = cost;
                         vertices[id].edgeFromParent = e;
 
-                        fibonacciHeap.decreaseKey(fibNodes[id], cost);
+                        heap.decreaseKey(id, cost);
                     }
                 }
             }
@@ -0,0 +1,446 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import org.jgrapht.*;
+import org.jgrapht.event.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * An index of a graph which assigns contiguous integers to its vertices and edges and stores the
+ * adjacency structure in integer arrays.
+ * 
+ * <p>
+ * Vertices are numbered $0, \dots, n-1$ and edges $0, \dots, m-1$ following the iteration order of
+ * {@link Graph#vertexSet()} and {@link Graph#edgeSet()}. The adjacency is kept in compressed sparse
+ * row form: the outgoing edges of vertex $v$ are {@code getOutEdges()[i]} for
+ * {@code getOutOffsets()[v] <= i < getOutOffsets()[v+1]}, and {@code getOutNeighbors()[i]} is the
+ * opposite endpoint of that edge. The incoming side is stored analogously. For undirected graphs
+ * both sides refer to the same arrays and contain every incident edge of a vertex, a self-loop
+ * being listed once, which matches {@link Graph#outgoingEdgesOf(Object)} and
+ * {@link Graph#incomingEdgesOf(Object)}.
+ * 
+ * <p>
+ * The index is computed lazily on first access and then reused until it is invalidated, so that
+ * several algorithms can share the cost of mapping the graph to integers. Any structural
+ * modification of the graph makes the index stale. When the graph is a {@link ListenableGraph}
+ * the view can be registered as a listener and it invalidates itself on every vertex or edge
+ * change. Otherwise the user is responsible for calling {@link #invalidate()} after modifying the
+ * graph. Changes of edge weights are not reported by graph events and also require an explicit
+ * call to {@link #invalidate()}.
+ * 
+ * <p>
+ * The arrays returned by this class are shared and must not be modified. Access is thread-safe:
+ * concurrent readers either observe a complete index or build it once. An index whose build
+ * overlaps with a call to {@link #invalidate()} is returned to the reader which built it, but is
+ * never published to later readers.
+ * 
+ * @param <V> the vertex type
+ * @param <E> the edge type
+ * 
+ * @author agent
+ */
+public class GraphIndexView<V, E>
+    implements
+    GraphListener<V, E>
+{
+    private final Graph<V, E> graph;
+    private final AtomicLong modCount;
+    private volatile Index<V, E> index;
+
+    /**
+     * Constructor
+     * 
+     * @param graph the input graph
+     * @throws NullPointerException if the input graph is null
+     */
+    public GraphIndexView(Graph<V, E> graph)
+    {
+        this.graph = Objects.requireNonNull(graph);
+        this.modCount = new AtomicLong();
+    }
+
+    /**
+     * Get the underlying graph.
+     * 
+     * @return the underlying graph
+     */
+    public Graph<V, E> getGraph()
+    {
+        return graph;
+    }
+
+    /**
+     * Discard the current index. The index is recomputed on the next access.
+     */
+    public void invalidate()
+    {
+        modCount.incrementAndGet();
+        index = null;
+    }
+
+    /**
+     * Get the number of vertices of the index.
+     * 
+     * @return the number of vertices
+     */
+    public int vertexCount()
+    {
+        return getIndex().vertices.length;
+    }
+
+    /**
+     * Get the number of edges of the index.
+     * 
+     * @return the number of edges
+     */
+    public int edgeCount()
+    {
+        return getIndex().edges.length;
+    }
+
+    /**
+     * Get the index of a vertex.
+     * 
+     * @param v the vertex
+     * @return the index of the vertex
+     * @throws IllegalArgumentException if the vertex is not part of the index
+     */
+    public int getVertexIndex(V v)
+    {
+        Integer i = getIndex().vertexMap.get(v);
+        if (i == null) {
+            throw new IllegalArgumentException("no such vertex in graph: " + v);
+        }
+        return i;
+    }
+
+    /**
+     * Get the vertex with a given index.
+     * 
+     * @param index the index
+     * @return the vertex
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public V getVertex(int index)
+    {
+        return getIndex().vertices[index];
+    }
+
+    /**
+     * Get the index of an edge.
+     * 
+     * @param e the edge
+     * @return the index of the edge
+     * @throws IllegalArgumentException if the edge is not part of the index
+     */
+    public int getEdgeIndex(E e)
+    {
+        Integer i = getIndex().edgeMap.get(e);
+        if (i == null) {
+            throw new IllegalArgumentException("no such edge in graph: " + e);
+        }
+        return i;
+    }
+
+    /**
+     * Get the edge with a given index.
+     * 
+     * @param index the index
+     * @return the edge
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public E getEdge(int index)
+    {
+        return getIndex().edges[index];
+    }
+
+    /**
+     * Get the source vertex index of each edge, indexed by edge index.
+     * 
+     * @return the edge sources
+     */
+    public int[] getEdgeSources()
+    {
+        return getIndex().edgeSources;
+    }
+
+    /**
+     * Get the target vertex index of each edge, indexed by edge index.
+     * 
+     * @return the edge targets
+     */
+    public int[] getEdgeTargets()
+    {
+        return getIndex().edgeTargets;
+    }
+
+    /**
+     * Get the weight of each edge, indexed by edge index.
+     * 
+     * @return the edge weights
+     */
+    public double[] getEdgeWeights()
+    {
+        return getIndex().edgeWeights;
+    }
+
+    /**
+     * Get the offsets of the outgoing adjacency. The array has length $n+1$.
+     * 
+     * @return the offsets of the outgoing adjacency
+     */
+    public int[] getOutOffsets()
+    {
+        return getIndex().outOffsets;
+    }
+
+    /**
+     * Get the edge indices of the outgoing adjacency.
+     * 
+     * @return the edge indices of the outgoing adjacency
+     */
+    public int[] getOutEdges()
+    {
+        return getIndex().outEdges;
+    }
+
+    /**
+     * Get the vertex indices of the outgoing adjacency, that is the opposite endpoint of each entry
+     * of {@link #getOutEdges()}.
+     * 
+     * @return the vertex indices of the outgoing adjacency
+     */
+    public int[] getOutNeighbors()
+    {
+        return getIndex().outNeighbors;
+    }
+
+    /**
+     * Get the offsets of the incoming adjacency. The array has length $n+1$.
+     * 
+     * @return the offsets of the incoming adjacency
+     */
+    public int[] getInOffsets()
+    {
+        return getIndex().inOffsets;
+    }
+
+    /**
+     * Get the edge indices of the incoming adjacency.
+     * 
+     * @return the edge indices of the incoming adjacency
+     */
+    public int[] getInEdges()
+    {
+        return getIndex().inEdges;
+    }
+
+    /**
+     * Get the vertex indices of the incoming adjacency, that is the opposite endpoint of each entry
+     * of {@link #getInEdges()}.
+     * 
+     * @return the vertex indices of the incoming adjacency
+     */
+    public int[] getInNeighbors()
+    {
+        return getIndex().inNeighbors;
+    }
+
+    /**
+     * Get the out-degree of a vertex.
+     * 
+     * @param v the vertex index
+     * @return the out-degree
+     */
+    public int outDegreeOf(int v)
+    {
+        int[] offsets = getIndex().outOffsets;
+        return offsets[v + 1] - offsets[v];
+    }
+
+    /**
+     * Get the in-degree of a vertex.
+     * 
+     * @param v the vertex index
+     * @return the in-degree
+     */
+    public int inDegreeOf(int v)
+    {
+        int[] offsets = getIndex().inOffsets;
+        return offsets[v + 1] - offsets[v];
+    }
+
+    @Override
+    public void edgeAdded(GraphEdgeChangeEvent<V, E> e)
+    {
+        invalidate();
+    }
+
+    @Override
+    public void edgeRemoved(GraphEdgeChangeEvent<V, E> e)
+    {
+        invalidate();
+    }
+
+    @Override
+    public void vertexAdded(GraphVertexChangeEvent<V> e)
+    {
+        invalidate();
+    }
+
+    @Override
+    public void vertexRemoved(GraphVertexChangeEvent<V> e)
+    {
+        invalidate();
+    }
+
+    private Index<V, E> getIndex()
+    {
+        Index<V, E> result = index;
+        if (result == null || result.modCount != modCount.get()) {
+            synchronized (this) {
+                result = index;
+                long expectedModCount = modCount.get();
+                if (result == null || result.modCount != expectedModCount) {
+                    result = new Index<>(graph, expectedModCount);
+                    // an invalidation during the build makes the result stale, do not publish it
+                    if (modCount.get() == expectedModCount) {
+                        index = result;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * An immutable snapshot of the index.
+     */
+    private static class Index<V, E>
+    {
+        final long modCount;
+        final V[] vertices;
+        final Map<V, Integer> vertexMap;
+        final E[] edges;
+        final Map<E, Integer> edgeMap;
+        final int[] edgeSources;
+        final int[] edgeTargets;
+        final double[] edgeWeights;
+        final int[] outOffsets;
+        final int[] outEdges;
+        final int[] outNeighbors;
+        final int[] inOffsets;
+        final int[] inEdges;
+        final int[] inNeighbors;
+
+        @SuppressWarnings("unchecked")
+        Index(Graph<V, E> graph, long modCount)
+        {
+            this.modCount = modCount;
+            Set<V> vertexSet = graph.vertexSet();
+            int n = vertexSet.size();
+            this.vertices = (V[]) new Object[n];
+            this.vertexMap = new HashMap<>();
+            int i = 0;
+            for (V v : vertexSet) {
+                vertices[i] = v;
+                vertexMap.put(v, i);
+                i++;
+            }
+
+            Set<E> edgeSet = graph.edgeSet();
+            int m = edgeSet.size();
+            this.edges = (E[]) new Object[m];
+            this.edgeMap = new HashMap<>();
+            this.edgeSources = new int[m];
+            this.edgeTargets = new int[m];
+            this.edgeWeights = new double[m];
+            i = 0;
+            for (E e : edgeSet) {
+                edges[i] = e;
+                edgeMap.put(e, i);
+                edgeSources[i] = vertexMap.get(graph.getEdgeSource(e));
+                edgeTargets[i] = vertexMap.get(graph.getEdgeTarget(e));
+                edgeWeights[i] = graph.getEdgeWeight(e);
+                i++;
+            }
+
+            if (graph.getType().isDirected()) {
+                this.outOffsets = new int[n + 1];
+                this.outEdges = new int[m];
+                this.outNeighbors = new int[m];
+                fill(edgeSources, edgeTargets, outOffsets, outEdges, outNeighbors);
+
+                this.inOffsets = new int[n + 1];
+                this.inEdges = new int[m];
+                this.inNeighbors = new int[m];
+                fill(edgeTargets, edgeSources, inOffsets, inEdges, inNeighbors);
+            } else {
+                this.outOffsets = new int[n + 1];
+                for (int e = 0; e < m; e++) {
+                    outOffsets[edgeSources[e] + 1]++;
+                    if (edgeSources[e] != edgeTargets[e]) {
+                        outOffsets[edgeTargets[e] + 1]++;
+                    }
+                }
+                for (int v = 0; v < n; v++) {
+                    outOffsets[v + 1] += outOffsets[v];
+                }
+                int total = outOffsets[n];
+                this.outEdges = new int[total];
+                this.outNeighbors = new int[total];
+                int[] pos = Arrays.copyOf(outOffsets, n);
+                for (int e = 0; e < m; e++) {
+                    int s = edgeSources[e];
+                    int t = edgeTargets[e];
+                    outEdges[pos[s]] = e;
+                    outNeighbors[pos[s]++] = t;
+                    if (s != t) {
+                        outEdges[pos[t]] = e;
+                        outNeighbors[pos[t]++] = s;
+                    }
+                }
+                this.inOffsets = outOffsets;
+                this.inEdges = outEdges;
+                this.inNeighbors = outNeighbors;
+            }
+        }
+
+        private static void fill(
+            int[] from, int[] to, int[] offsets, int[] adjEdges, int[] adjNeighbors)
+        {
+            int n = offsets.length - 1;
+            for (int e = 0; e < from.length; e++) {
+                offsets[from[e] + 1]++;
+            }
+            for (int v = 0; v < n; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+            int[] pos = Arrays.copyOf(offsets, n);
+            for (int e = 0; e < from.length; e++) {
+                int p = pos[from[e]]++;
+                adjEdges[p] = e;
+                adjNeighbors[p] = to[e];
+            }
+        }
+    }
+
+}
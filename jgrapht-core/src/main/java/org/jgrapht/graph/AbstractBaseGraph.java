@@ -36,8 +36,9 @@ import java.util.function.*;
  * <p>
  * The behavior of this class can be adjusted by changing the {@link GraphSpecificsStrategy} that is
  * provided from the constructor. All implemented strategies guarantee deterministic vertex and edge
- * set ordering (via {@link LinkedHashMap} and {@link LinkedHashSet}). The defaults are reasonable
- * for most use-cases, only change if you know what you are doing.
+ * set ordering (via {@link LinkedHashMap} and {@link LinkedHashSet}, or via arrays in the case of
+ * {@link IntVertexGraphSpecificsStrategy}). The defaults are reasonable for most use-cases, only
+ * change if you know what you are doing.
  *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -66,6 +67,10 @@ public abstract class AbstractBaseGraph<V, E>
     private IntrusiveEdgesSpecifics<V, E> intrusiveEdgesSpecifics;
     private GraphSpecificsStrategy<V, E> graphSpecificsStrategy;
 
+    // number of vertices and edges the hash tables were last presized for
+    private transient int vertexCapacity;
+    private transient int edgeCapacity;
+
     /**
      * Construct a new graph.
      *
@@ -260,6 +265,149 @@ public abstract class AbstractBaseGraph<V, E>
         return false;
     }
 
+    /**
+     * Prepares the graph for the addition of a large number of vertices and edges. The internal
+     * hash tables are presized so that the graph can hold the expected number of vertices and edges
+     * without repeated rehashing. Calling this method is never required, it only affects
+     * performance.
+     * 
+     * <p>
+     * The tables are grown in place, so that the sets returned by {@link #vertexSet()} and
+     * {@link #edgeSet()} remain valid. They are only grown if they might be too small. Similarly to
+     * {@link ArrayList#ensureCapacity(int)}, a table which is grown at least doubles in size, so
+     * that repeated calls with slowly increasing counts take amortized linear time.
+     *
+     * @param expectedVertexCount the expected total number of vertices
+     * @param expectedEdgeCount the expected total number of edges
+     * @throws IllegalArgumentException if any of the counts is negative
+     */
+    public void ensureCapacity(int expectedVertexCount, int expectedEdgeCount)
+    {
+        if (expectedVertexCount < 0 || expectedEdgeCount < 0) {
+            throw new IllegalArgumentException("Expected counts must be non-negative");
+        }
+        int vertices = newCapacity(
+            expectedVertexCount, vertexCapacity, specifics.getVertexSet().size());
+        int edges = newCapacity(
+            expectedEdgeCount, edgeCapacity, intrusiveEdgesSpecifics.getEdgeSet().size());
+        if (vertices == 0 && edges == 0) {
+            return;
+        }
+        // a zero count leaves the corresponding tables unchanged
+        specifics.ensureCapacity(vertices, edges);
+        intrusiveEdgesSpecifics.ensureCapacity(edges);
+        vertexCapacity = Math.max(vertexCapacity, vertices);
+        edgeCapacity = Math.max(edgeCapacity, edges);
+    }
+
+    /**
+     * Compute the new size of a hash table. Hash tables never shrink, therefore a table can hold at
+     * least as many entries as it was presized for and as it currently contains.
+     * 
+     * @param expected the expected number of entries
+     * @param capacity the number of entries the table was last presized for
+     * @param size the current number of entries
+     * @return the number of entries to presize the table for, or zero if it is large enough
+     */
+    private static int newCapacity(int expected, int capacity, int size)
+    {
+        int current = Math.max(capacity, size);
+        if (expected <= current) {
+            return 0;
+        }
+        return (int) Math.min(Math.max(expected, 2L * current), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Adds a batch of edges to the graph. The i-th edge is {@code edges.get(i)} and connects
+     * {@code sources.get(i)} to {@code targets.get(i)}.
+     * 
+     * <p>
+     * The whole batch is validated before any edge is added: all endpoints must be contained in
+     * the graph and, if the graph does not allow self-loops, no edge may be a self-loop. The
+     * internal hash tables are then presized, see {@link #ensureCapacity(int, int)}, and the edges
+     * are inserted without repeating the validation. As with
+     * {@link #addEdge(Object, Object, Object)}, an edge which is already contained in the graph,
+     * or which would introduce multiple edges in a graph which does not allow them, is skipped.
+     * 
+     * <p>
+     * The edges are inserted directly into the graph specifics and not through
+     * {@link #addEdge(Object, Object, Object)}. Subclasses which override that method in order to
+     * maintain additional invariants must override this method as well.
+     *
+     * @param sources the source vertices of the edges
+     * @param targets the target vertices of the edges
+     * @param edges the edges
+     * @return the number of edges added
+     * @throws IllegalArgumentException if the lists have different sizes, if an endpoint is not
+     *         found in the graph, or if an edge is a self-loop and the graph does not allow them
+     * @throws NullPointerException if any list contains <code>null</code>
+     */
+    public int addEdges(
+        List<? extends V> sources, List<? extends V> targets, List<? extends E> edges)
+    {
+        assertEdgeBatch(sources, targets, edges);
+        ensureCapacity(0, intrusiveEdgesSpecifics.getEdgeSet().size() + edges.size());
+
+        boolean allowingMultipleEdges = type.isAllowingMultipleEdges();
+        int added = 0;
+        Iterator<? extends V> sourceIt = sources.iterator();
+        Iterator<? extends V> targetIt = targets.iterator();
+        for (E e : edges) {
+            V sourceVertex = sourceIt.next();
+            V targetVertex = targetIt.next();
+            if (intrusiveEdgesSpecifics.containsEdge(e)) {
+                continue;
+            }
+            if (!allowingMultipleEdges
+                && specifics.getEdge(sourceVertex, targetVertex) != null)
+            {
+                continue;
+            }
+            if (intrusiveEdgesSpecifics.add(e, sourceVertex, targetVertex)) {
+                specifics.addEdgeToTouchingVertices(e);
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Validate a batch of edges before adding it to the graph.
+     * 
+     * @param sources the source vertices of the edges
+     * @param targets the target vertices of the edges
+     * @param edges the edges
+     * @throws IllegalArgumentException if the lists have different sizes, if an endpoint is not
+     *         found in the graph, or if an edge is a self-loop and the graph does not allow them
+     * @throws NullPointerException if any list contains <code>null</code>
+     */
+    void assertEdgeBatch(
+        List<? extends V> sources, List<? extends V> targets, List<? extends E> edges)
+    {
+        int n = edges.size();
+        if (sources.size() != n || targets.size() != n) {
+            throw new IllegalArgumentException(
+                "Source, target and edge lists must have the same size");
+        }
+
+        boolean allowingSelfLoops = type.isAllowingSelfLoops();
+        Iterator<? extends V> sourceIt = sources.iterator();
+        Iterator<? extends V> targetIt = targets.iterator();
+        for (E e : edges) {
+            if (e == null) {
+                throw new NullPointerException();
+            }
+            V sourceVertex = sourceIt.next();
+            V targetVertex = targetIt.next();
+            assertVertexExist(sourceVertex);
+            assertVertexExist(targetVertex);
+            if (!allowingSelfLoops && sourceVertex.equals(targetVertex)) {
+                throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+            }
+        }
+    }
+
     @Override
     public V addVertex()
     {
@@ -328,6 +476,8 @@ public abstract class AbstractBaseGraph<V, E>
             newGraph.edgeSupplier = this.edgeSupplier;
             newGraph.type = type;
             newGraph.unmodifiableVertexSet = null;
+            newGraph.vertexCapacity = 0;
+            newGraph.edgeCapacity = 0;
 
             newGraph.graphSpecificsStrategy = this.graphSpecificsStrategy;
 
@@ -435,6 +585,113 @@ public abstract class AbstractBaseGraph<V, E>
         return specifics.outgoingEdgesOf(vertex);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachEdgeOf(V vertex, Consumer<? super E> action)
+    {
+        assertVertexExist(vertex);
+        specifics.forEachEdgeOf(vertex, Objects.requireNonNull(action));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachIncomingEdge(V vertex, Consumer<? super E> action)
+    {
+        assertVertexExist(vertex);
+        specifics.forEachIncomingEdge(vertex, Objects.requireNonNull(action));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachOutgoingEdge(V vertex, Consumer<? super E> action)
+    {
+        assertVertexExist(vertex);
+        specifics.forEachOutgoingEdge(vertex, Objects.requireNonNull(action));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachNeighbor(V vertex, Consumer<? super V> action)
+    {
+        assertVertexExist(vertex);
+        Objects.requireNonNull(action);
+        if (type.isDirected()) {
+            // same order as edgesOf: self-loops are visited as outgoing edges only
+            for (E e : specifics.incomingEdgesOf(vertex)) {
+                V source = intrusiveEdgesSpecifics.getEdgeSource(e);
+                if (!vertex.equals(source)) {
+                    action.accept(source);
+                }
+            }
+            for (E e : specifics.outgoingEdgesOf(vertex)) {
+                action.accept(intrusiveEdgesSpecifics.getEdgeTarget(e));
+            }
+        } else {
+            for (E e : specifics.edgesOf(vertex)) {
+                action.accept(getOppositeVertex(e, vertex));
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachPredecessor(V vertex, Consumer<? super V> action)
+    {
+        assertVertexExist(vertex);
+        Objects.requireNonNull(action);
+        if (type.isDirected()) {
+            for (E e : specifics.incomingEdgesOf(vertex)) {
+                action.accept(intrusiveEdgesSpecifics.getEdgeSource(e));
+            }
+        } else {
+            for (E e : specifics.incomingEdgesOf(vertex)) {
+                action.accept(getOppositeVertex(e, vertex));
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachSuccessor(V vertex, Consumer<? super V> action)
+    {
+        assertVertexExist(vertex);
+        Objects.requireNonNull(action);
+        if (type.isDirected()) {
+            for (E e : specifics.outgoingEdgesOf(vertex)) {
+                action.accept(intrusiveEdgesSpecifics.getEdgeTarget(e));
+            }
+        } else {
+            for (E e : specifics.outgoingEdgesOf(vertex)) {
+                action.accept(getOppositeVertex(e, vertex));
+            }
+        }
+    }
+
+    /**
+     * Get the endpoint of an edge touching a vertex which is opposite to the vertex.
+     * 
+     * @param e the edge
+     * @param vertex one endpoint of the edge
+     * @return the other endpoint of the edge, or the vertex itself if the edge is a self-loop
+     */
+    private V getOppositeVertex(E e, V vertex)
+    {
+        V source = intrusiveEdgesSpecifics.getEdgeSource(e);
+        return vertex.equals(source) ? intrusiveEdgesSpecifics.getEdgeTarget(e) : source;
+    }
+
     /**
      * {@inheritDoc}
      */
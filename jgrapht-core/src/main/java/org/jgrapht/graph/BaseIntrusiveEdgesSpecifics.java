@@ -76,6 +76,16 @@ public abstract class BaseIntrusiveEdgesSpecifics<V, E, IE extends IntrusiveEdge
         return unmodifiableEdgeSet;
     }
 
+    /**
+     * Prepare for the addition of a large number of edges by presizing the edge map.
+     * 
+     * @param expectedEdgeCount the expected total number of edges
+     */
+    public void ensureCapacity(int expectedEdgeCount)
+    {
+        CollectionUtil.ensureCapacity(edgeMap, expectedEdgeCount);
+    }
+
     /**
      * Remove an edge.
      * 
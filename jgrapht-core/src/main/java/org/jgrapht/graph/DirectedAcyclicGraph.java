@@ -288,6 +288,34 @@ public class DirectedAcyclicGraph<V, E>
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The edges are added one at a time using {@link #addEdge(Object, Object, Object)}, in order to
+     * maintain the topological order. Therefore only the endpoints are validated for the whole
+     * batch in advance. If an edge would induce a cycle, the edges before it remain in the graph.
+     *
+     * @throws IllegalArgumentException if an edge would induce a cycle in the graph
+     */
+    @Override
+    public int addEdges(
+        List<? extends V> sources, List<? extends V> targets, List<? extends E> edges)
+    {
+        assertEdgeBatch(sources, targets, edges);
+        ensureCapacity(0, edgeSet().size() + edges.size());
+
+        int added = 0;
+        Iterator<? extends V> sourceIt = sources.iterator();
+        Iterator<? extends V> targetIt = targets.iterator();
+        for (E e : edges) {
+            if (addEdge(sourceIt.next(), targetIt.next(), e)) {
+                added++;
+            }
+        }
+        return added;
+    }
+
     /**
      * Get the ancestors of a vertex.
      *
@@ -25,6 +25,7 @@ import org.jgrapht.graph.specifics.Specifics;
  * 
  * @see FastLookupGraphSpecificsStrategy
  * @see DefaultGraphSpecificsStrategy
+ * @see HybridLookupGraphSpecificsStrategy
  */
 public interface GraphSpecificsStrategy<V, E> extends Serializable
 {
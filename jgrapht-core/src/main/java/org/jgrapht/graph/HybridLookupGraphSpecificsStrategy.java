@@ -0,0 +1,142 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph;
+
+import java.io.Serializable;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.jgrapht.Graph;
+import org.jgrapht.GraphType;
+import org.jgrapht.graph.specifics.DirectedEdgeContainer;
+import org.jgrapht.graph.specifics.HybridLookupDirectedSpecifics;
+import org.jgrapht.graph.specifics.HybridLookupUndirectedSpecifics;
+import org.jgrapht.graph.specifics.Specifics;
+import org.jgrapht.graph.specifics.UndirectedEdgeContainer;
+
+/**
+ * The hybrid lookup specifics strategy implementation.
+ * 
+ * <p>
+ * Graphs constructed using this strategy keep the edges of each vertex in a compact array as long
+ * as the degree of the vertex is at most a threshold, and index them by their opposite endpoint
+ * when the degree grows larger. Methods which depend on edge retrievals, e.g. getEdge(V u, V v),
+ * containsEdge(V u, V v), addEdge(V u, V v), are therefore fast even when the graph contains a few
+ * vertices of very high degree, as in power-law graphs. Contrary to the
+ * {@link FastLookupGraphSpecificsStrategy} no global index over all vertex pairs is maintained, so
+ * the memory consumption of low degree vertices is the same as in the
+ * {@link DefaultGraphSpecificsStrategy}. Note that the edges of a high degree vertex are iterated
+ * grouped by their opposite endpoint.
+ * 
+ * @author agent
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ */
+public class HybridLookupGraphSpecificsStrategy<V, E>
+    implements
+    GraphSpecificsStrategy<V, E>
+{
+    private static final long serialVersionUID = 7624118513416458239L;
+
+    /**
+     * Default maximum degree for which the edges of a vertex are kept in an array.
+     */
+    public static final int DEFAULT_THRESHOLD = 8;
+
+    private final int threshold;
+
+    /**
+     * Construct a new strategy using the default threshold.
+     */
+    public HybridLookupGraphSpecificsStrategy()
+    {
+        this(DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Construct a new strategy.
+     * 
+     * @param threshold the maximum degree for which the edges of a vertex are kept in an array
+     * @throws IllegalArgumentException if the threshold is not positive
+     */
+    public HybridLookupGraphSpecificsStrategy(int threshold)
+    {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive");
+        }
+        this.threshold = threshold;
+    }
+
+    /**
+     * Get the maximum degree for which the edges of a vertex are kept in an array.
+     * 
+     * @return the threshold
+     */
+    public int getThreshold()
+    {
+        return threshold;
+    }
+
+    /**
+     * Get a function which creates the intrusive edges specifics. The factory will accept the graph
+     * type as a parameter.
+     * 
+     * @return a function which creates intrusive edges specifics.
+     */
+    @Override
+    public Function<GraphType, IntrusiveEdgesSpecifics<V, E>> getIntrusiveEdgesSpecificsFactory()
+    {
+        return (Function<GraphType, IntrusiveEdgesSpecifics<V, E>> & Serializable) (type) -> {
+            if (type.isWeighted()) {
+                return new WeightedIntrusiveEdgesSpecifics<V, E>(
+                    this.<E, IntrusiveWeightedEdge> getPredictableOrderMapFactory().get());
+            } else {
+                return new UniformIntrusiveEdgesSpecifics<>(
+                    this.<E, IntrusiveEdge> getPredictableOrderMapFactory().get());
+            }
+        };
+    }
+
+    /**
+     * Get a function which creates the specifics. The factory will accept the graph type as a
+     * parameter.
+     * 
+     * @return a function which creates intrusive edges specifics.
+     */
+    @Override
+    public BiFunction<Graph<V, E>, GraphType, Specifics<V, E>> getSpecificsFactory()
+    {
+        return (BiFunction<Graph<V, E>, GraphType,
+            Specifics<V, E>> & Serializable) (graph, type) -> {
+                if (type.isDirected()) {
+                    return new HybridLookupDirectedSpecifics<>(
+                        graph,
+                        this.<V, DirectedEdgeContainer<V, E>> getPredictableOrderMapFactory().get(),
+                        threshold);
+                } else {
+                    return new HybridLookupUndirectedSpecifics<>(
+                        graph, this
+                            .<V, UndirectedEdgeContainer<V, E>> getPredictableOrderMapFactory()
+                            .get(),
+                        threshold);
+                }
+            };
+    }
+
+}
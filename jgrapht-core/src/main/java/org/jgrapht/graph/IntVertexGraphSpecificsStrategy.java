@@ -0,0 +1,87 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph;
+
+import java.io.Serializable;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.jgrapht.Graph;
+import org.jgrapht.GraphType;
+import org.jgrapht.graph.specifics.DirectedSpecifics;
+import org.jgrapht.graph.specifics.Specifics;
+import org.jgrapht.graph.specifics.UndirectedSpecifics;
+import org.jgrapht.util.IntArrayMap;
+
+/**
+ * A specifics strategy implementation for graphs whose vertices are dense non-negative integers.
+ * 
+ * <p>
+ * Graphs constructed using this strategy store the vertex edge containers in a growable array
+ * indexed by the vertex, see {@link IntArrayMap}, and the endpoints and weights of the edges in
+ * parallel primitive arrays, see {@link IntVertexIntrusiveEdgesSpecifics}. Vertex lookups thus
+ * require no hashing and memory consumption is significantly lower compared to the other
+ * strategies. Memory is proportional to the largest vertex, and therefore this strategy is only
+ * suitable when the vertices are (almost) the integers <code>0, 1, ..., n-1</code>. Vertices are
+ * iterated in increasing order.
+ * 
+ * @author agent
+ *
+ * @param <E> the graph edge type
+ */
+public class IntVertexGraphSpecificsStrategy<E>
+    implements
+    GraphSpecificsStrategy<Integer, E>
+{
+    private static final long serialVersionUID = -2906413813406452573L;
+
+    /**
+     * Get a function which creates the intrusive edges specifics. The factory will accept the graph
+     * type as a parameter.
+     * 
+     * @return a function which creates intrusive edges specifics.
+     */
+    @Override
+    public Function<GraphType,
+        IntrusiveEdgesSpecifics<Integer, E>> getIntrusiveEdgesSpecificsFactory()
+    {
+        return (Function<GraphType, IntrusiveEdgesSpecifics<Integer, E>> & Serializable) (
+            type) -> new IntVertexIntrusiveEdgesSpecifics<>(type.isWeighted());
+    }
+
+    /**
+     * Get a function which creates the specifics. The factory will accept the graph type as a
+     * parameter.
+     * 
+     * @return a function which creates intrusive edges specifics.
+     */
+    @Override
+    public BiFunction<Graph<Integer, E>, GraphType, Specifics<Integer, E>> getSpecificsFactory()
+    {
+        return (BiFunction<Graph<Integer, E>, GraphType,
+            Specifics<Integer, E>> & Serializable) (graph, type) -> {
+                if (type.isDirected()) {
+                    return new DirectedSpecifics<>(graph, new IntArrayMap<>(), getEdgeSetFactory());
+                } else {
+                    return new UndirectedSpecifics<>(
+                        graph, new IntArrayMap<>(), getEdgeSetFactory());
+                }
+            };
+    }
+
+}
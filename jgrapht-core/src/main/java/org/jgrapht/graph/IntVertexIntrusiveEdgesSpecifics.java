@@ -0,0 +1,334 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * An intrusive edges specifics implementation for graphs whose vertices are integers.
+ * 
+ * <p>
+ * Each edge is assigned a slot and the source, the target and (optionally) the weight of the edge
+ * are stored in parallel primitive arrays indexed by the slot. Edges are located using an open
+ * addressing hash table which maps an edge to its slot, without allocating any per-edge entry or
+ * intrusive edge objects. When an edge is removed, the edge in the last slot is moved to the freed
+ * slot, keeping the arrays compact. The edge set iterates in slot order which is deterministic, but
+ * after removals differs from the insertion order.
+ * 
+ * <p>
+ * Since the endpoints are not stored inside the edge objects, edges which extend
+ * {@link DefaultEdge} do not know their endpoints. Use {@link Graph#getEdgeSource(Object)} and
+ * {@link Graph#getEdgeTarget(Object)} instead.
+ *
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class IntVertexIntrusiveEdgesSpecifics<E>
+    implements
+    IntrusiveEdgesSpecifics<Integer, E>
+{
+    private static final long serialVersionUID = -3473012945735232458L;
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int EMPTY = 0;
+
+    private Object[] edges;
+    private int[] sources;
+    private int[] targets;
+    private double[] weights;
+    private int size;
+
+    /**
+     * Open addressing table with linear probing. Each position contains one plus the slot of an
+     * edge or {@link #EMPTY}. The table is rebuilt after deserialization since edge hash codes
+     * might change.
+     */
+    private transient int[] table;
+
+    private transient Set<E> unmodifiableEdgeSet = null;
+
+    /**
+     * Constructor
+     * 
+     * @param weighted whether the edges are weighted
+     */
+    public IntVertexIntrusiveEdgesSpecifics(boolean weighted)
+    {
+        this.edges = new Object[DEFAULT_CAPACITY];
+        this.sources = new int[DEFAULT_CAPACITY];
+        this.targets = new int[DEFAULT_CAPACITY];
+        this.weights = weighted ? new double[DEFAULT_CAPACITY] : null;
+        this.size = 0;
+        this.table = new int[2 * DEFAULT_CAPACITY];
+    }
+
+    private void readObject(ObjectInputStream in)
+        throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+        rebuildTable();
+    }
+
+    @Override
+    public Integer getEdgeSource(E e)
+    {
+        return sources[assertEdgeExist(e)];
+    }
+
+    @Override
+    public Integer getEdgeTarget(E e)
+    {
+        return targets[assertEdgeExist(e)];
+    }
+
+    @Override
+    public boolean add(E e, Integer sourceVertex, Integer targetVertex)
+    {
+        if (slotOf(e) != -1) {
+            return false;
+        }
+        if (size == edges.length) {
+            grow(edges.length + (edges.length >> 1) + 1);
+        }
+        int slot = size++;
+        edges[slot] = e;
+        sources[slot] = sourceVertex;
+        targets[slot] = targetVertex;
+        if (weights != null) {
+            weights[slot] = Graph.DEFAULT_EDGE_WEIGHT;
+        }
+        insert(slot);
+        return true;
+    }
+
+    @Override
+    public void ensureCapacity(int expectedEdgeCount)
+    {
+        if (expectedEdgeCount > edges.length) {
+            grow(expectedEdgeCount);
+        }
+    }
+
+    @Override
+    public boolean containsEdge(E e)
+    {
+        return slotOf(e) != -1;
+    }
+
+    @Override
+    public Set<E> getEdgeSet()
+    {
+        if (unmodifiableEdgeSet == null) {
+            unmodifiableEdgeSet = new EdgeSet();
+        }
+        return unmodifiableEdgeSet;
+    }
+
+    @Override
+    public void remove(E e)
+    {
+        int pos = positionOf(e);
+        if (pos == -1) {
+            return;
+        }
+        int slot = table[pos] - 1;
+        delete(pos);
+
+        int last = --size;
+        if (slot != last) {
+            // move the last edge into the freed slot
+            table[positionOfSlot(last)] = slot + 1;
+            edges[slot] = edges[last];
+            sources[slot] = sources[last];
+            targets[slot] = targets[last];
+            if (weights != null) {
+                weights[slot] = weights[last];
+            }
+        }
+        edges[last] = null;
+    }
+
+    @Override
+    public double getEdgeWeight(E e)
+    {
+        int slot = assertEdgeExist(e);
+        return weights == null ? Graph.DEFAULT_EDGE_WEIGHT : weights[slot];
+    }
+
+    @Override
+    public void setEdgeWeight(E e, double weight)
+    {
+        if (weights == null) {
+            throw new UnsupportedOperationException();
+        }
+        weights[assertEdgeExist(e)] = weight;
+    }
+
+    private int assertEdgeExist(E e)
+    {
+        int slot = slotOf(e);
+        if (slot == -1) {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+        return slot;
+    }
+
+    private int slotOf(Object e)
+    {
+        int pos = positionOf(e);
+        return pos == -1 ? -1 : table[pos] - 1;
+    }
+
+    /**
+     * Find the position of an edge in the table.
+     */
+    private int positionOf(Object e)
+    {
+        if (e == null) {
+            return -1;
+        }
+        int mask = table.length - 1;
+        for (int pos = hash(e) & mask;; pos = (pos + 1) & mask) {
+            int entry = table[pos];
+            if (entry == EMPTY) {
+                return -1;
+            }
+            if (e.equals(edges[entry - 1])) {
+                return pos;
+            }
+        }
+    }
+
+    /**
+     * Find the position in the table which points to a given slot.
+     */
+    private int positionOfSlot(int slot)
+    {
+        int mask = table.length - 1;
+        int pos = hash(edges[slot]) & mask;
+        while (table[pos] != slot + 1) {
+            pos = (pos + 1) & mask;
+        }
+        return pos;
+    }
+
+    private void insert(int slot)
+    {
+        int mask = table.length - 1;
+        int pos = hash(edges[slot]) & mask;
+        while (table[pos] != EMPTY) {
+            pos = (pos + 1) & mask;
+        }
+        table[pos] = slot + 1;
+    }
+
+    /**
+     * Delete a position from the table, shifting back later entries of the same probe sequence.
+     */
+    private void delete(int pos)
+    {
+        int mask = table.length - 1;
+        int hole = pos;
+        table[hole] = EMPTY;
+        for (int cur = (hole + 1) & mask; table[cur] != EMPTY; cur = (cur + 1) & mask) {
+            int home = hash(edges[table[cur] - 1]) & mask;
+            // move the entry if its home position is not cyclically in (hole, cur]
+            if (((cur - home) & mask) >= ((cur - hole) & mask)) {
+                table[hole] = table[cur];
+                table[cur] = EMPTY;
+                hole = cur;
+            }
+        }
+    }
+
+    private void grow(int capacity)
+    {
+        edges = Arrays.copyOf(edges, capacity);
+        sources = Arrays.copyOf(sources, capacity);
+        targets = Arrays.copyOf(targets, capacity);
+        if (weights != null) {
+            weights = Arrays.copyOf(weights, capacity);
+        }
+        if (2 * capacity > table.length) {
+            rebuildTable();
+        }
+    }
+
+    private void rebuildTable()
+    {
+        table = new int[Integer.highestOneBit(2 * edges.length - 1) << 1];
+        for (int slot = 0; slot < size; slot++) {
+            insert(slot);
+        }
+    }
+
+    private static int hash(Object e)
+    {
+        int h = e.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Unmodifiable view of the edges in slot order.
+     */
+    private class EdgeSet
+        extends
+        AbstractSet<E>
+    {
+        @Override
+        public Iterator<E> iterator()
+        {
+            return new Iterator<E>()
+            {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return next < size;
+                }
+
+                @Override
+                public E next()
+                {
+                    if (next >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    return TypeUtil.uncheckedCast(edges[next++]);
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return slotOf(o) != -1;
+        }
+    }
+}
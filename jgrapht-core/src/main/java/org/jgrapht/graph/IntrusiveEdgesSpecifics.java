@@ -62,6 +62,16 @@ public interface IntrusiveEdgesSpecifics<V, E>
      */
     boolean add(E e, V sourceVertex, V targetVertex);
 
+    /**
+     * Prepare for the addition of a large number of edges, e.g. by presizing internal hash tables.
+     * The default implementation does nothing.
+     * 
+     * @param expectedEdgeCount the expected total number of edges
+     */
+    default void ensureCapacity(int expectedEdgeCount)
+    {
+    }
+
     /**
      * Check if an edge exists
      * 
@@ -20,6 +20,8 @@ package org.jgrapht.graph.builder;
 import org.jgrapht.*;
 import org.jgrapht.graph.*;
 
+import java.util.*;
+
 /**
  * Base class for builders of {@link Graph}
  *
@@ -142,6 +144,60 @@ public abstract class AbstractGraphBuilder<V, E, G extends Graph<V, E>,
         return this.self();
     }
 
+    /**
+     * Hints the expected final size of the graph being built. If the graph is an
+     * {@link AbstractBaseGraph}, its internal hash tables are presized accordingly, otherwise the
+     * hint is ignored.
+     *
+     * @param expectedVertexCount the expected total number of vertices
+     * @param expectedEdgeCount the expected total number of edges
+     * @return this builder object
+     *
+     * @see AbstractBaseGraph#ensureCapacity(int, int)
+     */
+    public B ensureCapacity(int expectedVertexCount, int expectedEdgeCount)
+    {
+        if (this.graph instanceof AbstractBaseGraph) {
+            ((AbstractBaseGraph<V, E>) this.graph)
+                .ensureCapacity(expectedVertexCount, expectedEdgeCount);
+        }
+        return this.self();
+    }
+
+    /**
+     * Adds a batch of edges to the graph being built. The i-th edge is {@code edges.get(i)} and
+     * connects {@code sources.get(i)} to {@code targets.get(i)}. The source and target vertices
+     * are added to the graph, if not already included. If the graph is an
+     * {@link AbstractBaseGraph} the edges are added in bulk.
+     *
+     * @param sources the source vertices of the edges
+     * @param targets the target vertices of the edges
+     * @param edges the edges
+     * @return this builder object
+     *
+     * @see AbstractBaseGraph#addEdges(List, List, List)
+     */
+    public B addEdges(
+        List<? extends V> sources, List<? extends V> targets, List<? extends E> edges)
+    {
+        if (sources.size() != edges.size() || targets.size() != edges.size()) {
+            throw new IllegalArgumentException(
+                "Source, target and edge lists must have the same size");
+        }
+        sources.forEach(this.graph::addVertex);
+        targets.forEach(this.graph::addVertex);
+        if (this.graph instanceof AbstractBaseGraph) {
+            ((AbstractBaseGraph<V, E>) this.graph).addEdges(sources, targets, edges);
+        } else {
+            Iterator<? extends V> sourceIt = sources.iterator();
+            Iterator<? extends V> targetIt = targets.iterator();
+            for (E edge : edges) {
+                this.graph.addEdge(sourceIt.next(), targetIt.next(), edge);
+            }
+        }
+        return this.self();
+    }
+
     /**
      * Adds all the vertices and all the edges of the {@code sourceGraph} to the graph being built.
      *
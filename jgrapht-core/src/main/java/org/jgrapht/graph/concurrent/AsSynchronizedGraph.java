@@ -101,6 +101,22 @@ import java.util.stream.*;
  * </p>
  *
  * <p>
+ * For read-mostly workloads an <em>optimistic read mode</em> is supported. When enabled, the point
+ * queries {@link #containsVertex(Object)}, {@link #containsEdge(Object)},
+ * {@link #containsEdge(Object, Object)}, {@link #getEdge(Object, Object)} and
+ * {@link #degreeOf(Object)} are first executed without acquiring the read lock, using an
+ * optimistic read stamp of a {@link StampedLock} which all writers additionally acquire. If a write
+ * happened concurrently the stamp fails validation and the query is repeated while holding the read
+ * lock. Note that the optimistic attempt reads the backing graph while a writer may be modifying
+ * it. Its result, or any exception it throws, is only used if the stamp is still valid. These
+ * queries of the backing graph must therefore not modify its state, which holds for the graphs
+ * extending {@link org.jgrapht.graph.AbstractBaseGraph}. Optimistic reads avoid the writes to a
+ * shared cache line which the acquisition of a read lock entails, and thus scale better with the
+ * number of reader threads. The mode is disabled by default since it makes writes slightly more
+ * expensive.
+ * </p>
+ *
+ * <p>
  * The created Graph's hashCode is equal to the backing set's hashCode. And the created Graph is
  * equal to another Graph if they are the same Graph or the backing Graph is equal to the other
  * Graph.
@@ -123,6 +139,9 @@ public class AsSynchronizedGraph<V, E>
 
     private final ReentrantReadWriteLock readWriteLock;
 
+    // Acquired by writers in addition to the write lock if optimistic reads are enabled.
+    private final StampedLock stampedLock;
+
     // A set encapsulating backing vertexSet.
     private transient CopyOnDemandSet<V> allVerticesSet;
 
@@ -139,7 +158,7 @@ public class AsSynchronizedGraph<V, E>
      */
     public AsSynchronizedGraph(Graph<V, E> g)
     {
-        this(g, false, false, false);
+        this(g, false, false, false, false);
     }
 
     /**
@@ -149,11 +168,15 @@ public class AsSynchronizedGraph<V, E>
      * @param cacheEnable a flag describing whether a cache will be used
      * @param fair a flag describing whether fair mode will be used
      * @param copyless a flag describing whether copyless mode will be used
+     * @param optimisticReads a flag describing whether optimistic read mode will be used
      */
-    private AsSynchronizedGraph(Graph<V, E> g, boolean cacheEnable, boolean fair, boolean copyless)
+    private AsSynchronizedGraph(
+        Graph<V, E> g, boolean cacheEnable, boolean fair, boolean copyless,
+        boolean optimisticReads)
     {
         super(g);
         readWriteLock = new ReentrantReadWriteLock(fair);
+        stampedLock = optimisticReads ? new StampedLock() : null;
         if (copyless) {
             cacheStrategy = new NoCopy();
         } else if (cacheEnable) {
@@ -165,6 +188,16 @@ public class AsSynchronizedGraph<V, E>
         allVerticesSet = new CopyOnDemandSet<>(super.vertexSet(), readWriteLock, copyless);
     }
 
+    private void readObject(ObjectInputStream in)
+        throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+        // the encapsulating sets are transient, recreate them on the deserialized backing graph
+        boolean copyless = cacheStrategy instanceof AsSynchronizedGraph<?, ?>.NoCopy;
+        allEdgesSet = new CopyOnDemandSet<>(super.edgeSet(), readWriteLock, copyless);
+        allVerticesSet = new CopyOnDemandSet<>(super.vertexSet(), readWriteLock, copyless);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -185,13 +218,7 @@ public class AsSynchronizedGraph<V, E>
     @Override
     public E getEdge(V sourceVertex, V targetVertex)
     {
-        readWriteLock.readLock().lock();
-        try {
-            return super.getEdge(sourceVertex, targetVertex);
-        } finally {
-            readWriteLock.readLock().unlock();
-        }
-
+        return optimisticRead(() -> super.getEdge(sourceVertex, targetVertex));
     }
 
     /**
@@ -200,14 +227,14 @@ public class AsSynchronizedGraph<V, E>
     @Override
     public E addEdge(V sourceVertex, V targetVertex)
     {
-        readWriteLock.writeLock().lock();
+        long stamp = lockWrite();
         try {
             E e = cacheStrategy.addEdge(sourceVertex, targetVertex);
             if (e != null)
                 edgeSetModified();
             return e;
         } finally {
-            readWriteLock.writeLock().unlock();
+            unlockWrite(stamp);
         }
     }
 
@@ -217,7 +244,7 @@ public class AsSynchronizedGraph<V, E>
     @Override
     public boolean addEdge(V sourceVertex, V targetVertex, E e)
     {
-        readWriteLock.writeLock().lock();
+        long stamp = lockWrite();
         try {
             if (cacheStrategy.addEdge(sourceVertex, targetVertex, e)) {
                 edgeSetModified();
@@ -225,7 +252,7 @@ public class AsSynchronizedGraph<V, E>
             }
             return false;
         } finally {
-            readWriteLock.writeLock().unlock();
+            unlockWrite(stamp);
         }
     }
 
@@ -235,7 +262,7 @@ public class AsSynchronizedGraph<V, E>
     @Override
     public boolean addVertex(V v)
     {
-        readWriteLock.writeLock().lock();
+        long stamp = lockWrite();
         try {
             if (super.addVertex(v)) {
                 vertexSetModified();
@@ -243,7 +270,7 @@ public class AsSynchronizedGraph<V, E>
             }
             return false;
         } finally {
-            readWriteLock.writeLock().unlock();
+            unlockWrite(stamp);
         }
     }
 
@@ -253,12 +280,7 @@ public class AsSynchronizedGraph<V, E>
     @Override
     public boolean containsEdge(V sourceVertex, V targetVertex)
     {
-        readWriteLock.readLock().lock();
-        try {
-            return super.containsEdge(sourceVertex, targetVertex);
-        } finally {
-            readWriteLock.readLock().unlock();
-        }
+        return optimisticRead(() -> super.containsEdge(sourceVertex, targetVertex));
     }
 
     /**
@@ -267,12 +289,7 @@ public class AsSynchronizedGraph<V, E>
     @Override
     public boolean containsEdge(E e)
     {
-        readWriteLock.readLock().lock();
-        try {
-            return super.containsEdge(e);
-        } finally {
-            readWriteLock.readLock().unlock();
-        }
+        return optimisticRead(() -> super.containsEdge(e));
     }
 
     /**
@@ -281,12 +298,7 @@ public class AsSynchronizedGraph<V, E>
     @Override
     public boolean containsVertex(V v)
     {
-        readWriteLock.readLock().lock();
-        try {
-            return super.containsVertex(v);
-        } finally {
-            readWriteLock.readLock().unlock();
-        }
+        return optimisticRead(() -> super.containsVertex(v));
     }
 
     /**
@@ -295,12 +307,7 @@ public class AsSynchronizedGraph<V, E>
     @Override
     public int degreeOf(V vertex)
     {
-        readWriteLock.readLock().lock();
-        try {
-            return super.degreeOf(vertex);
-        } finally {
-            readWriteLock.readLock().unlock();
-        }
+        return optimisticRead(() -> super.degreeOf(vertex));
     }
 
     /**
@@ -388,11 +395,11 @@ public class AsSynchronizedGraph<V, E>
     @Override
     public boolean removeAllEdges(Collection<? extends E> edges)
     {
-        readWriteLock.writeLock().lock();
+        long stamp = lockWrite();
         try {
             return super.removeAllEdges(edges);
         } finally {
-            readWriteLock.writeLock().unlock();
+            unlockWrite(stamp);
         }
     }
 
@@ -402,11 +409,11 @@ public class AsSynchronizedGraph<V, E>
     @Override
     public Set<E> removeAllEdges(V sourceVertex, V targetVertex)
     {
-        readWriteLock.writeLock().lock();
+        long stamp = lockWrite();
         try {
             return super.removeAllEdges(sourceVertex, targetVertex);
         } finally {
-            readWriteLock.writeLock().unlock();
+            unlockWrite(stamp);
         }
     }
 
@@ -416,11 +423,11 @@ public class AsSynchronizedGraph<V, E>
     @Override
     public boolean removeAllVertices(Collection<? extends V> vertices)
     {
-        readWriteLock.writeLock().lock();
+        long stamp = lockWrite();
         try {
             return super.removeAllVertices(vertices);
         } finally {
-            readWriteLock.writeLock().unlock();
+            unlockWrite(stamp);
         }
     }
 
@@ -430,7 +437,7 @@ public class AsSynchronizedGraph<V, E>
     @Override
     public boolean removeEdge(E e)
     {
-        readWriteLock.writeLock().lock();
+        long stamp = lockWrite();
         try {
             if (cacheStrategy.removeEdge(e)) {
                 edgeSetModified();
@@ -438,7 +445,7 @@ public class AsSynchronizedGraph<V, E>
             }
             return false;
         } finally {
-            readWriteLock.writeLock().unlock();
+            unlockWrite(stamp);
         }
     }
 
@@ -448,14 +455,14 @@ public class AsSynchronizedGraph<V, E>
     @Override
     public E removeEdge(V sourceVertex, V targetVertex)
     {
-        readWriteLock.writeLock().lock();
+        long stamp = lockWrite();
         try {
             E e = cacheStrategy.removeEdge(sourceVertex, targetVertex);
             if (e != null)
                 edgeSetModified();
             return e;
         } finally {
-            readWriteLock.writeLock().unlock();
+            unlockWrite(stamp);
         }
     }
 
@@ -465,7 +472,7 @@ public class AsSynchronizedGraph<V, E>
     @Override
     public boolean removeVertex(V v)
     {
-        readWriteLock.writeLock().lock();
+        long stamp = lockWrite();
         try {
             if (cacheStrategy.removeVertex(v)) {
                 edgeSetModified();
@@ -474,7 +481,7 @@ public class AsSynchronizedGraph<V, E>
             }
             return false;
         } finally {
-            readWriteLock.writeLock().unlock();
+            unlockWrite(stamp);
         }
     }
 
@@ -549,11 +556,11 @@ public class AsSynchronizedGraph<V, E>
     @Override
     public void setEdgeWeight(E e, double weight)
     {
-        readWriteLock.writeLock().lock();
+        long stamp = lockWrite();
         try {
             super.setEdgeWeight(e, weight);
         } finally {
-            readWriteLock.writeLock().unlock();
+            unlockWrite(stamp);
         }
     }
 
@@ -593,7 +600,7 @@ public class AsSynchronizedGraph<V, E>
      */
     public AsSynchronizedGraph<V, E> setCache(boolean cacheEnabled)
     {
-        readWriteLock.writeLock().lock();
+        long stamp = lockWrite();
         try {
             if (cacheEnabled == isCacheEnabled())
                 return this;
@@ -603,7 +610,7 @@ public class AsSynchronizedGraph<V, E>
                 cacheStrategy = new NoCache();
             return this;
         } finally {
-            readWriteLock.writeLock().unlock();
+            unlockWrite(stamp);
         }
     }
 
@@ -665,6 +672,96 @@ public class AsSynchronizedGraph<V, E>
         allEdgesSet.modified();
     }
 
+    /**
+     * Return whether optimistic read mode is used for point queries.
+     * 
+     * @return <tt>true</tt> if the graph uses optimistic read mode, <tt>false</tt> otherwise
+     */
+    public boolean isOptimisticReads()
+    {
+        return stampedLock != null;
+    }
+
+    /**
+     * Execute a point query while holding the read lock or, if optimistic reads are enabled, first
+     * without acquiring it.
+     * 
+     * <p>
+     * The query must not modify the backing graph, not even its internal state. A modification
+     * performed by the optimistic attempt concurrently with a writer may corrupt the backing graph,
+     * and is not undone when the stamp fails validation.
+     * 
+     * <p>
+     * The optimistic attempt traverses the data structures of the backing graph, usually hash maps
+     * and edge sets, while a writer may be modifying them. This is only safe because the result is
+     * returned only if the stamp is still valid afterwards, that is, if no write happened in the
+     * meantime. A traversal racing with a writer may also observe a torn state, for example a
+     * missing edge container or an edge set whose size and contents disagree, and fail with one of
+     * the exceptions caught below. The exception is discarded unless the stamp is still valid. In
+     * all other cases the query is repeated while holding the read lock.
+     *
+     * @param query the query
+     * @param <T> the result type
+     * @return the result of the query
+     */
+    private <T> T optimisticRead(Supplier<T> query)
+    {
+        if (stampedLock != null) {
+            long stamp = stampedLock.tryOptimisticRead();
+            if (stamp != 0L) {
+                try {
+                    T result = query.get();
+                    if (stampedLock.validate(stamp)) {
+                        return result;
+                    }
+                } catch (NullPointerException | ClassCastException | IndexOutOfBoundsException
+                    | NoSuchElementException | ConcurrentModificationException
+                    | IllegalArgumentException ex)
+                {
+                    // inconsistent state observed, unless the stamp is still valid
+                    if (stampedLock.validate(stamp)) {
+                        throw ex;
+                    }
+                }
+            }
+        }
+        readWriteLock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            readWriteLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Acquire the write lock and, if optimistic reads are enabled and this is not a nested write,
+     * the write lock of the stamped lock.
+     *
+     * @return the stamp to pass to {@link #unlockWrite(long)}
+     */
+    private long lockWrite()
+    {
+        readWriteLock.writeLock().lock();
+        // holding the write lock, only the current thread can hold the stamped write lock
+        if (stampedLock != null && !stampedLock.isWriteLocked()) {
+            return stampedLock.writeLock();
+        }
+        return 0L;
+    }
+
+    /**
+     * Release the locks acquired by {@link #lockWrite()}.
+     *
+     * @param stamp the stamp returned by {@link #lockWrite()}
+     */
+    private void unlockWrite(long stamp)
+    {
+        if (stamp != 0L) {
+            stampedLock.unlockWrite(stamp);
+        }
+        readWriteLock.writeLock().unlock();
+    }
+
     /**
      * Return whether fair mode is used for synchronizing access to this graph.
      * 
@@ -680,7 +777,10 @@ public class AsSynchronizedGraph<V, E>
      * calling applications to explicitly synchronize compound sequences of graph accessses. The
      * lock is reentrant, so the locks acquired internally by AsSynchronizedGraph will not interfere
      * with the caller's acquired lock. However, write methods <strong>MUST NOT</strong> be called
-     * while holding a read lock, otherwise a deadlock will occur.
+     * while holding a read lock, otherwise a deadlock will occur. Note that in optimistic read mode
+     * the point queries listed in the class documentation do not acquire the read lock, thus
+     * holding the write lock does not make a sequence of modifications atomic with respect to
+     * them.
      *
      * @return the reentrant read/write lock used to synchronize all access to this graph
      */
@@ -1420,15 +1520,18 @@ public class AsSynchronizedGraph<V, E>
         private boolean cacheEnable;
         private boolean fair;
         private boolean copyless;
+        private boolean optimisticReads;
 
         /**
-         * Construct a new Builder with non-fair mode, cache disabled, and copyless mode disabled.
+         * Construct a new Builder with non-fair mode, cache disabled, copyless mode disabled and
+         * optimistic read mode disabled.
          */
         public Builder()
         {
             cacheEnable = false;
             fair = false;
             copyless = false;
+            optimisticReads = false;
         }
 
         /**
@@ -1441,6 +1544,7 @@ public class AsSynchronizedGraph<V, E>
             this.cacheEnable = graph.isCacheEnabled();
             this.fair = graph.isFair();
             this.copyless = graph.isCopyless();
+            this.optimisticReads = graph.isOptimisticReads();
         }
 
         /**
@@ -1507,6 +1611,38 @@ public class AsSynchronizedGraph<V, E>
             return copyless;
         }
 
+        /**
+         * Request a synchronized graph which uses optimistic reads for point queries.
+         *
+         * @return the Builder
+         */
+        public Builder<V, E> setOptimisticReads()
+        {
+            optimisticReads = true;
+            return this;
+        }
+
+        /**
+         * Request a synchronized graph which always acquires the read lock for point queries.
+         *
+         * @return the Builder
+         */
+        public Builder<V, E> clearOptimisticReads()
+        {
+            optimisticReads = false;
+            return this;
+        }
+
+        /**
+         * Return whether optimistic read mode will be used for the synchronized graph being built.
+         *
+         * @return <tt>true</tt> if constructed with optimistic reads, <tt>false</tt> otherwise
+         */
+        public boolean isOptimisticReads()
+        {
+            return optimisticReads;
+        }
+
         /**
          * Request a synchronized graph with fair mode.
          *
@@ -1547,7 +1683,7 @@ public class AsSynchronizedGraph<V, E>
          */
         public AsSynchronizedGraph<V, E> build(Graph<V, E> graph)
         {
-            return new AsSynchronizedGraph<>(graph, cacheEnable, fair, copyless);
+            return new AsSynchronizedGraph<>(graph, cacheEnable, fair, copyless, optimisticReads);
         }
     }
 }
@@ -0,0 +1,663 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import java.util.function.*;
+
+/**
+ * A thread-safe graph implementation which allows concurrent modifications of different parts of
+ * the graph.
+ *
+ * <p>
+ * Contrary to {@link AsSynchronizedGraph}, which serializes all modifications through a single
+ * lock, this graph keeps its vertices and edges in concurrent hash maps and guards the adjacency of
+ * each vertex by one of a fixed number of lock stripes. Adding or removing an edge only acquires
+ * the stripes of its two endpoints, and thus modifications touching different vertices proceed in
+ * parallel. Adding a vertex does not acquire any lock. All query methods are lock-free.
+ *
+ * <p>
+ * The sets returned by {@link #vertexSet()}, {@link #edgeSet()}, {@link #incomingEdgesOf(Object)}
+ * and {@link #outgoingEdgesOf(Object)} are unmodifiable live views whose iterators are weakly
+ * consistent: they never throw {@link ConcurrentModificationException} and reflect the state of
+ * the graph at some point at or since the creation of the iterator. The result of
+ * {@link #edgesOf(Object)} for directed graphs and of {@link #getAllEdges(Object, Object)} are
+ * copies. Each single modification is atomic, in particular an edge is never visible in
+ * {@link #edgeSet()} while any of its endpoints is missing from {@link #vertexSet()}.
+ *
+ * <p>
+ * Similarly to {@link AsSynchronizedGraph}, callers should be aware that a vertex or edge obtained
+ * from the graph may be concurrently removed by another thread, in which case methods accessing it
+ * throw an {@link IllegalArgumentException}. Users also need to make sure that the vertex and edge
+ * suppliers are thread-safe.
+ *
+ * <p>
+ * Mixed graphs are not supported.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class ConcurrentGraph<V, E>
+    extends
+    AbstractGraph<V, E>
+    implements
+    Graph<V, E>,
+    Serializable
+{
+    private static final long serialVersionUID = -1803815282567961046L;
+
+    /**
+     * The default number of lock stripes.
+     */
+    public static final int DEFAULT_CONCURRENCY_LEVEL = 64;
+
+    private static final String LOOPS_NOT_ALLOWED = "loops not allowed";
+
+    private final GraphType type;
+    private final Supplier<V> vertexSupplier;
+    private final Supplier<E> edgeSupplier;
+    private final ConcurrentMap<V, VertexEntry<V, E>> vertexMap;
+    private final ConcurrentMap<E, EdgeEntry<V>> edgeMap;
+    private final ReentrantLock[] locks;
+
+    private transient Set<V> unmodifiableVertexSet;
+    private transient Set<E> unmodifiableEdgeSet;
+
+    /**
+     * Create a new graph without vertex and edge suppliers.
+     *
+     * @param type the graph type
+     * @throws IllegalArgumentException if the graph type is mixed
+     */
+    public ConcurrentGraph(GraphType type)
+    {
+        this(null, null, type, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Create a new graph.
+     *
+     * @param vertexSupplier the vertex supplier, can be null
+     * @param edgeSupplier the edge supplier, can be null
+     * @param type the graph type
+     * @throws IllegalArgumentException if the graph type is mixed
+     */
+    public ConcurrentGraph(Supplier<V> vertexSupplier, Supplier<E> edgeSupplier, GraphType type)
+    {
+        this(vertexSupplier, edgeSupplier, type, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Create a new graph.
+     *
+     * @param vertexSupplier the vertex supplier, can be null
+     * @param edgeSupplier the edge supplier, can be null
+     * @param type the graph type
+     * @param concurrencyLevel the number of lock stripes, rounded up to a power of two
+     * @throws IllegalArgumentException if the graph type is mixed or the concurrency level is not
+     *         positive
+     */
+    public ConcurrentGraph(
+        Supplier<V> vertexSupplier, Supplier<E> edgeSupplier, GraphType type, int concurrencyLevel)
+    {
+        this.type = Objects.requireNonNull(type);
+        if (type.isMixed()) {
+            throw new IllegalArgumentException("Mixed graph not supported");
+        }
+        if (concurrencyLevel <= 0 || concurrencyLevel > (1 << 16)) {
+            throw new IllegalArgumentException("Concurrency level must be in [1, 65536]");
+        }
+        this.vertexSupplier = vertexSupplier;
+        this.edgeSupplier = edgeSupplier;
+        this.vertexMap = new ConcurrentHashMap<>();
+        this.edgeMap = new ConcurrentHashMap<>();
+
+        int stripes = Integer.highestOneBit(concurrencyLevel);
+        if (stripes < concurrencyLevel) {
+            stripes <<= 1;
+        }
+        this.locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        VertexEntry<V, E> entry = vertexMap.get(sourceVertex);
+        if (entry == null || !vertexMap.containsKey(targetVertex)) {
+            return null;
+        }
+        ArrayUnenforcedSet<E> result = new ArrayUnenforcedSet<>();
+        for (Map.Entry<E, V> adjacent : entry.outgoing.entrySet()) {
+            if (adjacent.getValue().equals(targetVertex)) {
+                result.add(adjacent.getKey());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E getEdge(V sourceVertex, V targetVertex)
+    {
+        VertexEntry<V, E> entry = vertexMap.get(sourceVertex);
+        if (entry == null || !vertexMap.containsKey(targetVertex)) {
+            return null;
+        }
+        for (Map.Entry<E, V> adjacent : entry.outgoing.entrySet()) {
+            if (adjacent.getValue().equals(targetVertex)) {
+                return adjacent.getKey();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Supplier<V> getVertexSupplier()
+    {
+        return vertexSupplier;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Supplier<E> getEdgeSupplier()
+    {
+        return edgeSupplier;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E addEdge(V sourceVertex, V targetVertex)
+    {
+        if (edgeSupplier == null) {
+            throw new UnsupportedOperationException("The graph contains no edge supplier");
+        }
+        return doAddEdge(sourceVertex, targetVertex, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addEdge(V sourceVertex, V targetVertex, E e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        return doAddEdge(sourceVertex, targetVertex, e) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V addVertex()
+    {
+        if (vertexSupplier == null) {
+            throw new UnsupportedOperationException("The graph contains no vertex supplier");
+        }
+
+        V v = vertexSupplier.get();
+
+        if (addVertex(v)) {
+            return v;
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addVertex(V v)
+    {
+        if (v == null) {
+            throw new NullPointerException();
+        }
+        if (vertexMap.containsKey(v)) {
+            return false;
+        }
+        return vertexMap.putIfAbsent(v, new VertexEntry<>(type.isDirected())) == null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsEdge(E e)
+    {
+        return edgeMap.containsKey(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsVertex(V v)
+    {
+        return vertexMap.containsKey(v);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> edgeSet()
+    {
+        if (unmodifiableEdgeSet == null) {
+            unmodifiableEdgeSet = Collections.unmodifiableSet(edgeMap.keySet());
+        }
+        return unmodifiableEdgeSet;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int degreeOf(V vertex)
+    {
+        VertexEntry<V, E> entry = getVertexEntry(vertex);
+        if (type.isDirected()) {
+            return entry.incoming.size() + entry.outgoing.size();
+        } else {
+            // self-loops count twice
+            return entry.outgoing.size() + entry.selfLoops;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> edgesOf(V vertex)
+    {
+        VertexEntry<V, E> entry = getVertexEntry(vertex);
+        if (!type.isDirected()) {
+            return Collections.unmodifiableSet(entry.outgoing.keySet());
+        }
+        ArrayUnenforcedSet<E> inAndOut = new ArrayUnenforcedSet<>(entry.outgoing.keySet());
+        for (E e : entry.incoming.keySet()) {
+            // self-loops have already been added as outgoing edges
+            if (!entry.outgoing.containsKey(e)) {
+                inAndOut.add(e);
+            }
+        }
+        return Collections.unmodifiableSet(inAndOut);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int inDegreeOf(V vertex)
+    {
+        if (!type.isDirected()) {
+            return degreeOf(vertex);
+        }
+        return getVertexEntry(vertex).incoming.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> incomingEdgesOf(V vertex)
+    {
+        return Collections.unmodifiableSet(getVertexEntry(vertex).incoming.keySet());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int outDegreeOf(V vertex)
+    {
+        if (!type.isDirected()) {
+            return degreeOf(vertex);
+        }
+        return getVertexEntry(vertex).outgoing.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> outgoingEdgesOf(V vertex)
+    {
+        return Collections.unmodifiableSet(getVertexEntry(vertex).outgoing.keySet());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E removeEdge(V sourceVertex, V targetVertex)
+    {
+        while (true) {
+            E e = getEdge(sourceVertex, targetVertex);
+            if (e == null) {
+                return null;
+            }
+            if (removeEdge(e)) {
+                return e;
+            }
+            // removed concurrently, retry
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeEdge(E e)
+    {
+        EdgeEntry<V> edgeEntry = edgeMap.get(e);
+        if (edgeEntry == null) {
+            return false;
+        }
+        V source = edgeEntry.source;
+        V target = edgeEntry.target;
+        lock(source, target);
+        try {
+            if (!edgeMap.remove(e, edgeEntry)) {
+                return false;
+            }
+            // an existing edge implies that both endpoints exist
+            VertexEntry<V, E> sourceEntry = vertexMap.get(source);
+            VertexEntry<V, E> targetEntry = vertexMap.get(target);
+            sourceEntry.outgoing.remove(e);
+            targetEntry.incoming.remove(e);
+            if (!type.isDirected() && source.equals(target)) {
+                sourceEntry.selfLoops--;
+            }
+            return true;
+        } finally {
+            unlock(source, target);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeVertex(V v)
+    {
+        VertexEntry<V, E> entry = vertexMap.get(v);
+        if (entry == null) {
+            return false;
+        }
+        ReentrantLock lock = locks[stripe(v)];
+        while (true) {
+            for (E e : new ArrayList<>(entry.outgoing.keySet())) {
+                removeEdge(e);
+            }
+            for (E e : new ArrayList<>(entry.incoming.keySet())) {
+                removeEdge(e);
+            }
+            lock.lock();
+            try {
+                // edges may have been added concurrently
+                if (entry.outgoing.isEmpty() && entry.incoming.isEmpty()) {
+                    return vertexMap.remove(v, entry);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<V> vertexSet()
+    {
+        if (unmodifiableVertexSet == null) {
+            unmodifiableVertexSet = Collections.unmodifiableSet(vertexMap.keySet());
+        }
+        return unmodifiableVertexSet;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getEdgeSource(E e)
+    {
+        return getEdgeEntry(e).source;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getEdgeTarget(E e)
+    {
+        return getEdgeEntry(e).target;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphType getType()
+    {
+        return type;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getEdgeWeight(E e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        return getEdgeEntry(e).weight;
+    }
+
+    /**
+     * Set an edge weight.
+     * 
+     * @param e the edge
+     * @param weight the weight
+     * @throws UnsupportedOperationException if the graph is not weighted
+     */
+    @Override
+    public void setEdgeWeight(E e, double weight)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        if (!type.isWeighted()) {
+            throw new UnsupportedOperationException();
+        }
+        getEdgeEntry(e).weight = weight;
+    }
+
+    /**
+     * Get the number of lock stripes.
+     * 
+     * @return the number of lock stripes
+     */
+    public int getConcurrencyLevel()
+    {
+        return locks.length;
+    }
+
+    private E doAddEdge(V sourceVertex, V targetVertex, E e)
+    {
+        assertVertexExist(sourceVertex);
+        assertVertexExist(targetVertex);
+
+        boolean loop = sourceVertex.equals(targetVertex);
+        if (!type.isAllowingSelfLoops() && loop) {
+            throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+        }
+
+        lock(sourceVertex, targetVertex);
+        try {
+            // vertices may have been removed concurrently
+            VertexEntry<V, E> sourceEntry = getVertexEntry(sourceVertex);
+            VertexEntry<V, E> targetEntry = getVertexEntry(targetVertex);
+
+            if (!type.isAllowingMultipleEdges() && getEdge(sourceVertex, targetVertex) != null) {
+                return null;
+            }
+
+            if (e == null) {
+                e = edgeSupplier.get();
+            }
+            if (edgeMap.putIfAbsent(e, new EdgeEntry<>(sourceVertex, targetVertex)) != null) {
+                return null;
+            }
+            sourceEntry.outgoing.put(e, targetVertex);
+            targetEntry.incoming.put(e, sourceVertex);
+            if (!type.isDirected() && loop) {
+                sourceEntry.selfLoops++;
+            }
+            return e;
+        } finally {
+            unlock(sourceVertex, targetVertex);
+        }
+    }
+
+    private VertexEntry<V, E> getVertexEntry(V v)
+    {
+        if (v == null) {
+            throw new NullPointerException();
+        }
+        VertexEntry<V, E> entry = vertexMap.get(v);
+        if (entry == null) {
+            throw new IllegalArgumentException("no such vertex in graph: " + v.toString());
+        }
+        return entry;
+    }
+
+    private EdgeEntry<V> getEdgeEntry(E e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        EdgeEntry<V> entry = edgeMap.get(e);
+        if (entry == null) {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+        return entry;
+    }
+
+    private int stripe(Object o)
+    {
+        int h = o.hashCode();
+        h ^= h >>> 16;
+        return h & (locks.length - 1);
+    }
+
+    /**
+     * Lock the stripes of two vertices, always in increasing stripe order to avoid deadlocks.
+     */
+    private void lock(V u, V v)
+    {
+        int i = stripe(u);
+        int j = stripe(v);
+        if (i == j) {
+            locks[i].lock();
+        } else {
+            locks[Math.min(i, j)].lock();
+            locks[Math.max(i, j)].lock();
+        }
+    }
+
+    private void unlock(V u, V v)
+    {
+        int i = stripe(u);
+        int j = stripe(v);
+        locks[i].unlock();
+        if (i != j) {
+            locks[j].unlock();
+        }
+    }
+
+    /**
+     * The adjacency of a vertex, mapping each incident edge to its opposite endpoint. In undirected
+     * graphs the incoming and outgoing maps are the same map. Modifications are performed while
+     * holding the stripe lock of the vertex.
+     */
+    private static class VertexEntry<V, E>
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = 2370349745307935372L;
+
+        final ConcurrentMap<E, V> outgoing;
+        final ConcurrentMap<E, V> incoming;
+        volatile int selfLoops;
+
+        VertexEntry(boolean directed)
+        {
+            this.outgoing = new ConcurrentHashMap<>();
+            this.incoming = directed ? new ConcurrentHashMap<>() : outgoing;
+        }
+    }
+
+    /**
+     * The endpoints and weight of an edge.
+     */
+    private static class EdgeEntry<V>
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = -3962045462186045312L;
+
+        final V source;
+        final V target;
+        volatile double weight;
+
+        EdgeEntry(V source, V target)
+        {
+            this.source = source;
+            this.target = target;
+            this.weight = Graph.DEFAULT_EDGE_WEIGHT;
+        }
+    }
+
+}
@@ -0,0 +1,486 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.concurrent;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * An immutable map implemented as a hash array mapped trie.
+ *
+ * <p>
+ * Updates return a new map which shares all but $O(\log n)$ nodes with the original one, thus
+ * older versions of the map remain valid and can be read concurrently without synchronization.
+ * Neither keys nor values may be null.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ *
+ * @author agent
+ */
+final class PersistentMap<K, V>
+    implements
+    Serializable
+{
+    private static final long serialVersionUID = -2361622925512640718L;
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int MAX_DEPTH = 8;
+
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(null, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentMap(Node root, int size)
+    {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Get the empty map.
+     * 
+     * @return the empty map
+     * @param <K> the key type
+     * @param <V> the value type
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentMap<K, V> empty()
+    {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Get the number of entries.
+     * 
+     * @return the number of entries
+     */
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * Get the value associated with a key.
+     * 
+     * @param key the key
+     * @return the value or null if the key is not contained in the map
+     */
+    @SuppressWarnings("unchecked")
+    V get(Object key)
+    {
+        if (root == null || key == null) {
+            return null;
+        }
+        return (V) root.find(0, hash(key), key);
+    }
+
+    /**
+     * Check whether a key is contained in the map.
+     * 
+     * @param key the key
+     * @return true if the key is contained in the map, false otherwise
+     */
+    boolean containsKey(Object key)
+    {
+        return get(key) != null;
+    }
+
+    /**
+     * Return a map which additionally associates a key with a value.
+     * 
+     * @param key the key
+     * @param value the value
+     * @return the new map
+     */
+    PersistentMap<K, V> plus(K key, V value)
+    {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        boolean[] added = new boolean[1];
+        Node start = root == null ? BitmapNode.EMPTY : root;
+        Node newRoot = start.assoc(0, hash(key), key, value, added);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentMap<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * Return a map without a key.
+     * 
+     * @param key the key
+     * @return the new map
+     */
+    PersistentMap<K, V> minus(Object key)
+    {
+        if (root == null || key == null) {
+            return this;
+        }
+        Node newRoot = root.without(0, hash(key), key);
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot == null ? empty() : new PersistentMap<>(newRoot, size - 1);
+    }
+
+    /**
+     * Get an unmodifiable set view of the keys.
+     * 
+     * @return the set of keys
+     */
+    Set<K> keySet()
+    {
+        return new AbstractSet<K>()
+        {
+            @Override
+            public Iterator<K> iterator()
+            {
+                EntryIterator<K, V> it = new EntryIterator<>(root);
+                return new Iterator<K>()
+                {
+                    @Override
+                    public boolean hasNext()
+                    {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public K next()
+                    {
+                        return it.next().getKey();
+                    }
+                };
+            }
+
+            @Override
+            public int size()
+            {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o)
+            {
+                return containsKey(o);
+            }
+        };
+    }
+
+    /**
+     * Get an iterator over the entries.
+     * 
+     * @return an iterator over the entries
+     */
+    Iterator<Map.Entry<K, V>> entryIterator()
+    {
+        return new EntryIterator<>(root);
+    }
+
+    private static int hash(Object key)
+    {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static Object[] cloneAndSet(Object[] array, int i, Object a)
+    {
+        Object[] result = array.clone();
+        result[i] = a;
+        return result;
+    }
+
+    private abstract static class Node
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = 7386453823414546522L;
+
+        /**
+         * Alternating keys and values. A null key denotes that the value is a child node.
+         */
+        final Object[] array;
+
+        Node(Object[] array)
+        {
+            this.array = array;
+        }
+
+        abstract Object find(int shift, int hash, Object key);
+
+        abstract Node assoc(int shift, int hash, Object key, Object value, boolean[] added);
+
+        /**
+         * Remove a key, returning this node if the key is not found and null if the resulting node
+         * is empty.
+         */
+        abstract Node without(int shift, int hash, Object key);
+    }
+
+    private static final class BitmapNode
+        extends
+        Node
+    {
+        private static final long serialVersionUID = -1541374960624400960L;
+
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        final int bitmap;
+
+        BitmapNode(int bitmap, Object[] array)
+        {
+            super(array);
+            this.bitmap = bitmap;
+        }
+
+        private int index(int bit)
+        {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key)
+        {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            int i = 2 * index(bit);
+            Object k = array[i];
+            Object v = array[i + 1];
+            if (k == null) {
+                return ((Node) v).find(shift + BITS, hash, key);
+            }
+            return key.equals(k) ? v : null;
+        }
+
+        @Override
+        Node assoc(int shift, int hash, Object key, Object value, boolean[] added)
+        {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            int i = 2 * index(bit);
+            if ((bitmap & bit) != 0) {
+                Object k = array[i];
+                Object v = array[i + 1];
+                if (k == null) {
+                    Node n = ((Node) v).assoc(shift + BITS, hash, key, value, added);
+                    return n == v ? this : new BitmapNode(bitmap, cloneAndSet(array, i + 1, n));
+                }
+                if (key.equals(k)) {
+                    return value == v ? this
+                        : new BitmapNode(bitmap, cloneAndSet(array, i + 1, value));
+                }
+                added[0] = true;
+                Object[] newArray = cloneAndSet(array, i, null);
+                newArray[i + 1] = createNode(shift + BITS, k, v, hash, key, value);
+                return new BitmapNode(bitmap, newArray);
+            }
+            added[0] = true;
+            Object[] newArray = new Object[array.length + 2];
+            System.arraycopy(array, 0, newArray, 0, i);
+            newArray[i] = key;
+            newArray[i + 1] = value;
+            System.arraycopy(array, i, newArray, i + 2, array.length - i);
+            return new BitmapNode(bitmap | bit, newArray);
+        }
+
+        @Override
+        Node without(int shift, int hash, Object key)
+        {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int i = 2 * index(bit);
+            Object k = array[i];
+            Object v = array[i + 1];
+            if (k == null) {
+                Node n = ((Node) v).without(shift + BITS, hash, key);
+                if (n == v) {
+                    return this;
+                }
+                if (n != null) {
+                    return new BitmapNode(bitmap, cloneAndSet(array, i + 1, n));
+                }
+            } else if (!key.equals(k)) {
+                return this;
+            }
+            if (bitmap == bit) {
+                return null;
+            }
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, i);
+            System.arraycopy(array, i + 2, newArray, i, array.length - i - 2);
+            return new BitmapNode(bitmap ^ bit, newArray);
+        }
+
+        private static Node createNode(
+            int shift, Object key1, Object value1, int hash2, Object key2, Object value2)
+        {
+            int hash1 = hash(key1);
+            if (hash1 == hash2) {
+                return new CollisionNode(hash1, new Object[] { key1, value1, key2, value2 });
+            }
+            boolean[] added = new boolean[1];
+            return EMPTY
+                .assoc(shift, hash1, key1, value1, added)
+                .assoc(shift, hash2, key2, value2, added);
+        }
+    }
+
+    private static final class CollisionNode
+        extends
+        Node
+    {
+        private static final long serialVersionUID = 3165236545196374651L;
+
+        final int hash;
+
+        CollisionNode(int hash, Object[] array)
+        {
+            super(array);
+            this.hash = hash;
+        }
+
+        private int indexOf(Object key)
+        {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key)
+        {
+            int i = indexOf(key);
+            return i < 0 ? null : array[i + 1];
+        }
+
+        @Override
+        Node assoc(int shift, int hash, Object key, Object value, boolean[] added)
+        {
+            if (hash == this.hash) {
+                int i = indexOf(key);
+                if (i >= 0) {
+                    return array[i + 1] == value ? this
+                        : new CollisionNode(hash, cloneAndSet(array, i + 1, value));
+                }
+                added[0] = true;
+                Object[] newArray = Arrays.copyOf(array, array.length + 2);
+                newArray[array.length] = key;
+                newArray[array.length + 1] = value;
+                return new CollisionNode(hash, newArray);
+            }
+            // nest this node in a bitmap node and retry
+            return new BitmapNode(1 << ((this.hash >>> shift) & MASK), new Object[] { null, this })
+                .assoc(shift, hash, key, value, added);
+        }
+
+        @Override
+        Node without(int shift, int hash, Object key)
+        {
+            int i = indexOf(key);
+            if (i < 0) {
+                return this;
+            }
+            if (array.length == 2) {
+                return null;
+            }
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, i);
+            System.arraycopy(array, i + 2, newArray, i, array.length - i - 2);
+            return new CollisionNode(hash, newArray);
+        }
+    }
+
+    /**
+     * Depth-first iterator over the entries of the trie.
+     */
+    private static final class EntryIterator<K, V>
+        implements
+        Iterator<Map.Entry<K, V>>
+    {
+        private final Object[][] arrays = new Object[MAX_DEPTH + 1][];
+        private final int[] positions = new int[MAX_DEPTH + 1];
+        private int depth;
+        private Object nextKey;
+        private Object nextValue;
+
+        EntryIterator(Node root)
+        {
+            if (root == null) {
+                depth = -1;
+            } else {
+                arrays[0] = root.array;
+                depth = 0;
+                advance();
+            }
+        }
+
+        private void advance()
+        {
+            while (depth >= 0) {
+                Object[] a = arrays[depth];
+                int p = positions[depth];
+                if (p >= a.length) {
+                    arrays[depth] = null;
+                    positions[depth] = 0;
+                    depth--;
+                    continue;
+                }
+                positions[depth] = p + 2;
+                if (a[p] == null) {
+                    depth++;
+                    arrays[depth] = ((Node) a[p + 1]).array;
+                    positions[depth] = 0;
+                } else {
+                    nextKey = a[p];
+                    nextValue = a[p + 1];
+                    return;
+                }
+            }
+            nextKey = null;
+            nextValue = null;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return nextKey != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, V> next()
+        {
+            if (nextKey == null) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<K, V> result =
+                new AbstractMap.SimpleImmutableEntry<>((K) nextKey, (V) nextValue);
+            advance();
+            return result;
+        }
+    }
+
+}
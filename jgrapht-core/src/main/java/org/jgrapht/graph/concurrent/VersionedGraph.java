@@ -0,0 +1,788 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.locks.*;
+import java.util.function.*;
+
+/**
+ * A thread-safe graph which provides cheap consistent snapshots using multi-version concurrency
+ * control.
+ *
+ * <p>
+ * The graph is stored in persistent (immutable) hash tries, one for the vertices with their
+ * adjacency and one for the edges. A modification never changes existing data but creates a new
+ * version of the graph which shares all unaffected structure with the previous one, at a cost of
+ * $O(\log n)$ per modified entry. Writers are serialized by a lock and publish each new version
+ * atomically. Readers never block: each query reads the latest published version.
+ *
+ * <p>
+ * Method {@link #snapshot()} returns an unmodifiable graph which is frozen at the current version,
+ * in constant time and without copying. Long running algorithms can therefore execute on a
+ * snapshot while writers continue to modify this graph, and will observe a consistent graph
+ * throughout their execution. A snapshot retains the memory of its version until it becomes
+ * unreachable.
+ *
+ * <p>
+ * The sets returned by {@link #vertexSet()} and {@link #edgeSet()} are live views of the latest
+ * version, but each iteration traverses the single version which was current when the iterator was
+ * created. The sets returned by {@link #edgesOf(Object)}, {@link #incomingEdgesOf(Object)} and
+ * {@link #outgoingEdgesOf(Object)} are immutable. Users need to make sure that the vertex and edge
+ * suppliers are thread-safe. Mixed graphs are not supported.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class VersionedGraph<V, E>
+    extends
+    AbstractGraph<V, E>
+    implements
+    Graph<V, E>,
+    Serializable
+{
+    private static final long serialVersionUID = 5730125532460930296L;
+
+    private static final String LOOPS_NOT_ALLOWED = "loops not allowed";
+    private static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+    private final GraphType type;
+    private final Supplier<V> vertexSupplier;
+    private final Supplier<E> edgeSupplier;
+    private final ReentrantLock writeLock;
+    private volatile Version<V, E> version;
+
+    private final Set<V> vertexSet;
+    private final Set<E> edgeSet;
+
+    /**
+     * Create a new graph without vertex and edge suppliers.
+     *
+     * @param type the graph type
+     * @throws IllegalArgumentException if the graph type is mixed
+     */
+    public VersionedGraph(GraphType type)
+    {
+        this(null, null, type);
+    }
+
+    /**
+     * Create a new graph.
+     *
+     * @param vertexSupplier the vertex supplier, can be null
+     * @param edgeSupplier the edge supplier, can be null
+     * @param type the graph type
+     * @throws IllegalArgumentException if the graph type is mixed
+     */
+    public VersionedGraph(Supplier<V> vertexSupplier, Supplier<E> edgeSupplier, GraphType type)
+    {
+        this(
+            vertexSupplier, edgeSupplier, Objects.requireNonNull(type), new ReentrantLock(),
+            new Version<>(PersistentMap.empty(), PersistentMap.empty(), 0));
+        if (type.isMixed()) {
+            throw new IllegalArgumentException("Mixed graph not supported");
+        }
+    }
+
+    /**
+     * Create a graph, which is read-only if the write lock is null.
+     */
+    private VersionedGraph(
+        Supplier<V> vertexSupplier, Supplier<E> edgeSupplier, GraphType type,
+        ReentrantLock writeLock, Version<V, E> version)
+    {
+        this.type = type;
+        this.vertexSupplier = vertexSupplier;
+        this.edgeSupplier = edgeSupplier;
+        this.writeLock = writeLock;
+        this.version = version;
+        this.vertexSet = new KeySetView<>(this, true);
+        this.edgeSet = new KeySetView<>(this, false);
+    }
+
+    /**
+     * Get an unmodifiable snapshot of the current version of the graph. The snapshot is not
+     * affected by later modifications of this graph.
+     * 
+     * @return a snapshot of the graph
+     */
+    public VersionedGraph<V, E> snapshot()
+    {
+        if (writeLock == null) {
+            return this;
+        }
+        return new VersionedGraph<>(
+            vertexSupplier, edgeSupplier, type.asUnmodifiable(), null, version);
+    }
+
+    /**
+     * Get the current version number of the graph. The version number is incremented by every
+     * modification.
+     * 
+     * @return the current version number
+     */
+    public long getVersion()
+    {
+        return version.number;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        Version<V, E> current = version;
+        VertexEntry<V, E> entry = current.vertices.get(sourceVertex);
+        if (entry == null || !current.vertices.containsKey(targetVertex)) {
+            return null;
+        }
+        ArrayUnenforcedSet<E> result = new ArrayUnenforcedSet<>();
+        Iterator<Map.Entry<E, V>> it = entry.outgoing.entryIterator();
+        while (it.hasNext()) {
+            Map.Entry<E, V> adjacent = it.next();
+            if (adjacent.getValue().equals(targetVertex)) {
+                result.add(adjacent.getKey());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E getEdge(V sourceVertex, V targetVertex)
+    {
+        return getEdge(version, sourceVertex, targetVertex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Supplier<V> getVertexSupplier()
+    {
+        return vertexSupplier;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Supplier<E> getEdgeSupplier()
+    {
+        return edgeSupplier;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E addEdge(V sourceVertex, V targetVertex)
+    {
+        assertModifiable();
+        if (edgeSupplier == null) {
+            throw new UnsupportedOperationException("The graph contains no edge supplier");
+        }
+        writeLock.lock();
+        try {
+            Version<V, E> current = version;
+            if (!checkAddEdge(current, sourceVertex, targetVertex)) {
+                return null;
+            }
+            E e = edgeSupplier.get();
+            if (current.edges.containsKey(e)) {
+                return null;
+            }
+            version = addEdge(current, sourceVertex, targetVertex, e);
+            return e;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addEdge(V sourceVertex, V targetVertex, E e)
+    {
+        assertModifiable();
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        writeLock.lock();
+        try {
+            Version<V, E> current = version;
+            if (!checkAddEdge(current, sourceVertex, targetVertex)
+                || current.edges.containsKey(e))
+            {
+                return false;
+            }
+            version = addEdge(current, sourceVertex, targetVertex, e);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V addVertex()
+    {
+        assertModifiable();
+        if (vertexSupplier == null) {
+            throw new UnsupportedOperationException("The graph contains no vertex supplier");
+        }
+
+        V v = vertexSupplier.get();
+
+        if (addVertex(v)) {
+            return v;
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addVertex(V v)
+    {
+        assertModifiable();
+        if (v == null) {
+            throw new NullPointerException();
+        }
+        writeLock.lock();
+        try {
+            Version<V, E> current = version;
+            if (current.vertices.containsKey(v)) {
+                return false;
+            }
+            PersistentMap<E, V> empty = PersistentMap.empty();
+            version = new Version<>(
+                current.vertices.plus(v, new VertexEntry<>(empty, empty, 0)), current.edges,
+                current.number + 1);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsEdge(E e)
+    {
+        return version.edges.containsKey(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsVertex(V v)
+    {
+        return version.vertices.containsKey(v);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> edgeSet()
+    {
+        return edgeSet;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int degreeOf(V vertex)
+    {
+        VertexEntry<V, E> entry = getVertexEntry(version, vertex);
+        if (type.isDirected()) {
+            return entry.incoming.size() + entry.outgoing.size();
+        } else {
+            // self-loops count twice
+            return entry.outgoing.size() + entry.selfLoops;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> edgesOf(V vertex)
+    {
+        VertexEntry<V, E> entry = getVertexEntry(version, vertex);
+        if (!type.isDirected()) {
+            return entry.outgoing.keySet();
+        }
+        ArrayUnenforcedSet<E> inAndOut = new ArrayUnenforcedSet<>(entry.outgoing.keySet());
+        for (E e : entry.incoming.keySet()) {
+            // self-loops have already been added as outgoing edges
+            if (!entry.outgoing.containsKey(e)) {
+                inAndOut.add(e);
+            }
+        }
+        return Collections.unmodifiableSet(inAndOut);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int inDegreeOf(V vertex)
+    {
+        if (!type.isDirected()) {
+            return degreeOf(vertex);
+        }
+        return getVertexEntry(version, vertex).incoming.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> incomingEdgesOf(V vertex)
+    {
+        return getVertexEntry(version, vertex).incoming.keySet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int outDegreeOf(V vertex)
+    {
+        if (!type.isDirected()) {
+            return degreeOf(vertex);
+        }
+        return getVertexEntry(version, vertex).outgoing.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> outgoingEdgesOf(V vertex)
+    {
+        return getVertexEntry(version, vertex).outgoing.keySet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E removeEdge(V sourceVertex, V targetVertex)
+    {
+        assertModifiable();
+        writeLock.lock();
+        try {
+            Version<V, E> current = version;
+            E e = getEdge(current, sourceVertex, targetVertex);
+            if (e != null) {
+                version = removeEdge(current, e);
+            }
+            return e;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeEdge(E e)
+    {
+        assertModifiable();
+        writeLock.lock();
+        try {
+            Version<V, E> current = version;
+            if (e == null || !current.edges.containsKey(e)) {
+                return false;
+            }
+            version = removeEdge(current, e);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeVertex(V v)
+    {
+        assertModifiable();
+        writeLock.lock();
+        try {
+            Version<V, E> current = version;
+            VertexEntry<V, E> entry = current.vertices.get(v);
+            if (entry == null) {
+                return false;
+            }
+            for (E e : entry.outgoing.keySet()) {
+                current = removeEdge(current, e);
+            }
+            for (E e : entry.incoming.keySet()) {
+                if (current.edges.containsKey(e)) {
+                    current = removeEdge(current, e);
+                }
+            }
+            version =
+                new Version<>(current.vertices.minus(v), current.edges, current.number + 1);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<V> vertexSet()
+    {
+        return vertexSet;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getEdgeSource(E e)
+    {
+        return getEdgeEntry(version, e).source;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getEdgeTarget(E e)
+    {
+        return getEdgeEntry(version, e).target;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphType getType()
+    {
+        return type;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getEdgeWeight(E e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        return getEdgeEntry(version, e).weight;
+    }
+
+    /**
+     * Set an edge weight.
+     * 
+     * @param e the edge
+     * @param weight the weight
+     * @throws UnsupportedOperationException if the graph is not weighted
+     */
+    @Override
+    public void setEdgeWeight(E e, double weight)
+    {
+        assertModifiable();
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        if (!type.isWeighted()) {
+            throw new UnsupportedOperationException();
+        }
+        writeLock.lock();
+        try {
+            Version<V, E> current = version;
+            EdgeEntry<V> entry = getEdgeEntry(current, e);
+            version = new Version<>(
+                current.vertices,
+                current.edges.plus(e, new EdgeEntry<>(entry.source, entry.target, weight)),
+                current.number + 1);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void assertModifiable()
+    {
+        if (writeLock == null) {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+    }
+
+    private boolean checkAddEdge(Version<V, E> current, V sourceVertex, V targetVertex)
+    {
+        getVertexEntry(current, sourceVertex);
+        getVertexEntry(current, targetVertex);
+
+        if (!type.isAllowingMultipleEdges()
+            && getEdge(current, sourceVertex, targetVertex) != null)
+        {
+            return false;
+        }
+
+        if (!type.isAllowingSelfLoops() && sourceVertex.equals(targetVertex)) {
+            throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+        }
+        return true;
+    }
+
+    private Version<V, E> addEdge(Version<V, E> current, V sourceVertex, V targetVertex, E e)
+    {
+        PersistentMap<E, EdgeEntry<V>> edges = current.edges
+            .plus(e, new EdgeEntry<>(sourceVertex, targetVertex, Graph.DEFAULT_EDGE_WEIGHT));
+        boolean loop = sourceVertex.equals(targetVertex);
+
+        PersistentMap<V, VertexEntry<V, E>> vertices = current.vertices;
+        VertexEntry<V, E> source = vertices.get(sourceVertex);
+        if (type.isDirected()) {
+            vertices = vertices.plus(
+                sourceVertex, new VertexEntry<>(
+                    source.outgoing.plus(e, targetVertex), source.incoming, source.selfLoops));
+            VertexEntry<V, E> target = vertices.get(targetVertex);
+            vertices = vertices.plus(
+                targetVertex, new VertexEntry<>(
+                    target.outgoing, target.incoming.plus(e, sourceVertex), target.selfLoops));
+        } else {
+            PersistentMap<E, V> adjacent = source.outgoing.plus(e, targetVertex);
+            vertices = vertices.plus(
+                sourceVertex,
+                new VertexEntry<>(adjacent, adjacent, source.selfLoops + (loop ? 1 : 0)));
+            if (!loop) {
+                VertexEntry<V, E> target = vertices.get(targetVertex);
+                adjacent = target.outgoing.plus(e, sourceVertex);
+                vertices = vertices
+                    .plus(targetVertex, new VertexEntry<>(adjacent, adjacent, target.selfLoops));
+            }
+        }
+        return new Version<>(vertices, edges, current.number + 1);
+    }
+
+    private Version<V, E> removeEdge(Version<V, E> current, E e)
+    {
+        EdgeEntry<V> edge = current.edges.get(e);
+        V sourceVertex = edge.source;
+        V targetVertex = edge.target;
+        boolean loop = sourceVertex.equals(targetVertex);
+
+        PersistentMap<V, VertexEntry<V, E>> vertices = current.vertices;
+        VertexEntry<V, E> source = vertices.get(sourceVertex);
+        if (type.isDirected()) {
+            vertices = vertices.plus(
+                sourceVertex,
+                new VertexEntry<>(source.outgoing.minus(e), source.incoming, source.selfLoops));
+            VertexEntry<V, E> target = vertices.get(targetVertex);
+            vertices = vertices.plus(
+                targetVertex,
+                new VertexEntry<>(target.outgoing, target.incoming.minus(e), target.selfLoops));
+        } else {
+            PersistentMap<E, V> adjacent = source.outgoing.minus(e);
+            vertices = vertices.plus(
+                sourceVertex,
+                new VertexEntry<>(adjacent, adjacent, source.selfLoops - (loop ? 1 : 0)));
+            if (!loop) {
+                VertexEntry<V, E> target = vertices.get(targetVertex);
+                adjacent = target.outgoing.minus(e);
+                vertices = vertices
+                    .plus(targetVertex, new VertexEntry<>(adjacent, adjacent, target.selfLoops));
+            }
+        }
+        return new Version<>(vertices, current.edges.minus(e), current.number + 1);
+    }
+
+    private E getEdge(Version<V, E> current, V sourceVertex, V targetVertex)
+    {
+        VertexEntry<V, E> entry = current.vertices.get(sourceVertex);
+        if (entry == null || !current.vertices.containsKey(targetVertex)) {
+            return null;
+        }
+        Iterator<Map.Entry<E, V>> it = entry.outgoing.entryIterator();
+        while (it.hasNext()) {
+            Map.Entry<E, V> adjacent = it.next();
+            if (adjacent.getValue().equals(targetVertex)) {
+                return adjacent.getKey();
+            }
+        }
+        return null;
+    }
+
+    private VertexEntry<V, E> getVertexEntry(Version<V, E> current, V v)
+    {
+        if (v == null) {
+            throw new NullPointerException();
+        }
+        VertexEntry<V, E> entry = current.vertices.get(v);
+        if (entry == null) {
+            throw new IllegalArgumentException("no such vertex in graph: " + v.toString());
+        }
+        return entry;
+    }
+
+    private EdgeEntry<V> getEdgeEntry(Version<V, E> current, E e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        EdgeEntry<V> entry = current.edges.get(e);
+        if (entry == null) {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+        return entry;
+    }
+
+    /**
+     * An immutable version of the graph.
+     */
+    private static class Version<V, E>
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = -4049473590934858585L;
+
+        final PersistentMap<V, VertexEntry<V, E>> vertices;
+        final PersistentMap<E, EdgeEntry<V>> edges;
+        final long number;
+
+        Version(
+            PersistentMap<V, VertexEntry<V, E>> vertices, PersistentMap<E, EdgeEntry<V>> edges,
+            long number)
+        {
+            this.vertices = vertices;
+            this.edges = edges;
+            this.number = number;
+        }
+    }
+
+    /**
+     * The immutable adjacency of a vertex, mapping each incident edge to its opposite endpoint. In
+     * undirected graphs the incoming and outgoing maps are the same map.
+     */
+    private static class VertexEntry<V, E>
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = 8851548040167208938L;
+
+        final PersistentMap<E, V> outgoing;
+        final PersistentMap<E, V> incoming;
+        final int selfLoops;
+
+        VertexEntry(PersistentMap<E, V> outgoing, PersistentMap<E, V> incoming, int selfLoops)
+        {
+            this.outgoing = outgoing;
+            this.incoming = incoming;
+            this.selfLoops = selfLoops;
+        }
+    }
+
+    /**
+     * The immutable endpoints and weight of an edge.
+     */
+    private static class EdgeEntry<V>
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = -2434916016005416096L;
+
+        final V source;
+        final V target;
+        final double weight;
+
+        EdgeEntry(V source, V target, double weight)
+        {
+            this.source = source;
+            this.target = target;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * A live unmodifiable view of the vertices or edges of the latest version.
+     */
+    private static class KeySetView<T>
+        extends
+        AbstractSet<T>
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = -1145466862906306003L;
+
+        private final VersionedGraph<?, ?> graph;
+        private final boolean vertices;
+
+        KeySetView(VersionedGraph<?, ?> graph, boolean vertices)
+        {
+            this.graph = graph;
+            this.vertices = vertices;
+        }
+
+        @SuppressWarnings("unchecked")
+        private PersistentMap<T, ?> map()
+        {
+            Version<?, ?> current = graph.version;
+            return (PersistentMap<T, ?>) (vertices ? current.vertices : current.edges);
+        }
+
+        @Override
+        public Iterator<T> iterator()
+        {
+            return map().keySet().iterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return map().size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return map().containsKey(o);
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.sparse;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * An unmodifiable set view of a slice <code>[from, to)</code> of an integer array.
+ *
+ * <p>
+ * The elements of the slice are known to be unique by construction, thus uniqueness is not
+ * enforced. Membership queries perform a linear scan of the slice.
+ *
+ * @author agent
+ */
+class IntArraySliceSet
+    extends
+    AbstractSet<Integer>
+    implements
+    Serializable
+{
+    private static final long serialVersionUID = -2719617408839052346L;
+
+    private final int[] array;
+    private final int from;
+    private final int to;
+
+    /**
+     * Create a new set
+     * 
+     * @param array the backing array
+     * @param from the first index of the slice (inclusive)
+     * @param to the last index of the slice (exclusive)
+     */
+    IntArraySliceSet(int[] array, int from, int to)
+    {
+        assert from <= to;
+        this.array = array;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        return new Iterator<Integer>()
+        {
+            private int next = from;
+
+            @Override
+            public boolean hasNext()
+            {
+                return next < to;
+            }
+
+            @Override
+            public Integer next()
+            {
+                if (next >= to) {
+                    throw new NoSuchElementException();
+                }
+                return array[next++];
+            }
+        };
+    }
+
+    @Override
+    public int size()
+    {
+        return to - from;
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        if (o instanceof Integer) {
+            int value = (Integer) o;
+            for (int i = from; i < to; i++) {
+                if (array[i] == value) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.sparse;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * An unmodifiable set of consecutive integers <code>[from, to)</code>.
+ *
+ * <p>
+ * The set does not store its elements and requires constant memory. It is used to represent the
+ * vertex and edge sets of the sparse graphs as well as the outgoing edges of a vertex, since in a
+ * compressed sparse row representation these are always contiguous.
+ *
+ * @author agent
+ */
+class IntRangeSet
+    extends
+    AbstractSet<Integer>
+    implements
+    Serializable
+{
+    private static final long serialVersionUID = 4171564810578361387L;
+
+    private final int from;
+    private final int to;
+
+    /**
+     * Create a new set
+     * 
+     * @param from the first element of the range (inclusive)
+     * @param to the last element of the range (exclusive)
+     */
+    IntRangeSet(int from, int to)
+    {
+        assert from <= to;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        return new Iterator<Integer>()
+        {
+            private int next = from;
+
+            @Override
+            public boolean hasNext()
+            {
+                return next < to;
+            }
+
+            @Override
+            public Integer next()
+            {
+                if (next >= to) {
+                    throw new NoSuchElementException();
+                }
+                return next++;
+            }
+        };
+    }
+
+    @Override
+    public int size()
+    {
+        return to - from;
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        if (o instanceof Integer) {
+            int i = (Integer) o;
+            return i >= from && i < to;
+        }
+        return false;
+    }
+
+}
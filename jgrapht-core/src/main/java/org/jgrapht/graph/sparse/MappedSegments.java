@@ -0,0 +1,146 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.sparse;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+
+/**
+ * A region of a file mapped into memory as an array of fixed size primitive elements.
+ *
+ * <p>
+ * A single {@link MappedByteBuffer} cannot exceed 2GB, thus the region is split into segments of
+ * $2^{27}$ elements each, and elements are addressed using long indices. All values are stored in
+ * little-endian byte order.
+ *
+ * @author agent
+ */
+class MappedSegments
+{
+    private static final int SEGMENT_SHIFT = 27;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    private final ByteBuffer[] segments;
+    private final int elementShift;
+    private final long length;
+
+    /**
+     * Map a region of a file.
+     * 
+     * @param channel the file channel
+     * @param mode the mapping mode
+     * @param position the position in the file where the region starts
+     * @param length the number of elements of the region
+     * @param elementSize the size of each element in bytes, one of 4 or 8
+     * @throws IOException in case of an I/O error
+     */
+    MappedSegments(
+        FileChannel channel, FileChannel.MapMode mode, long position, long length, int elementSize)
+        throws IOException
+    {
+        assert elementSize == 4 || elementSize == 8;
+        this.elementShift = elementSize == 4 ? 2 : 3;
+        this.length = length;
+
+        int segmentCount = (int) ((length + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        this.segments = new ByteBuffer[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            long first = (long) i << SEGMENT_SHIFT;
+            long count = Math.min(length - first, 1L << SEGMENT_SHIFT);
+            segments[i] = channel
+                .map(mode, position + (first << elementShift), count << elementShift)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Get the number of elements of the region.
+     * 
+     * @return the number of elements
+     */
+    long length()
+    {
+        return length;
+    }
+
+    int getInt(long index)
+    {
+        return segments[(int) (index >>> SEGMENT_SHIFT)].getInt(offset(index));
+    }
+
+    long getLong(long index)
+    {
+        return segments[(int) (index >>> SEGMENT_SHIFT)].getLong(offset(index));
+    }
+
+    double getDouble(long index)
+    {
+        return segments[(int) (index >>> SEGMENT_SHIFT)].getDouble(offset(index));
+    }
+
+    void putInt(long index, int value)
+    {
+        segments[(int) (index >>> SEGMENT_SHIFT)].putInt(offset(index), value);
+    }
+
+    void putLong(long index, long value)
+    {
+        segments[(int) (index >>> SEGMENT_SHIFT)].putLong(offset(index), value);
+    }
+
+    void putDouble(long index, double value)
+    {
+        segments[(int) (index >>> SEGMENT_SHIFT)].putDouble(offset(index), value);
+    }
+
+    /**
+     * Flush any changes to the underlying storage device.
+     */
+    void force()
+    {
+        for (ByteBuffer segment : segments) {
+            ((MappedByteBuffer) segment).force();
+        }
+    }
+
+    /**
+     * Find the first index in <code>[from, to)</code> whose integer value is not less than the
+     * key. The values of the range must be sorted.
+     */
+    long lowerBoundInt(long from, long to, int key)
+    {
+        long low = from;
+        long high = to;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (getInt(mid) < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int offset(long index)
+    {
+        return (int) (index & SEGMENT_MASK) << elementShift;
+    }
+
+}
@@ -0,0 +1,500 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * An immutable graph backed by a memory-mapped file holding a compressed sparse row (CSR) layout.
+ *
+ * <p>
+ * The graph is stored off-heap and its pages are loaded on demand by the operating system, which
+ * keeps the working set in its page cache. This allows graphs much larger than the Java heap to be
+ * processed by any algorithm, for example the traversals of {@link org.jgrapht.traverse} or the
+ * shortest path algorithms, and opening a prebuilt file takes constant time irrespective of the
+ * size of the graph. Files are produced by {@link MappedSparseIntGraphWriter}.
+ *
+ * <p>
+ * Vertices are the integers $0, \dots, n-1$ and edges the integers $0, \dots, m-1$. Edges are
+ * numbered in (source, target) order, thus the outgoing edges of a vertex form a contiguous range
+ * of edge identifiers sorted by target and {@link #getEdge(Integer, Integer)} runs in logarithmic
+ * time. In undirected graphs the source of each edge is its smaller endpoint. The graph allows
+ * multiple edges and self-loops.
+ *
+ * <p>
+ * The file requires 8 bytes per edge (16 if weighted) plus 16 bytes per vertex, plus 4 bytes per
+ * edge (8 for undirected graphs) for the incoming or incident edges of each vertex. The file is
+ * mapped read-only and must not be modified while the graph is in use.
+ *
+ * @author agent
+ * 
+ * @see MappedSparseIntGraphWriter
+ */
+public class MappedSparseIntGraph
+    extends
+    AbstractGraph<Integer, Integer>
+{
+    private static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+    static final long MAGIC = 0x4A47542D43535231L;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int FLAG_DIRECTED = 1;
+    static final int FLAG_WEIGHTED = 2;
+
+    private final int vertexCount;
+    private final int edgeCount;
+    private final boolean directed;
+    private final GraphType type;
+    private final Set<Integer> vertexSet;
+    private final Set<Integer> edgeSet;
+
+    private final MappedSegments sources;
+    private final MappedSegments targets;
+    private final MappedSegments weights;
+
+    /**
+     * Outgoing edges of vertex v are the edges outOffsets[v], ..., outOffsets[v+1]-1
+     */
+    private final MappedSegments outOffsets;
+
+    /**
+     * Incoming edges (directed) or incident edges (undirected) of vertex v are
+     * adjEdges[adjOffsets[v]], ..., adjEdges[adjOffsets[v+1]-1]
+     */
+    private final MappedSegments adjOffsets;
+    private final MappedSegments adjEdges;
+
+    private MappedSparseIntGraph(FileChannel channel, Header header)
+        throws IOException
+    {
+        this.vertexCount = header.vertexCount;
+        this.edgeCount = header.edgeCount;
+        this.directed = header.directed;
+        this.type = new DefaultGraphType.Builder(directed, !directed)
+            .allowMultipleEdges(true).allowSelfLoops(true).weighted(header.weighted)
+            .modifiable(false).build();
+        this.vertexSet = new IntRangeSet(0, vertexCount);
+        this.edgeSet = new IntRangeSet(0, edgeCount);
+
+        FileChannel.MapMode mode = FileChannel.MapMode.READ_ONLY;
+        this.sources = new MappedSegments(channel, mode, header.sourcesPosition(), edgeCount, 4);
+        this.targets = new MappedSegments(channel, mode, header.targetsPosition(), edgeCount, 4);
+        this.weights = header.weighted
+            ? new MappedSegments(channel, mode, header.weightsPosition(), edgeCount, 8) : null;
+        this.outOffsets =
+            new MappedSegments(channel, mode, header.outOffsetsPosition(), vertexCount + 1, 8);
+        this.adjOffsets =
+            new MappedSegments(channel, mode, header.adjOffsetsPosition(), vertexCount + 1, 8);
+        this.adjEdges = new MappedSegments(
+            channel, mode, header.adjEdgesPosition(), header.adjacencyCount, 4);
+    }
+
+    /**
+     * Open a graph from a file produced by {@link MappedSparseIntGraphWriter}.
+     * 
+     * @param file the file
+     * @return the graph
+     * @throws IOException in case of an I/O error or if the file is not a valid graph file
+     */
+    public static MappedSparseIntGraph open(Path file)
+        throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Header header = Header.read(channel);
+            if (channel.size() < header.fileSize()) {
+                throw new IOException("Graph file is truncated");
+            }
+            // mappings remain valid after the channel is closed
+            return new MappedSparseIntGraph(channel, header);
+        }
+    }
+
+    @Override
+    public Set<Integer> getAllEdges(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int s = sourceVertex;
+        int t = targetVertex;
+        if (!directed && s > t) {
+            s = targetVertex;
+            t = sourceVertex;
+        }
+        long to = outOffsets.getLong(s + 1);
+        long from = targets.lowerBoundInt(outOffsets.getLong(s), to, t);
+        long last = targets.lowerBoundInt(from, to, t + 1);
+        return new IntRangeSet((int) from, (int) last);
+    }
+
+    @Override
+    public Integer getEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int s = sourceVertex;
+        int t = targetVertex;
+        if (!directed && s > t) {
+            s = targetVertex;
+            t = sourceVertex;
+        }
+        long to = outOffsets.getLong(s + 1);
+        long pos = targets.lowerBoundInt(outOffsets.getLong(s), to, t);
+        if (pos < to && targets.getInt(pos) == t) {
+            return (int) pos;
+        }
+        return null;
+    }
+
+    @Override
+    public Supplier<Integer> getVertexSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Supplier<Integer> getEdgeSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Integer addEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addEdge(Integer sourceVertex, Integer targetVertex, Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Integer addVertex()
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean containsEdge(Integer e)
+    {
+        return e != null && e >= 0 && e < edgeCount;
+    }
+
+    @Override
+    public boolean containsVertex(Integer v)
+    {
+        return v != null && v >= 0 && v < vertexCount;
+    }
+
+    @Override
+    public Set<Integer> edgeSet()
+    {
+        return edgeSet;
+    }
+
+    @Override
+    public int degreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        long degree = adjOffsets.getLong(vertex + 1) - adjOffsets.getLong(vertex);
+        if (directed) {
+            degree += outOffsets.getLong(vertex + 1) - outOffsets.getLong(vertex);
+        } else {
+            // self-loops are stored once but count twice, they are the first edges of the row
+            long from = outOffsets.getLong(vertex);
+            long to = outOffsets.getLong(vertex + 1);
+            degree += targets.lowerBoundInt(from, to, vertex + 1) - from;
+        }
+        return (int) degree;
+    }
+
+    @Override
+    public Set<Integer> edgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        if (!directed) {
+            return new MappedIntSliceSet(
+                adjEdges, adjOffsets.getLong(vertex), adjOffsets.getLong(vertex + 1));
+        }
+        int outFrom = (int) outOffsets.getLong(vertex);
+        int outTo = (int) outOffsets.getLong(vertex + 1);
+        long inFrom = adjOffsets.getLong(vertex);
+        long inTo = adjOffsets.getLong(vertex + 1);
+        ArrayUnenforcedSet<Integer> inAndOut =
+            new ArrayUnenforcedSet<>((int) (outTo - outFrom + inTo - inFrom));
+        for (int e = outFrom; e < outTo; e++) {
+            inAndOut.add(e);
+        }
+        for (long i = inFrom; i < inTo; i++) {
+            int e = adjEdges.getInt(i);
+            // self-loops have already been added as outgoing edges
+            if (sources.getInt(e) != vertex) {
+                inAndOut.add(e);
+            }
+        }
+        return Collections.unmodifiableSet(inAndOut);
+    }
+
+    @Override
+    public int inDegreeOf(Integer vertex)
+    {
+        if (!directed) {
+            return degreeOf(vertex);
+        }
+        assertVertexExist(vertex);
+        return (int) (adjOffsets.getLong(vertex + 1) - adjOffsets.getLong(vertex));
+    }
+
+    @Override
+    public Set<Integer> incomingEdgesOf(Integer vertex)
+    {
+        if (!directed) {
+            return edgesOf(vertex);
+        }
+        assertVertexExist(vertex);
+        return new MappedIntSliceSet(
+            adjEdges, adjOffsets.getLong(vertex), adjOffsets.getLong(vertex + 1));
+    }
+
+    @Override
+    public int outDegreeOf(Integer vertex)
+    {
+        if (!directed) {
+            return degreeOf(vertex);
+        }
+        assertVertexExist(vertex);
+        return (int) (outOffsets.getLong(vertex + 1) - outOffsets.getLong(vertex));
+    }
+
+    @Override
+    public Set<Integer> outgoingEdgesOf(Integer vertex)
+    {
+        if (!directed) {
+            return edgesOf(vertex);
+        }
+        assertVertexExist(vertex);
+        return new IntRangeSet(
+            (int) outOffsets.getLong(vertex), (int) outOffsets.getLong(vertex + 1));
+    }
+
+    @Override
+    public Integer removeEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeEdge(Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Set<Integer> vertexSet()
+    {
+        return vertexSet;
+    }
+
+    @Override
+    public Integer getEdgeSource(Integer e)
+    {
+        assertEdgeExist(e);
+        return sources.getInt(e);
+    }
+
+    @Override
+    public Integer getEdgeTarget(Integer e)
+    {
+        assertEdgeExist(e);
+        return targets.getInt(e);
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return type;
+    }
+
+    @Override
+    public double getEdgeWeight(Integer e)
+    {
+        assertEdgeExist(e);
+        return weights == null ? Graph.DEFAULT_EDGE_WEIGHT : weights.getDouble(e);
+    }
+
+    @Override
+    public void setEdgeWeight(Integer e, double weight)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * Ensures that the specified edge exists in this graph, or else throws exception.
+     *
+     * @param e edge
+     * @return <code>true</code> if this assertion holds.
+     * @throws NullPointerException if specified edge is <code>null</code>.
+     * @throws IllegalArgumentException if specified edge does not exist in this graph.
+     */
+    protected boolean assertEdgeExist(Integer e)
+    {
+        if (containsEdge(e)) {
+            return true;
+        } else if (e == null) {
+            throw new NullPointerException();
+        } else {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+    }
+
+    /**
+     * The file header and the layout of the file sections.
+     * 
+     * <p>
+     * The file starts with a header of {@link #HEADER_SIZE} bytes containing the magic number, the
+     * format version, the flags, the number of vertices, the number of edges and the total length
+     * of the incoming or incident edge lists. It is followed by the edge sources, the edge targets,
+     * the edge weights if weighted, the outgoing offsets, the incoming or incident offsets, and the
+     * incoming or incident edge lists. Offsets are longs, all other integers are ints.
+     */
+    static class Header
+    {
+        final boolean directed;
+        final boolean weighted;
+        final int vertexCount;
+        final int edgeCount;
+        final long adjacencyCount;
+
+        Header(
+            boolean directed, boolean weighted, int vertexCount, int edgeCount, long adjacencyCount)
+        {
+            this.directed = directed;
+            this.weighted = weighted;
+            this.vertexCount = vertexCount;
+            this.edgeCount = edgeCount;
+            this.adjacencyCount = adjacencyCount;
+        }
+
+        static Header read(FileChannel channel)
+            throws IOException
+        {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, buffer.position()) < 0) {
+                    throw new IOException("Graph file is truncated");
+                }
+            }
+            buffer.flip();
+            if (buffer.getLong() != MAGIC) {
+                throw new IOException("Not a graph file");
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported graph file version " + version);
+            }
+            int flags = buffer.getInt();
+            int vertexCount = buffer.getInt();
+            int edgeCount = buffer.getInt();
+            long adjacencyCount = buffer.getLong();
+            if (vertexCount < 0 || edgeCount < 0 || adjacencyCount < 0) {
+                throw new IOException("Corrupted graph file");
+            }
+            return new Header(
+                (flags & FLAG_DIRECTED) != 0, (flags & FLAG_WEIGHTED) != 0, vertexCount, edgeCount,
+                adjacencyCount);
+        }
+
+        void write(FileChannel channel)
+            throws IOException
+        {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putLong(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putInt((directed ? FLAG_DIRECTED : 0) | (weighted ? FLAG_WEIGHTED : 0));
+            buffer.putInt(vertexCount);
+            buffer.putInt(edgeCount);
+            buffer.putLong(adjacencyCount);
+            buffer.rewind();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, buffer.position());
+            }
+        }
+
+        long sourcesPosition()
+        {
+            return HEADER_SIZE;
+        }
+
+        long targetsPosition()
+        {
+            return sourcesPosition() + 4L * edgeCount;
+        }
+
+        long weightsPosition()
+        {
+            // align to 8 bytes
+            return (targetsPosition() + 4L * edgeCount + 7) & ~7L;
+        }
+
+        long outOffsetsPosition()
+        {
+            return weightsPosition() + (weighted ? 8L * edgeCount : 0);
+        }
+
+        long adjOffsetsPosition()
+        {
+            return outOffsetsPosition() + 8L * (vertexCount + 1);
+        }
+
+        long adjEdgesPosition()
+        {
+            return adjOffsetsPosition() + 8L * (vertexCount + 1);
+        }
+
+        long fileSize()
+        {
+            return adjEdgesPosition() + 4L * adjacencyCount;
+        }
+    }
+
+}
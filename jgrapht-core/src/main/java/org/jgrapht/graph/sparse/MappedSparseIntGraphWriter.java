@@ -0,0 +1,453 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.sparse;
+
+import org.jgrapht.*;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * A writer of graph files which can be opened using {@link MappedSparseIntGraph#open(Path)}.
+ *
+ * <p>
+ * Edges can be added one at a time, for example while reading an edge stream, or by copying an
+ * existing graph. They are spooled to a temporary file and only per-vertex counters are kept in
+ * memory, thus the heap requirements are linear in the number of vertices and independent of the
+ * number of edges. When {@link #write(Path)} is called the compressed sparse row layout is
+ * constructed directly in the memory-mapped output file, using two sequential passes over the
+ * spooled edges and sorting each vertex's outgoing edges by target. Edges are neither
+ * deduplicated nor checked for self-loops.
+ *
+ * <p>
+ * The following example writes a weighted directed graph with three vertices: <blockquote>
+ * 
+ * <pre>
+ * try (MappedSparseIntGraphWriter writer = MappedSparseIntGraphWriter.directed().weighted(true)) {
+ *     writer.vertexCount(3).addEdge(0, 1, 2.0).addEdge(1, 2, 3.5).write(file);
+ * }
+ * MappedSparseIntGraph g = MappedSparseIntGraph.open(file);
+ * </pre>
+ * 
+ * </blockquote>
+ *
+ * @author agent
+ */
+public final class MappedSparseIntGraphWriter
+    implements
+    Closeable
+{
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final boolean directed;
+    private boolean weighted;
+    private int vertexCount;
+    private int maxVertex;
+    private Path temporaryDirectory;
+
+    private int edgeCount;
+    private long adjacencyCount;
+    private int[] outDegrees;
+    private int[] adjDegrees;
+
+    private Path spoolFile;
+    private DataOutputStream spool;
+    private boolean finished;
+
+    private MappedSparseIntGraphWriter(boolean directed)
+    {
+        this.directed = directed;
+        this.weighted = false;
+        this.vertexCount = -1;
+        this.maxVertex = -1;
+        this.edgeCount = 0;
+        this.adjacencyCount = 0;
+        this.outDegrees = new int[DEFAULT_CAPACITY];
+        this.adjDegrees = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Create a writer for a directed graph.
+     * 
+     * @return the writer
+     */
+    public static MappedSparseIntGraphWriter directed()
+    {
+        return new MappedSparseIntGraphWriter(true);
+    }
+
+    /**
+     * Create a writer for an undirected graph.
+     * 
+     * @return the writer
+     */
+    public static MappedSparseIntGraphWriter undirected()
+    {
+        return new MappedSparseIntGraphWriter(false);
+    }
+
+    /**
+     * Set the number of vertices of the graph. If not set, the number of vertices is one more
+     * than the largest vertex touched by an edge.
+     * 
+     * @param vertexCount the number of vertices
+     * @return the writer
+     * @throws IllegalArgumentException if the number of vertices is negative
+     */
+    public MappedSparseIntGraphWriter vertexCount(int vertexCount)
+    {
+        if (vertexCount < 0) {
+            throw new IllegalArgumentException("Number of vertices must be non-negative");
+        }
+        this.vertexCount = vertexCount;
+        return this;
+    }
+
+    /**
+     * Set whether the graph will be weighted. This must be decided before any edge is added.
+     * 
+     * @param weighted if true the graph will be weighted, otherwise unweighted
+     * @return the writer
+     * @throws IllegalStateException if edges have already been added
+     */
+    public MappedSparseIntGraphWriter weighted(boolean weighted)
+    {
+        if (spool != null) {
+            throw new IllegalStateException("Edges have already been added");
+        }
+        this.weighted = weighted;
+        return this;
+    }
+
+    /**
+     * Set the directory where the temporary edge file is created. If not set, the default
+     * temporary-file directory is used.
+     * 
+     * @param temporaryDirectory the directory
+     * @return the writer
+     */
+    public MappedSparseIntGraphWriter temporaryDirectory(Path temporaryDirectory)
+    {
+        this.temporaryDirectory = Objects.requireNonNull(temporaryDirectory);
+        return this;
+    }
+
+    /**
+     * Add an edge with the default weight.
+     * 
+     * @param sourceVertex the source vertex
+     * @param targetVertex the target vertex
+     * @return the writer
+     * @throws IOException in case of an I/O error
+     * @throws IllegalArgumentException if any of the vertices is negative
+     */
+    public MappedSparseIntGraphWriter addEdge(int sourceVertex, int targetVertex)
+        throws IOException
+    {
+        add(sourceVertex, targetVertex, Graph.DEFAULT_EDGE_WEIGHT);
+        return this;
+    }
+
+    /**
+     * Add an edge.
+     * 
+     * @param sourceVertex the source vertex
+     * @param targetVertex the target vertex
+     * @param weight the edge weight
+     * @return the writer
+     * @throws IOException in case of an I/O error
+     * @throws IllegalArgumentException if any of the vertices is negative
+     * @throws UnsupportedOperationException if the writer is not weighted
+     */
+    public MappedSparseIntGraphWriter addEdge(int sourceVertex, int targetVertex, double weight)
+        throws IOException
+    {
+        if (!weighted) {
+            throw new UnsupportedOperationException("Graph is not weighted");
+        }
+        add(sourceVertex, targetVertex, weight);
+        return this;
+    }
+
+    /**
+     * Add all edges of a graph whose vertices are non-negative integers. Edge weights are copied
+     * if the writer is weighted.
+     * 
+     * @param graph the graph
+     * @param <E> the graph edge type
+     * @return the writer
+     * @throws IOException in case of an I/O error
+     */
+    public <E> MappedSparseIntGraphWriter addGraph(Graph<Integer, E> graph)
+        throws IOException
+    {
+        for (Integer v : graph.vertexSet()) {
+            if (v < 0) {
+                throw new IllegalArgumentException("Vertices must be non-negative");
+            }
+            maxVertex = Math.max(maxVertex, v);
+        }
+        for (E e : graph.edgeSet()) {
+            add(
+                graph.getEdgeSource(e), graph.getEdgeTarget(e),
+                weighted ? graph.getEdgeWeight(e) : Graph.DEFAULT_EDGE_WEIGHT);
+        }
+        return this;
+    }
+
+    /**
+     * Write the graph file. The writer cannot be used after this call.
+     * 
+     * @param file the output file, which is overwritten if it exists
+     * @throws IOException in case of an I/O error
+     * @throws IllegalArgumentException if an edge touches a vertex not smaller than the number of
+     *         vertices
+     */
+    public void write(Path file)
+        throws IOException
+    {
+        ensureNotFinished();
+        finished = true;
+
+        int n = vertexCount >= 0 ? vertexCount : maxVertex + 1;
+        if (maxVertex >= n) {
+            close();
+            throw new IllegalArgumentException("no such vertex in graph: " + maxVertex);
+        }
+        if (spool != null) {
+            spool.close();
+        }
+        int m = edgeCount;
+        outDegrees = Arrays.copyOf(outDegrees, n);
+        adjDegrees = Arrays.copyOf(adjDegrees, n);
+
+        MappedSparseIntGraph.Header header =
+            new MappedSparseIntGraph.Header(directed, weighted, n, m, adjacencyCount);
+
+        try (RandomAccessFile output = new RandomAccessFile(file.toFile(), "rw")) {
+            output.setLength(0);
+            output.setLength(header.fileSize());
+            FileChannel channel = output.getChannel();
+            FileChannel.MapMode mode = FileChannel.MapMode.READ_WRITE;
+            MappedSegments sources =
+                new MappedSegments(channel, mode, header.sourcesPosition(), m, 4);
+            MappedSegments targets =
+                new MappedSegments(channel, mode, header.targetsPosition(), m, 4);
+            MappedSegments weights =
+                weighted ? new MappedSegments(channel, mode, header.weightsPosition(), m, 8) : null;
+            MappedSegments outOffsets =
+                new MappedSegments(channel, mode, header.outOffsetsPosition(), n + 1, 8);
+            MappedSegments adjOffsets =
+                new MappedSegments(channel, mode, header.adjOffsetsPosition(), n + 1, 8);
+            MappedSegments adjEdges = new MappedSegments(
+                channel, mode, header.adjEdgesPosition(), adjacencyCount, 4);
+
+            // offsets
+            int[] nextOut = new int[n];
+            long[] nextAdj = new long[n];
+            int outTotal = 0;
+            long adjTotal = 0;
+            for (int v = 0; v < n; v++) {
+                outOffsets.putLong(v, outTotal);
+                adjOffsets.putLong(v, adjTotal);
+                nextOut[v] = outTotal;
+                nextAdj[v] = adjTotal;
+                outTotal += outDegrees[v];
+                adjTotal += adjDegrees[v];
+            }
+            outOffsets.putLong(n, outTotal);
+            adjOffsets.putLong(n, adjTotal);
+            outDegrees = null;
+            adjDegrees = null;
+
+            // place edges in rows
+            if (m > 0) {
+                try (DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(Files.newInputStream(spoolFile), BUFFER_SIZE)))
+                {
+                    for (int e = 0; e < m; e++) {
+                        int s = in.readInt();
+                        int t = in.readInt();
+                        double w = weighted ? in.readDouble() : Graph.DEFAULT_EDGE_WEIGHT;
+                        if (!directed && s > t) {
+                            int tmp = s;
+                            s = t;
+                            t = tmp;
+                        }
+                        int pos = nextOut[s]++;
+                        sources.putInt(pos, s);
+                        targets.putInt(pos, t);
+                        if (weighted) {
+                            weights.putDouble(pos, w);
+                        }
+                    }
+                }
+            }
+            nextOut = null;
+
+            // sort rows by target
+            for (int v = 0; v < n; v++) {
+                sortRow(targets, weights, outOffsets.getLong(v), outOffsets.getLong(v + 1));
+            }
+
+            // incoming or incident edges, in increasing edge order
+            for (int e = 0; e < m; e++) {
+                int s = sources.getInt(e);
+                int t = targets.getInt(e);
+                adjEdges.putInt(nextAdj[t]++, e);
+                if (!directed && s != t) {
+                    adjEdges.putInt(nextAdj[s]++, e);
+                }
+            }
+
+            sources.force();
+            targets.force();
+            if (weighted) {
+                weights.force();
+            }
+            outOffsets.force();
+            adjOffsets.force();
+            adjEdges.force();
+
+            // the header is written last, a partially written file is never valid
+            header.write(channel);
+            channel.force(true);
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Discard the temporary edge file.
+     * 
+     * @throws IOException in case of an I/O error
+     */
+    @Override
+    public void close()
+        throws IOException
+    {
+        finished = true;
+        if (spool != null) {
+            spool.close();
+            spool = null;
+        }
+        if (spoolFile != null) {
+            Files.deleteIfExists(spoolFile);
+            spoolFile = null;
+        }
+    }
+
+    private void add(int sourceVertex, int targetVertex, double weight)
+        throws IOException
+    {
+        ensureNotFinished();
+        if (sourceVertex < 0 || targetVertex < 0) {
+            throw new IllegalArgumentException("Vertices must be non-negative");
+        }
+        if (edgeCount == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Maximum number of edges exceeded");
+        }
+        if (spool == null) {
+            spoolFile = temporaryDirectory == null
+                ? Files.createTempFile("jgrapht-edges", ".tmp")
+                : Files.createTempFile(temporaryDirectory, "jgrapht-edges", ".tmp");
+            spool = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(spoolFile), BUFFER_SIZE));
+        }
+        spool.writeInt(sourceVertex);
+        spool.writeInt(targetVertex);
+        if (weighted) {
+            spool.writeDouble(weight);
+        }
+        edgeCount++;
+
+        int maxEndpoint = Math.max(sourceVertex, targetVertex);
+        maxVertex = Math.max(maxVertex, maxEndpoint);
+        ensureCapacity(maxEndpoint + 1);
+        if (directed) {
+            outDegrees[sourceVertex]++;
+            adjDegrees[targetVertex]++;
+            adjacencyCount++;
+        } else {
+            outDegrees[Math.min(sourceVertex, targetVertex)]++;
+            adjDegrees[sourceVertex]++;
+            adjacencyCount++;
+            if (sourceVertex != targetVertex) {
+                adjDegrees[targetVertex]++;
+                adjacencyCount++;
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity)
+    {
+        if (capacity > outDegrees.length) {
+            int newCapacity = (int) Math.min(
+                Math.max(capacity, 2L * outDegrees.length), Integer.MAX_VALUE - 8);
+            outDegrees = Arrays.copyOf(outDegrees, newCapacity);
+            adjDegrees = Arrays.copyOf(adjDegrees, newCapacity);
+        }
+    }
+
+    private void ensureNotFinished()
+    {
+        if (finished) {
+            throw new IllegalStateException("Writer has already been closed");
+        }
+    }
+
+    /**
+     * Stable sort of a row by target, permuting the weights accordingly.
+     */
+    private static void sortRow(MappedSegments targets, MappedSegments weights, long from, long to)
+    {
+        int length = (int) (to - from);
+        boolean sorted = true;
+        for (int i = 1; i < length && sorted; i++) {
+            sorted = targets.getInt(from + i - 1) <= targets.getInt(from + i);
+        }
+        if (sorted) {
+            return;
+        }
+
+        // sort (target, position) pairs which keeps the sort stable
+        long[] keys = new long[length];
+        for (int i = 0; i < length; i++) {
+            keys[i] = ((long) targets.getInt(from + i) << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        double[] rowWeights = null;
+        if (weights != null) {
+            rowWeights = new double[length];
+            for (int i = 0; i < length; i++) {
+                rowWeights[i] = weights.getDouble(from + i);
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            targets.putInt(from + i, (int) (keys[i] >>> 32));
+            if (weights != null) {
+                weights.putDouble(from + i, rowWeights[(int) keys[i]]);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,280 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Base class for immutable graphs backed by compressed sparse row (CSR) arrays.
+ *
+ * <p>
+ * Vertices are the integers <code>0, 1, ..., n-1</code> and edges are the integers
+ * <code>0, 1, ..., m-1</code>. The edges are stored sorted lexicographically by their (source,
+ * target) pair, which means that the edge identifiers are assigned by the construction process and
+ * not by the user. The source, the target and (optionally) the weight of each edge are kept in
+ * primitive arrays. Subclasses add the per-vertex adjacency structure.
+ *
+ * <p>
+ * Compared with {@link AbstractBaseGraph} these graphs require only a few integers per edge, since
+ * no per-vertex edge containers and no intrusive edge objects are created. The price is that the
+ * graph cannot be modified after construction. Graphs are built using a
+ * {@link SparseIntGraphBuilder}. All query methods of the {@link Graph} interface are supported and
+ * thus the graphs can be used with all algorithms of the library.
+ *
+ * @author agent
+ * 
+ * @see SparseIntGraphBuilder
+ */
+public abstract class SparseIntGraph
+    extends
+    AbstractGraph<Integer, Integer>
+    implements
+    Serializable
+{
+    private static final long serialVersionUID = -4453693727233227434L;
+
+    private static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+    /**
+     * The number of vertices
+     */
+    protected final int vertexCount;
+
+    /**
+     * The source of each edge
+     */
+    protected final int[] sources;
+
+    /**
+     * The target of each edge
+     */
+    protected final int[] targets;
+
+    /**
+     * The weight of each edge or null if the graph is unweighted
+     */
+    protected final double[] weights;
+
+    private final GraphType type;
+    private final Set<Integer> vertexSet;
+    private final Set<Integer> edgeSet;
+
+    /**
+     * Create a new graph.
+     * 
+     * @param vertexCount the number of vertices
+     * @param sources the source of each edge
+     * @param targets the target of each edge
+     * @param weights the weight of each edge, or null if the graph is unweighted
+     * @param type the graph type
+     */
+    SparseIntGraph(int vertexCount, int[] sources, int[] targets, double[] weights, GraphType type)
+    {
+        this.vertexCount = vertexCount;
+        this.sources = Objects.requireNonNull(sources);
+        this.targets = Objects.requireNonNull(targets);
+        this.weights = weights;
+        this.type = Objects.requireNonNull(type);
+        this.vertexSet = new IntRangeSet(0, vertexCount);
+        this.edgeSet = new IntRangeSet(0, sources.length);
+    }
+
+    @Override
+    public Supplier<Integer> getVertexSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Supplier<Integer> getEdgeSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Integer addEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addEdge(Integer sourceVertex, Integer targetVertex, Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Integer addVertex()
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Integer removeEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeEdge(Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean containsEdge(Integer e)
+    {
+        return e != null && e >= 0 && e < sources.length;
+    }
+
+    @Override
+    public boolean containsVertex(Integer v)
+    {
+        return v != null && v >= 0 && v < vertexCount;
+    }
+
+    @Override
+    public Set<Integer> edgeSet()
+    {
+        return edgeSet;
+    }
+
+    @Override
+    public Set<Integer> vertexSet()
+    {
+        return vertexSet;
+    }
+
+    @Override
+    public Integer getEdgeSource(Integer e)
+    {
+        assertEdgeExist(e);
+        return sources[e];
+    }
+
+    @Override
+    public Integer getEdgeTarget(Integer e)
+    {
+        assertEdgeExist(e);
+        return targets[e];
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return type;
+    }
+
+    @Override
+    public double getEdgeWeight(Integer e)
+    {
+        assertEdgeExist(e);
+        return weights == null ? Graph.DEFAULT_EDGE_WEIGHT : weights[e];
+    }
+
+    @Override
+    public void setEdgeWeight(Integer e, double weight)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * Ensures that the specified edge exists in this graph, or else throws exception.
+     *
+     * @param e edge
+     *
+     * @return <code>true</code> if this assertion holds.
+     *
+     * @throws NullPointerException if specified edge is <code>null</code>.
+     * @throws IllegalArgumentException if specified edge does not exist in this graph.
+     */
+    protected boolean assertEdgeExist(Integer e)
+    {
+        if (containsEdge(e)) {
+            return true;
+        } else if (e == null) {
+            throw new NullPointerException();
+        } else {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+    }
+
+    /**
+     * Find the first position in the sorted range <code>[from, to)</code> of an array whose value
+     * is not less than the key.
+     * 
+     * @param a the array
+     * @param from first index of the range (inclusive)
+     * @param to last index of the range (exclusive)
+     * @param key the key
+     * @return the first position whose value is not less than the key, or <code>to</code> if no
+     *         such position exists
+     */
+    static int lowerBound(int[] a, int from, int to, int key)
+    {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (a[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Compute the offsets of a compressed sparse row representation given the row of each entry.
+     * 
+     * @param rows the row of each entry
+     * @param rowCount the total number of rows
+     * @return an array of size <code>rowCount+1</code> where entry <code>i</code> is the position
+     *         of the first entry of row <code>i</code>
+     */
+    static int[] computeOffsets(int[] rows, int rowCount)
+    {
+        int[] offsets = new int[rowCount + 1];
+        for (int row : rows) {
+            offsets[row + 1]++;
+        }
+        for (int i = 0; i < rowCount; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        return offsets;
+    }
+
+}
@@ -0,0 +1,355 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * A builder for {@link SparseIntGraph}s.
+ *
+ * <p>
+ * The builder collects an edge list in primitive arrays and constructs the compressed sparse row
+ * representation once, in time linear in the number of vertices and edges. The edges are sorted
+ * lexicographically by (source, target) using a stable radix sort and, unless multiple edges are
+ * allowed, duplicate edges are removed keeping the first occurrence (and its weight). In undirected
+ * graphs an edge <code>(u,v)</code> is considered equal to the edge <code>(v,u)</code>.
+ *
+ * <p>
+ * The following example creates a weighted directed graph with three vertices: <blockquote>
+ * 
+ * <pre>
+ * SparseIntDirectedGraph g = SparseIntGraphBuilder
+ *     .directed().vertexCount(3).weighted(true).addEdge(0, 1, 2.0).addEdge(1, 2, 3.5).build();
+ * </pre>
+ * 
+ * </blockquote>
+ * 
+ * <p>
+ * Since edge identifiers are assigned during construction, the edge <code>(u,v)</code> of the
+ * resulting graph can be retrieved using {@link Graph#getEdge(Object, Object)}.
+ *
+ * @param <G> the graph type
+ * 
+ * @author agent
+ */
+public final class SparseIntGraphBuilder<G extends SparseIntGraph>
+{
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final boolean directed;
+    private boolean weighted;
+    private boolean allowingMultipleEdges;
+    private boolean allowingSelfLoops;
+    private int vertexCount;
+    private int maxVertex;
+
+    private int edgeCount;
+    private int[] sources;
+    private int[] targets;
+    private double[] weights;
+
+    private SparseIntGraphBuilder(boolean directed)
+    {
+        this.directed = directed;
+        this.weighted = false;
+        this.allowingMultipleEdges = false;
+        this.allowingSelfLoops = false;
+        this.vertexCount = -1;
+        this.maxVertex = -1;
+        this.edgeCount = 0;
+        this.sources = new int[DEFAULT_CAPACITY];
+        this.targets = new int[DEFAULT_CAPACITY];
+        this.weights = null;
+    }
+
+    /**
+     * Create a builder for a directed graph.
+     * 
+     * @return the builder
+     */
+    public static SparseIntGraphBuilder<SparseIntDirectedGraph> directed()
+    {
+        return new SparseIntGraphBuilder<>(true);
+    }
+
+    /**
+     * Create a builder for an undirected graph.
+     * 
+     * @return the builder
+     */
+    public static SparseIntGraphBuilder<SparseIntUndirectedGraph> undirected()
+    {
+        return new SparseIntGraphBuilder<>(false);
+    }
+
+    /**
+     * Set the number of vertices of the graph. If not set, the number of vertices is one more
+     * than the largest vertex touched by an edge.
+     * 
+     * @param vertexCount the number of vertices
+     * @return the builder
+     * @throws IllegalArgumentException if the number of vertices is negative
+     */
+    public SparseIntGraphBuilder<G> vertexCount(int vertexCount)
+    {
+        if (vertexCount < 0) {
+            throw new IllegalArgumentException("Number of vertices must be non-negative");
+        }
+        this.vertexCount = vertexCount;
+        return this;
+    }
+
+    /**
+     * Hint the number of edges that will be added, in order to avoid reallocations.
+     * 
+     * @param expectedEdgeCount the expected number of edges
+     * @return the builder
+     */
+    public SparseIntGraphBuilder<G> expectedEdgeCount(int expectedEdgeCount)
+    {
+        ensureCapacity(expectedEdgeCount);
+        return this;
+    }
+
+    /**
+     * Set whether the graph will be weighted.
+     * 
+     * @param weighted if true the graph will be weighted, otherwise unweighted
+     * @return the builder
+     */
+    public SparseIntGraphBuilder<G> weighted(boolean weighted)
+    {
+        if (weighted && weights == null) {
+            weights = new double[sources.length];
+            Arrays.fill(weights, 0, edgeCount, Graph.DEFAULT_EDGE_WEIGHT);
+        }
+        this.weighted = weighted;
+        return this;
+    }
+
+    /**
+     * Set whether the graph will allow multiple (parallel) edges. If not, duplicate edges are
+     * removed during construction.
+     * 
+     * @param allowingMultipleEdges if true multiple edges are kept, otherwise removed
+     * @return the builder
+     */
+    public SparseIntGraphBuilder<G> allowingMultipleEdges(boolean allowingMultipleEdges)
+    {
+        this.allowingMultipleEdges = allowingMultipleEdges;
+        return this;
+    }
+
+    /**
+     * Set whether the graph will allow self-loops.
+     * 
+     * @param allowingSelfLoops if true self-loops are allowed, otherwise not
+     * @return the builder
+     */
+    public SparseIntGraphBuilder<G> allowingSelfLoops(boolean allowingSelfLoops)
+    {
+        this.allowingSelfLoops = allowingSelfLoops;
+        return this;
+    }
+
+    /**
+     * Add an edge with the default weight.
+     * 
+     * @param sourceVertex the source vertex
+     * @param targetVertex the target vertex
+     * @return the builder
+     * @throws IllegalArgumentException if any of the vertices is negative
+     */
+    public SparseIntGraphBuilder<G> addEdge(int sourceVertex, int targetVertex)
+    {
+        add(sourceVertex, targetVertex, Graph.DEFAULT_EDGE_WEIGHT);
+        return this;
+    }
+
+    /**
+     * Add an edge.
+     * 
+     * @param sourceVertex the source vertex
+     * @param targetVertex the target vertex
+     * @param weight the edge weight
+     * @return the builder
+     * @throws IllegalArgumentException if any of the vertices is negative
+     * @throws UnsupportedOperationException if the builder is not weighted
+     */
+    public SparseIntGraphBuilder<G> addEdge(int sourceVertex, int targetVertex, double weight)
+    {
+        if (!weighted) {
+            throw new UnsupportedOperationException("Graph is not weighted");
+        }
+        add(sourceVertex, targetVertex, weight);
+        return this;
+    }
+
+    private void add(int sourceVertex, int targetVertex, double weight)
+    {
+        if (sourceVertex < 0 || targetVertex < 0) {
+            throw new IllegalArgumentException("Vertices must be non-negative");
+        }
+        ensureCapacity(edgeCount + 1);
+        sources[edgeCount] = sourceVertex;
+        targets[edgeCount] = targetVertex;
+        if (weights != null) {
+            weights[edgeCount] = weight;
+        }
+        edgeCount++;
+        maxVertex = Math.max(maxVertex, Math.max(sourceVertex, targetVertex));
+    }
+
+    /**
+     * Add all edges of a graph whose vertices are non-negative integers. Edge weights are copied
+     * if the builder is weighted.
+     * 
+     * @param graph the graph
+     * @param <E> the graph edge type
+     * @return the builder
+     */
+    public <E> SparseIntGraphBuilder<G> addGraph(Graph<Integer, E> graph)
+    {
+        ensureCapacity(edgeCount + graph.edgeSet().size());
+        for (Integer v : graph.vertexSet()) {
+            if (v < 0) {
+                throw new IllegalArgumentException("Vertices must be non-negative");
+            }
+            maxVertex = Math.max(maxVertex, v);
+        }
+        for (E e : graph.edgeSet()) {
+            add(
+                graph.getEdgeSource(e), graph.getEdgeTarget(e),
+                weighted ? graph.getEdgeWeight(e) : Graph.DEFAULT_EDGE_WEIGHT);
+        }
+        return this;
+    }
+
+    /**
+     * Build the graph.
+     * 
+     * @return the graph
+     * @throws IllegalArgumentException if an edge touches a vertex not smaller than the number of
+     *         vertices, or if self-loops are not allowed and the edge list contains one
+     */
+    public G build()
+    {
+        int n = vertexCount >= 0 ? vertexCount : maxVertex + 1;
+        if (maxVertex >= n) {
+            throw new IllegalArgumentException("no such vertex in graph: " + maxVertex);
+        }
+
+        int[] s = Arrays.copyOf(sources, edgeCount);
+        int[] t = Arrays.copyOf(targets, edgeCount);
+        if (!directed) {
+            for (int e = 0; e < edgeCount; e++) {
+                if (s[e] > t[e]) {
+                    int tmp = s[e];
+                    s[e] = t[e];
+                    t[e] = tmp;
+                }
+            }
+        }
+
+        /*
+         * Stable LSD radix sort: first by target and then by source.
+         */
+        int[] order = new int[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            order[e] = e;
+        }
+        order = countingSort(order, t, n);
+        order = countingSort(order, s, n);
+
+        int[] newSources = new int[edgeCount];
+        int[] newTargets = new int[edgeCount];
+        double[] newWeights = weighted ? new double[edgeCount] : null;
+        int m = 0;
+        for (int e : order) {
+            if (s[e] == t[e] && !allowingSelfLoops) {
+                throw new IllegalArgumentException("loops not allowed");
+            }
+            if (!allowingMultipleEdges && m > 0 && newSources[m - 1] == s[e]
+                && newTargets[m - 1] == t[e])
+            {
+                continue;
+            }
+            newSources[m] = s[e];
+            newTargets[m] = t[e];
+            if (weighted) {
+                newWeights[m] = weights[e];
+            }
+            m++;
+        }
+        if (m < edgeCount) {
+            newSources = Arrays.copyOf(newSources, m);
+            newTargets = Arrays.copyOf(newTargets, m);
+            if (weighted) {
+                newWeights = Arrays.copyOf(newWeights, m);
+            }
+        }
+
+        GraphType type = new DefaultGraphType.Builder(directed, !directed)
+            .allowMultipleEdges(allowingMultipleEdges)
+            .allowSelfLoops(allowingSelfLoops).weighted(weighted).modifiable(false).build();
+
+        if (directed) {
+            return TypeUtil.uncheckedCast(
+                new SparseIntDirectedGraph(n, newSources, newTargets, newWeights, type));
+        } else {
+            return TypeUtil.uncheckedCast(
+                new SparseIntUndirectedGraph(n, newSources, newTargets, newWeights, type));
+        }
+    }
+
+    /**
+     * Stable counting sort of a permutation by the given keys.
+     */
+    private static int[] countingSort(int[] order, int[] keys, int keyCount)
+    {
+        int[] start = new int[keyCount + 1];
+        for (int e : order) {
+            start[keys[e] + 1]++;
+        }
+        for (int i = 0; i < keyCount; i++) {
+            start[i + 1] += start[i];
+        }
+        int[] result = new int[order.length];
+        for (int e : order) {
+            result[start[keys[e]]++] = e;
+        }
+        return result;
+    }
+
+    private void ensureCapacity(int capacity)
+    {
+        if (capacity > sources.length) {
+            int newCapacity = Math.max(capacity, sources.length + (sources.length >> 1));
+            sources = Arrays.copyOf(sources, newCapacity);
+            targets = Arrays.copyOf(targets, newCapacity);
+            if (weights != null) {
+                weights = Arrays.copyOf(weights, newCapacity);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,5 @@
+/**
+ * Immutable graph implementations backed by compressed sparse row (CSR) arrays, either on the heap
+ * or in memory-mapped files.
+ */
+package org.jgrapht.graph.sparse;
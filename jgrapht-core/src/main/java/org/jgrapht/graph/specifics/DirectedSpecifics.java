@@ -23,6 +23,7 @@ import org.jgrapht.util.*;
 
 import java.io.*;
 import java.util.*;
+import java.util.function.*;
 
 /**
  * Plain implementation of DirectedSpecifics. This implementation requires the least amount of
@@ -114,6 +115,15 @@ public class DirectedSpecifics<V, E>
         return vertexMap.keySet();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void ensureCapacity(int expectedVertexCount, int expectedEdgeCount)
+    {
+        CollectionUtil.ensureCapacity(vertexMap, expectedVertexCount);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -127,7 +137,7 @@ public class DirectedSpecifics<V, E>
         {
             edges = new ArrayUnenforcedSet<>();
 
-            DirectedEdgeContainer<V, E> ec = getEdgeContainer(sourceVertex);
+            DirectedEdgeContainer<V, E> ec = vertexMap.get(sourceVertex);
 
             for (E e : ec.outgoing) {
                 if (graph.getEdgeTarget(e).equals(targetVertex)) {
@@ -148,7 +158,8 @@ public class DirectedSpecifics<V, E>
         if (graph.containsVertex(sourceVertex)
             && graph.containsVertex(targetVertex))
         {
-            DirectedEdgeContainer<V, E> ec = getEdgeContainer(sourceVertex);
+            // look up the container without creating it, queries do not modify the vertex map
+            DirectedEdgeContainer<V, E> ec = vertexMap.get(sourceVertex);
 
             for (E e : ec.outgoing) {
                 if (graph.getEdgeTarget(e).equals(targetVertex)) {
@@ -217,7 +228,7 @@ public class DirectedSpecifics<V, E>
     @Override
     public int inDegreeOf(V vertex)
     {
-        return getEdgeContainer(vertex).incoming.size();
+        return vertexMap.get(vertex).incoming.size();
     }
 
     /**
@@ -235,7 +246,7 @@ public class DirectedSpecifics<V, E>
     @Override
     public int outDegreeOf(V vertex)
     {
-        return getEdgeContainer(vertex).outgoing.size();
+        return vertexMap.get(vertex).outgoing.size();
     }
 
     /**
@@ -247,6 +258,45 @@ public class DirectedSpecifics<V, E>
         return getEdgeContainer(vertex).getUnmodifiableOutgoingEdges();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachEdgeOf(V vertex, Consumer<? super E> action)
+    {
+        DirectedEdgeContainer<V, E> ec = getEdgeContainer(vertex);
+
+        // same order as edgesOf: self-loops are visited as outgoing edges only
+        if (graph.getType().isAllowingSelfLoops()) {
+            for (E e : ec.incoming) {
+                if (!vertex.equals(graph.getEdgeSource(e))) {
+                    action.accept(e);
+                }
+            }
+        } else {
+            ec.incoming.forEach(action);
+        }
+        ec.outgoing.forEach(action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachIncomingEdge(V vertex, Consumer<? super E> action)
+    {
+        getEdgeContainer(vertex).incoming.forEach(action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachOutgoingEdge(V vertex, Consumer<? super E> action)
+    {
+        getEdgeContainer(vertex).outgoing.forEach(action);
+    }
+
     /**
      * {@inheritDoc}
      */
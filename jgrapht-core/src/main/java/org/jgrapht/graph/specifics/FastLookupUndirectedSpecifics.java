@@ -20,6 +20,7 @@ package org.jgrapht.graph.specifics;
 import org.jgrapht.Graph;
 import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 
 import java.util.*;
 
@@ -106,6 +107,16 @@ public class FastLookupUndirectedSpecifics<V, E>
         this.touchingVerticesToEdgeMap = Objects.requireNonNull(touchingVerticesToEdgeMap);
     }
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void ensureCapacity(int expectedVertexCount, int expectedEdgeCount)
+    {
+        super.ensureCapacity(expectedVertexCount, expectedEdgeCount);
+        CollectionUtil.ensureCapacity(touchingVerticesToEdgeMap, expectedEdgeCount);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,389 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.specifics;
+
+import org.jgrapht.Graph;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * An edge set of a vertex which switches between an array and a hash table depending on its size.
+ * 
+ * <p>
+ * While the set contains at most {@code threshold} edges, the edges are stored in a compact array
+ * and lookups by opposite vertex require a linear scan. When the set grows beyond the threshold the
+ * edges are moved into a hash table keyed by the opposite endpoint of each edge, making lookups by
+ * opposite vertex constant time. The set moves back to an array when its size drops to half the
+ * threshold. Once hashed, the edges are iterated grouped by opposite vertex.
+ * 
+ * <p>
+ * The opposite endpoint of an edge is computed using the graph, and therefore an edge must be
+ * contained in the graph when it is added to or removed from the set. Like
+ * {@link org.jgrapht.util.ArrayUnenforcedSet} the set does not enforce uniqueness of its elements.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+class HybridEdgeSet<V, E>
+    extends
+    AbstractSet<E>
+    implements
+    Serializable
+{
+    private static final long serialVersionUID = 2204985366916593163L;
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private final Graph<V, E> graph;
+    private final V vertex;
+    private final int threshold;
+
+    private int size;
+    private Object[] array;
+    private Map<V, Object> index;
+
+    /**
+     * Create a new edge set.
+     * 
+     * @param graph the graph
+     * @param vertex the vertex whose edges are stored in the set
+     * @param threshold the maximum size of the set in array form
+     */
+    HybridEdgeSet(Graph<V, E> graph, V vertex, int threshold)
+    {
+        this.graph = graph;
+        this.vertex = vertex;
+        this.threshold = threshold;
+        this.array = EMPTY;
+    }
+
+    /**
+     * Whether the set is currently hashed.
+     * 
+     * @return true if the set is hashed, false otherwise
+     */
+    boolean isHashed()
+    {
+        return index != null;
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public boolean add(E e)
+    {
+        if (index == null) {
+            if (size < threshold) {
+                if (size == array.length) {
+                    array = Arrays.copyOf(array, Math.min(threshold, Math.max(1, 2 * size)));
+                }
+                array[size++] = e;
+                return true;
+            }
+            toIndex();
+        }
+        addToIndex(e);
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o)
+    {
+        if (index == null) {
+            for (int i = 0; i < size; i++) {
+                if (array[i].equals(o)) {
+                    System.arraycopy(array, i + 1, array, i, size - i - 1);
+                    array[--size] = null;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        if (!containsInIndex(o)) {
+            return false;
+        }
+        @SuppressWarnings("unchecked") E e = (E) o;
+        V opposite = getOpposite(e);
+        Object value = index.get(opposite);
+        if (value instanceof EdgeList) {
+            EdgeList list = (EdgeList) value;
+            list.remove(e);
+            if (list.size() == 1) {
+                index.put(opposite, list.get(0));
+            }
+        } else {
+            index.remove(opposite);
+        }
+        size--;
+        if (size <= threshold / 2) {
+            toArray(size);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        if (index == null) {
+            for (int i = 0; i < size; i++) {
+                if (array[i].equals(o)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return containsInIndex(o);
+    }
+
+    @Override
+    public void clear()
+    {
+        size = 0;
+        array = EMPTY;
+        index = null;
+    }
+
+    /**
+     * Get an edge of the set whose opposite endpoint is a particular vertex.
+     * 
+     * @param opposite the opposite vertex
+     * @return an edge or null if no such edge exists
+     */
+    @SuppressWarnings("unchecked")
+    E getEdge(V opposite)
+    {
+        if (index == null) {
+            for (int i = 0; i < size; i++) {
+                E e = (E) array[i];
+                if (opposite.equals(getOpposite(e))) {
+                    return e;
+                }
+            }
+            return null;
+        }
+        Object value = index.get(opposite);
+        if (value instanceof EdgeList) {
+            return (E) ((EdgeList) value).get(0);
+        }
+        return (E) value;
+    }
+
+    /**
+     * Add to a collection all edges of the set whose opposite endpoint is a particular vertex.
+     * 
+     * @param opposite the opposite vertex
+     * @param edges the collection to add the edges to
+     */
+    @SuppressWarnings("unchecked")
+    void getAllEdges(V opposite, Collection<E> edges)
+    {
+        if (index == null) {
+            for (int i = 0; i < size; i++) {
+                E e = (E) array[i];
+                if (opposite.equals(getOpposite(e))) {
+                    edges.add(e);
+                }
+            }
+            return;
+        }
+        Object value = index.get(opposite);
+        if (value instanceof EdgeList) {
+            for (Object e : (EdgeList) value) {
+                edges.add((E) e);
+            }
+        } else if (value != null) {
+            edges.add((E) value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action)
+    {
+        if (index == null) {
+            for (int i = 0; i < size; i++) {
+                action.accept((E) array[i]);
+            }
+            return;
+        }
+        for (Object value : index.values()) {
+            if (value instanceof EdgeList) {
+                for (Object e : (EdgeList) value) {
+                    action.accept((E) e);
+                }
+            } else {
+                action.accept((E) value);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator()
+    {
+        if (index == null) {
+            return new ArrayIterator();
+        }
+        return new IndexIterator();
+    }
+
+    private V getOpposite(E e)
+    {
+        V source = graph.getEdgeSource(e);
+        return vertex.equals(source) ? graph.getEdgeTarget(e) : source;
+    }
+
+    private boolean containsInIndex(Object o)
+    {
+        if (o == null || !graph.containsEdge(uncheckedCast(o))) {
+            return false;
+        }
+        Object value = index.get(getOpposite(uncheckedCast(o)));
+        if (value instanceof EdgeList) {
+            return ((EdgeList) value).contains(o);
+        }
+        return o.equals(value);
+    }
+
+    private void addToIndex(E e)
+    {
+        V opposite = getOpposite(e);
+        Object value = index.get(opposite);
+        if (value == null) {
+            index.put(opposite, e);
+        } else if (value instanceof EdgeList) {
+            ((EdgeList) value).add(e);
+        } else {
+            EdgeList list = new EdgeList();
+            list.add(value);
+            list.add(e);
+            index.put(opposite, list);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void toIndex()
+    {
+        index = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            addToIndex((E) array[i]);
+        }
+        array = null;
+    }
+
+    private void toArray(int capacity)
+    {
+        Object[] newArray = new Object[Math.max(1, capacity)];
+        int i = 0;
+        for (Object value : index.values()) {
+            if (value instanceof EdgeList) {
+                for (Object e : (EdgeList) value) {
+                    newArray[i++] = e;
+                }
+            } else {
+                newArray[i++] = value;
+            }
+        }
+        array = newArray;
+        index = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E uncheckedCast(Object o)
+    {
+        return (E) o;
+    }
+
+    /**
+     * Parallel edges with the same opposite vertex. A dedicated class is used so that it cannot be
+     * confused with a user edge.
+     */
+    private static final class EdgeList
+        extends
+        ArrayList<Object>
+    {
+        private static final long serialVersionUID = -6087316962399585163L;
+
+        EdgeList()
+        {
+            super(2);
+        }
+    }
+
+    private class ArrayIterator
+        implements
+        Iterator<E>
+    {
+        private int next = 0;
+
+        @Override
+        public boolean hasNext()
+        {
+            return next < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next()
+        {
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            return (E) array[next++];
+        }
+    }
+
+    private class IndexIterator
+        implements
+        Iterator<E>
+    {
+        private final Iterator<Object> values = index.values().iterator();
+        private Iterator<Object> parallel = Collections.emptyIterator();
+
+        @Override
+        public boolean hasNext()
+        {
+            return parallel.hasNext() || values.hasNext();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next()
+        {
+            if (parallel.hasNext()) {
+                return (E) parallel.next();
+            }
+            Object value = values.next();
+            if (value instanceof EdgeList) {
+                parallel = ((EdgeList) value).iterator();
+                return (E) parallel.next();
+            }
+            return (E) value;
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.specifics;
+
+import org.jgrapht.Graph;
+import org.jgrapht.graph.*;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * An edge set factory which creates {@link HybridEdgeSet} instances.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * 
+ * @author agent
+ */
+class HybridEdgeSetFactory<V, E>
+    implements
+    EdgeSetFactory<V, E>,
+    Serializable
+{
+    private static final long serialVersionUID = -3312047207366926637L;
+
+    private final Graph<V, E> graph;
+    private final int threshold;
+
+    /**
+     * Create a new factory.
+     * 
+     * @param graph the graph
+     * @param threshold the maximum size of an edge set in array form
+     */
+    HybridEdgeSetFactory(Graph<V, E> graph, int threshold)
+    {
+        this.graph = Objects.requireNonNull(graph);
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive");
+        }
+        this.threshold = threshold;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> createEdgeSet(V vertex)
+    {
+        return new HybridEdgeSet<>(graph, vertex, threshold);
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.specifics;
+
+import org.jgrapht.Graph;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * Hybrid lookup implementation of UndirectedSpecifics. The edges of each vertex are kept in a
+ * compact array while the vertex has small degree, and are indexed by their opposite endpoint once
+ * the degree exceeds a threshold. Thus methods which depend on edge retrievals, e.g. getEdge(V u,
+ * V v) and containsEdge(V u, V v), are fast on high degree vertices, while low degree vertices use
+ * the same amount of memory as in {@link UndirectedSpecifics}. Contrary to
+ * {@link FastLookupUndirectedSpecifics} no global index of vertex pairs is maintained.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class HybridLookupUndirectedSpecifics<V, E>
+    extends
+    UndirectedSpecifics<V, E>
+{
+    private static final long serialVersionUID = -5573829916431446155L;
+
+    /**
+     * Construct a new hybrid lookup undirected specifics.
+     * 
+     * @param graph the graph for which these specifics are for
+     * @param vertexMap map for the storage of vertex edge sets. Needs to have a predictable
+     *        iteration order.
+     * @param threshold the maximum degree for which the edges of a vertex are kept in an array
+     */
+    public HybridLookupUndirectedSpecifics(
+        Graph<V, E> graph, Map<V, UndirectedEdgeContainer<V, E>> vertexMap, int threshold)
+    {
+        super(graph, vertexMap, new HybridEdgeSetFactory<>(graph, threshold));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        Set<E> edges = null;
+
+        if (graph.containsVertex(sourceVertex) && graph.containsVertex(targetVertex)) {
+            edges = new ArrayUnenforcedSet<>();
+            getVertexEdges(sourceVertex).getAllEdges(targetVertex, edges);
+        }
+
+        return edges;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E getEdge(V sourceVertex, V targetVertex)
+    {
+        if (graph.containsVertex(sourceVertex) && graph.containsVertex(targetVertex)) {
+            return getVertexEdges(sourceVertex).getEdge(targetVertex);
+        }
+        return null;
+    }
+
+    private HybridEdgeSet<V, E> getVertexEdges(V vertex)
+    {
+        // the edge set factory only creates hybrid edge sets
+        return TypeUtil.uncheckedCast(vertexMap.get(vertex).vertexEdges);
+    }
+}
@@ -18,6 +18,7 @@
 package org.jgrapht.graph.specifics;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * An interface encapsulating the basic graph operations. Different implementations have different
@@ -45,6 +46,17 @@ public interface Specifics<V, E>
      */
     Set<V> getVertexSet();
 
+    /**
+     * Prepare for the addition of a large number of vertices and edges, e.g. by presizing internal
+     * hash tables. The default implementation does nothing.
+     * 
+     * @param expectedVertexCount the expected total number of vertices
+     * @param expectedEdgeCount the expected total number of edges
+     */
+    default void ensureCapacity(int expectedVertexCount, int expectedEdgeCount)
+    {
+    }
+
     /**
      * Returns a set of all edges connecting source vertex to target vertex if such vertices exist
      * in this graph. If any of the vertices does not exist or is <code>null</code>, returns
@@ -133,6 +145,42 @@ public interface Specifics<V, E>
      */
     Set<E> outgoingEdgesOf(V vertex);
 
+    /**
+     * Performs the given action for each edge touching the specified vertex, without creating
+     * intermediate collections when possible.
+     *
+     * @param vertex the vertex
+     * @param action the action to be performed for each edge
+     */
+    default void forEachEdgeOf(V vertex, Consumer<? super E> action)
+    {
+        edgesOf(vertex).forEach(action);
+    }
+
+    /**
+     * Performs the given action for each edge incoming into the specified vertex, without creating
+     * intermediate collections when possible.
+     *
+     * @param vertex the vertex
+     * @param action the action to be performed for each edge
+     */
+    default void forEachIncomingEdge(V vertex, Consumer<? super E> action)
+    {
+        incomingEdgesOf(vertex).forEach(action);
+    }
+
+    /**
+     * Performs the given action for each edge outgoing from the specified vertex, without creating
+     * intermediate collections when possible.
+     *
+     * @param vertex the vertex
+     * @param action the action to be performed for each edge
+     */
+    default void forEachOutgoingEdge(V vertex, Consumer<? super E> action)
+    {
+        outgoingEdgesOf(vertex).forEach(action);
+    }
+
     /**
      * Removes the specified edge from the edge containers of its source and target vertices.
      *
@@ -23,6 +23,7 @@ import org.jgrapht.util.*;
 
 import java.io.*;
 import java.util.*;
+import java.util.function.*;
 
 /**
  * Plain implementation of UndirectedSpecifics. This implementation requires the least amount of
@@ -113,6 +114,15 @@ public class UndirectedSpecifics<V, E>
         return vertexMap.keySet();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void ensureCapacity(int expectedVertexCount, int expectedEdgeCount)
+    {
+        CollectionUtil.ensureCapacity(vertexMap, expectedVertexCount);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -124,7 +134,7 @@ public class UndirectedSpecifics<V, E>
         if (graph.containsVertex(sourceVertex) && graph.containsVertex(targetVertex)) {
             edges = new ArrayUnenforcedSet<>();
 
-            for (E e : getEdgeContainer(sourceVertex).vertexEdges) {
+            for (E e : vertexMap.get(sourceVertex).vertexEdges) {
                 boolean equal = isEqualsStraightOrInverted(sourceVertex, targetVertex, e);
 
                 if (equal) {
@@ -144,7 +154,8 @@ public class UndirectedSpecifics<V, E>
     {
         if (graph.containsVertex(sourceVertex) && graph.containsVertex(targetVertex)) {
 
-            for (E e : getEdgeContainer(sourceVertex).vertexEdges) {
+            // look up the container without creating it, queries do not modify the vertex map
+            for (E e : vertexMap.get(sourceVertex).vertexEdges) {
                 boolean equal = isEqualsStraightOrInverted(sourceVertex, targetVertex, e);
 
                 if (equal) {
@@ -193,7 +204,7 @@ public class UndirectedSpecifics<V, E>
              * Then we must count, and add loops twice
              */
             int degree = 0;
-            Set<E> edges = getEdgeContainer(vertex).vertexEdges;
+            Set<E> edges = vertexMap.get(vertex).vertexEdges;
 
             for (E e : edges) {
                 if (graph.getEdgeSource(e).equals(graph.getEdgeTarget(e))) {
@@ -205,7 +216,7 @@ public class UndirectedSpecifics<V, E>
 
             return degree;
         } else {
-            return getEdgeContainer(vertex).edgeCount();
+            return vertexMap.get(vertex).edgeCount();
         }
     }
 
@@ -254,6 +265,33 @@ public class UndirectedSpecifics<V, E>
         return getEdgeContainer(vertex).getUnmodifiableVertexEdges();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachEdgeOf(V vertex, Consumer<? super E> action)
+    {
+        getEdgeContainer(vertex).vertexEdges.forEach(action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachIncomingEdge(V vertex, Consumer<? super E> action)
+    {
+        getEdgeContainer(vertex).vertexEdges.forEach(action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachOutgoingEdge(V vertex, Consumer<? super E> action)
+    {
+        getEdgeContainer(vertex).vertexEdges.forEach(action);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -21,6 +21,7 @@ import org.jgrapht.*;
 import org.jgrapht.event.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * Provides a cross-connected-component traversal functionality for iterator subclasses.
@@ -73,6 +74,16 @@ public abstract class CrossComponentIterator<V, E, D>
      */
     private int state = CCS_BEFORE_COMPONENT;
 
+    /**
+     * The vertex whose outgoing edges are currently being expanded.
+     */
+    private V expandedVertex;
+
+    /**
+     * Reusable callback which expands a single outgoing edge of the expanded vertex.
+     */
+    private final Consumer<E> edgeExpander = this::expandEdge;
+
     /**
      * Creates a new iterator for the specified graph.
      *
@@ -297,18 +308,23 @@ public abstract class CrossComponentIterator<V, E, D>
 
     private void addUnseenChildrenOf(V vertex)
     {
-        for (E edge : graph.outgoingEdgesOf(vertex)) {
-            if (nListeners != 0) {
-                fireEdgeTraversed(createEdgeTraversalEvent(edge));
-            }
+        expandedVertex = vertex;
+        graph.forEachOutgoingEdge(vertex, edgeExpander);
+        expandedVertex = null;
+    }
 
-            V oppositeV = Graphs.getOppositeVertex(graph, edge, vertex);
+    private void expandEdge(E edge)
+    {
+        if (nListeners != 0) {
+            fireEdgeTraversed(createEdgeTraversalEvent(edge));
+        }
 
-            if (isSeenVertex(oppositeV)) {
-                encounterVertexAgain(oppositeV, edge);
-            } else {
-                encounterVertex(oppositeV, edge);
-            }
+        V oppositeV = Graphs.getOppositeVertex(graph, edge, expandedVertex);
+
+        if (isSeenVertex(oppositeV)) {
+            encounterVertexAgain(oppositeV, edge);
+        } else {
+            encounterVertex(oppositeV, edge);
         }
     }
 
@@ -21,6 +21,7 @@ import org.jgrapht.*;
 import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * A topological ordering iterator for a directed acyclic graph.
@@ -58,6 +59,7 @@ public class TopologicalOrderIterator<V, E>
     private Map<V, ModifiableInteger> inDegreeMap;
     private int remainingVertices;
     private V cur;
+    private final Consumer<E> edgeRelaxer = this::relaxEdge;
 
     /**
      * Construct a topological order iterator.
@@ -173,23 +175,27 @@ public class TopologicalOrderIterator<V, E>
         return result;
     }
 
+    private void relaxEdge(E e)
+    {
+        // the graph is directed and contains no self-loops
+        V other = graph.getEdgeTarget(e);
+
+        ModifiableInteger inDegree = inDegreeMap.get(other);
+        if (inDegree.value > 0) {
+            inDegree.value--;
+
+            if (inDegree.value == 0) {
+                queue.offer(other);
+            }
+        }
+    }
+
     private V advance()
     {
         V result = queue.poll();
 
         if (result != null) {
-            for (E e : graph.outgoingEdgesOf(result)) {
-                V other = Graphs.getOppositeVertex(graph, e, result);
-
-                ModifiableInteger inDegree = inDegreeMap.get(other);
-                if (inDegree.value > 0) {
-                    inDegree.value--;
-
-                    if (inDegree.value == 0) {
-                        queue.offer(other);
-                    }
-                }
-            }
+            graph.forEachOutgoingEdge(result, edgeRelaxer);
 
             --remainingVertices;
         } else {
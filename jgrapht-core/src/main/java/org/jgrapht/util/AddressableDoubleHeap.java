@@ -0,0 +1,124 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+/**
+ * An addressable priority queue with primitive <code>double</code> keys.
+ *
+ * <p>
+ * Elements are identified by integer handles which are returned by {@link #insert(double)}. Handles
+ * are issued consecutively starting from zero, and therefore callers can store any data associated
+ * with an element in plain arrays or lists indexed by its handle. A handle remains valid after its
+ * element has been removed from the heap, so the last key of an element can still be retrieved
+ * using {@link #getKey(int)} and the element can be put back using {@link #reinsert(int, double)}.
+ * All handles are invalidated by {@link #clear()}.
+ *
+ * <p>
+ * Implementations store keys in primitive arrays and avoid allocating objects per element, which
+ * makes them suitable for use in shortest path algorithms on large graphs. The behavior of all
+ * operations is undefined when called with a handle which has not been returned by the heap since
+ * it was last cleared.
+ *
+ * @author agent
+ *
+ * @see DaryDoubleHeap
+ * @see PairingDoubleHeap
+ * @see FibonacciDoubleHeap
+ */
+public interface AddressableDoubleHeap
+{
+    /**
+     * Insert a new element into the heap.
+     *
+     * @param key the key of the element
+     * @return the handle of the new element
+     */
+    int insert(double key);
+
+    /**
+     * Insert again an element which has been removed from the heap.
+     *
+     * @param handle the handle of the element
+     * @param key the new key of the element
+     * @throws IllegalArgumentException if the element is already contained in the heap
+     */
+    void reinsert(int handle, double key);
+
+    /**
+     * Get the handle of an element with the minimum key.
+     *
+     * @return the handle of an element with the minimum key
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    int findMin();
+
+    /**
+     * Remove an element with the minimum key from the heap.
+     *
+     * @return the handle of the removed element
+     * @throws java.util.NoSuchElementException if the heap is empty
+     */
+    int deleteMin();
+
+    /**
+     * Decrease the key of an element contained in the heap.
+     *
+     * @param handle the handle of the element
+     * @param key the new key, which must not be larger than the current key
+     * @throws IllegalArgumentException if the new key is larger than the current key or if the
+     *         element is not contained in the heap
+     */
+    void decreaseKey(int handle, double key);
+
+    /**
+     * Get the key of an element. For elements which have been removed from the heap the last key
+     * they had is returned.
+     *
+     * @param handle the handle of the element
+     * @return the key of the element
+     */
+    double getKey(int handle);
+
+    /**
+     * Check whether an element is currently contained in the heap.
+     *
+     * @param handle the handle of the element
+     * @return true if the element is contained in the heap, false otherwise
+     */
+    boolean contains(int handle);
+
+    /**
+     * Check whether the heap is empty.
+     *
+     * @return true if the heap is empty, false otherwise
+     */
+    boolean isEmpty();
+
+    /**
+     * Get the number of elements contained in the heap.
+     *
+     * @return the number of elements in the heap
+     */
+    int size();
+
+    /**
+     * Remove all elements from the heap and invalidate all handles. Handles are issued starting
+     * from zero again after this call.
+     */
+    void clear();
+}
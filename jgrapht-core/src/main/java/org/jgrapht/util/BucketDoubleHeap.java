@@ -0,0 +1,278 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import java.util.*;
+
+/**
+ * A monotone bucket queue with non-negative integer keys, also known as Dial's queue.
+ *
+ * <p>
+ * The heap is monotone, which means that the key of an inserted element and the new key of a
+ * decrease key operation must not be smaller than the last minimum key reported by
+ * {@link #findMin()} or {@link #deleteMin()}. Moreover, the difference between any key and that
+ * minimum must not exceed a bound $C$ given at construction time. When used by Dijkstra's
+ * algorithm, $C$ is the maximum edge weight. Keys must be non-negative integers which are exactly
+ * representable as <code>double</code> values.
+ *
+ * <p>
+ * Elements are kept in a circular array of $C+1$ buckets, one for each possible key value.
+ * Operations {@link #insert(double)} and {@link #decreaseKey(int, double)} run in $O(1)$ time and
+ * {@link #deleteMin()} in $O(C)$ time in the worst case. Over a whole run of Dijkstra's algorithm
+ * the scanning of empty buckets costs $O(nC)$ in total, and therefore this queue is best suited
+ * for small integer weights.
+ *
+ * <p>
+ * See the paper: R. B. Dial. Algorithm 360: Shortest-path forest with topological ordering.
+ * Communications of the ACM, 12(11):632--633, 1969.
+ *
+ * <p>
+ * <b>Note that this implementation is not synchronized.</b>
+ *
+ * @author agent
+ */
+public class BucketDoubleHeap
+    implements
+    AddressableDoubleHeap
+{
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int NIL = -1;
+    private static final int NOT_IN_HEAP = -2;
+
+    private final int maxKeyDifference;
+    private final int[] buckets;
+    private long[] keys;
+    private int[] next;
+    private int[] prev;
+    private long last;
+    private int size;
+    private int handles;
+
+    /**
+     * Construct a new bucket queue.
+     *
+     * @param maxKeyDifference the maximum difference between any key and the current minimum
+     * @throws IllegalArgumentException if the maximum key difference is negative
+     */
+    public BucketDoubleHeap(int maxKeyDifference)
+    {
+        this(maxKeyDifference, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Construct a new bucket queue.
+     *
+     * @param maxKeyDifference the maximum difference between any key and the current minimum
+     * @param initialCapacity the expected number of handles
+     * @throws IllegalArgumentException if the maximum key difference or the initial capacity is
+     *         negative
+     */
+    public BucketDoubleHeap(int maxKeyDifference, int initialCapacity)
+    {
+        if (maxKeyDifference < 0 || maxKeyDifference == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                "Illegal maximum key difference: " + maxKeyDifference);
+        }
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.maxKeyDifference = maxKeyDifference;
+        this.buckets = new int[maxKeyDifference + 1];
+        Arrays.fill(buckets, NIL);
+        this.keys = new long[initialCapacity];
+        this.next = new int[initialCapacity];
+        this.prev = new int[initialCapacity];
+        this.last = 0;
+        this.size = 0;
+        this.handles = 0;
+    }
+
+    /**
+     * Get the maximum difference between any key and the current minimum.
+     *
+     * @return the maximum key difference
+     */
+    public int getMaxKeyDifference()
+    {
+        return maxKeyDifference;
+    }
+
+    @Override
+    public int insert(double key)
+    {
+        long k = checkKey(key);
+        if (handles == keys.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, keys.length + (keys.length >> 1));
+            keys = Arrays.copyOf(keys, capacity);
+            next = Arrays.copyOf(next, capacity);
+            prev = Arrays.copyOf(prev, capacity);
+        }
+        int handle = handles++;
+        add(handle, k);
+        return handle;
+    }
+
+    @Override
+    public void reinsert(int handle, double key)
+    {
+        if (prev[handle] != NOT_IN_HEAP) {
+            throw new IllegalArgumentException("Element already in heap");
+        }
+        add(handle, checkKey(key));
+    }
+
+    @Override
+    public int findMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int b = bucket(last);
+        while (buckets[b] == NIL) {
+            last++;
+            b = (b == maxKeyDifference) ? 0 : b + 1;
+        }
+        return buckets[b];
+    }
+
+    @Override
+    public int deleteMin()
+    {
+        int min = findMin();
+        unlink(min);
+        prev[min] = NOT_IN_HEAP;
+        size--;
+        return min;
+    }
+
+    @Override
+    public void decreaseKey(int handle, double key)
+    {
+        if (prev[handle] == NOT_IN_HEAP) {
+            throw new IllegalArgumentException("Element not in heap");
+        }
+        long k = checkKey(key);
+        if (k > keys[handle]) {
+            throw new IllegalArgumentException(
+                "decreaseKey() got larger key value. Current key: " + keys[handle] + " new key: "
+                    + k);
+        }
+        checkRange(k);
+        unlink(handle);
+        keys[handle] = k;
+        link(handle);
+    }
+
+    @Override
+    public double getKey(int handle)
+    {
+        return keys[handle];
+    }
+
+    @Override
+    public boolean contains(int handle)
+    {
+        return prev[handle] != NOT_IN_HEAP;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public void clear()
+    {
+        Arrays.fill(buckets, NIL);
+        last = 0;
+        size = 0;
+        handles = 0;
+    }
+
+    private long checkKey(double key)
+    {
+        if (!(key >= 0d && key <= RadixDoubleHeap.MAX_KEY) || key != Math.rint(key)) {
+            throw new IllegalArgumentException("Key must be a non-negative integer: " + key);
+        }
+        return (long) key;
+    }
+
+    private void checkRange(long k)
+    {
+        if (k < last) {
+            throw new IllegalArgumentException("Key smaller than current minimum");
+        }
+        if (k - last > maxKeyDifference) {
+            throw new IllegalArgumentException(
+                "Key exceeds current minimum by more than " + maxKeyDifference);
+        }
+    }
+
+    private void add(int handle, long k)
+    {
+        if (size == 0) {
+            // an empty heap accepts any key
+            if (k < last || k - last > maxKeyDifference) {
+                last = k;
+            }
+        } else {
+            checkRange(k);
+        }
+        keys[handle] = k;
+        link(handle);
+        size++;
+    }
+
+    private int bucket(long k)
+    {
+        return (int) (k % (maxKeyDifference + 1));
+    }
+
+    private void link(int handle)
+    {
+        int b = bucket(keys[handle]);
+        int head = buckets[b];
+        next[handle] = head;
+        prev[handle] = NIL;
+        if (head != NIL) {
+            prev[head] = handle;
+        }
+        buckets[b] = handle;
+    }
+
+    private void unlink(int handle)
+    {
+        int p = prev[handle];
+        int n = next[handle];
+        if (p == NIL) {
+            buckets[bucket(keys[handle])] = n;
+        } else {
+            next[p] = n;
+        }
+        if (n != NIL) {
+            prev[n] = p;
+        }
+    }
+}
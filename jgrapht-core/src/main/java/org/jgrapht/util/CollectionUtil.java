@@ -0,0 +1,134 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import java.util.*;
+
+/**
+ * Utility methods for collections.
+ *
+ * @author agent
+ */
+public class CollectionUtil
+{
+    private CollectionUtil()
+    {
+    }
+
+    /**
+     * Returns a new {@link HashMap} which can hold the expected number of mappings without being
+     * resized.
+     *
+     * @param expectedSize the expected number of mappings
+     * @param <K> the type of keys
+     * @param <V> the type of values
+     * @return a new hash map
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    public static <K, V> HashMap<K, V> newHashMapWithExpectedSize(int expectedSize)
+    {
+        return new HashMap<>(capacity(expectedSize));
+    }
+
+    /**
+     * Returns a new {@link LinkedHashMap} which can hold the expected number of mappings without
+     * being resized.
+     *
+     * @param expectedSize the expected number of mappings
+     * @param <K> the type of keys
+     * @param <V> the type of values
+     * @return a new linked hash map
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    public static <K, V> LinkedHashMap<K, V> newLinkedHashMapWithExpectedSize(int expectedSize)
+    {
+        return new LinkedHashMap<>(capacity(expectedSize));
+    }
+
+    /**
+     * Grows the hash table of a map in place, so that it can hold the expected number of mappings
+     * without being resized. The mappings of the map are not changed. Only instances of
+     * {@link HashMap}, including {@link LinkedHashMap}, are grown, any other map is left as is.
+     *
+     * @param map the map
+     * @param expectedSize the expected number of mappings
+     * @param <K> the type of keys
+     * @param <V> the type of values
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    public static <K, V> void ensureCapacity(Map<K, V> map, int expectedSize)
+    {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must be non-negative");
+        }
+        if (expectedSize <= map.size() || !(map instanceof HashMap)) {
+            return;
+        }
+        /*
+         * HashMap.putAll grows the table according to the size of its argument before adding any
+         * mapping, so an empty map reporting the expected size only grows the table. Some JDK
+         * versions double an existing table at most once per call, hence the repetition.
+         */
+        Map<K, V> sized = new SizedEmptyMap<>(expectedSize);
+        int doublings = Integer.SIZE
+            - Integer.numberOfLeadingZeros(expectedSize / Math.max(map.size(), 1));
+        for (int i = 0; i < doublings; i++) {
+            map.putAll(sized);
+        }
+    }
+
+    private static int capacity(int expectedSize)
+    {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must be non-negative");
+        }
+        if (expectedSize < 3) {
+            return expectedSize + 1;
+        }
+        // default load factor is 0.75
+        return (int) Math.min((long) expectedSize * 4 / 3 + 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * An empty map which reports a given size.
+     */
+    private static class SizedEmptyMap<K, V>
+        extends
+        AbstractMap<K, V>
+    {
+        private final int size;
+
+        SizedEmptyMap(int size)
+        {
+            this.size = size;
+        }
+
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet()
+        {
+            return Collections.emptySet();
+        }
+    }
+
+}
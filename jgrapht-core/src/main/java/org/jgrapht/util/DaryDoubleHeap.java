@@ -0,0 +1,261 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import java.util.*;
+
+/**
+ * An indexed d-ary heap with primitive <code>double</code> keys.
+ *
+ * <p>
+ * The heap is an implicit d-ary tree stored in an array of handles, together with an array holding
+ * the position of each handle in the tree. Keys are stored in an array indexed by handle. No
+ * objects are allocated per element. Operations {@link #insert(double)},
+ * {@link #reinsert(int, double)} and {@link #decreaseKey(int, double)} run in $O(\log_d n)$ time
+ * and {@link #deleteMin()} in $O(d \log_d n)$ time. A value of $d=4$ is usually a good choice for
+ * shortest path computations since it results in shallow trees whose children are stored
+ * contiguously in memory.
+ *
+ * <p>
+ * <b>Note that this implementation is not synchronized.</b>
+ *
+ * @author agent
+ */
+public class DaryDoubleHeap
+    implements
+    AddressableDoubleHeap
+{
+    /**
+     * Default arity of the heap
+     */
+    public static final int DEFAULT_ARITY = 4;
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int NOT_IN_HEAP = -1;
+
+    private final int d;
+    private double[] keys;
+    private int[] heap;
+    private int[] pos;
+    private int size;
+    private int handles;
+
+    /**
+     * Construct a new 4-ary heap.
+     */
+    public DaryDoubleHeap()
+    {
+        this(DEFAULT_ARITY);
+    }
+
+    /**
+     * Construct a new d-ary heap.
+     *
+     * @param d the arity of the heap
+     * @throws IllegalArgumentException if the arity is less than two
+     */
+    public DaryDoubleHeap(int d)
+    {
+        this(d, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Construct a new d-ary heap.
+     *
+     * @param d the arity of the heap
+     * @param initialCapacity the expected number of handles
+     * @throws IllegalArgumentException if the arity is less than two or the initial capacity is
+     *         negative
+     */
+    public DaryDoubleHeap(int d, int initialCapacity)
+    {
+        if (d < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2");
+        }
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.d = d;
+        this.keys = new double[initialCapacity];
+        this.heap = new int[initialCapacity];
+        this.pos = new int[initialCapacity];
+        this.size = 0;
+        this.handles = 0;
+    }
+
+    /**
+     * Get the arity of the heap.
+     *
+     * @return the arity of the heap
+     */
+    public int getArity()
+    {
+        return d;
+    }
+
+    @Override
+    public int insert(double key)
+    {
+        if (handles == keys.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, keys.length + (keys.length >> 1));
+            keys = Arrays.copyOf(keys, capacity);
+            heap = Arrays.copyOf(heap, capacity);
+            pos = Arrays.copyOf(pos, capacity);
+        }
+        int handle = handles++;
+        keys[handle] = key;
+        heap[size] = handle;
+        pos[handle] = size;
+        siftUp(size++);
+        return handle;
+    }
+
+    @Override
+    public void reinsert(int handle, double key)
+    {
+        if (pos[handle] != NOT_IN_HEAP) {
+            throw new IllegalArgumentException("Element already in heap");
+        }
+        keys[handle] = key;
+        heap[size] = handle;
+        pos[handle] = size;
+        siftUp(size++);
+    }
+
+    @Override
+    public int findMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return heap[0];
+    }
+
+    @Override
+    public int deleteMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int min = heap[0];
+        pos[min] = NOT_IN_HEAP;
+        if (--size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            pos[last] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    @Override
+    public void decreaseKey(int handle, double key)
+    {
+        int i = pos[handle];
+        if (i == NOT_IN_HEAP) {
+            throw new IllegalArgumentException("Element not in heap");
+        }
+        if (key > keys[handle]) {
+            throw new IllegalArgumentException(
+                "decreaseKey() got larger key value. Current key: " + keys[handle] + " new key: "
+                    + key);
+        }
+        keys[handle] = key;
+        siftUp(i);
+    }
+
+    @Override
+    public double getKey(int handle)
+    {
+        return keys[handle];
+    }
+
+    @Override
+    public boolean contains(int handle)
+    {
+        return pos[handle] != NOT_IN_HEAP;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public void clear()
+    {
+        size = 0;
+        handles = 0;
+    }
+
+    private void siftUp(int i)
+    {
+        int handle = heap[i];
+        double key = keys[handle];
+        while (i > 0) {
+            int p = (i - 1) / d;
+            int parent = heap[p];
+            if (keys[parent] <= key) {
+                break;
+            }
+            heap[i] = parent;
+            pos[parent] = i;
+            i = p;
+        }
+        heap[i] = handle;
+        pos[handle] = i;
+    }
+
+    private void siftDown(int i)
+    {
+        int handle = heap[i];
+        double key = keys[handle];
+        while (true) {
+            int first = d * i + 1;
+            if (first >= size) {
+                break;
+            }
+            int last = Math.min(first + d, size);
+            int minChild = first;
+            double minKey = keys[heap[first]];
+            for (int c = first + 1; c < last; c++) {
+                double cKey = keys[heap[c]];
+                if (cKey < minKey) {
+                    minChild = c;
+                    minKey = cKey;
+                }
+            }
+            if (minKey >= key) {
+                break;
+            }
+            int child = heap[minChild];
+            heap[i] = child;
+            pos[child] = i;
+            i = minChild;
+        }
+        heap[i] = handle;
+        pos[handle] = i;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import java.util.*;
+
+/**
+ * An addressable heap with <code>double</code> keys backed by a {@link FibonacciHeap}.
+ *
+ * <p>
+ * This implementation offers the best amortized bounds, $O(1)$ for {@link #insert(double)} and
+ * {@link #decreaseKey(int, double)} and $O(\log n)$ for {@link #deleteMin()}. However, it allocates
+ * a heap node for each element and is in practice usually slower than {@link DaryDoubleHeap} and
+ * {@link PairingDoubleHeap}.
+ *
+ * <p>
+ * <b>Note that this implementation is not synchronized.</b>
+ *
+ * @author agent
+ */
+public class FibonacciDoubleHeap
+    implements
+    AddressableDoubleHeap
+{
+    private final FibonacciHeap<Integer> heap;
+    private final List<FibonacciHeapNode<Integer>> nodes;
+
+    /**
+     * Construct a new Fibonacci heap.
+     */
+    public FibonacciDoubleHeap()
+    {
+        this.heap = new FibonacciHeap<>();
+        this.nodes = new ArrayList<>();
+    }
+
+    @Override
+    public int insert(double key)
+    {
+        int handle = nodes.size();
+        FibonacciHeapNode<Integer> node = new FibonacciHeapNode<>(handle);
+        nodes.add(node);
+        heap.insert(node, key);
+        return handle;
+    }
+
+    @Override
+    public void reinsert(int handle, double key)
+    {
+        FibonacciHeapNode<Integer> node = nodes.get(handle);
+        if (node.right != null) {
+            throw new IllegalArgumentException("Element already in heap");
+        }
+        heap.insert(node, key);
+    }
+
+    @Override
+    public int findMin()
+    {
+        if (heap.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return heap.min().getData();
+    }
+
+    @Override
+    public int deleteMin()
+    {
+        if (heap.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return heap.removeMin().getData();
+    }
+
+    @Override
+    public void decreaseKey(int handle, double key)
+    {
+        FibonacciHeapNode<Integer> node = nodes.get(handle);
+        if (node.right == null) {
+            throw new IllegalArgumentException("Element not in heap");
+        }
+        heap.decreaseKey(node, key);
+    }
+
+    @Override
+    public double getKey(int handle)
+    {
+        return nodes.get(handle).getKey();
+    }
+
+    @Override
+    public boolean contains(int handle)
+    {
+        return nodes.get(handle).right != null;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return heap.isEmpty();
+    }
+
+    @Override
+    public int size()
+    {
+        return heap.size();
+    }
+
+    @Override
+    public void clear()
+    {
+        heap.clear();
+        nodes.clear();
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * A map with non-negative integer keys, backed by a growable array indexed by the key.
+ *
+ * <p>
+ * The map is intended for dense keys, such as vertex identifiers which have been mapped to the
+ * range <code>0, 1, ..., n-1</code>. All basic operations are performed in constant time without
+ * any hashing and without allocating entry objects. Memory consumption is proportional to the
+ * largest key and not to the number of mappings. Iteration is performed in increasing key order
+ * and takes time proportional to the largest key.
+ *
+ * <p>
+ * The map does not permit <code>null</code> values.
+ *
+ * @param <V> the value type
+ * 
+ * @author agent
+ */
+public class IntArrayMap<V>
+    extends
+    AbstractMap<Integer, V>
+    implements
+    Serializable
+{
+    private static final long serialVersionUID = 8394917403648104627L;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] values;
+    private int size;
+
+    private transient Set<Integer> keySet;
+    private transient Set<Map.Entry<Integer, V>> entrySet;
+
+    /**
+     * Construct a new empty map.
+     */
+    public IntArrayMap()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Construct a new empty map.
+     * 
+     * @param initialCapacity the initial capacity, i.e. one more than the largest expected key
+     */
+    public IntArrayMap(int initialCapacity)
+    {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.values = new Object[initialCapacity];
+        this.size = 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return get(key) != null;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        if (key instanceof Integer) {
+            int k = (Integer) key;
+            if (k >= 0 && k < values.length) {
+                return TypeUtil.uncheckedCast(values[k]);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException if the key is negative
+     * @throws NullPointerException if the key or the value is <code>null</code>
+     */
+    @Override
+    public V put(Integer key, V value)
+    {
+        Objects.requireNonNull(value);
+        int k = key;
+        if (k < 0) {
+            throw new IllegalArgumentException("Key must be non-negative");
+        }
+        if (k >= values.length) {
+            values = Arrays.copyOf(values, Math.max(k + 1, values.length + (values.length >> 1)));
+        }
+        V old = TypeUtil.uncheckedCast(values[k]);
+        values[k] = value;
+        if (old == null) {
+            size++;
+        }
+        return old;
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        V old = get(key);
+        if (old != null) {
+            values[(Integer) key] = null;
+            size--;
+        }
+        return old;
+    }
+
+    @Override
+    public void clear()
+    {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    @Override
+    public Set<Integer> keySet()
+    {
+        if (keySet == null) {
+            keySet = new KeySet();
+        }
+        return keySet;
+    }
+
+    @Override
+    public Set<Map.Entry<Integer, V>> entrySet()
+    {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    /**
+     * Base iterator which visits the non-empty positions of the array in increasing order.
+     */
+    private abstract class BaseIterator<T>
+        implements
+        Iterator<T>
+    {
+        private int next;
+        private int last;
+
+        BaseIterator()
+        {
+            this.next = advance(0);
+            this.last = -1;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return next < values.length;
+        }
+
+        @Override
+        public T next()
+        {
+            if (next >= values.length) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = advance(next + 1);
+            return element(last);
+        }
+
+        @Override
+        public void remove()
+        {
+            if (last == -1) {
+                throw new IllegalStateException();
+            }
+            values[last] = null;
+            size--;
+            last = -1;
+        }
+
+        private int advance(int from)
+        {
+            while (from < values.length && values[from] == null) {
+                from++;
+            }
+            return from;
+        }
+
+        abstract T element(int key);
+    }
+
+    private class KeySet
+        extends
+        AbstractSet<Integer>
+    {
+        @Override
+        public Iterator<Integer> iterator()
+        {
+            return new BaseIterator<Integer>()
+            {
+                @Override
+                Integer element(int key)
+                {
+                    return key;
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            return IntArrayMap.this.remove(o) != null;
+        }
+
+        @Override
+        public void clear()
+        {
+            IntArrayMap.this.clear();
+        }
+    }
+
+    private class EntrySet
+        extends
+        AbstractSet<Map.Entry<Integer, V>>
+    {
+        @Override
+        public Iterator<Map.Entry<Integer, V>> iterator()
+        {
+            return new BaseIterator<Map.Entry<Integer, V>>()
+            {
+                @Override
+                Map.Entry<Integer, V> element(int key)
+                {
+                    return new Entry(key);
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        @Override
+        public void clear()
+        {
+            IntArrayMap.this.clear();
+        }
+    }
+
+    /**
+     * An entry which writes through to the map.
+     */
+    private class Entry
+        implements
+        Map.Entry<Integer, V>
+    {
+        private final int key;
+
+        Entry(int key)
+        {
+            this.key = key;
+        }
+
+        @Override
+        public Integer getKey()
+        {
+            return key;
+        }
+
+        @Override
+        public V getValue()
+        {
+            return TypeUtil.uncheckedCast(values[key]);
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            Objects.requireNonNull(value);
+            V old = getValue();
+            values[key] = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+            return getKey().equals(other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return key ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString()
+        {
+            return key + "=" + getValue();
+        }
+    }
+
+}
@@ -0,0 +1,263 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import java.util.*;
+
+/**
+ * A pairing heap with primitive <code>double</code> keys.
+ *
+ * <p>
+ * This is the classic pairing heap of Fredman, Sedgewick, Sleator and Tarjan using the two-pass
+ * variant of delete-min. Instead of node objects, the tree structure is kept in integer arrays
+ * indexed by handle. Operations {@link #insert(double)} and {@link #reinsert(int, double)} run in
+ * $O(1)$ time, {@link #deleteMin()} in $O(\log n)$ amortized time and
+ * {@link #decreaseKey(int, double)} in $o(\log n)$ amortized time.
+ *
+ * <p>
+ * <b>Note that this implementation is not synchronized.</b>
+ *
+ * @author agent
+ */
+public class PairingDoubleHeap
+    implements
+    AddressableDoubleHeap
+{
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int NIL = -1;
+    private static final int NOT_IN_HEAP = -2;
+
+    private double[] keys;
+    // first child of each node
+    private int[] child;
+    // next sibling of each node
+    private int[] next;
+    // previous sibling of each node or its parent if it is a first child
+    private int[] prev;
+    private int root;
+    private int size;
+    private int handles;
+
+    /**
+     * Construct a new pairing heap.
+     */
+    public PairingDoubleHeap()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Construct a new pairing heap.
+     *
+     * @param initialCapacity the expected number of handles
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public PairingDoubleHeap(int initialCapacity)
+    {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.keys = new double[initialCapacity];
+        this.child = new int[initialCapacity];
+        this.next = new int[initialCapacity];
+        this.prev = new int[initialCapacity];
+        this.root = NIL;
+        this.size = 0;
+        this.handles = 0;
+    }
+
+    @Override
+    public int insert(double key)
+    {
+        if (handles == keys.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, keys.length + (keys.length >> 1));
+            keys = Arrays.copyOf(keys, capacity);
+            child = Arrays.copyOf(child, capacity);
+            next = Arrays.copyOf(next, capacity);
+            prev = Arrays.copyOf(prev, capacity);
+        }
+        int handle = handles++;
+        add(handle, key);
+        return handle;
+    }
+
+    @Override
+    public void reinsert(int handle, double key)
+    {
+        if (prev[handle] != NOT_IN_HEAP) {
+            throw new IllegalArgumentException("Element already in heap");
+        }
+        add(handle, key);
+    }
+
+    @Override
+    public int findMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return root;
+    }
+
+    @Override
+    public int deleteMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int min = root;
+
+        // first pass, link children in pairs from left to right and collect the results in
+        // reverse order
+        int pairs = NIL;
+        int c = child[min];
+        while (c != NIL) {
+            int a = c;
+            int b = next[a];
+            int linked;
+            if (b == NIL) {
+                c = NIL;
+                detach(a);
+                linked = a;
+            } else {
+                c = next[b];
+                detach(a);
+                detach(b);
+                linked = link(a, b);
+            }
+            next[linked] = pairs;
+            pairs = linked;
+        }
+
+        // second pass, link the results from right to left
+        int newRoot = NIL;
+        while (pairs != NIL) {
+            int a = pairs;
+            pairs = next[a];
+            detach(a);
+            newRoot = (newRoot == NIL) ? a : link(newRoot, a);
+        }
+
+        root = newRoot;
+        child[min] = NIL;
+        next[min] = NIL;
+        prev[min] = NOT_IN_HEAP;
+        size--;
+        return min;
+    }
+
+    @Override
+    public void decreaseKey(int handle, double key)
+    {
+        int p = prev[handle];
+        if (p == NOT_IN_HEAP) {
+            throw new IllegalArgumentException("Element not in heap");
+        }
+        if (key > keys[handle]) {
+            throw new IllegalArgumentException(
+                "decreaseKey() got larger key value. Current key: " + keys[handle] + " new key: "
+                    + key);
+        }
+        keys[handle] = key;
+        if (handle == root) {
+            return;
+        }
+
+        // cut the subtree rooted at the element and link it with the root
+        int n = next[handle];
+        if (child[p] == handle) {
+            child[p] = n;
+        } else {
+            next[p] = n;
+        }
+        if (n != NIL) {
+            prev[n] = p;
+        }
+        detach(handle);
+        root = link(root, handle);
+    }
+
+    @Override
+    public double getKey(int handle)
+    {
+        return keys[handle];
+    }
+
+    @Override
+    public boolean contains(int handle)
+    {
+        return prev[handle] != NOT_IN_HEAP;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public void clear()
+    {
+        root = NIL;
+        size = 0;
+        handles = 0;
+    }
+
+    private void add(int handle, double key)
+    {
+        keys[handle] = key;
+        child[handle] = NIL;
+        next[handle] = NIL;
+        prev[handle] = NIL;
+        root = (root == NIL) ? handle : link(root, handle);
+        size++;
+    }
+
+    private void detach(int handle)
+    {
+        next[handle] = NIL;
+        prev[handle] = NIL;
+    }
+
+    /*
+     * Link two detached trees by making the root with the larger key the first child of the other.
+     * Returns the root of the resulting tree.
+     */
+    private int link(int a, int b)
+    {
+        if (keys[b] < keys[a]) {
+            int tmp = a;
+            a = b;
+            b = tmp;
+        }
+        int c = child[a];
+        next[b] = c;
+        if (c != NIL) {
+            prev[c] = b;
+        }
+        prev[b] = a;
+        child[a] = b;
+        return a;
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import java.util.*;
+
+/**
+ * A monotone radix heap with non-negative integer keys.
+ *
+ * <p>
+ * The heap is monotone, which means that the key of an inserted element and the new key of a
+ * decrease key operation must not be smaller than the last minimum key reported by
+ * {@link #findMin()} or {@link #deleteMin()}. This is always true for the keys used by Dijkstra's
+ * algorithm with non-negative edge weights. Keys must be non-negative integers which are exactly
+ * representable as <code>double</code> values, that is at most $2^{53}$.
+ *
+ * <p>
+ * Elements are kept in 65 buckets according to the position of the highest bit in which their key
+ * differs from the current minimum. An element moves only to buckets with smaller index,
+ * which gives $O(1)$ time for {@link #insert(double)} and {@link #decreaseKey(int, double)} and
+ * $O(\log C)$ amortized time for {@link #deleteMin()}, where $C$ is the largest difference between
+ * two keys in the heap. No comparisons between keys are needed except when a bucket is
+ * redistributed.
+ *
+ * <p>
+ * See the paper: R. K. Ahuja, K. Mehlhorn, J. B. Orlin and R. E. Tarjan. Faster algorithms for the
+ * shortest path problem. Journal of the ACM, 37(2):213--223, 1990.
+ *
+ * <p>
+ * <b>Note that this implementation is not synchronized.</b>
+ *
+ * @author agent
+ */
+public class RadixDoubleHeap
+    implements
+    AddressableDoubleHeap
+{
+    /**
+     * The largest key supported by the heap
+     */
+    public static final double MAX_KEY = 9007199254740992d;
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int BUCKETS = 65;
+    private static final int NIL = -1;
+    private static final int NOT_IN_HEAP = -2;
+
+    private long[] keys;
+    private int[] next;
+    private int[] prev;
+    private int[] bucketOf;
+    private final int[] buckets;
+    private long last;
+    private int size;
+    private int handles;
+
+    /**
+     * Construct a new radix heap.
+     */
+    public RadixDoubleHeap()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Construct a new radix heap.
+     *
+     * @param initialCapacity the expected number of handles
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public RadixDoubleHeap(int initialCapacity)
+    {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.keys = new long[initialCapacity];
+        this.next = new int[initialCapacity];
+        this.prev = new int[initialCapacity];
+        this.bucketOf = new int[initialCapacity];
+        this.buckets = new int[BUCKETS];
+        Arrays.fill(buckets, NIL);
+        this.last = 0;
+        this.size = 0;
+        this.handles = 0;
+    }
+
+    @Override
+    public int insert(double key)
+    {
+        long k = checkKey(key);
+        if (handles == keys.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, keys.length + (keys.length >> 1));
+            keys = Arrays.copyOf(keys, capacity);
+            next = Arrays.copyOf(next, capacity);
+            prev = Arrays.copyOf(prev, capacity);
+            bucketOf = Arrays.copyOf(bucketOf, capacity);
+        }
+        int handle = handles++;
+        add(handle, k);
+        return handle;
+    }
+
+    @Override
+    public void reinsert(int handle, double key)
+    {
+        if (bucketOf[handle] != NOT_IN_HEAP) {
+            throw new IllegalArgumentException("Element already in heap");
+        }
+        add(handle, checkKey(key));
+    }
+
+    @Override
+    public int findMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        if (buckets[0] == NIL) {
+            redistribute();
+        }
+        return buckets[0];
+    }
+
+    @Override
+    public int deleteMin()
+    {
+        int min = findMin();
+        unlink(min);
+        bucketOf[min] = NOT_IN_HEAP;
+        size--;
+        return min;
+    }
+
+    @Override
+    public void decreaseKey(int handle, double key)
+    {
+        if (bucketOf[handle] == NOT_IN_HEAP) {
+            throw new IllegalArgumentException("Element not in heap");
+        }
+        long k = checkKey(key);
+        if (k > keys[handle]) {
+            throw new IllegalArgumentException(
+                "decreaseKey() got larger key value. Current key: " + keys[handle] + " new key: "
+                    + k);
+        }
+        if (k < last) {
+            throw new IllegalArgumentException("Key smaller than current minimum");
+        }
+        unlink(handle);
+        keys[handle] = k;
+        link(handle, bucket(k));
+    }
+
+    @Override
+    public double getKey(int handle)
+    {
+        return keys[handle];
+    }
+
+    @Override
+    public boolean contains(int handle)
+    {
+        return bucketOf[handle] != NOT_IN_HEAP;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public void clear()
+    {
+        Arrays.fill(buckets, NIL);
+        last = 0;
+        size = 0;
+        handles = 0;
+    }
+
+    private long checkKey(double key)
+    {
+        if (!(key >= 0d && key <= MAX_KEY) || key != Math.rint(key)) {
+            throw new IllegalArgumentException("Key must be a non-negative integer: " + key);
+        }
+        return (long) key;
+    }
+
+    private void add(int handle, long k)
+    {
+        if (k < last) {
+            if (size != 0) {
+                throw new IllegalArgumentException("Key smaller than current minimum");
+            }
+            // an empty heap accepts any key
+            last = k;
+        }
+        keys[handle] = k;
+        link(handle, bucket(k));
+        size++;
+    }
+
+    private int bucket(long k)
+    {
+        return 64 - Long.numberOfLeadingZeros(k ^ last);
+    }
+
+    /*
+     * Find the first non-empty bucket, make its minimum the new last key and move all its elements
+     * to buckets with smaller index. The minimum always lands in bucket zero.
+     */
+    private void redistribute()
+    {
+        int i = 1;
+        while (buckets[i] == NIL) {
+            i++;
+        }
+        long min = Long.MAX_VALUE;
+        for (int h = buckets[i]; h != NIL; h = next[h]) {
+            if (keys[h] < min) {
+                min = keys[h];
+            }
+        }
+        last = min;
+        int h = buckets[i];
+        buckets[i] = NIL;
+        while (h != NIL) {
+            int n = next[h];
+            link(h, bucket(keys[h]));
+            h = n;
+        }
+    }
+
+    private void link(int handle, int b)
+    {
+        int head = buckets[b];
+        next[handle] = head;
+        prev[handle] = NIL;
+        if (head != NIL) {
+            prev[head] = handle;
+        }
+        buckets[b] = handle;
+        bucketOf[handle] = b;
+    }
+
+    private void unlink(int handle)
+    {
+        int p = prev[handle];
+        int n = next[handle];
+        if (p == NIL) {
+            buckets[bucketOf[handle]] = n;
+        } else {
+            next[p] = n;
+        }
+        if (n != NIL) {
+            prev[n] = p;
+        }
+    }
+}
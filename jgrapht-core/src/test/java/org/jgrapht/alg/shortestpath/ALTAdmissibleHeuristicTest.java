@@ -20,13 +20,16 @@ package org.jgrapht.alg.shortestpath;
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.shortestpath.ALTAdmissibleHeuristic.*;
 import org.jgrapht.alg.util.*;
 import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.util.*;
 import org.junit.*;
 
+import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import static org.junit.Assert.*;
@@ -36,6 +39,19 @@ import static org.junit.Assert.*;
  */
 public class ALTAdmissibleHeuristicTest
 {
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void createPool()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void shutdownPool()
+    {
+        pool.shutdown();
+    }
 
     @Test
     public void testRandom()
@@ -145,4 +161,113 @@ public class ALTAdmissibleHeuristicTest
 
     }
 
+
+    @Test
+    public void testSelectionStrategies()
+    {
+        Random rng = new Random(11);
+        Comparator<Double> comparator = new ToleranceDoubleComparator();
+        for (boolean directed : new boolean[] { true, false }) {
+            for (LandmarkSelection strategy : LandmarkSelection.values()) {
+                // sparse graphs, possibly disconnected
+                Graph<Integer, DefaultWeightedEdge> g = createRandomGraph(rng, 60, 0.04, directed);
+                for (int landmarksCount : new int[] { 1, 4, 60 }) {
+                    ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> h =
+                        new ALTAdmissibleHeuristic<>(g, landmarksCount, strategy, rng, pool);
+                    List<Integer> landmarks = h.getLandmarks();
+                    assertEquals(landmarksCount, landmarks.size());
+                    assertEquals(landmarksCount, new HashSet<>(landmarks).size());
+
+                    DijkstraShortestPath<Integer, DefaultWeightedEdge> sp =
+                        new DijkstraShortestPath<>(g);
+                    AStarShortestPath<Integer, DefaultWeightedEdge> astar =
+                        new AStarShortestPath<>(g, h);
+                    for (Integer v : g.vertexSet()) {
+                        SingleSourcePaths<Integer, DefaultWeightedEdge> paths = sp.getPaths(v);
+                        for (Integer u : g.vertexSet()) {
+                            double d = paths.getWeight(u);
+                            double estimate = h.getCostEstimate(v, u);
+                            assertTrue(estimate >= 0d);
+                            if (Double.isFinite(d)) {
+                                assertTrue(comparator.compare(estimate, d) <= 0);
+                            }
+                            assertEquals(d, astar.getPathWeight(v, u), 1e-9);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooManyLandmarks()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createRandomGraph(new Random(1), 10, 0.2, true);
+        new ALTAdmissibleHeuristic<>(g, 11, LandmarkSelection.RANDOM, new Random(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createRandomGraph(new Random(1), 10, 0.5, true);
+        g.setEdgeWeight(g.edgeSet().iterator().next(), -1d);
+        new ALTAdmissibleHeuristic<>(g, Collections.singleton(0));
+    }
+
+    @Test
+    public void testSaveLoad()
+        throws IOException
+    {
+        Random rng = new Random(5);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = createRandomGraph(rng, 50, 0.1, directed);
+            ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> h = new ALTAdmissibleHeuristic<>(
+                g, 3, LandmarkSelection.AVOID, rng, pool);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            h.save(out);
+            ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> loaded =
+                ALTAdmissibleHeuristic.load(g, new ByteArrayInputStream(out.toByteArray()));
+            assertEquals(h.getLandmarks(), loaded.getLandmarks());
+            for (Integer v : g.vertexSet()) {
+                for (Integer u : g.vertexSet()) {
+                    assertEquals(h.getCostEstimate(v, u), loaded.getCostEstimate(v, u), 0d);
+                }
+            }
+
+            // different edge weights
+            g.setEdgeWeight(g.edgeSet().iterator().next(), 2d);
+            try {
+                ALTAdmissibleHeuristic.load(g, new ByteArrayInputStream(out.toByteArray()));
+                fail("Loaded distances of a different graph");
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testLoadInvalid()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createRandomGraph(new Random(1), 10, 0.2, true);
+        ALTAdmissibleHeuristic.load(g, new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5 }));
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> createRandomGraph(
+        Random rng, int n, double p, boolean directed)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = directed
+            ? new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+            : new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, p, rng, true)
+            .generateGraph(g);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, rng.nextDouble());
+        }
+        return g;
+    }
+
 }
@@ -20,6 +20,7 @@ package org.jgrapht.alg.shortestpath;
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.*;
 
 import static org.junit.Assert.*;
@@ -240,6 +241,45 @@ public class AStarShortestPathTest
         assertFalse(alg.isConsistentHeuristic(h));
     }
 
+    @Test
+    public void testHeapSupplier()
+    {
+        this.readLabyrinth(labyrinth1);
+        AStarShortestPath<Node, DefaultWeightedEdge> aStarShortestPath =
+            new AStarShortestPath<>(graph, new ManhattanDistance(), DaryDoubleHeap::new);
+        GraphPath<Node, DefaultWeightedEdge> path =
+            aStarShortestPath.getPath(sourceNode, targetNode);
+        assertNotNull(path);
+        assertEquals(47, (int) path.getWeight());
+        assertEquals(47, path.getEdgeList().size());
+
+        this.readLabyrinth(labyrinth2);
+        aStarShortestPath =
+            new AStarShortestPath<>(graph, new ManhattanDistance(), PairingDoubleHeap::new);
+        assertNull(aStarShortestPath.getPath(sourceNode, targetNode));
+    }
+
+    @Test
+    public void testOpenListOfSubclass()
+    {
+        this.readLabyrinth(labyrinth1);
+        AStarShortestPath<Node, DefaultWeightedEdge> aStarShortestPath =
+            new AStarShortestPath<Node, DefaultWeightedEdge>(graph, new ManhattanDistance())
+            {
+                @Override
+                public GraphPath<Node, DefaultWeightedEdge> getPath(Node source, Node target)
+                {
+                    GraphPath<Node, DefaultWeightedEdge> path = super.getPath(source, target);
+                    // every discovered node except the target is either open or closed
+                    assertEquals(
+                        vertexToHeapNodeMap.size(), openList.size() + closedList.size() + 1);
+                    assertTrue(vertexToHeapNodeMap.keySet().containsAll(closedList));
+                    return path;
+                }
+            };
+        assertEquals(47, (int) aStarShortestPath.getPath(sourceNode, targetNode).getWeight());
+    }
+
     private class ManhattanDistance
         implements
         AStarAdmissibleHeuristic<Node>
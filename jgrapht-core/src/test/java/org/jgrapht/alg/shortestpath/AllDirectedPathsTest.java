@@ -188,6 +188,143 @@ public class AllDirectedPathsTest
         }
     }
 
+    @Test
+    public void testLazyEnumeration()
+    {
+        // 2^100 paths, which cannot be materialized
+        Graph<Integer, DefaultEdge> graph = diamondChain(100);
+        AllDirectedPaths<Integer, DefaultEdge> all = new AllDirectedPaths<>(graph);
+
+        Iterator<GraphPath<Integer, DefaultEdge>> it = all.getAllPathsIterator(0, 300, true, null);
+        Set<List<Integer>> seen = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            GraphPath<Integer, DefaultEdge> path = it.next();
+            assertEquals(Integer.valueOf(0), path.getStartVertex());
+            assertEquals(Integer.valueOf(300), path.getEndVertex());
+            assertEquals(200, path.getLength());
+            assertTrue(seen.add(path.getVertexList()));
+        }
+
+        assertEquals(10, all.getAllPathsStream(0, 300, false, 200).limit(10).count());
+        assertFalse(all.getAllPathsStream(0, 300, true, 199).findAny().isPresent());
+    }
+
+    @Test
+    public void testPathCount()
+    {
+        Graph<Integer, DefaultEdge> graph = diamondChain(10);
+        AllDirectedPaths<Integer, DefaultEdge> all = new AllDirectedPaths<>(graph);
+
+        assertEquals(1024, all.getAllPathsStream(0, 30, true, null).count());
+        assertEquals(1024 + 512, all.getAllPathsStream(
+            Collections.singleton(0), new HashSet<>(Arrays.asList(27, 30)), true, null).count());
+        assertEquals(
+            all.getAllPaths(0, 30, true, null).size(),
+            all.getAllPathsStream(0, 30, true, null).count());
+    }
+
+    @Test
+    public void testVisitor()
+    {
+        Graph<Integer, DefaultEdge> graph = diamondChain(10);
+        AllDirectedPaths<Integer, DefaultEdge> all = new AllDirectedPaths<>(graph);
+        Set<Integer> sources = Collections.singleton(0);
+        Set<Integer> targets = Collections.singleton(30);
+
+        List<GraphPath<Integer, DefaultEdge>> visited = new ArrayList<>();
+        assertEquals(
+            1024, all.visitAllPaths(sources, targets, true, null, Long.MAX_VALUE, visited::add));
+        assertEquals(1024, visited.size());
+
+        assertEquals(100, all.visitAllPaths(sources, targets, true, null, 100, p -> true));
+        assertEquals(0, all.visitAllPaths(sources, targets, true, null, 0, p -> true));
+
+        // early termination
+        int[] count = new int[1];
+        assertEquals(5, all.visitAllPaths(sources, targets, true, null, 100, p -> ++count[0] < 5));
+        assertEquals(5, count[0]);
+    }
+
+    @Test
+    public void testZeroMaxPathLength()
+    {
+        AllDirectedPaths<String, DefaultEdge> pathFindingAlg = new AllDirectedPaths<>(toyGraph());
+        Iterator<GraphPath<String, DefaultEdge>> it = pathFindingAlg.getAllPathsIterator(
+            new HashSet<>(Arrays.asList(I1, A)), new HashSet<>(Arrays.asList(A, B)), true, 0);
+        assertEquals(Arrays.asList(A), it.next().getVertexList());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testSelfLoopOnSource()
+    {
+        // a self-loop on the source is accepted as the first edge of a simple path
+        Graph<Integer, DefaultEdge> graph = new DefaultDirectedGraph<>(DefaultEdge.class);
+        graph.addVertex(0);
+        graph.addVertex(1);
+        graph.addEdge(0, 0);
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 1);
+        AllDirectedPaths<Integer, DefaultEdge> all = new AllDirectedPaths<>(graph);
+
+        Set<List<Integer>> paths = new HashSet<>();
+        all
+            .getAllPathsIterator(0, 1, true, null)
+            .forEachRemaining(p -> paths.add(p.getVertexList()));
+        assertEquals(
+            new HashSet<>(Arrays.asList(Arrays.asList(0, 1), Arrays.asList(0, 0, 1))), paths);
+        assertEquals(2, all.getAllPaths(0, 1, true, null).size());
+
+        paths.clear();
+        all.getAllPaths(0, 0, true, null).forEach(p -> paths.add(p.getVertexList()));
+        assertEquals(
+            new HashSet<>(Arrays.asList(Arrays.asList(0), Arrays.asList(0, 0))), paths);
+    }
+
+    @Test
+    public void testGetAllPathsOrder()
+    {
+        Graph<Integer, DefaultEdge> graph = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(graph, Arrays.asList(0, 1, 2, 3));
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 3);
+        graph.addEdge(0, 3);
+        AllDirectedPaths<Integer, DefaultEdge> all = new AllDirectedPaths<>(graph);
+
+        // the list starts with the direct edges of the sources
+        List<GraphPath<Integer, DefaultEdge>> paths = all.getAllPaths(0, 3, true, null);
+        assertEquals(2, paths.size());
+        assertEquals(Arrays.asList(0, 3), paths.get(0).getVertexList());
+        assertEquals(Arrays.asList(0, 1, 2, 3), paths.get(1).getVertexList());
+
+        // the iterator follows the first edge to its end
+        Iterator<GraphPath<Integer, DefaultEdge>> it = all.getAllPathsIterator(0, 3, true, null);
+        assertEquals(Arrays.asList(0, 1, 2, 3), it.next().getVertexList());
+        assertEquals(Arrays.asList(0, 3), it.next().getVertexList());
+        assertFalse(it.hasNext());
+    }
+
+    /**
+     * Create a chain of diamonds 0 -> {1, 2} -> 3 -> {4, 5} -> 6 ...
+     */
+    private static Graph<Integer, DefaultEdge> diamondChain(int diamonds)
+    {
+        Graph<Integer, DefaultEdge> graph = new DefaultDirectedGraph<>(DefaultEdge.class);
+        graph.addVertex(0);
+        for (int i = 0; i < diamonds; i++) {
+            int v = 3 * i;
+            graph.addVertex(v + 1);
+            graph.addVertex(v + 2);
+            graph.addVertex(v + 3);
+            graph.addEdge(v, v + 1);
+            graph.addEdge(v, v + 2);
+            graph.addEdge(v + 1, v + 3);
+            graph.addEdge(v + 2, v + 3);
+        }
+        return graph;
+    }
+
     private static Graph<String, DefaultEdge> toyGraph()
     {
         Graph<String, DefaultEdge> graph = new DefaultDirectedGraph<>(DefaultEdge.class);
@@ -78,6 +78,14 @@ public class AllPairsShortestPathsTest
         algs.add((g) -> new DijkstraShortestPath<>(g));
         algs.add((g) -> new BidirectionalDijkstraShortestPath<>(g));
         algs.add((g) -> new AStarShortestPath<>(g, (u, t) -> 0d));
+        algs.add((g) -> new DijkstraShortestPath<>(g, () -> new DaryDoubleHeap(2)));
+        algs.add((g) -> new DijkstraShortestPath<>(g, PairingDoubleHeap::new));
+        algs.add((g) -> new DijkstraShortestPath<>(g, FibonacciDoubleHeap::new));
+        algs.add((g) -> new BidirectionalDijkstraShortestPath<>(g, PairingDoubleHeap::new));
+        algs.add((g) -> new BidirectionalDijkstraShortestPath<>(g, FibonacciDoubleHeap::new));
+        algs.add((g) -> new AStarShortestPath<>(g, (u, t) -> 0d, PairingDoubleHeap::new));
+        algs.add((g) -> new AStarShortestPath<>(g, (u, t) -> 0d, FibonacciDoubleHeap::new));
+        algs.add((g) -> new BidirectionalAStarShortestPath<>(g, (u, t) -> 0d));
         algs.add((g) -> {
             Integer[] vertices = g.vertexSet().toArray(new Integer[0]);
             Set<Integer> landmarks = new HashSet<>();
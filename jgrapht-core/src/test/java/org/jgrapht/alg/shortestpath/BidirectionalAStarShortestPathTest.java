@@ -0,0 +1,182 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.shortestpath.ALTAdmissibleHeuristic.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link BidirectionalAStarShortestPath}.
+ *
+ * @author agent
+ */
+public class BidirectionalAStarShortestPathTest
+{
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    public void testSimple()
+    {
+        Graph<String, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d", "e"));
+        g.setEdgeWeight(g.addEdge("a", "b"), 2);
+        g.setEdgeWeight(g.addEdge("b", "c"), 3);
+        g.setEdgeWeight(g.addEdge("a", "c"), 7);
+        g.setEdgeWeight(g.addEdge("c", "d"), 0);
+        g.setEdgeWeight(g.addEdge("d", "d"), 1);
+
+        BidirectionalAStarShortestPath<String, DefaultWeightedEdge> sp =
+            new BidirectionalAStarShortestPath<>(
+                g, new ALTAdmissibleHeuristic<>(g, Collections.singleton("c")));
+        GraphPath<String, DefaultWeightedEdge> path = sp.getPath("a", "d");
+        assertEquals(5d, path.getWeight(), 0d);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), path.getVertexList());
+        assertEquals(Double.POSITIVE_INFINITY, sp.getPathWeight("d", "a"), 0d);
+        assertNull(sp.getPath("a", "e"));
+        assertEquals(0d, sp.getPath("e", "e").getWeight(), 0d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        Graph<String, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b"));
+        g.setEdgeWeight(g.addEdge("a", "b"), -1);
+        new BidirectionalAStarShortestPath<>(g, (u, t) -> 0d).getPath("a", "b");
+    }
+
+    @Test
+    public void testGridManhattan()
+    {
+        // Manhattan distance is consistent for unit weights on a grid
+        final int rows = 15, cols = 20;
+        Graph<Integer, DefaultWeightedEdge> g = new SimpleWeightedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GridGraphGenerator<Integer, DefaultWeightedEdge>(rows, cols).generateGraph(g);
+        AStarAdmissibleHeuristic<Integer> manhattan = (u, t) -> Math.abs(u / cols - t / cols)
+            + Math.abs(u % cols - t % cols);
+
+        BidirectionalAStarShortestPath<Integer, DefaultWeightedEdge> sp =
+            new BidirectionalAStarShortestPath<>(g, manhattan);
+        Random rng = new Random(3);
+        for (int i = 0; i < 50; i++) {
+            Integer s = rng.nextInt(rows * cols);
+            Integer t = rng.nextInt(rows * cols);
+            GraphPath<Integer, DefaultWeightedEdge> path = sp.getPath(s, t);
+            assertEquals(manhattan.getCostEstimate(s, t), path.getWeight(), 0d);
+            assertEquals(path.getLength(), path.getWeight(), 0d);
+        }
+    }
+
+    @Test
+    public void testNotStronglyConnected()
+    {
+        // landmarks which cannot reach or cannot be reached from some vertices give infinite
+        // bounds, which must be kept for the heuristic to be consistent
+        Random rng = new Random(29);
+        for (int i = 0; i < 20; i++) {
+            Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(30, 0.06, rng, false)
+                .generateGraph(g);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, 1 + rng.nextInt(10));
+            }
+            ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> alt =
+                new ALTAdmissibleHeuristic<>(g, 3, LandmarkSelection.RANDOM, rng);
+            BidirectionalAStarShortestPath<Integer, DefaultWeightedEdge> sp =
+                new BidirectionalAStarShortestPath<>(g, alt);
+            FloydWarshallShortestPaths<Integer, DefaultWeightedEdge> expected =
+                new FloydWarshallShortestPaths<>(g);
+            for (Integer s : g.vertexSet()) {
+                for (Integer t : g.vertexSet()) {
+                    double weight = expected.getPathWeight(s, t);
+                    assertTrue(alt.getCostEstimate(s, t) <= weight);
+                    assertEquals(weight, sp.getPathWeight(s, t), 0d);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRandom()
+    {
+        Random rng = new Random(19);
+        for (boolean directed : new boolean[] { true, false }) {
+            for (int i = 0; i < 3; i++) {
+                Graph<Integer, DefaultWeightedEdge> g = directed
+                    ? new DirectedWeightedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(),
+                        SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                    : new WeightedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(),
+                        SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+                new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(60, 0.05, rng, true)
+                    .generateGraph(g);
+                for (DefaultWeightedEdge e : g.edgeSet()) {
+                    g.setEdgeWeight(e, rng.nextDouble());
+                }
+
+                List<AStarAdmissibleHeuristic<Integer>> heuristics = new ArrayList<>();
+                heuristics.add((u, t) -> 0d);
+                heuristics.add(new ALTAdmissibleHeuristic<>(g, 1, LandmarkSelection.RANDOM, rng));
+                heuristics
+                    .add(new ALTAdmissibleHeuristic<>(g, 4, LandmarkSelection.FARTHEST, rng));
+
+                DijkstraShortestPath<Integer, DefaultWeightedEdge> expected =
+                    new DijkstraShortestPath<>(g);
+                for (AStarAdmissibleHeuristic<Integer> h : heuristics) {
+                    BidirectionalAStarShortestPath<Integer, DefaultWeightedEdge> sp =
+                        new BidirectionalAStarShortestPath<>(g, h, PairingDoubleHeap::new);
+                    for (Integer s : g.vertexSet()) {
+                        SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+                            expected.getPaths(s);
+                        for (Integer t : g.vertexSet()) {
+                            GraphPath<Integer, DefaultWeightedEdge> path = sp.getPath(s, t);
+                            double weight = paths.getWeight(t);
+                            if (Double.isInfinite(weight)) {
+                                assertNull(path);
+                                continue;
+                            }
+                            assertEquals(weight, path.getWeight(), EPSILON);
+                            assertEquals(s, path.getStartVertex());
+                            assertEquals(t, path.getEndVertex());
+                            double sum = 0d;
+                            for (DefaultWeightedEdge e : path.getEdgeList()) {
+                                sum += g.getEdgeWeight(e);
+                            }
+                            assertEquals(weight, sum, EPSILON);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link BidirectionalBFSShortestPath}.
+ *
+ * @author agent
+ */
+public class BidirectionalBFSShortestPathTest
+{
+    @Test
+    public void testSimple()
+    {
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d", "e", "f"));
+        g.addEdge("a", "b");
+        g.addEdge("b", "c");
+        g.addEdge("c", "d");
+        g.addEdge("a", "c");
+        g.addEdge("d", "d");
+        g.addEdge("e", "a");
+        g.addEdge("d", "f");
+
+        BidirectionalBFSShortestPath<String, DefaultEdge> bfs =
+            new BidirectionalBFSShortestPath<>(g);
+        GraphPath<String, DefaultEdge> path = bfs.getPath("e", "f");
+        assertEquals(Arrays.asList("e", "a", "c", "d", "f"), path.getVertexList());
+        assertEquals(4d, path.getWeight(), 0d);
+        assertEquals(2d, bfs.getPathWeight("a", "d"), 0d);
+        assertEquals(0d, bfs.getPathWeight("a", "a"), 0d);
+        assertEquals(Collections.singletonList("d"), bfs.getPath("d", "d").getVertexList());
+        assertEquals(Double.POSITIVE_INFINITY, bfs.getPathWeight("a", "e"), 0d);
+        assertNull(bfs.getPath("d", "a"));
+
+        SingleSourcePaths<String, DefaultEdge> paths = bfs.getPaths("e");
+        assertEquals(3d, paths.getWeight("d"), 0d);
+        assertEquals(0d, paths.getWeight("e"), 0d);
+        assertEquals(4d, paths.getWeight("f"), 0d);
+        assertEquals(Arrays.asList("e", "a", "b"), paths.getPath("b").getVertexList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingSource()
+    {
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        g.addVertex("a");
+        new BidirectionalBFSShortestPath<>(g).getPath("b", "a");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingSink()
+    {
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        g.addVertex("a");
+        new BidirectionalBFSShortestPath<>(g).getPathWeight("a", "b");
+    }
+
+    @Test
+    public void testRandomDirected()
+    {
+        Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(2000, 8000, 17, true, true)
+            .generateGraph(g);
+        testRandom(g);
+    }
+
+    @Test
+    public void testRandomUndirected()
+    {
+        Graph<Integer, DefaultEdge> g = new Pseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(2000, 4000, 19, true, true)
+            .generateGraph(g);
+        testRandom(g);
+    }
+
+    @Test
+    public void testSparse()
+    {
+        // long paths and many unreachable pairs
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(2000, 2400, 23, false, false)
+            .generateGraph(g);
+        testRandom(g);
+    }
+
+    private void testRandom(Graph<Integer, DefaultEdge> g)
+    {
+        GraphIndexView<Integer, DefaultEdge> index = new GraphIndexView<>(g);
+        BidirectionalBFSShortestPath<Integer, DefaultEdge> bfs =
+            new BidirectionalBFSShortestPath<>(index);
+        DijkstraShortestPath<Integer, DefaultEdge> dijkstra = new DijkstraShortestPath<>(g);
+        List<Integer> vertices = new ArrayList<>(g.vertexSet());
+        Random rng = new Random(31);
+        for (int r = 0; r < 5; r++) {
+            Integer s = vertices.get(rng.nextInt(vertices.size()));
+            SingleSourcePaths<Integer, DefaultEdge> expected = dijkstra.getPaths(s);
+            SingleSourcePaths<Integer, DefaultEdge> actual = bfs.getPaths(s);
+            for (Integer t : vertices) {
+                double w = expected.getWeight(t);
+                assertEquals(w, actual.getWeight(t), 0d);
+                assertEquals(w, bfs.getPathWeight(s, t), 0d);
+                GraphPath<Integer, DefaultEdge> path = bfs.getPath(s, t);
+                if (w == Double.POSITIVE_INFINITY) {
+                    assertNull(path);
+                    continue;
+                }
+                assertEquals(w, path.getWeight(), 0d);
+                assertEquals(path.getLength(), path.getWeight(), 0d);
+                assertEquals(s, path.getStartVertex());
+                assertEquals(t, path.getEndVertex());
+                assertEquals(path.getLength() + 1, path.getVertexList().size());
+            }
+        }
+    }
+}
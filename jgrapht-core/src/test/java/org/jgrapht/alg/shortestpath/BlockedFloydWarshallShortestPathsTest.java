@@ -0,0 +1,239 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link BlockedFloydWarshallShortestPaths}.
+ *
+ * @author agent
+ */
+public class BlockedFloydWarshallShortestPathsTest
+{
+    private static final double EPSILON = 1e-9;
+
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void createPool()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void shutdownPool()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSimple()
+    {
+        Graph<String, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d", "e"));
+        g.setEdgeWeight(g.addEdge("a", "b"), 2);
+        g.setEdgeWeight(g.addEdge("b", "c"), 3);
+        g.setEdgeWeight(g.addEdge("a", "c"), 7);
+        g.setEdgeWeight(g.addEdge("c", "d"), 0);
+        g.setEdgeWeight(g.addEdge("d", "d"), -1);
+
+        BlockedFloydWarshallShortestPaths<String, DefaultWeightedEdge> sp =
+            new BlockedFloydWarshallShortestPaths<>(new GraphIndexView<>(g), 2, pool);
+        GraphPath<String, DefaultWeightedEdge> path = sp.getPath("a", "d");
+        assertEquals(5d, path.getWeight(), 0d);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), path.getVertexList());
+        assertEquals(Double.POSITIVE_INFINITY, sp.getPathWeight("d", "a"), 0d);
+        assertNull(sp.getPath("a", "e"));
+        assertEquals(0d, sp.getPath("e", "e").getWeight(), 0d);
+        assertEquals(6, sp.getShortestPathsCount());
+        assertEquals("b", sp.getFirstHop("a", "d"));
+        assertEquals("c", sp.getLastHop("a", "d"));
+        assertEquals("b", sp.getLastHop("a", "c"));
+        assertNull(sp.getFirstHop("d", "a"));
+        assertNull(sp.getLastHop("d", "a"));
+        assertEquals(3d, sp.getPaths("b").getWeight("d"), 0d);
+        assertEquals("b", sp.getPaths("b").getSourceVertex());
+        assertEquals(Arrays.asList("b", "c", "d"), sp.getPaths("b").getPath("d").getVertexList());
+
+        assertEquals(5d, new BlockedFloydWarshallShortestPaths<>(g).getPathWeight("a", "d"), 0d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBlockSize()
+    {
+        Graph<String, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            DefaultWeightedEdge.class);
+        new BlockedFloydWarshallShortestPaths<>(new GraphIndexView<>(g), 0, pool);
+    }
+
+    @Test
+    public void testEmptyGraph()
+    {
+        Graph<String, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            DefaultWeightedEdge.class);
+        assertEquals(0, new BlockedFloydWarshallShortestPaths<>(g).getShortestPathsCount());
+    }
+
+    @Test
+    public void testRandomDirected()
+    {
+        Random rng = new Random(17);
+        for (int blockSize : new int[] { 1, 3, 7, 16, 64 }) {
+            testRandom(rng, 50, 0.1, true, false, blockSize);
+        }
+        testRandom(rng, 300, 0.02, true, false, 32);
+    }
+
+    @Test
+    public void testRandomUndirected()
+    {
+        Random rng = new Random(33);
+        for (int blockSize : new int[] { 1, 5, 16, 64 }) {
+            testRandom(rng, 50, 0.1, false, false, blockSize);
+        }
+        testRandom(rng, 300, 0.02, false, false, 32);
+    }
+
+    @Test
+    public void testRandomNegativeWeights()
+    {
+        Random rng = new Random(5);
+        for (int blockSize : new int[] { 1, 4, 9, 64 }) {
+            testRandom(rng, 60, 0.1, true, true, blockSize);
+        }
+    }
+
+    @Test
+    public void testZeroWeights()
+    {
+        // zero-weight cycles with more vertices than a single tile
+        for (long seed = 1; seed <= 4; seed++) {
+            Random rng = new Random(seed);
+            Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(200, 0.02, rng, false)
+                .generateGraph(g);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextInt(3));
+            }
+            assertShortestPaths(g, BlockedFloydWarshallShortestPaths.DEFAULT_BLOCK_SIZE);
+            assertShortestPaths(g, 7);
+        }
+
+        Random rng = new Random(7);
+        Graph<Integer, DefaultWeightedEdge> g = new WeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(150, 0.02, rng, false)
+            .generateGraph(g);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, rng.nextInt(2));
+        }
+        assertShortestPaths(g, 16);
+    }
+
+    @Test
+    public void testZeroAndFractionalWeights()
+    {
+        // sums of equal value which differ in the last bits must not make first hops cycle
+        for (long seed : new long[] { 126, 175 }) {
+            Random rng = new Random(seed);
+            Graph<Integer, DefaultWeightedEdge> g = new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(16, 0.1, rng, false)
+                .generateGraph(g);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextInt(3) == 0 ? 0d : rng.nextInt(100) / 30d);
+            }
+            assertShortestPaths(g, 5);
+            assertShortestPaths(g, 10);
+        }
+    }
+
+    private void testRandom(
+        Random rng, int n, double p, boolean directed, boolean acyclic, int blockSize)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = directed
+            ? new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+            : new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, p, rng, true)
+            .generateGraph(g);
+        if (acyclic) {
+            // negative weights without negative cycles
+            List<DefaultWeightedEdge> backwards = new ArrayList<>();
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                if (g.getEdgeSource(e) >= g.getEdgeTarget(e)) {
+                    backwards.add(e);
+                }
+            }
+            g.removeAllEdges(backwards);
+        }
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, acyclic ? rng.nextDouble() - 0.5 : rng.nextDouble());
+        }
+        assertShortestPaths(g, blockSize);
+    }
+
+    private void assertShortestPaths(Graph<Integer, DefaultWeightedEdge> g, int blockSize)
+    {
+        BlockedFloydWarshallShortestPaths<Integer, DefaultWeightedEdge> sp =
+            new BlockedFloydWarshallShortestPaths<>(new GraphIndexView<>(g), blockSize, pool);
+        FloydWarshallShortestPaths<Integer, DefaultWeightedEdge> expected =
+            new FloydWarshallShortestPaths<>(g);
+
+        assertEquals(expected.getShortestPathsCount(), sp.getShortestPathsCount());
+        for (Integer source : g.vertexSet()) {
+            for (Integer target : g.vertexSet()) {
+                double weight = sp.getPathWeight(source, target);
+                assertEquals(expected.getPathWeight(source, target), weight, EPSILON);
+                GraphPath<Integer, DefaultWeightedEdge> path = sp.getPath(source, target);
+                if (path == null) {
+                    assertEquals(Double.POSITIVE_INFINITY, weight, 0d);
+                    assertNull(sp.getFirstHop(source, target));
+                    continue;
+                }
+                double sum = 0d;
+                for (DefaultWeightedEdge e : path.getEdgeList()) {
+                    sum += g.getEdgeWeight(e);
+                }
+                assertEquals(weight, sum, EPSILON);
+                List<Integer> vertices = path.getVertexList();
+                assertEquals(source, vertices.get(0));
+                assertEquals(target, vertices.get(vertices.size() - 1));
+                if (!source.equals(target)) {
+                    assertEquals(vertices.get(1), sp.getFirstHop(source, target));
+                    assertEquals(
+                        vertices.get(vertices.size() - 2), sp.getLastHop(source, target));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ContractionHierarchyShortestPath}.
+ *
+ * @author agent
+ */
+public class ContractionHierarchyShortestPathTest
+{
+    private static final double EPSILON = 1e-9;
+
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void createPool()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void shutdownPool()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSimple()
+    {
+        Graph<String, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d", "e"));
+        g.setEdgeWeight(g.addEdge("a", "b"), 2);
+        g.setEdgeWeight(g.addEdge("b", "c"), 3);
+        g.setEdgeWeight(g.addEdge("a", "c"), 7);
+        g.setEdgeWeight(g.addEdge("a", "c"), 6);
+        g.setEdgeWeight(g.addEdge("c", "d"), 0);
+        g.setEdgeWeight(g.addEdge("d", "d"), 1);
+        g.setEdgeWeight(g.addEdge("d", "a"), 10);
+
+        ContractionHierarchyShortestPath<String, DefaultWeightedEdge> sp =
+            new ContractionHierarchyShortestPath<>(g, pool);
+        GraphPath<String, DefaultWeightedEdge> path = sp.getPath("a", "d");
+        assertEquals(5d, path.getWeight(), 0d);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), path.getVertexList());
+        assertEquals(5d, sp.getPathWeight("a", "d"), 0d);
+        assertEquals(10d, sp.getPathWeight("d", "a"), 0d);
+        assertEquals(12d, sp.getPathWeight("c", "b"), 0d);
+        assertNull(sp.getPath("a", "e"));
+        assertEquals(Double.POSITIVE_INFINITY, sp.getPathWeight("e", "a"), 0d);
+        assertEquals(0d, sp.getPath("e", "e").getWeight(), 0d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        Graph<String, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b"));
+        g.setEdgeWeight(g.addEdge("a", "b"), -1);
+        new ContractionHierarchyShortestPath<>(g).getPath("a", "b");
+    }
+
+    @Test
+    public void testPathGraph()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new SimpleWeightedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new LinearGraphGenerator<Integer, DefaultWeightedEdge>(200).generateGraph(g);
+
+        ContractionHierarchyShortestPath<Integer, DefaultWeightedEdge> sp =
+            new ContractionHierarchyShortestPath<>(g, pool);
+        GraphPath<Integer, DefaultWeightedEdge> path = sp.getPath(0, 199);
+        assertEquals(199d, path.getWeight(), 0d);
+        assertEquals(199, path.getLength());
+        assertPath(g, path);
+        assertTrue(sp.getShortcutCount() > 0);
+    }
+
+    @Test
+    public void testRandomDirected()
+    {
+        Random rng = new Random(17);
+        for (int i = 0; i < 3; i++) {
+            testRandom(rng, 200, 0.02, true);
+        }
+    }
+
+    @Test
+    public void testRandomUndirected()
+    {
+        Random rng = new Random(33);
+        for (int i = 0; i < 3; i++) {
+            testRandom(rng, 200, 0.02, false);
+        }
+    }
+
+    @Test
+    public void testGrid()
+    {
+        Random rng = new Random(7);
+        Graph<Integer, DefaultWeightedEdge> g = new DefaultDirectedWeightedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        int n = 30;
+        for (int v = 0; v < n * n; v++) {
+            g.addVertex(v);
+        }
+        for (int v = 0; v < n * n; v++) {
+            if (v % n < n - 1) {
+                g.setEdgeWeight(g.addEdge(v, v + 1), 1 + rng.nextInt(10));
+                g.setEdgeWeight(g.addEdge(v + 1, v), 1 + rng.nextInt(10));
+            }
+            if (v + n < n * n) {
+                g.setEdgeWeight(g.addEdge(v, v + n), 1 + rng.nextInt(10));
+                g.setEdgeWeight(g.addEdge(v + n, v), 1 + rng.nextInt(10));
+            }
+        }
+        assertSameAsDijkstra(g, new ContractionHierarchyShortestPath<>(g, pool), rng, 200);
+    }
+
+    @Test
+    public void testManyToMany()
+    {
+        Random rng = new Random(5);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = directed
+                ? new DirectedWeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                : new WeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(300, 0.01, rng, true)
+                .generateGraph(g);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextDouble());
+            }
+            DijkstraManyToManyShortestPathsTest
+                .assertDistances(g, new ContractionHierarchyShortestPath<>(g, pool), rng);
+        }
+    }
+
+    private void testRandom(Random rng, int n, double p, boolean directed)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = directed
+            ? new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+            : new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, p, rng, true)
+            .generateGraph(g);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, rng.nextDouble());
+        }
+        assertSameAsDijkstra(g, new ContractionHierarchyShortestPath<>(g, pool), rng, 500);
+    }
+
+    private void assertSameAsDijkstra(
+        Graph<Integer, DefaultWeightedEdge> g,
+        ContractionHierarchyShortestPath<Integer, DefaultWeightedEdge> sp, Random rng,
+        int queries)
+    {
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> expected =
+            new DijkstraShortestPath<>(g);
+        List<Integer> vertices = new ArrayList<>(g.vertexSet());
+        for (int i = 0; i < queries; i++) {
+            Integer source = vertices.get(rng.nextInt(vertices.size()));
+            Integer target = vertices.get(rng.nextInt(vertices.size()));
+            double weight = expected.getPathWeight(source, target);
+            assertEquals(weight, sp.getPathWeight(source, target), EPSILON);
+            GraphPath<Integer, DefaultWeightedEdge> path = sp.getPath(source, target);
+            if (weight == Double.POSITIVE_INFINITY) {
+                assertNull(path);
+            } else {
+                assertEquals(weight, path.getWeight(), EPSILON);
+                assertEquals(source, path.getStartVertex());
+                assertEquals(target, path.getEndVertex());
+                assertPath(g, path);
+            }
+        }
+    }
+
+    private void assertPath(
+        Graph<Integer, DefaultWeightedEdge> g, GraphPath<Integer, DefaultWeightedEdge> path)
+    {
+        double weight = 0d;
+        Integer v = path.getStartVertex();
+        for (DefaultWeightedEdge e : path.getEdgeList()) {
+            if (g.getType().isDirected()) {
+                assertEquals(v, g.getEdgeSource(e));
+            }
+            v = Graphs.getOppositeVertex(g, e, v);
+            weight += g.getEdgeWeight(e);
+        }
+        assertEquals(path.getEndVertex(), v);
+        assertEquals(path.getWeight(), weight, EPSILON);
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link DeltaSteppingShortestPath}.
+ *
+ * @author agent
+ */
+public class DeltaSteppingShortestPathTest
+{
+    private static final double EPSILON = 1e-9;
+
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void createPool()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void shutdownPool()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSimple()
+    {
+        Graph<String, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d", "e"));
+        g.setEdgeWeight(g.addEdge("a", "b"), 2);
+        g.setEdgeWeight(g.addEdge("b", "c"), 3);
+        g.setEdgeWeight(g.addEdge("a", "c"), 7);
+        g.setEdgeWeight(g.addEdge("c", "d"), 0);
+        g.setEdgeWeight(g.addEdge("d", "d"), 1);
+
+        DeltaSteppingShortestPath<String, DefaultWeightedEdge> sp =
+            new DeltaSteppingShortestPath<>(g, 2d, pool);
+        GraphPath<String, DefaultWeightedEdge> path = sp.getPath("a", "d");
+        assertEquals(5d, path.getWeight(), 0d);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), path.getVertexList());
+        assertEquals(Double.POSITIVE_INFINITY, sp.getPathWeight("d", "a"), 0d);
+        assertNull(sp.getPath("a", "e"));
+        assertEquals(0d, sp.getPath("e", "e").getWeight(), 0d);
+
+        assertEquals(5d, new DeltaSteppingShortestPath<>(g).getPathWeight("a", "d"), 0d);
+        assertEquals(
+            5d, new DeltaSteppingShortestPath<>(g, Double.POSITIVE_INFINITY)
+                .getPathWeight("a", "d"),
+            0d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        Graph<String, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b"));
+        g.setEdgeWeight(g.addEdge("a", "b"), -1);
+        new DeltaSteppingShortestPath<>(g).getPaths("a");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeDelta()
+    {
+        Graph<String, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            DefaultWeightedEdge.class);
+        new DeltaSteppingShortestPath<>(g, -1d);
+    }
+
+    @Test
+    public void testIndexInvalidation()
+    {
+        Graph<String, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c"));
+        g.setEdgeWeight(g.addEdge("a", "b"), 4);
+        GraphIndexView<String, DefaultWeightedEdge> index = new GraphIndexView<>(g);
+        DeltaSteppingShortestPath<String, DefaultWeightedEdge> sp =
+            new DeltaSteppingShortestPath<>(index, 1d, pool);
+        assertEquals(Double.POSITIVE_INFINITY, sp.getPathWeight("a", "c"), 0d);
+
+        g.setEdgeWeight(g.addEdge("b", "c"), 1);
+        index.invalidate();
+        assertEquals(5d, sp.getPathWeight("a", "c"), 0d);
+    }
+
+    @Test
+    public void testRandomDirected()
+    {
+        Random rng = new Random(17);
+        for (double delta : new double[] { DeltaSteppingShortestPath.AUTOMATIC_DELTA, 0.01, 0.2,
+            1d, Double.POSITIVE_INFINITY })
+        {
+            testRandom(rng, 100, 0.05, true, delta, 10);
+        }
+    }
+
+    @Test
+    public void testRandomUndirected()
+    {
+        Random rng = new Random(33);
+        for (double delta : new double[] { DeltaSteppingShortestPath.AUTOMATIC_DELTA, 0.05, 0.5 })
+        {
+            testRandom(rng, 100, 0.05, false, delta, 10);
+        }
+    }
+
+    @Test
+    public void testRandomLargeFrontiers()
+    {
+        // large frontiers are relaxed in parallel
+        Random rng = new Random(7);
+        testRandom(rng, 3000, 0.005, true, 0.5, 3);
+        testRandom(rng, 3000, 0.005, false, Double.POSITIVE_INFINITY, 3);
+    }
+
+    private void testRandom(
+        Random rng, int n, double p, boolean directed, double delta, int sources)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = directed
+            ? new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+            : new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, p, rng, false)
+            .generateGraph(g);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, rng.nextDouble());
+        }
+
+        DeltaSteppingShortestPath<Integer, DefaultWeightedEdge> sp =
+            new DeltaSteppingShortestPath<>(g, delta, pool);
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> expected =
+            new DijkstraShortestPath<>(g);
+
+        for (int s = 0; s < sources; s++) {
+            Integer source = rng.nextInt(n);
+            SingleSourcePaths<Integer, DefaultWeightedEdge> paths = sp.getPaths(source);
+            SingleSourcePaths<Integer, DefaultWeightedEdge> expectedPaths =
+                expected.getPaths(source);
+            for (Integer target : g.vertexSet()) {
+                assertEquals(
+                    expectedPaths.getWeight(target), paths.getWeight(target), EPSILON);
+                GraphPath<Integer, DefaultWeightedEdge> path = paths.getPath(target);
+                if (path != null) {
+                    assertEquals(source, path.getStartVertex());
+                    assertEquals(target, path.getEndVertex());
+                    assertEquals(path.getWeight(), paths.getWeight(target), EPSILON);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link DijkstraManyToManyShortestPaths}.
+ *
+ * @author agent
+ */
+public class DijkstraManyToManyShortestPathsTest
+{
+    private static final double EPSILON = 1e-9;
+
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void createPool()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void shutdownPool()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSimple()
+    {
+        Graph<String, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d", "e"));
+        g.setEdgeWeight(g.addEdge("a", "b"), 2);
+        g.setEdgeWeight(g.addEdge("b", "c"), 3);
+        g.setEdgeWeight(g.addEdge("a", "c"), 7);
+        g.setEdgeWeight(g.addEdge("c", "d"), 1);
+
+        double[][] d = new DijkstraManyToManyShortestPaths<>(g, pool)
+            .getDistances(Arrays.asList("a", "c", "a"), Arrays.asList("d", "a", "e", "d"));
+        assertEquals(3, d.length);
+        assertArrayEquals(
+            new double[] { 6d, 0d, Double.POSITIVE_INFINITY, 6d }, d[0], 0d);
+        assertArrayEquals(
+            new double[] { 1d, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, 1d }, d[1],
+            0d);
+        assertArrayEquals(d[0], d[2], 0d);
+
+        assertEquals(
+            0, new DijkstraManyToManyShortestPaths<>(g)
+                .getDistances(Collections.emptyList(), Arrays.asList("a")).length);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        Graph<String, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b"));
+        g.setEdgeWeight(g.addEdge("a", "b"), -1);
+        new DijkstraManyToManyShortestPaths<>(g).getDistances(
+            Arrays.asList("a"), Arrays.asList("b"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingTarget()
+    {
+        Graph<String, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            DefaultWeightedEdge.class);
+        g.addVertex("a");
+        new DijkstraManyToManyShortestPaths<>(g).getDistances(
+            Arrays.asList("a"), Arrays.asList("b"));
+    }
+
+    @Test
+    public void testRandom()
+    {
+        Random rng = new Random(17);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = directed
+                ? new DirectedWeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                : new WeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(300, 0.01, rng, true)
+                .generateGraph(g);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextDouble());
+            }
+            assertDistances(g, new DijkstraManyToManyShortestPaths<>(g, pool), rng);
+        }
+    }
+
+    /**
+     * Compare the distance table of an algorithm with single-source Dijkstra searches.
+     * 
+     * @param g the graph
+     * @param alg the algorithm
+     * @param rng the random number generator used to pick sources and targets
+     */
+    static void assertDistances(
+        Graph<Integer, DefaultWeightedEdge> g,
+        ManyToManyShortestPathsAlgorithm<Integer, DefaultWeightedEdge> alg, Random rng)
+    {
+        List<Integer> vertices = new ArrayList<>(g.vertexSet());
+        List<Integer> sources = new ArrayList<>();
+        List<Integer> targets = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            sources.add(vertices.get(rng.nextInt(vertices.size())));
+            targets.add(vertices.get(rng.nextInt(vertices.size())));
+        }
+        targets.add(sources.get(0));
+
+        double[][] d = alg.getDistances(sources, targets);
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> expected =
+            new DijkstraShortestPath<>(g);
+        assertEquals(sources.size(), d.length);
+        for (int i = 0; i < sources.size(); i++) {
+            assertEquals(targets.size(), d[i].length);
+            ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+                expected.getPaths(sources.get(i));
+            for (int j = 0; j < targets.size(); j++) {
+                assertEquals(paths.getWeight(targets.get(j)), d[i][j], EPSILON);
+            }
+        }
+    }
+}
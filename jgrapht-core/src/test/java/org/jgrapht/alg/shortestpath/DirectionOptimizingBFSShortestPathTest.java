@@ -0,0 +1,171 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link DirectionOptimizingBFSShortestPath}.
+ *
+ * @author agent
+ */
+public class DirectionOptimizingBFSShortestPathTest
+{
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void createPool()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void shutdownPool()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSimple()
+    {
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d", "e"));
+        g.addEdge("a", "b");
+        g.addEdge("b", "c");
+        g.addEdge("c", "d");
+        g.addEdge("a", "c");
+        g.addEdge("d", "d");
+        g.addEdge("e", "a");
+
+        DirectionOptimizingBFSShortestPath<String, DefaultEdge> bfs =
+            new DirectionOptimizingBFSShortestPath<>(g);
+        GraphPath<String, DefaultEdge> path = bfs.getPath("a", "d");
+        assertEquals(Arrays.asList("a", "c", "d"), path.getVertexList());
+        assertEquals(2d, path.getWeight(), 0d);
+        assertEquals(0d, bfs.getPathWeight("a", "a"), 0d);
+        assertEquals(Double.POSITIVE_INFINITY, bfs.getPathWeight("a", "e"), 0d);
+        assertNull(bfs.getPath("d", "a"));
+
+        SingleSourcePaths<String, DefaultEdge> paths = bfs.getPaths("e");
+        assertEquals(3d, paths.getWeight("d"), 0d);
+        assertEquals(Arrays.asList("e", "a", "b"), paths.getPath("b").getVertexList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testShortArrays()
+    {
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b"));
+        new DirectionOptimizingBFSShortestPath<>(g).search(0, new int[1], new int[2]);
+    }
+
+    @Test
+    public void testRandomDirected()
+    {
+        Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(6000, 60000, 17, true, true)
+            .generateGraph(g);
+        testRandom(g);
+    }
+
+    @Test
+    public void testRandomUndirected()
+    {
+        Graph<Integer, DefaultEdge> g = new Pseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(6000, 30000, 19, true, true)
+            .generateGraph(g);
+        testRandom(g);
+    }
+
+    @Test
+    public void testSparse()
+    {
+        // long paths and many levels
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(5000, 6000, 23, false, false)
+            .generateGraph(g);
+        testRandom(g);
+    }
+
+    private void testRandom(Graph<Integer, DefaultEdge> g)
+    {
+        GraphIndexView<Integer, DefaultEdge> index = new GraphIndexView<>(g);
+        int n = index.vertexCount();
+        List<DirectionOptimizingBFSShortestPath<Integer, DefaultEdge>> algs = Arrays.asList(
+            new DirectionOptimizingBFSShortestPath<>(
+                index, DirectionOptimizingBFSShortestPath.DEFAULT_ALPHA,
+                DirectionOptimizingBFSShortestPath.DEFAULT_BETA, pool),
+            // always top-down
+            new DirectionOptimizingBFSShortestPath<>(
+                index, Double.MIN_VALUE, DirectionOptimizingBFSShortestPath.DEFAULT_BETA, pool),
+            // always bottom-up after the first level
+            new DirectionOptimizingBFSShortestPath<>(
+                index, Double.MAX_VALUE, Double.MAX_VALUE, pool),
+            new DirectionOptimizingBFSShortestPath<>(
+                index, DirectionOptimizingBFSShortestPath.DEFAULT_ALPHA,
+                DirectionOptimizingBFSShortestPath.DEFAULT_BETA, ForkJoinPool.commonPool()));
+
+        DijkstraShortestPath<Integer, DefaultEdge> dijkstra = new DijkstraShortestPath<>(g);
+        int[] edgeSources = index.getEdgeSources();
+        int[] edgeTargets = index.getEdgeTargets();
+        int[] distances = new int[n];
+        int[] parentEdges = new int[n];
+        Random rng = new Random(31);
+        for (int r = 0; r < 3; r++) {
+            int s = rng.nextInt(n);
+            SingleSourcePaths<Integer, DefaultEdge> expected =
+                dijkstra.getPaths(index.getVertex(s));
+            for (DirectionOptimizingBFSShortestPath<Integer, DefaultEdge> bfs : algs) {
+                bfs.search(s, distances, parentEdges);
+                for (int v = 0; v < n; v++) {
+                    double w = expected.getWeight(index.getVertex(v));
+                    if (w == Double.POSITIVE_INFINITY) {
+                        assertEquals(DirectionOptimizingBFSShortestPath.UNREACHABLE, distances[v]);
+                        assertEquals(-1, parentEdges[v]);
+                    } else {
+                        assertEquals(w, distances[v], 0d);
+                    }
+                    if (v == s || distances[v] == DirectionOptimizingBFSShortestPath.UNREACHABLE) {
+                        continue;
+                    }
+                    int e = parentEdges[v];
+                    int u = edgeTargets[e] == v ? edgeSources[e] : edgeTargets[e];
+                    if (g.getType().isDirected()) {
+                        assertEquals(v, edgeTargets[e]);
+                    }
+                    assertEquals(distances[v] - 1, distances[u]);
+                }
+                assertEquals(-1, parentEdges[s]);
+            }
+        }
+    }
+}
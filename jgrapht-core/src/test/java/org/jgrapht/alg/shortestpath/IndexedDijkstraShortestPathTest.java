@@ -0,0 +1,184 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link IndexedDijkstraShortestPath}.
+ *
+ * @author agent
+ */
+public class IndexedDijkstraShortestPathTest
+{
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    public void testSimple()
+    {
+        Graph<String, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d", "e"));
+        g.setEdgeWeight(g.addEdge("a", "b"), 2);
+        g.setEdgeWeight(g.addEdge("b", "c"), 3);
+        g.setEdgeWeight(g.addEdge("a", "c"), 7);
+        g.setEdgeWeight(g.addEdge("c", "d"), 0);
+        g.setEdgeWeight(g.addEdge("d", "d"), 1);
+
+        IndexedDijkstraShortestPath<String, DefaultWeightedEdge> sp =
+            new IndexedDijkstraShortestPath<>(g);
+        GraphPath<String, DefaultWeightedEdge> path = sp.getPath("a", "d");
+        assertEquals(5d, path.getWeight(), 0d);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), path.getVertexList());
+        assertEquals(5d, sp.getPathWeight("a", "d"), 0d);
+        assertEquals(Double.POSITIVE_INFINITY, sp.getPathWeight("d", "a"), 0d);
+        assertNull(sp.getPath("a", "e"));
+        assertEquals(0d, sp.getPath("e", "e").getWeight(), 0d);
+        assertEquals(3d, sp.getPathWeight("b", "d"), 0d);
+
+        SingleSourcePaths<String, DefaultWeightedEdge> paths = sp.getPaths("a");
+        assertEquals(5d, paths.getWeight("d"), 0d);
+        assertEquals(Arrays.asList("a", "b", "c"), paths.getPath("c").getVertexList());
+        assertNull(paths.getPath("e"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        Graph<String, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b"));
+        g.setEdgeWeight(g.addEdge("a", "b"), -1);
+        new IndexedDijkstraShortestPath<>(g).getPath("a", "b");
+    }
+
+    @Test
+    public void testIndexInvalidation()
+    {
+        Graph<String, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b"));
+        g.setEdgeWeight(g.addEdge("a", "b"), 4);
+        GraphIndexView<String, DefaultWeightedEdge> index = new GraphIndexView<>(g);
+        IndexedDijkstraShortestPath<String, DefaultWeightedEdge> sp =
+            new IndexedDijkstraShortestPath<>(index);
+        assertEquals(4d, sp.getPathWeight("a", "b"), 0d);
+
+        g.addVertex("c");
+        g.setEdgeWeight(g.addEdge("b", "c"), 1);
+        index.invalidate();
+        assertEquals(5d, sp.getPathWeight("a", "c"), 0d);
+    }
+
+    @Test
+    public void testRepeatedQueries()
+    {
+        Random rng = new Random(17);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = createRandomGraph(rng, directed);
+            IndexedDijkstraShortestPath<Integer, DefaultWeightedEdge> sp =
+                new IndexedDijkstraShortestPath<>(g);
+            assertQueries(g, sp, new Random(rng.nextLong()), 500);
+        }
+    }
+
+    @Test
+    public void testConcurrentQueries()
+        throws Exception
+    {
+        Random rng = new Random(33);
+        Graph<Integer, DefaultWeightedEdge> g = createRandomGraph(rng, true);
+        IndexedDijkstraShortestPath<Integer, DefaultWeightedEdge> sp =
+            new IndexedDijkstraShortestPath<>(g);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                long seed = rng.nextLong();
+                futures.add(executor.submit(() -> assertQueries(g, sp, new Random(seed), 200)));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private Graph<Integer, DefaultWeightedEdge> createRandomGraph(Random rng, boolean directed)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = directed
+            ? new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+            : new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(200, 0.02, rng, true)
+            .generateGraph(g);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, rng.nextDouble());
+        }
+        return g;
+    }
+
+    private void assertQueries(
+        Graph<Integer, DefaultWeightedEdge> g,
+        IndexedDijkstraShortestPath<Integer, DefaultWeightedEdge> sp, Random rng, int queries)
+    {
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> expected =
+            new DijkstraShortestPath<>(g);
+        List<Integer> vertices = new ArrayList<>(g.vertexSet());
+        for (int i = 0; i < queries; i++) {
+            Integer source = vertices.get(rng.nextInt(vertices.size()));
+            Integer target = vertices.get(rng.nextInt(vertices.size()));
+            double weight = expected.getPathWeight(source, target);
+            assertEquals(weight, sp.getPathWeight(source, target), EPSILON);
+            GraphPath<Integer, DefaultWeightedEdge> path = sp.getPath(source, target);
+            if (weight == Double.POSITIVE_INFINITY) {
+                assertNull(path);
+            } else {
+                assertEquals(weight, path.getWeight(), EPSILON);
+                assertEquals(source, path.getStartVertex());
+                assertEquals(target, path.getEndVertex());
+                double sum = 0d;
+                for (DefaultWeightedEdge e : path.getEdgeList()) {
+                    sum += g.getEdgeWeight(e);
+                }
+                assertEquals(weight, sum, EPSILON);
+            }
+            if (i % 50 == 0) {
+                SingleSourcePaths<Integer, DefaultWeightedEdge> paths = sp.getPaths(source);
+                for (Integer v : vertices) {
+                    assertEquals(
+                        expected.getPathWeight(source, v), paths.getWeight(v), EPSILON);
+                }
+            }
+        }
+    }
+}
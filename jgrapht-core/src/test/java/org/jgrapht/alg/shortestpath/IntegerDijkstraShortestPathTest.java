@@ -0,0 +1,130 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link IntegerDijkstraShortestPath}.
+ *
+ * @author agent
+ */
+public class IntegerDijkstraShortestPathTest
+{
+    @Test
+    public void testSimple()
+    {
+        Graph<String, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d"));
+        g.setEdgeWeight(g.addEdge("a", "b"), 2);
+        g.setEdgeWeight(g.addEdge("b", "c"), 3);
+        g.setEdgeWeight(g.addEdge("a", "c"), 7);
+        g.setEdgeWeight(g.addEdge("c", "d"), 0);
+
+        IntegerDijkstraShortestPath<String, DefaultWeightedEdge> sp =
+            new IntegerDijkstraShortestPath<>(g);
+        GraphPath<String, DefaultWeightedEdge> path = sp.getPath("a", "d");
+        assertEquals(5d, path.getWeight(), 0d);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), path.getVertexList());
+        assertEquals(Double.POSITIVE_INFINITY, sp.getPathWeight("d", "a"), 0d);
+
+        assertEquals(
+            5d, new IntegerDijkstraShortestPath<>(g, Double.POSITIVE_INFINITY, 7)
+                .getPathWeight("a", "d"),
+            0d);
+        assertNull(new IntegerDijkstraShortestPath<>(g, 4d).getPath("a", "d"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonIntegralWeight()
+    {
+        Graph<String, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b"));
+        g.setEdgeWeight(g.addEdge("a", "b"), 0.5);
+        new IntegerDijkstraShortestPath<>(g).getPaths("a");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWeightAboveMaximum()
+    {
+        Graph<String, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c"));
+        g.setEdgeWeight(g.addEdge("a", "b"), 1);
+        g.setEdgeWeight(g.addEdge("a", "c"), 5);
+        new IntegerDijkstraShortestPath<>(g, Double.POSITIVE_INFINITY, 4).getPaths("a");
+    }
+
+    @Test
+    public void testRandomSmallWeights()
+    {
+        testRandom(new Random(17), 10, false);
+        testRandom(new Random(17), 10, true);
+    }
+
+    @Test
+    public void testRandomLargeWeights()
+    {
+        testRandom(new Random(33), 1 << 20, false);
+    }
+
+    private void testRandom(Random rng, int maxWeight, boolean provideMaxWeight)
+    {
+        GraphGenerator<Integer, DefaultWeightedEdge, Integer> gen =
+            new GnpRandomGraphGenerator<>(100, 0.05, rng, false);
+        for (int i = 0; i < 5; i++) {
+            Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            gen.generateGraph(g);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextInt(maxWeight + 1));
+            }
+
+            IntegerDijkstraShortestPath<Integer, DefaultWeightedEdge> sp = provideMaxWeight
+                ? new IntegerDijkstraShortestPath<>(g, Double.POSITIVE_INFINITY, maxWeight)
+                : new IntegerDijkstraShortestPath<>(g);
+            DijkstraShortestPath<Integer, DefaultWeightedEdge> expected =
+                new DijkstraShortestPath<>(g);
+
+            for (Integer source : g.vertexSet()) {
+                SingleSourcePaths<Integer, DefaultWeightedEdge> paths = sp.getPaths(source);
+                SingleSourcePaths<Integer, DefaultWeightedEdge> expectedPaths =
+                    expected.getPaths(source);
+                for (Integer target : g.vertexSet()) {
+                    assertEquals(
+                        expectedPaths.getWeight(target), paths.getWeight(target), 0d);
+                    GraphPath<Integer, DefaultWeightedEdge> path = paths.getPath(target);
+                    if (path != null) {
+                        assertEquals(path.getWeight(), paths.getWeight(target), 0d);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
 import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.graph.builder.*;
@@ -25,6 +26,7 @@ import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import static org.junit.Assert.*;
@@ -34,6 +36,19 @@ import static org.junit.Assert.*;
  */
 public class JohnsonShortestPathsTest
 {
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void createPool()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void shutdownPool()
+    {
+        pool.shutdown();
+    }
 
     @Test
     public void testIssue408()
@@ -155,4 +170,85 @@ public class JohnsonShortestPathsTest
 
     }
 
+
+    @Test
+    public void testParallelAndStreaming()
+    {
+        Random rng = new Random(31);
+        final int n = 60;
+        for (int i = 0; i < 5; i++) {
+            Graph<Integer, DefaultWeightedEdge> g = GraphTypeBuilder
+                .directed().vertexSupplier(SupplierUtil.createIntegerSupplier())
+                .edgeClass(DefaultWeightedEdge.class).weighted(true).allowingMultipleEdges(true)
+                .allowingSelfLoops(true).buildGraph();
+            new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, 0.1, rng, true)
+                .generateGraph(g);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                // negative weights only on forward edges and heavy backward edges, thus no
+                // negative cycles
+                double w = rng.nextDouble();
+                if (i % 2 == 0) {
+                    w += g.getEdgeSource(e) < g.getEdgeTarget(e) ? -0.5 : n;
+                }
+                g.setEdgeWeight(e, w);
+            }
+
+            FloydWarshallShortestPaths<Integer, DefaultWeightedEdge> expected =
+                new FloydWarshallShortestPaths<>(g);
+
+            // streaming without storing
+            Map<Integer, SingleSourcePaths<Integer, DefaultWeightedEdge>> streamed =
+                new ConcurrentHashMap<>();
+            new JohnsonShortestPaths<>(g, pool)
+                .forEachSourcePaths(p -> streamed.put(p.getSourceVertex(), p));
+            assertEquals(g.vertexSet(), streamed.keySet());
+
+            JohnsonShortestPaths<Integer, DefaultWeightedEdge> sp =
+                new JohnsonShortestPaths<>(g, pool);
+            for (Integer v : g.vertexSet()) {
+                SingleSourcePaths<Integer, DefaultWeightedEdge> paths = sp.getPaths(v);
+                assertEquals(v, paths.getSourceVertex());
+                for (Integer u : g.vertexSet()) {
+                    double weight = expected.getPathWeight(v, u);
+                    assertEquals(weight, paths.getWeight(u), 1e-9);
+                    assertEquals(weight, streamed.get(v).getWeight(u), 1e-9);
+                    GraphPath<Integer, DefaultWeightedEdge> path = paths.getPath(u);
+                    if (Double.isInfinite(weight)) {
+                        assertNull(path);
+                        continue;
+                    }
+                    double sum = 0d;
+                    for (DefaultWeightedEdge e : path.getEdgeList()) {
+                        sum += g.getEdgeWeight(e);
+                    }
+                    assertEquals(weight, sum, 1e-9);
+                    assertEquals(v, path.getStartVertex());
+                    assertEquals(u, path.getEndVertex());
+                }
+            }
+
+            // streaming after storing
+            Set<Integer> sources = ConcurrentHashMap.newKeySet();
+            sp.forEachSourcePaths(p -> sources.add(p.getSourceVertex()));
+            assertEquals(g.vertexSet(), sources);
+        }
+    }
+
+    @Test
+    public void testUndirected()
+    {
+        Graph<String, DefaultWeightedEdge> g = new WeightedPseudograph<>(
+            SupplierUtil.createStringSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d"));
+        g.setEdgeWeight(g.addEdge("a", "b"), 2);
+        g.setEdgeWeight(g.addEdge("c", "b"), 3);
+        g.setEdgeWeight(g.addEdge("a", "c"), 7);
+
+        JohnsonShortestPaths<String, DefaultWeightedEdge> sp = new JohnsonShortestPaths<>(g, pool);
+        assertEquals(5d, sp.getPathWeight("c", "a"), 0d);
+        assertEquals(Arrays.asList("c", "b", "a"), sp.getPath("c", "a").getVertexList());
+        assertNull(sp.getPath("a", "d"));
+        assertEquals(0d, sp.getPath("d", "d").getWeight(), 0d);
+    }
+
 }
@@ -19,10 +19,13 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.MultiObjectiveShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.*;
 
 import static org.junit.Assert.*;
@@ -106,4 +109,150 @@ public class MartinShortestPathTest
         assertEquals(1, paths22.size());
     }
 
+    @Test
+    public void testSourceSink()
+    {
+        DirectedPseudograph<Integer, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        IntStream.range(1, 4).forEach(g::addVertex);
+        DefaultEdge e12 = g.addEdge(1, 2);
+        DefaultEdge e23 = g.addEdge(2, 3);
+        DefaultEdge e13 = g.addEdge(1, 3);
+
+        DefaultEdgeFunction<DefaultEdge, double[]> f =
+            new DefaultEdgeFunction<>(new double[] { 0.0, 0.0 });
+        f.set(e12, new double[] { 1.0, 1.0 });
+        f.set(e23, new double[] { 1.0, 1.0 });
+        f.set(e13, new double[] { 1.0, 3.0 });
+
+        MartinShortestPath<Integer, DefaultEdge> sp = new MartinShortestPath<>(g, f);
+        List<GraphPath<Integer, DefaultEdge>> paths = sp.getPaths(1, 3);
+        assertEquals(2, paths.size());
+        assertEquals(1, sp.getPaths(3, 3).size());
+        assertEquals(0, sp.getPaths(3, 1).size());
+        assertEquals(0, sp.getPaths(2, 1).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingSink()
+    {
+        DirectedPseudograph<Integer, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        g.addVertex(1);
+        new MartinShortestPath<>(g, e -> new double[] { 1.0 }).getPaths(1, 2);
+    }
+
+    @Test
+    public void testRandomAgainstAllPaths()
+    {
+        Random rng = new Random(7);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int r = 0; r < 20; r++) {
+                Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                    false);
+                new GnpRandomGraphGenerator<Integer, DefaultEdge>(8, 0.4, rng.nextLong(), false)
+                    .generateGraph(g);
+                Map<DefaultEdge, double[]> weights = new HashMap<>();
+                for (DefaultEdge e : g.edgeSet()) {
+                    weights.put(e, new double[] { 1 + rng.nextInt(4), 1 + rng.nextInt(4),
+                        1 + rng.nextInt(4) });
+                }
+
+                MultiObjectiveSingleSourcePaths<Integer, DefaultEdge> sequential =
+                    new MartinShortestPath<>(g, weights::get).getPaths(0);
+                MultiObjectiveSingleSourcePaths<Integer, DefaultEdge> parallel =
+                    new MartinShortestPath<>(g, weights::get, pool).getPaths(0);
+                MartinShortestPath<Integer, DefaultEdge> sourceSink =
+                    new MartinShortestPath<>(g, weights::get);
+                AllDirectedPaths<Integer, DefaultEdge> all = new AllDirectedPaths<>(g);
+
+                for (Integer v : g.vertexSet()) {
+                    List<String> expected =
+                        paretoCosts(all.getAllPaths(0, v, true, null), weights);
+                    assertEquals(expected, costs(sequential.getPaths(v), weights));
+                    assertEquals(expected, costs(parallel.getPaths(v), weights));
+                    assertEquals(expected, costs(sourceSink.getPaths(0, v), weights));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testRandomUndirectedParallel()
+    {
+        Random rng = new Random(11);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Graph<Integer, DefaultEdge> g = new Pseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(300, 1200, 13, false, true)
+                .generateGraph(g);
+            Map<DefaultEdge, double[]> weights = new HashMap<>();
+            for (DefaultEdge e : g.edgeSet()) {
+                weights.put(e, new double[] { 1 + rng.nextInt(20), 1 + rng.nextInt(20) });
+            }
+
+            MultiObjectiveSingleSourcePaths<Integer, DefaultEdge> sequential =
+                new MartinShortestPath<>(g, weights::get).getPaths(0);
+            MultiObjectiveSingleSourcePaths<Integer, DefaultEdge> parallel =
+                new MartinShortestPath<>(g, weights::get, pool).getPaths(0);
+            MartinShortestPath<Integer, DefaultEdge> sourceSink =
+                new MartinShortestPath<>(g, weights::get, pool);
+            for (Integer v : g.vertexSet()) {
+                List<String> expected = costs(sequential.getPaths(v), weights);
+                assertEquals(expected, costs(parallel.getPaths(v), weights));
+                if (v % 10 == 0) {
+                    assertEquals(expected, costs(sourceSink.getPaths(0, v), weights));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static <V, E> List<String> costs(
+        List<GraphPath<V, E>> paths, Map<E, double[]> weights)
+    {
+        return paths
+            .stream().map(p -> Arrays.toString(cost(p, weights))).sorted()
+            .collect(Collectors.toList());
+    }
+
+    private static <V, E> List<String> paretoCosts(
+        List<GraphPath<V, E>> paths, Map<E, double[]> weights)
+    {
+        List<double[]> all = paths.stream().map(p -> cost(p, weights)).collect(Collectors.toList());
+        return all
+            .stream().filter(c -> all.stream().noneMatch(o -> dominates(o, c)))
+            .map(Arrays::toString).sorted().collect(Collectors.toList());
+    }
+
+    private static <V, E> double[] cost(GraphPath<V, E> path, Map<E, double[]> weights)
+    {
+        double[] cost = new double[weights.values().iterator().next().length];
+        for (E e : path.getEdgeList()) {
+            double[] w = weights.get(e);
+            for (int i = 0; i < cost.length; i++) {
+                cost[i] += w[i];
+            }
+        }
+        return cost;
+    }
+
+    private static boolean dominates(double[] a, double[] b)
+    {
+        boolean strict = false;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] > b[i]) {
+                return false;
+            }
+            if (a[i] < b[i]) {
+                strict = true;
+            }
+        }
+        return strict;
+    }
+
 }
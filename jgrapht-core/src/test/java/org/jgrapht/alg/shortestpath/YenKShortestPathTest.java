@@ -0,0 +1,221 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link YenKShortestPath} and {@link YenShortestPathIterator}.
+ *
+ * @author agent
+ */
+public class YenKShortestPathTest
+{
+    private static final double EPSILON = 1e-9;
+
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void createPool()
+    {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void shutdownPool()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSimple()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d", "e"));
+        g.setEdgeWeight(g.addEdge("a", "b"), 1);
+        g.setEdgeWeight(g.addEdge("b", "d"), 1);
+        g.setEdgeWeight(g.addEdge("a", "c"), 2);
+        g.setEdgeWeight(g.addEdge("c", "d"), 2);
+        g.setEdgeWeight(g.addEdge("b", "c"), 0);
+        g.setEdgeWeight(g.addEdge("b", "d"), 5);
+        g.setEdgeWeight(g.addEdge("d", "a"), 1);
+
+        List<GraphPath<String, DefaultWeightedEdge>> paths =
+            new YenKShortestPath<>(g, pool).getPaths("a", "d", 10);
+        assertEquals(4, paths.size());
+        assertEquals(Arrays.asList("a", "b", "d"), paths.get(0).getVertexList());
+        assertEquals(2d, paths.get(0).getWeight(), 0d);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), paths.get(1).getVertexList());
+        assertEquals(3d, paths.get(1).getWeight(), 0d);
+        assertEquals(4d, paths.get(2).getWeight(), 0d);
+        assertEquals(Arrays.asList("a", "c", "d"), paths.get(2).getVertexList());
+        assertEquals(6d, paths.get(3).getWeight(), 0d);
+        assertEquals(Arrays.asList("a", "b", "d"), paths.get(3).getVertexList());
+
+        assertTrue(new YenKShortestPath<>(g).getPaths("a", "e", 3).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b"));
+        g.setEdgeWeight(g.addEdge("a", "b"), -1);
+        new YenKShortestPath<>(g).getPaths("a", "b", 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSameVertex()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        g.addVertex("a");
+        new YenKShortestPath<>(g).getPaths("a", "a", 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveK()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b"));
+        new YenKShortestPath<>(g).getPaths("a", "b", 0);
+    }
+
+    @Test
+    public void testCompleteGraph()
+    {
+        // every permutation of the inner vertices gives a simple path
+        Graph<Integer, DefaultWeightedEdge> g =
+            new SimpleWeightedGraph<>(SupplierUtil.createIntegerSupplier(),
+                SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new CompleteGraphGenerator<Integer, DefaultWeightedEdge>(6).generateGraph(g);
+
+        YenShortestPathIterator<Integer, DefaultWeightedEdge> it =
+            new YenShortestPathIterator<>(g, 0, 5, pool);
+        Set<List<Integer>> seen = new HashSet<>();
+        double last = 0d;
+        while (it.hasNext()) {
+            GraphPath<Integer, DefaultWeightedEdge> path = it.next();
+            assertTrue(path.getWeight() >= last);
+            last = path.getWeight();
+            assertEquals(path.getLength(), path.getWeight(), 0d);
+            assertSimple(path);
+            assertTrue(seen.add(path.getVertexList()));
+        }
+        // 1 + 4 + 4*3 + 4*3*2 + 4*3*2*1 paths
+        assertEquals(65, seen.size());
+        try {
+            it.next();
+            fail();
+        } catch (NoSuchElementException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testRandomDirected()
+    {
+        testRandom(true);
+    }
+
+    @Test
+    public void testRandomUndirected()
+    {
+        testRandom(false);
+    }
+
+    private void testRandom(boolean directed)
+    {
+        final int k = 30;
+        Random rng = new Random(17);
+        for (int i = 0; i < 10; i++) {
+            Graph<Integer, DefaultWeightedEdge> g = directed
+                ? new DirectedWeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                : new WeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                12, 0.3, rng.nextLong(), false).generateGraph(g);
+            // a few parallel edges
+            for (DefaultWeightedEdge e : new ArrayList<>(g.edgeSet())) {
+                if (rng.nextInt(10) == 0) {
+                    g.addEdge(g.getEdgeSource(e), g.getEdgeTarget(e));
+                }
+            }
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextInt(10));
+            }
+
+            YenKShortestPath<Integer, DefaultWeightedEdge> yen = new YenKShortestPath<>(g, pool);
+            KShortestSimplePaths<Integer, DefaultWeightedEdge> expected =
+                new KShortestSimplePaths<>(g);
+            for (int j = 0; j < 5; j++) {
+                Integer source = rng.nextInt(12);
+                Integer sink = rng.nextInt(12);
+                if (source.equals(sink)) {
+                    continue;
+                }
+                List<GraphPath<Integer, DefaultWeightedEdge>> paths = yen.getPaths(source, sink, k);
+                List<GraphPath<Integer, DefaultWeightedEdge>> other =
+                    expected.getPaths(source, sink, k);
+                assertEquals(other.size(), paths.size());
+                Set<List<DefaultWeightedEdge>> seen = new HashSet<>();
+                for (int p = 0; p < paths.size(); p++) {
+                    GraphPath<Integer, DefaultWeightedEdge> path = paths.get(p);
+                    assertEquals(other.get(p).getWeight(), path.getWeight(), EPSILON);
+                    assertEquals(source, path.getStartVertex());
+                    assertEquals(sink, path.getEndVertex());
+                    assertSimple(path);
+                    assertTrue(seen.add(path.getEdgeList()));
+                    double weight = 0d;
+                    for (DefaultWeightedEdge e : path.getEdgeList()) {
+                        weight += g.getEdgeWeight(e);
+                    }
+                    assertEquals(weight, path.getWeight(), EPSILON);
+                }
+            }
+        }
+    }
+
+    private static <V, E> void assertSimple(GraphPath<V, E> path)
+    {
+        List<V> vertices = path.getVertexList();
+        assertEquals(vertices.size(), new HashSet<>(vertices).size());
+        Graph<V, E> g = path.getGraph();
+        V v = path.getStartVertex();
+        for (E e : path.getEdgeList()) {
+            assertTrue(g.getEdgeSource(e).equals(v) || g.getEdgeTarget(e).equals(v));
+            v = Graphs.getOppositeVertex(g, e, v);
+        }
+        assertEquals(path.getEndVertex(), v);
+    }
+}
@@ -19,7 +19,15 @@ package org.jgrapht.alg.spanning;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.function.*;
+
+import static org.junit.Assert.*;
 
 public class PrimMinimumSpanningTreeTest
     extends
@@ -32,4 +40,30 @@ public class PrimMinimumSpanningTreeTest
     {
         return new PrimMinimumSpanningTree<>(network);
     }
+
+    @Test
+    public void testHeapImplementations()
+    {
+        Random rng = new Random(17);
+        List<Supplier<AddressableDoubleHeap>> heaps = Arrays.asList(
+            () -> new DaryDoubleHeap(2), DaryDoubleHeap::new, PairingDoubleHeap::new,
+            FibonacciDoubleHeap::new);
+
+        for (int i = 0; i < 10; i++) {
+            Graph<Integer, DefaultWeightedEdge> g = new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(50, 0.1, rng, true)
+                .generateGraph(g);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextDouble());
+            }
+
+            double expected = new KruskalMinimumSpanningTree<>(g).getSpanningTree().getWeight();
+            for (Supplier<AddressableDoubleHeap> heap : heaps) {
+                SpanningTreeAlgorithm.SpanningTree<DefaultWeightedEdge> tree =
+                    new PrimMinimumSpanningTree<>(g, heap).getSpanningTree();
+                assertEquals(expected, tree.getWeight(), 1e-9);
+            }
+        }
+    }
 }
@@ -0,0 +1,195 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link GraphIndexView}.
+ *
+ * @author agent
+ */
+public class GraphIndexViewTest
+{
+
+    @Test
+    public void testDirected()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d"));
+        DefaultWeightedEdge ab = g.addEdge("a", "b");
+        g.setEdgeWeight(ab, 2.0);
+        DefaultWeightedEdge ac = g.addEdge("a", "c");
+        DefaultWeightedEdge cb = g.addEdge("c", "b");
+        DefaultWeightedEdge bb = g.addEdge("b", "b");
+
+        GraphIndexView<String, DefaultWeightedEdge> view = new GraphIndexView<>(g);
+        assertEquals(4, view.vertexCount());
+        assertEquals(4, view.edgeCount());
+
+        for (String v : g.vertexSet()) {
+            int vi = view.getVertexIndex(v);
+            assertEquals(v, view.getVertex(vi));
+            assertEquals(g.outDegreeOf(v), view.outDegreeOf(vi));
+            assertEquals(g.inDegreeOf(v), view.inDegreeOf(vi));
+            assertEquals(
+                g.outgoingEdgesOf(v), edgesOf(view, view.getOutOffsets(), view.getOutEdges(), vi));
+            assertEquals(
+                g.incomingEdgesOf(v), edgesOf(view, view.getInOffsets(), view.getInEdges(), vi));
+
+            int[] offsets = view.getOutOffsets();
+            for (int i = offsets[vi]; i < offsets[vi + 1]; i++) {
+                DefaultWeightedEdge e = view.getEdge(view.getOutEdges()[i]);
+                assertEquals(g.getEdgeTarget(e), view.getVertex(view.getOutNeighbors()[i]));
+            }
+            offsets = view.getInOffsets();
+            for (int i = offsets[vi]; i < offsets[vi + 1]; i++) {
+                DefaultWeightedEdge e = view.getEdge(view.getInEdges()[i]);
+                assertEquals(g.getEdgeSource(e), view.getVertex(view.getInNeighbors()[i]));
+            }
+        }
+
+        for (DefaultWeightedEdge e : Arrays.asList(ab, ac, cb, bb)) {
+            int ei = view.getEdgeIndex(e);
+            assertEquals(e, view.getEdge(ei));
+            assertEquals(g.getEdgeSource(e), view.getVertex(view.getEdgeSources()[ei]));
+            assertEquals(g.getEdgeTarget(e), view.getVertex(view.getEdgeTargets()[ei]));
+            assertEquals(g.getEdgeWeight(e), view.getEdgeWeights()[ei], 1e-9);
+        }
+        assertEquals(0, view.outDegreeOf(view.getVertexIndex("d")));
+    }
+
+    @Test
+    public void testUndirected()
+    {
+        Graph<Integer, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2));
+        g.addEdge(0, 1);
+        g.addEdge(1, 2);
+        g.addEdge(2, 2);
+        g.addEdge(0, 1);
+
+        GraphIndexView<Integer, DefaultEdge> view = new GraphIndexView<>(g);
+        assertSame(view.getOutOffsets(), view.getInOffsets());
+        for (Integer v : g.vertexSet()) {
+            int vi = view.getVertexIndex(v);
+            assertEquals(g.outgoingEdgesOf(v).size(), view.outDegreeOf(vi));
+            assertEquals(
+                g.edgesOf(v), edgesOf(view, view.getOutOffsets(), view.getOutEdges(), vi));
+
+            int[] offsets = view.getOutOffsets();
+            for (int i = offsets[vi]; i < offsets[vi + 1]; i++) {
+                DefaultEdge e = view.getEdge(view.getOutEdges()[i]);
+                assertEquals(
+                    Graphs.getOppositeVertex(g, e, v),
+                    view.getVertex(view.getOutNeighbors()[i]));
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidationByListener()
+    {
+        ListenableGraph<String, DefaultEdge> g =
+            new DefaultListenableGraph<>(new SimpleDirectedGraph<>(DefaultEdge.class));
+        GraphIndexView<String, DefaultEdge> view = new GraphIndexView<>(g);
+        g.addGraphListener(view);
+
+        g.addVertex("a");
+        g.addVertex("b");
+        assertEquals(2, view.vertexCount());
+        assertEquals(0, view.edgeCount());
+        int[] offsets = view.getOutOffsets();
+        assertSame(offsets, view.getOutOffsets());
+
+        g.addEdge("a", "b");
+        assertEquals(1, view.edgeCount());
+        assertEquals(1, view.outDegreeOf(view.getVertexIndex("a")));
+        assertNotSame(offsets, view.getOutOffsets());
+
+        g.removeVertex("a");
+        assertEquals(1, view.vertexCount());
+        assertEquals(0, view.edgeCount());
+    }
+
+    @Test
+    public void testExplicitInvalidation()
+    {
+        Graph<String, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        g.addVertex("a");
+        GraphIndexView<String, DefaultEdge> view = new GraphIndexView<>(g);
+        assertEquals(1, view.vertexCount());
+
+        g.addVertex("b");
+        assertEquals(1, view.vertexCount());
+        view.invalidate();
+        assertEquals(2, view.vertexCount());
+    }
+
+    @Test
+    public void testInvalidationDuringBuild()
+    {
+        List<GraphIndexView<String, DefaultEdge>> views = new ArrayList<>();
+        Graph<String, DefaultEdge> g = new SimpleGraph<String, DefaultEdge>(DefaultEdge.class)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public Set<DefaultEdge> edgeSet()
+            {
+                // modify the graph after the vertices have been indexed
+                if (addVertex("b")) {
+                    views.get(0).invalidate();
+                }
+                return super.edgeSet();
+            }
+        };
+        g.addVertex("a");
+        GraphIndexView<String, DefaultEdge> view = new GraphIndexView<>(g);
+        views.add(view);
+
+        assertEquals(1, view.vertexCount());
+        assertEquals(2, view.vertexCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownVertex()
+    {
+        Graph<String, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        g.addVertex("a");
+        new GraphIndexView<>(g).getVertexIndex("b");
+    }
+
+    private static <V, E> Set<E> edgesOf(
+        GraphIndexView<V, E> view, int[] offsets, int[] edges, int v)
+    {
+        Set<E> result = new HashSet<>();
+        for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+            result.add(view.getEdge(edges[i]));
+        }
+        return result;
+    }
+
+}
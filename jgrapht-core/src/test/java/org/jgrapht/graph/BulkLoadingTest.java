@@ -0,0 +1,314 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.specifics.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.function.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the bulk loading methods of {@link AbstractBaseGraph}.
+ *
+ * @author agent
+ */
+public class BulkLoadingTest
+{
+
+    @Test
+    public void testAddEdges()
+    {
+        DirectedPseudograph<Integer, DefaultEdge> g =
+            new DirectedPseudograph<>(DefaultEdge.class);
+        Set<Integer> vertexSet = g.vertexSet();
+        Set<DefaultEdge> edgeSet = g.edgeSet();
+
+        g.ensureCapacity(1000, 5000);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2));
+        DefaultEdge e01 = new DefaultEdge();
+        DefaultEdge e11 = new DefaultEdge();
+        DefaultEdge e12 = new DefaultEdge();
+        DefaultEdge e12b = new DefaultEdge();
+        assertEquals(
+            4, g.addEdges(
+                Arrays.asList(0, 1, 1, 1), Arrays.asList(1, 1, 2, 2),
+                Arrays.asList(e01, e11, e12, e12b)));
+        assertEquals(0, g.addEdges(Arrays.asList(0), Arrays.asList(2), Arrays.asList(e01)));
+
+        // views obtained before presizing remain valid
+        assertSame(vertexSet, g.vertexSet());
+        assertSame(edgeSet, g.edgeSet());
+        assertEquals(new HashSet<>(Arrays.asList(0, 1, 2)), vertexSet);
+        assertEquals(new HashSet<>(Arrays.asList(e01, e11, e12, e12b)), edgeSet);
+        assertEquals(Integer.valueOf(0), g.getEdgeSource(e01));
+        assertEquals(Integer.valueOf(1), g.getEdgeTarget(e01));
+        assertEquals(new HashSet<>(Arrays.asList(e12, e12b)), g.getAllEdges(1, 2));
+        assertEquals(5, g.degreeOf(1));
+    }
+
+    @Test
+    public void testSimpleGraph()
+    {
+        SimpleWeightedGraph<Integer, DefaultWeightedEdge> g =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2));
+        DefaultWeightedEdge e01 = new DefaultWeightedEdge();
+        DefaultWeightedEdge e10 = new DefaultWeightedEdge();
+        DefaultWeightedEdge e12 = new DefaultWeightedEdge();
+        assertEquals(
+            2, g.addEdges(
+                Arrays.asList(0, 1, 1), Arrays.asList(1, 0, 2), Arrays.asList(e01, e10, e12)));
+        assertEquals(new HashSet<>(Arrays.asList(e01, e12)), g.edgeSet());
+        g.setEdgeWeight(e12, 3.0);
+        assertEquals(3.0, g.getEdgeWeight(e12), 0.0);
+    }
+
+    @Test
+    public void testValidationBeforeInsertion()
+    {
+        SimpleDirectedGraph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1));
+        try {
+            g.addEdges(
+                Arrays.asList(0, 1), Arrays.asList(1, 1),
+                Arrays.asList(new DefaultEdge(), new DefaultEdge()));
+            fail("Self-loop not allowed");
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            g.addEdges(
+                Arrays.asList(0, 1), Arrays.asList(1, 2),
+                Arrays.asList(new DefaultEdge(), new DefaultEdge()));
+            fail("No such vertex");
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            g.addEdges(Arrays.asList(0), Arrays.asList(1, 0), Arrays.asList(new DefaultEdge()));
+            fail("Different sizes");
+        } catch (IllegalArgumentException e) {
+        }
+        assertTrue(g.edgeSet().isEmpty());
+    }
+
+    @Test
+    public void testIntVertexStrategy()
+    {
+        Graph<Integer, DefaultEdge> g = new AbstractBaseGraph<Integer, DefaultEdge>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+            DefaultGraphType.directedMultigraph(), new IntVertexGraphSpecificsStrategy<>())
+        {
+            private static final long serialVersionUID = 1L;
+        };
+        AbstractBaseGraph<Integer, DefaultEdge> base = (AbstractBaseGraph<Integer, DefaultEdge>) g;
+        base.ensureCapacity(100, 100);
+        for (int i = 0; i < 100; i++) {
+            g.addVertex(i);
+        }
+        List<Integer> sources = new ArrayList<>();
+        List<Integer> targets = new ArrayList<>();
+        List<DefaultEdge> edges = new ArrayList<>();
+        for (int i = 0; i < 99; i++) {
+            sources.add(i);
+            targets.add(i + 1);
+            edges.add(new DefaultEdge());
+        }
+        assertEquals(99, base.addEdges(sources, targets, edges));
+        for (int i = 0; i < 99; i++) {
+            assertEquals(edges.get(i), g.getEdge(i, i + 1));
+        }
+    }
+
+    @Test
+    public void testManyBatches()
+    {
+        // count how often the edge map is rebuilt
+        int[] rebuilds = new int[1];
+        GraphSpecificsStrategy<Integer, DefaultEdge> strategy =
+            new DefaultGraphSpecificsStrategy<Integer, DefaultEdge>()
+            {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public Function<GraphType, IntrusiveEdgesSpecifics<Integer, DefaultEdge>>
+                    getIntrusiveEdgesSpecificsFactory()
+                {
+                    return type -> new UniformIntrusiveEdgesSpecifics<Integer, DefaultEdge>(
+                        new LinkedHashMap<>())
+                    {
+                        private static final long serialVersionUID = 1L;
+
+                        @Override
+                        public void ensureCapacity(int expectedEdgeCount)
+                        {
+                            if (expectedEdgeCount > 0) {
+                                rebuilds[0]++;
+                            }
+                            super.ensureCapacity(expectedEdgeCount);
+                        }
+                    };
+                }
+            };
+        AbstractBaseGraph<Integer, DefaultEdge> g = new AbstractBaseGraph<Integer, DefaultEdge>(
+            null, null, DefaultGraphType.directedPseudograph(), strategy)
+        {
+            private static final long serialVersionUID = 1L;
+        };
+        Graphs.addAllVertices(g, Arrays.asList(0, 1));
+
+        for (int batch = 0; batch < 100; batch++) {
+            List<DefaultEdge> edges = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                edges.add(new DefaultEdge());
+            }
+            assertEquals(
+                100, g.addEdges(
+                    Collections.nCopies(100, 0), Collections.nCopies(100, 1), edges));
+            g.ensureCapacity(2, g.edgeSet().size());
+        }
+        assertEquals(10000, g.edgeSet().size());
+        // the capacity at least doubles on each rebuild
+        assertTrue(rebuilds[0] <= 8);
+    }
+
+    @Test
+    public void testOverriddenAddEdgeToTouchingVertices()
+    {
+        // subclasses overriding the single argument variant are still called
+        int[] calls = new int[1];
+        GraphSpecificsStrategy<Integer, DefaultEdge> strategy =
+            new DefaultGraphSpecificsStrategy<Integer, DefaultEdge>()
+            {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public BiFunction<Graph<Integer, DefaultEdge>, GraphType,
+                    Specifics<Integer, DefaultEdge>> getSpecificsFactory()
+                {
+                    return (graph, type) -> {
+                        if (type.isDirected()) {
+                            return new FastLookupDirectedSpecifics<Integer, DefaultEdge>(
+                                graph, new LinkedHashMap<>(), new HashMap<>(),
+                                getEdgeSetFactory())
+                            {
+                                private static final long serialVersionUID = 1L;
+
+                                @Override
+                                public void addEdgeToTouchingVertices(DefaultEdge e)
+                                {
+                                    calls[0]++;
+                                    super.addEdgeToTouchingVertices(e);
+                                }
+                            };
+                        }
+                        return new UndirectedSpecifics<Integer, DefaultEdge>(
+                            graph, new LinkedHashMap<>(), getEdgeSetFactory())
+                        {
+                            private static final long serialVersionUID = 1L;
+
+                            @Override
+                            public void addEdgeToTouchingVertices(DefaultEdge e)
+                            {
+                                calls[0]++;
+                                super.addEdgeToTouchingVertices(e);
+                            }
+                        };
+                    };
+                }
+            };
+
+        for (GraphType type : Arrays.asList(
+            DefaultGraphType.directedPseudograph(), DefaultGraphType.pseudograph()))
+        {
+            calls[0] = 0;
+            AbstractBaseGraph<Integer, DefaultEdge> g =
+                new AbstractBaseGraph<Integer, DefaultEdge>(
+                    null, SupplierUtil.createDefaultEdgeSupplier(), type, strategy)
+                {
+                    private static final long serialVersionUID = 1L;
+                };
+            Graphs.addAllVertices(g, Arrays.asList(0, 1, 2));
+            DefaultEdge e01 = g.addEdge(0, 1);
+            DefaultEdge e12 = new DefaultEdge();
+            assertTrue(g.addEdge(1, 2, e12));
+            DefaultEdge e22 = new DefaultEdge();
+            assertEquals(
+                1, g.addEdges(Arrays.asList(2), Arrays.asList(2), Arrays.asList(e22)));
+            assertEquals(3, calls[0]);
+            assertEquals(e01, g.getEdge(0, 1));
+            assertEquals(e12, g.getEdge(1, 2));
+            assertEquals(e22, g.getEdge(2, 2));
+        }
+    }
+
+    @Test
+    public void testDirectedAcyclicGraph()
+    {
+        DirectedAcyclicGraph<Integer, DefaultEdge> g =
+            new DirectedAcyclicGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(1, 2, 3));
+        DefaultEdge e12 = new DefaultEdge();
+        DefaultEdge e23 = new DefaultEdge();
+        assertEquals(
+            2, g.addEdges(Arrays.asList(1, 2), Arrays.asList(2, 3), Arrays.asList(e12, e23)));
+        try {
+            g.addEdges(Arrays.asList(3), Arrays.asList(1), Arrays.asList(new DefaultEdge()));
+            fail("Edge would induce a cycle");
+        } catch (IllegalArgumentException e) {
+        }
+        assertEquals(new HashSet<>(Arrays.asList(e12, e23)), g.edgeSet());
+
+        // the topological order is maintained
+        DefaultEdge e31 = new DefaultEdge();
+        DirectedAcyclicGraph<Integer, DefaultEdge> h =
+            new DirectedAcyclicGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(h, Arrays.asList(1, 2, 3));
+        assertEquals(1, h.addEdges(Arrays.asList(3), Arrays.asList(1), Arrays.asList(e31)));
+        assertEquals(
+            1, h.addEdges(Arrays.asList(1), Arrays.asList(2), Arrays.asList(new DefaultEdge())));
+        List<Integer> order = new ArrayList<>();
+        h.forEach(order::add);
+        assertEquals(Arrays.asList(3, 1, 2), order);
+    }
+
+    @Test
+    public void testEnsureCapacity()
+    {
+        Map<Integer, Integer> map = new LinkedHashMap<>();
+        map.put(3, 1);
+        map.put(1, 2);
+        CollectionUtil.ensureCapacity(map, 100);
+        assertEquals(Arrays.asList(3, 1), new ArrayList<>(map.keySet()));
+        assertEquals(Arrays.asList(1, 2), new ArrayList<>(map.values()));
+        for (int i = 4; i < 100; i++) {
+            map.put(i, i);
+        }
+        assertEquals(98, map.size());
+        CollectionUtil.ensureCapacity(map, 1);
+        assertEquals(98, map.size());
+
+        Map<Integer, Integer> tree = new TreeMap<>();
+        CollectionUtil.ensureCapacity(tree, 100);
+        assertTrue(tree.isEmpty());
+    }
+
+}
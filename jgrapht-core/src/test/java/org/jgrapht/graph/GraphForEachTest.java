@@ -0,0 +1,128 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.builder.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Check that the callback based neighborhood iteration of graphs agrees with the collection based
+ * methods.
+ *
+ * @author agent
+ */
+public class GraphForEachTest
+{
+
+    @Test
+    public void testDirectedPseudograph()
+    {
+        assertForEach(fill(new DirectedPseudograph<>(DefaultEdge.class), true));
+    }
+
+    @Test
+    public void testUndirectedPseudograph()
+    {
+        assertForEach(fill(new Pseudograph<>(DefaultEdge.class), true));
+    }
+
+    @Test
+    public void testSimpleGraphs()
+    {
+        assertForEach(fill(new SimpleDirectedGraph<>(DefaultEdge.class), false));
+        assertForEach(fill(new SimpleGraph<>(DefaultEdge.class), false));
+    }
+
+    @Test
+    public void testFastLookup()
+    {
+        assertForEach(
+            fill(
+                GraphTypeBuilder
+                    .<Integer, DefaultEdge> directed().allowingMultipleEdges(true)
+                    .allowingSelfLoops(true).edgeClass(DefaultEdge.class).buildGraph(),
+                true));
+    }
+
+    @Test
+    public void testViews()
+    {
+        Graph<Integer, DefaultEdge> g = fill(new DirectedPseudograph<>(DefaultEdge.class), true);
+        assertForEach(new EdgeReversedGraph<>(g));
+        assertForEach(new AsUndirectedGraph<>(g));
+        assertForEach(new AsUnmodifiableGraph<>(g));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingVertex()
+    {
+        Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        g.forEachOutgoingEdge(1, e -> fail());
+    }
+
+    private static Graph<Integer, DefaultEdge> fill(Graph<Integer, DefaultEdge> g, boolean loops)
+    {
+        Random rng = new Random(17);
+        for (int i = 0; i < 20; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i < 80; i++) {
+            int u = rng.nextInt(20);
+            int v = rng.nextInt(20);
+            if (loops || u != v) {
+                g.addEdge(u, v);
+            }
+        }
+        return g;
+    }
+
+    private static void assertForEach(Graph<Integer, DefaultEdge> g)
+    {
+        for (Integer v : g.vertexSet()) {
+            List<DefaultEdge> edges = new ArrayList<>();
+            g.forEachEdgeOf(v, edges::add);
+            assertEquals(new ArrayList<>(g.edgesOf(v)), edges);
+
+            edges.clear();
+            g.forEachIncomingEdge(v, edges::add);
+            assertEquals(new ArrayList<>(g.incomingEdgesOf(v)), edges);
+
+            edges.clear();
+            g.forEachOutgoingEdge(v, edges::add);
+            assertEquals(new ArrayList<>(g.outgoingEdgesOf(v)), edges);
+
+            List<Integer> vertices = new ArrayList<>();
+            g.forEachNeighbor(v, vertices::add);
+            assertEquals(Graphs.neighborListOf(g, v), vertices);
+
+            vertices.clear();
+            g.forEachPredecessor(v, vertices::add);
+            assertEquals(Graphs.predecessorListOf(g, v), vertices);
+
+            vertices.clear();
+            g.forEachSuccessor(v, vertices::add);
+            assertEquals(Graphs.successorListOf(g, v), vertices);
+        }
+    }
+
+}
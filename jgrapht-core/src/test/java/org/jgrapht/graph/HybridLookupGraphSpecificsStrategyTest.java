@@ -0,0 +1,143 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.function.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link HybridLookupGraphSpecificsStrategy}.
+ * 
+ * @author agent
+ */
+public class HybridLookupGraphSpecificsStrategyTest
+{
+
+    private static class HybridLookupGraph<E>
+        extends
+        AbstractBaseGraph<Integer, E>
+    {
+        private static final long serialVersionUID = 1L;
+
+        HybridLookupGraph(Supplier<E> edgeSupplier, GraphType type, int threshold)
+        {
+            super(
+                SupplierUtil.createIntegerSupplier(), edgeSupplier, type,
+                new HybridLookupGraphSpecificsStrategy<>(threshold));
+        }
+    }
+
+    @Test
+    public void testDirected()
+    {
+        Graph<Integer, DefaultEdge> g = new HybridLookupGraph<>(
+            SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.directedPseudograph(), 2);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3));
+
+        // vertex 0 becomes hashed
+        DefaultEdge e01 = g.addEdge(0, 1);
+        DefaultEdge e02 = g.addEdge(0, 2);
+        DefaultEdge e00 = g.addEdge(0, 0);
+        DefaultEdge e01b = g.addEdge(0, 1);
+        DefaultEdge e30 = g.addEdge(3, 0);
+
+        assertEquals(e02, g.getEdge(0, 2));
+        assertEquals(e00, g.getEdge(0, 0));
+        assertNull(g.getEdge(2, 0));
+        assertNull(g.getEdge(0, 3));
+        assertEquals(e30, g.getEdge(3, 0));
+        assertEquals(new HashSet<>(Arrays.asList(e01, e01b)), g.getAllEdges(0, 1));
+        assertEquals(new HashSet<>(Arrays.asList(e01, e02, e00, e01b)), g.outgoingEdgesOf(0));
+        assertEquals(new HashSet<>(Arrays.asList(e00, e30)), g.incomingEdgesOf(0));
+        assertEquals(new HashSet<>(Arrays.asList(e01, e02, e00, e01b, e30)), g.edgesOf(0));
+        assertEquals(6, g.degreeOf(0));
+        assertTrue(g.outgoingEdgesOf(0).contains(e01b));
+        assertFalse(g.outgoingEdgesOf(0).contains(e30));
+
+        assertTrue(g.removeEdge(e01));
+        assertEquals(e01b, g.getEdge(0, 1));
+        assertTrue(g.removeVertex(1));
+        assertEquals(new HashSet<>(Arrays.asList(e02, e00)), g.outgoingEdgesOf(0));
+        assertNull(g.getEdge(0, 1));
+    }
+
+    @Test
+    public void testAgainstDefaultStrategy()
+    {
+        for (boolean directed : new boolean[] { true, false }) {
+            GraphType type = directed ? DefaultGraphType.directedPseudograph()
+                : DefaultGraphType.pseudograph();
+            Graph<Integer, DefaultEdge> expected = directed
+                ? new DirectedPseudograph<>(DefaultEdge.class)
+                : new Pseudograph<>(DefaultEdge.class);
+            Graph<Integer, DefaultEdge> g =
+                new HybridLookupGraph<>(SupplierUtil.DEFAULT_EDGE_SUPPLIER, type, 3);
+
+            Random rng = new Random(17);
+            int n = 30;
+            for (int i = 0; i < n; i++) {
+                expected.addVertex(i);
+                g.addVertex(i);
+            }
+            List<DefaultEdge> edges = new ArrayList<>();
+            for (int i = 0; i < 3000; i++) {
+                if (edges.isEmpty() || rng.nextInt(3) != 0) {
+                    // skewed endpoints to create high degree vertices
+                    int u = rng.nextInt(1 + rng.nextInt(n));
+                    int v = rng.nextInt(n);
+                    DefaultEdge e = new DefaultEdge();
+                    expected.addEdge(u, v, e);
+                    g.addEdge(u, v, e);
+                    edges.add(e);
+                } else {
+                    DefaultEdge e = edges.remove(rng.nextInt(edges.size()));
+                    assertTrue(expected.removeEdge(e));
+                    assertTrue(g.removeEdge(e));
+                }
+            }
+
+            for (int u = 0; u < n; u++) {
+                assertEquals(expected.outgoingEdgesOf(u), g.outgoingEdgesOf(u));
+                assertEquals(expected.incomingEdgesOf(u), g.incomingEdgesOf(u));
+                assertEquals(expected.edgesOf(u), g.edgesOf(u));
+                assertEquals(expected.degreeOf(u), g.degreeOf(u));
+                for (int v = 0; v < n; v++) {
+                    assertEquals(expected.getAllEdges(u, v), g.getAllEdges(u, v));
+                    assertEquals(expected.containsEdge(u, v), g.containsEdge(u, v));
+                    DefaultEdge e = g.getEdge(u, v);
+                    if (e != null) {
+                        assertTrue(expected.getAllEdges(u, v).contains(e));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidThreshold()
+    {
+        new HybridLookupGraphSpecificsStrategy<Integer, DefaultEdge>(0);
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link IntVertexGraphSpecificsStrategy}.
+ * 
+ * @author agent
+ */
+public class IntVertexGraphSpecificsStrategyTest
+{
+
+    private static class IntVertexGraph<E>
+        extends
+        AbstractBaseGraph<Integer, E>
+    {
+        private static final long serialVersionUID = 1L;
+
+        IntVertexGraph(Supplier<E> edgeSupplier, GraphType type)
+        {
+            super(
+                SupplierUtil.createIntegerSupplier(), edgeSupplier, type,
+                new IntVertexGraphSpecificsStrategy<>());
+        }
+    }
+
+    @Test
+    public void testDirected()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new IntVertexGraph<>(
+            SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER,
+            DefaultGraphType.directedPseudograph().asWeighted());
+
+        g.addVertex(2);
+        g.addVertex(0);
+        g.addVertex(1);
+        assertFalse(g.addVertex(1));
+        assertEquals(Arrays.asList(0, 1, 2), new ArrayList<>(g.vertexSet()));
+
+        DefaultWeightedEdge e01 = g.addEdge(0, 1);
+        DefaultWeightedEdge e12 = g.addEdge(1, 2);
+        DefaultWeightedEdge e22 = g.addEdge(2, 2);
+        DefaultWeightedEdge e01b = g.addEdge(0, 1);
+        g.setEdgeWeight(e12, 5.0);
+
+        assertEquals(4, g.edgeSet().size());
+        assertEquals(Integer.valueOf(1), g.getEdgeSource(e12));
+        assertEquals(Integer.valueOf(2), g.getEdgeTarget(e12));
+        assertEquals(5.0, g.getEdgeWeight(e12), 0.0);
+        assertEquals(1.0, g.getEdgeWeight(e01), 0.0);
+        assertEquals(new HashSet<>(Arrays.asList(e01, e01b)), g.getAllEdges(0, 1));
+        assertEquals(3, g.degreeOf(2));
+        assertTrue(g.containsEdge(e22));
+
+        assertTrue(g.removeEdge(e01));
+        assertFalse(g.containsEdge(e01));
+        assertEquals(3, g.edgeSet().size());
+        assertEquals(Integer.valueOf(0), g.getEdgeSource(e01b));
+        assertEquals(Integer.valueOf(2), g.getEdgeSource(e22));
+        assertEquals(5.0, g.getEdgeWeight(e12), 0.0);
+
+        assertTrue(g.removeVertex(1));
+        assertFalse(g.containsVertex(1));
+        assertEquals(Arrays.asList(0, 2), new ArrayList<>(g.vertexSet()));
+        assertEquals(Collections.singleton(e22), g.edgeSet());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeVertex()
+    {
+        Graph<Integer, DefaultEdge> g = new IntVertexGraph<>(
+            SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.simple());
+        g.addVertex(-1);
+    }
+
+    @Test
+    public void testAgainstDefaultStrategy()
+    {
+        Graph<Integer, DefaultEdge> expected = new Pseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        Graph<Integer, DefaultEdge> actual =
+            new IntVertexGraph<>(SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.pseudograph());
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(100, 1000, 7, true, true)
+            .generateGraph(expected);
+        Graphs.addGraph(actual, expected);
+
+        // remove a random subset of edges and vertices
+        Random rng = new Random(7);
+        for (DefaultEdge e : new ArrayList<>(expected.edgeSet())) {
+            if (rng.nextInt(3) == 0) {
+                assertTrue(actual.removeEdge(e));
+                assertTrue(expected.removeEdge(e));
+            }
+        }
+        for (int v = 0; v < 100; v += 7) {
+            assertTrue(actual.removeVertex(v));
+            assertTrue(expected.removeVertex(v));
+        }
+
+        assertEquals(expected.vertexSet(), actual.vertexSet());
+        assertEquals(expected.edgeSet(), actual.edgeSet());
+        for (DefaultEdge e : expected.edgeSet()) {
+            assertEquals(expected.getEdgeSource(e), actual.getEdgeSource(e));
+            assertEquals(expected.getEdgeTarget(e), actual.getEdgeTarget(e));
+        }
+        for (Integer v : expected.vertexSet()) {
+            assertEquals(expected.degreeOf(v), actual.degreeOf(v));
+            assertEquals(expected.edgesOf(v), actual.edgesOf(v));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCloneAndSerialization()
+        throws Exception
+    {
+        IntVertexGraph<DefaultEdge> g =
+            new IntVertexGraph<>(SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.simple());
+        Graphs.addEdgeWithVertices(g, 0, 1);
+        Graphs.addEdgeWithVertices(g, 1, 2);
+
+        Graph<Integer, DefaultEdge> clone = (Graph<Integer, DefaultEdge>) g.clone();
+        assertEquals(g.vertexSet(), clone.vertexSet());
+        assertTrue(clone.containsEdge(1, 2));
+
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bout);
+        out.writeObject(g);
+        out.flush();
+        ObjectInputStream in =
+            new ObjectInputStream(new ByteArrayInputStream(bout.toByteArray()));
+        Graph<Integer, DefaultEdge> copy = (Graph<Integer, DefaultEdge>) in.readObject();
+        assertEquals(g.vertexSet(), copy.vertexSet());
+        assertEquals(2, copy.edgeSet().size());
+        assertTrue(copy.containsEdge(0, 1));
+        assertTrue(copy.containsEdge(1, 2));
+    }
+
+}
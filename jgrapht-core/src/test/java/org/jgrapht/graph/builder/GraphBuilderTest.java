@@ -145,6 +145,26 @@ public class GraphBuilderTest
         assertTrue(g.vertexSet().containsAll(Collections.singletonList(v1)));
     }
 
+    @Test
+    public void testAddEdges()
+    {
+        DefaultEdge e1 = new DefaultEdge();
+        DefaultEdge e2 = new DefaultEdge();
+        DefaultEdge e3 = new DefaultEdge();
+
+        Graph<String, DefaultEdge> g =
+            new GraphBuilder<>(new SimpleGraph<String, DefaultEdge>(DefaultEdge.class))
+                .ensureCapacity(3, 3)
+                .addEdges(
+                    Arrays.asList(v1, v2, v2), Arrays.asList(v2, v3, v1),
+                    Arrays.asList(e1, e2, e3))
+                .build();
+
+        assertEquals(3, g.vertexSet().size());
+        assertEquals(new HashSet<>(Arrays.asList(e1, e2)), g.edgeSet());
+        assertEquals(v3, g.getEdgeTarget(e2));
+    }
+
 }
 
 // End GraphBuilderTest.java
@@ -20,9 +20,12 @@ package org.jgrapht.graph.concurrent;
 import junit.extensions.*;
 import junit.framework.*;
 import junit.textui.*;
+import org.jgrapht.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.Test;
 
+import java.io.*;
 import java.util.*;
 
 import static org.junit.Assert.*;
@@ -311,6 +314,179 @@ public class AsSynchronizedGraphTest
         TestRunner.run(ts);
     }
 
+    @Test
+    public void testOptimisticReads()
+        throws InterruptedException
+    {
+        AsSynchronizedGraph.Builder<Integer, DefaultEdge> builder =
+            new AsSynchronizedGraph.Builder<Integer, DefaultEdge>().setOptimisticReads();
+        assertTrue(builder.isOptimisticReads());
+        g = builder.build(new Pseudograph<>(DefaultEdge.class));
+        assertTrue(g.isOptimisticReads());
+        assertTrue(new AsSynchronizedGraph.Builder<>(g).isOptimisticReads());
+        assertFalse(
+            new AsSynchronizedGraph.Builder<>(g).clearOptimisticReads().isOptimisticReads());
+
+        int n = 100;
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i < n; i++) {
+            g.addEdge(i, (i + 1) % n);
+        }
+
+        // the writer replaces one edge of the cycle at a time
+        Thread writer = new Thread(() -> {
+            for (int round = 0; round < 100; round++) {
+                for (int i = 0; i < n; i++) {
+                    g.removeEdge(i, (i + 1) % n);
+                    g.addEdge(i, (i + 1) % n);
+                }
+            }
+        });
+        List<Throwable> failures = new Vector<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            readers.add(new Thread(() -> {
+                try {
+                    while (writer.isAlive()) {
+                        for (int i = 0; i < n; i++) {
+                            // at most one edge of the cycle is missing at any time
+                            int degree = g.degreeOf(i);
+                            assertTrue(degree == 1 || degree == 2);
+                            assertTrue(g.containsVertex(i));
+                            DefaultEdge e = g.getEdge(i, (i + n - 1) % n);
+                            if (e == null) {
+                                assertNotNull(g.getEdge(i, (i + 1) % n));
+                            }
+                        }
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            }));
+        }
+        writer.start();
+        readers.forEach(Thread::start);
+        writer.join();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertTrue(failures.toString(), failures.isEmpty());
+        assertEquals(n, g.edgeSet().size());
+        for (int i = 0; i < n; i++) {
+            assertEquals(2, g.degreeOf(i));
+            assertTrue(g.containsEdge(i, (i + 1) % n));
+        }
+    }
+
+    @Test
+    public void testOptimisticReadsAddRemoveVertex()
+        throws InterruptedException
+    {
+        // queries racing with the removal of a vertex must not create its edge container again
+        Graph<List<Integer>, DefaultEdge> backingGraph =
+            new AbstractBaseGraph<List<Integer>, DefaultEdge>(
+                null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.directedPseudograph(),
+                new DefaultGraphSpecificsStrategy<>())
+            {
+                private static final long serialVersionUID = 1L;
+            };
+        AsSynchronizedGraph<List<Integer>, DefaultEdge> graph =
+            new AsSynchronizedGraph.Builder<List<Integer>, DefaultEdge>()
+                .setOptimisticReads().build(backingGraph);
+        // a vertex with an expensive hash code widens the window between the checks of the source
+        // and the target vertex of a query and the lookup of the source vertex
+        List<Integer> target = new ArrayList<>(Collections.nCopies(1000, 0));
+        graph.addVertex(target);
+        int n = 8;
+        List<List<Integer>> sources = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            sources.add(Collections.singletonList(i));
+        }
+
+        // the writer repeatedly adds and removes the source vertices
+        Thread writer = new Thread(() -> {
+            for (int round = 0; round < 5000; round++) {
+                for (List<Integer> v : sources) {
+                    graph.addVertex(v);
+                    graph.addEdge(v, target);
+                }
+                for (List<Integer> v : sources) {
+                    graph.removeVertex(v);
+                }
+            }
+        });
+        List<Throwable> failures = new Vector<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            readers.add(new Thread(() -> {
+                try {
+                    while (writer.isAlive()) {
+                        for (List<Integer> v : sources) {
+                            graph.getEdge(v, target);
+                            graph.containsEdge(v, target);
+                            graph.containsVertex(v);
+                            try {
+                                graph.degreeOf(v);
+                            } catch (IllegalArgumentException e) {
+                                // vertex currently removed
+                            }
+                        }
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            }));
+        }
+        writer.start();
+        readers.forEach(Thread::start);
+        writer.join();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertTrue(failures.toString(), failures.isEmpty());
+        // a removed vertex must not be brought back by a concurrent read
+        for (List<Integer> v : sources) {
+            assertFalse(v.toString(), graph.containsVertex(v));
+        }
+        assertEquals(1, graph.vertexSet().size());
+        assertTrue(graph.edgeSet().isEmpty());
+        assertEquals(0, graph.degreeOf(target));
+    }
+
+    @Test
+    public void testOptimisticReadsSerialization()
+        throws Exception
+    {
+        g = new AsSynchronizedGraph.Builder<Integer, DefaultEdge>()
+            .setOptimisticReads().build(new Pseudograph<>(DefaultEdge.class));
+        g.addVertex(1);
+        g.addVertex(2);
+        g.addEdge(1, 2);
+
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bout)) {
+            out.writeObject(g);
+        }
+        ObjectInputStream in =
+            new ObjectInputStream(new ByteArrayInputStream(bout.toByteArray()));
+        AsSynchronizedGraph<Integer, DefaultEdge> copy =
+            TypeUtil.uncheckedCast(in.readObject());
+
+        assertTrue(copy.isOptimisticReads());
+        assertFalse(copy.isCopyless());
+        assertTrue(copy.containsVertex(1));
+        DefaultEdge e = copy.addEdge(2, 1);
+        assertTrue(copy.containsEdge(e));
+        assertEquals(2, copy.degreeOf(1));
+        assertEquals(2, copy.edgeSet().size());
+        copy.removeVertex(2);
+        assertFalse(copy.containsVertex(2));
+        assertFalse(copy.containsEdge(e));
+        assertEquals(Collections.singleton(1), copy.vertexSet());
+    }
+
     private void createOrder(ArrayList<Order> list, int start, int end, boolean add)
     {
         for (int i = start; i < end - 1; i++) {
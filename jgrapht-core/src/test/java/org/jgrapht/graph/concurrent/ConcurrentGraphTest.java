@@ -0,0 +1,245 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ConcurrentGraph}.
+ *
+ * @author agent
+ */
+public class ConcurrentGraphTest
+{
+    private static final int THREADS = 8;
+
+    @Test
+    public void testDirected()
+    {
+        ConcurrentGraph<Integer, DefaultEdge> g = new ConcurrentGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+            DefaultGraphType.directedPseudograph());
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3));
+        DefaultEdge e01 = g.addEdge(0, 1);
+        DefaultEdge e12 = g.addEdge(1, 2);
+        DefaultEdge e11 = g.addEdge(1, 1);
+        DefaultEdge e12b = g.addEdge(1, 2);
+
+        assertEquals(4, g.edgeSet().size());
+        assertEquals(Integer.valueOf(0), g.getEdgeSource(e01));
+        assertEquals(Integer.valueOf(1), g.getEdgeTarget(e01));
+        assertNull(g.getEdge(1, 0));
+        assertEquals(new HashSet<>(Arrays.asList(e12, e12b)), g.getAllEdges(1, 2));
+        assertEquals(2, g.inDegreeOf(1));
+        assertEquals(3, g.outDegreeOf(1));
+        assertEquals(5, g.degreeOf(1));
+        assertEquals(new HashSet<>(Arrays.asList(e01, e11, e12, e12b)), g.edgesOf(1));
+        assertEquals(Graph.DEFAULT_EDGE_WEIGHT, g.getEdgeWeight(e01), 0.0);
+
+        try {
+            g.setEdgeWeight(e01, 2.0);
+            fail();
+        } catch (UnsupportedOperationException e) {
+        }
+
+        assertTrue(g.removeEdge(e12));
+        assertFalse(g.removeEdge(e12));
+        assertEquals(e12b, g.removeEdge(1, 2));
+        assertTrue(g.removeVertex(1));
+        assertFalse(g.containsEdge(e01));
+        assertFalse(g.containsEdge(e11));
+        assertEquals(3, g.vertexSet().size());
+        assertTrue(g.edgeSet().isEmpty());
+        assertEquals(0, g.outDegreeOf(0));
+    }
+
+    @Test
+    public void testUndirected()
+    {
+        ConcurrentGraph<Integer, DefaultWeightedEdge> g = new ConcurrentGraph<>(
+            null, SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER,
+            DefaultGraphType.simple().asWeighted());
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2));
+        DefaultWeightedEdge e01 = g.addEdge(0, 1);
+        assertNull(g.addEdge(1, 0));
+        g.setEdgeWeight(e01, 3.0);
+        g.addEdge(1, 2);
+
+        assertEquals(e01, g.getEdge(1, 0));
+        assertEquals(3.0, g.getEdgeWeight(e01), 0.0);
+        assertEquals(2, g.degreeOf(1));
+        assertEquals(g.edgesOf(1), g.incomingEdgesOf(1));
+        assertEquals(g.edgesOf(1), g.outgoingEdgesOf(1));
+
+        try {
+            g.addEdge(2, 2);
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            g.addEdge(2, 3);
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            g.addVertex();
+            fail();
+        } catch (UnsupportedOperationException e) {
+        }
+
+        ConcurrentGraph<Integer, DefaultWeightedEdge> copy =
+            new ConcurrentGraph<>(DefaultGraphType.simple().asWeighted());
+        Graphs.addGraph(copy, g);
+        assertNotEquals(copy, g);
+        copy.setEdgeWeight(e01, 3.0);
+        assertEquals(copy, g);
+        assertEquals(copy.hashCode(), g.hashCode());
+    }
+
+    @Test
+    public void testUndirectedSelfLoopDegree()
+    {
+        ConcurrentGraph<Integer, DefaultEdge> g = new ConcurrentGraph<>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.pseudograph());
+        g.addVertex(0);
+        g.addEdge(0, 0);
+        g.addEdge(0, 0);
+        assertEquals(4, g.degreeOf(0));
+        assertEquals(2, g.edgesOf(0).size());
+        g.removeEdge(0, 0);
+        assertEquals(2, g.degreeOf(0));
+    }
+
+    @Test
+    public void testConcurrentAddEdges()
+        throws Exception
+    {
+        ConcurrentGraph<Integer, DefaultEdge> g = new ConcurrentGraph<>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.directedSimple());
+        int n = 200;
+        for (int v = 0; v < n; v++) {
+            g.addVertex(v);
+        }
+
+        // each pair is attempted by several threads, only one may succeed
+        runConcurrently(t -> {
+            for (int u = 0; u < n; u++) {
+                for (int v = 0; v < n; v += 3) {
+                    int w = (v + t) % n;
+                    if (u != w) {
+                        g.addEdge(u, w);
+                    }
+                }
+            }
+        });
+
+        int edges = 0;
+        for (int u = 0; u < n; u++) {
+            Set<Integer> targets = new HashSet<>();
+            for (DefaultEdge e : g.outgoingEdgesOf(u)) {
+                assertTrue(targets.add(g.getEdgeTarget(e)));
+                assertTrue(g.incomingEdgesOf(g.getEdgeTarget(e)).contains(e));
+                edges++;
+            }
+        }
+        assertEquals(g.edgeSet().size(), edges);
+    }
+
+    @Test
+    public void testConcurrentRemoveVertices()
+        throws Exception
+    {
+        ConcurrentGraph<Integer, DefaultEdge> g = new ConcurrentGraph<>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.pseudograph());
+        int n = 400;
+        for (int v = 0; v < n; v++) {
+            g.addVertex(v);
+        }
+
+        // half of the threads add edges and the other half removes odd vertices
+        runConcurrently(t -> {
+            Random rng = new Random(t);
+            for (int i = 0; i < 5000; i++) {
+                int u = rng.nextInt(n);
+                int v = rng.nextInt(n);
+                if (t % 2 == 0) {
+                    try {
+                        g.addEdge(u, v);
+                    } catch (IllegalArgumentException e) {
+                        // vertex removed concurrently
+                    }
+                } else if (u % 2 == 1) {
+                    g.removeVertex(u);
+                }
+            }
+        });
+        for (int v = 1; v < n; v += 2) {
+            g.removeVertex(v);
+        }
+
+        assertEquals(n / 2, g.vertexSet().size());
+        for (DefaultEdge e : g.edgeSet()) {
+            assertTrue(g.containsVertex(g.getEdgeSource(e)));
+            assertTrue(g.containsVertex(g.getEdgeTarget(e)));
+            assertTrue(g.edgesOf(g.getEdgeSource(e)).contains(e));
+            assertTrue(g.edgesOf(g.getEdgeTarget(e)).contains(e));
+        }
+        int incidences = 0;
+        for (Integer v : g.vertexSet()) {
+            incidences += g.degreeOf(v);
+        }
+        assertEquals(2 * g.edgeSet().size(), incidences);
+    }
+
+    private interface Task
+    {
+        void run(int thread);
+    }
+
+    private static void runConcurrently(Task task)
+        throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CyclicBarrier barrier = new CyclicBarrier(THREADS);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                final int thread = t;
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    task.run(thread);
+                    return null;
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
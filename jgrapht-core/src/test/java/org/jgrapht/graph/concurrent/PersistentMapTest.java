@@ -0,0 +1,138 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link PersistentMap}.
+ *
+ * @author agent
+ */
+public class PersistentMapTest
+{
+
+    @Test
+    public void testAgainstHashMap()
+    {
+        Random rng = new Random(17);
+        Map<Integer, Integer> expected = new HashMap<>();
+        PersistentMap<Integer, Integer> map = PersistentMap.empty();
+        for (int i = 0; i < 20000; i++) {
+            Integer key = rng.nextInt(2000);
+            if (rng.nextInt(3) == 0) {
+                PersistentMap<Integer, Integer> next = map.minus(key);
+                assertEquals(expected.remove(key) != null, next != map);
+                map = next;
+            } else {
+                expected.put(key, i);
+                map = map.plus(key, i);
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        assertMapEquals(expected, map);
+    }
+
+    @Test
+    public void testCollisions()
+    {
+        Random rng = new Random(33);
+        Map<Key, Integer> expected = new HashMap<>();
+        PersistentMap<Key, Integer> map = PersistentMap.empty();
+        for (int i = 0; i < 5000; i++) {
+            Key key = new Key(rng.nextInt(300), rng.nextInt(4));
+            if (rng.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.minus(key);
+            } else {
+                expected.put(key, i);
+                map = map.plus(key, i);
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        assertMapEquals(expected, map);
+    }
+
+    @Test
+    public void testPersistence()
+    {
+        PersistentMap<String, Integer> empty = PersistentMap.empty();
+        PersistentMap<String, Integer> one = empty.plus("a", 1);
+        PersistentMap<String, Integer> two = one.plus("b", 2);
+        PersistentMap<String, Integer> replaced = two.plus("a", 3);
+        PersistentMap<String, Integer> removed = replaced.minus("b");
+
+        assertEquals(0, empty.size());
+        assertNull(empty.get("a"));
+        assertEquals(Integer.valueOf(1), one.get("a"));
+        assertFalse(one.containsKey("b"));
+        assertEquals(Integer.valueOf(1), two.get("a"));
+        assertEquals(Integer.valueOf(2), two.get("b"));
+        assertEquals(Integer.valueOf(3), replaced.get("a"));
+        assertEquals(Collections.singleton("a"), removed.keySet());
+        assertSame(removed, removed.minus("b"));
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")), two.keySet());
+    }
+
+    private static <K> void assertMapEquals(Map<K, Integer> expected, PersistentMap<K, Integer> map)
+    {
+        assertEquals(expected.keySet(), map.keySet());
+        for (Map.Entry<K, Integer> e : expected.entrySet()) {
+            assertEquals(e.getValue(), map.get(e.getKey()));
+        }
+        Map<K, Integer> actual = new HashMap<>();
+        Iterator<Map.Entry<K, Integer>> it = map.entryIterator();
+        while (it.hasNext()) {
+            Map.Entry<K, Integer> e = it.next();
+            assertNull(actual.put(e.getKey(), e.getValue()));
+        }
+        assertEquals(expected, actual);
+    }
+
+    /**
+     * A key with a controlled hash code, in order to force hash collisions.
+     */
+    private static class Key
+    {
+        private final int id;
+        private final int hash;
+
+        Key(int id, int hash)
+        {
+            this.id = id;
+            this.hash = hash;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            return obj instanceof Key && ((Key) obj).id == id && ((Key) obj).hash == hash;
+        }
+    }
+
+}
@@ -0,0 +1,234 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link VersionedGraph}.
+ *
+ * @author agent
+ */
+public class VersionedGraphTest
+{
+
+    @Test
+    public void testDirected()
+    {
+        VersionedGraph<Integer, DefaultEdge> g = new VersionedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+            DefaultGraphType.directedPseudograph());
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3));
+        DefaultEdge e01 = g.addEdge(0, 1);
+        DefaultEdge e12 = g.addEdge(1, 2);
+        DefaultEdge e11 = g.addEdge(1, 1);
+        DefaultEdge e12b = g.addEdge(1, 2);
+
+        assertEquals(4, g.edgeSet().size());
+        assertEquals(Integer.valueOf(0), g.getEdgeSource(e01));
+        assertEquals(Integer.valueOf(1), g.getEdgeTarget(e01));
+        assertNull(g.getEdge(1, 0));
+        assertEquals(new HashSet<>(Arrays.asList(e12, e12b)), g.getAllEdges(1, 2));
+        assertEquals(2, g.inDegreeOf(1));
+        assertEquals(3, g.outDegreeOf(1));
+        assertEquals(5, g.degreeOf(1));
+        assertEquals(new HashSet<>(Arrays.asList(e01, e11, e12, e12b)), g.edgesOf(1));
+
+        assertTrue(g.removeVertex(1));
+        assertEquals(0, g.edgeSet().size());
+        assertEquals(0, g.outDegreeOf(0));
+        assertEquals(0, g.inDegreeOf(2));
+    }
+
+    @Test
+    public void testUndirected()
+    {
+        VersionedGraph<Integer, DefaultWeightedEdge> g = new VersionedGraph<>(
+            null, SupplierUtil.createDefaultWeightedEdgeSupplier(),
+            DefaultGraphType.pseudograph().asWeighted());
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2));
+        DefaultWeightedEdge e01 = g.addEdge(0, 1);
+        DefaultWeightedEdge e11 = g.addEdge(1, 1);
+        DefaultWeightedEdge e21 = g.addEdge(2, 1);
+        g.setEdgeWeight(e21, 5.0);
+
+        assertEquals(e01, g.getEdge(1, 0));
+        assertEquals(e21, g.getEdge(1, 2));
+        assertEquals(4, g.degreeOf(1));
+        assertEquals(new HashSet<>(Arrays.asList(e01, e11, e21)), g.edgesOf(1));
+        assertEquals(5.0, g.getEdgeWeight(e21), 0.0);
+
+        assertTrue(g.removeEdge(e11));
+        assertEquals(2, g.degreeOf(1));
+        assertEquals(e01, g.removeEdge(1, 0));
+        assertEquals(1, g.degreeOf(1));
+        assertEquals(0, g.degreeOf(0));
+    }
+
+    @Test
+    public void testSimpleGraph()
+    {
+        VersionedGraph<Integer, DefaultEdge> g = new VersionedGraph<>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.simple());
+        Graphs.addAllVertices(g, Arrays.asList(0, 1));
+        assertNotNull(g.addEdge(0, 1));
+        assertNull(g.addEdge(1, 0));
+        try {
+            g.addEdge(0, 0);
+            fail("No loops");
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            g.addEdge(0, 2);
+            fail("No such vertex");
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            g.addVertex();
+            fail("No vertex supplier");
+        } catch (UnsupportedOperationException e) {
+        }
+    }
+
+    @Test
+    public void testSnapshotIsolation()
+    {
+        VersionedGraph<Integer, DefaultEdge> g = new VersionedGraph<>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.directedPseudograph());
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2));
+        DefaultEdge e01 = g.addEdge(0, 1);
+        DefaultEdge e12 = g.addEdge(1, 2);
+        long version = g.getVersion();
+
+        VersionedGraph<Integer, DefaultEdge> snapshot = g.snapshot();
+        Set<Integer> liveVertices = g.vertexSet();
+
+        g.removeVertex(1);
+        g.addVertex(3);
+        DefaultEdge e23 = g.addEdge(2, 3);
+
+        assertTrue(g.getVersion() > version);
+        assertEquals(version, snapshot.getVersion());
+        assertEquals(new HashSet<>(Arrays.asList(0, 1, 2)), snapshot.vertexSet());
+        assertEquals(new HashSet<>(Arrays.asList(e01, e12)), snapshot.edgeSet());
+        assertEquals(e12, snapshot.getEdge(1, 2));
+        assertFalse(snapshot.containsEdge(e23));
+        assertEquals(new HashSet<>(Arrays.asList(0, 2, 3)), liveVertices);
+
+        assertTrue(snapshot.getType().isModifiable() == false);
+        assertSame(snapshot, snapshot.snapshot());
+        try {
+            snapshot.addVertex(4);
+            fail("Snapshot is unmodifiable");
+        } catch (UnsupportedOperationException e) {
+        }
+        try {
+            snapshot.removeEdge(e01);
+            fail("Snapshot is unmodifiable");
+        } catch (UnsupportedOperationException e) {
+        }
+    }
+
+    @Test
+    public void testEquality()
+    {
+        VersionedGraph<Integer, DefaultEdge> g1 = new VersionedGraph<>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.directedPseudograph());
+        VersionedGraph<Integer, DefaultEdge> g2 = new VersionedGraph<>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.directedPseudograph());
+        Graphs.addAllVertices(g1, Arrays.asList(0, 1, 2));
+        g1.addEdge(0, 1);
+        g1.addEdge(2, 1);
+        Graphs.addGraph(g2, g1);
+
+        assertEquals(g1, g2);
+        assertEquals(g1.hashCode(), g2.hashCode());
+        assertEquals(g1.snapshot(), g2);
+    }
+
+    @Test
+    public void testConcurrentReaders()
+        throws Exception
+    {
+        VersionedGraph<Integer, DefaultEdge> g = new VersionedGraph<>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.directedPseudograph());
+        final int n = 50;
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> readers = new ArrayList<>();
+            for (int t = 0; t < 3; t++) {
+                readers.add(executor.submit(() -> {
+                    int snapshots = 0;
+                    while (!done.get()) {
+                        // each snapshot must be internally consistent
+                        Graph<Integer, DefaultEdge> s = g.snapshot();
+                        int degrees = 0;
+                        for (Integer v : s.vertexSet()) {
+                            degrees += s.outDegreeOf(v);
+                        }
+                        assertEquals(s.edgeSet().size(), degrees);
+                        for (DefaultEdge e : s.edgeSet()) {
+                            assertTrue(s.containsVertex(s.getEdgeSource(e)));
+                            assertTrue(s.containsVertex(s.getEdgeTarget(e)));
+                        }
+                        snapshots++;
+                    }
+                    return snapshots;
+                }));
+            }
+            Future<?> writer = executor.submit(() -> {
+                Random rng = new Random(7);
+                for (int i = 0; i < 5000; i++) {
+                    int u = rng.nextInt(n);
+                    if (rng.nextInt(4) == 0) {
+                        g.removeVertex(u);
+                        g.addVertex(u);
+                    } else {
+                        int v = rng.nextInt(n);
+                        if (g.containsVertex(u) && g.containsVertex(v)) {
+                            g.addEdge(u, v);
+                        }
+                    }
+                }
+                done.set(true);
+            });
+            writer.get();
+            for (Future<Integer> r : readers) {
+                assertTrue(r.get() > 0);
+            }
+        } finally {
+            done.set(true);
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,213 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.traverse.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link MappedSparseIntGraph}.
+ * 
+ * @author agent
+ */
+public class MappedSparseIntGraphTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testDirectedSmall()
+        throws IOException
+    {
+        Path file = folder.newFile().toPath();
+        try (MappedSparseIntGraphWriter writer =
+            MappedSparseIntGraphWriter.directed().vertexCount(5).weighted(true))
+        {
+            writer
+                .addEdge(3, 1, 1.0).addEdge(0, 2, 4.0).addEdge(0, 1, 1.5).addEdge(1, 2, 2.0)
+                .addEdge(2, 3, 3.0).addEdge(2, 3, 1.0).addEdge(3, 3, 5.0).write(file);
+        }
+        MappedSparseIntGraph g = MappedSparseIntGraph.open(file);
+
+        assertEquals(5, g.vertexSet().size());
+        assertEquals(7, g.edgeSet().size());
+        assertTrue(g.getType().isDirected());
+        assertTrue(g.getType().isWeighted());
+        assertFalse(g.getType().isModifiable());
+
+        // edges are numbered in (source, target) order
+        assertEquals(Integer.valueOf(0), g.getEdge(0, 1));
+        assertEquals(1.5, g.getEdgeWeight(0), 1e-9);
+        assertEquals(Integer.valueOf(1), g.getEdge(0, 2));
+        assertEquals(4.0, g.getEdgeWeight(1), 1e-9);
+        assertEquals(Integer.valueOf(2), g.getEdge(1, 2));
+        assertEquals(new HashSet<>(Arrays.asList(3, 4)), g.getAllEdges(2, 3));
+        assertEquals(3.0, g.getEdgeWeight(3), 1e-9);
+        assertEquals(1.0, g.getEdgeWeight(4), 1e-9);
+        assertNull(g.getEdge(1, 0));
+        assertNull(g.getEdge(5, 0));
+        assertTrue(g.containsEdge(3, 3));
+
+        assertEquals(2, g.outDegreeOf(0));
+        assertEquals(0, g.inDegreeOf(0));
+        assertEquals(2, g.inDegreeOf(1));
+        assertEquals(3, g.inDegreeOf(3));
+        assertEquals(5, g.degreeOf(3));
+        assertEquals(new HashSet<>(Arrays.asList(3, 4, 5, 6)), g.edgesOf(3));
+        assertEquals(0, g.degreeOf(4));
+
+        try {
+            g.addVertex(5);
+            fail();
+        } catch (UnsupportedOperationException e) {
+        }
+    }
+
+    @Test
+    public void testUndirectedSmall()
+        throws IOException
+    {
+        Path file = folder.newFile().toPath();
+        try (MappedSparseIntGraphWriter writer = MappedSparseIntGraphWriter.undirected()) {
+            writer.addEdge(1, 0).addEdge(2, 1).addEdge(2, 2).addEdge(0, 1).write(file);
+        }
+        MappedSparseIntGraph g = MappedSparseIntGraph.open(file);
+
+        assertFalse(g.getType().isDirected());
+        assertFalse(g.getType().isWeighted());
+        assertEquals(3, g.vertexSet().size());
+        assertEquals(new HashSet<>(Arrays.asList(0, 1)), g.getAllEdges(1, 0));
+        assertEquals(Integer.valueOf(0), g.getEdgeSource(0));
+        assertEquals(Integer.valueOf(1), g.getEdgeTarget(0));
+        assertEquals(Integer.valueOf(3), g.getEdge(2, 2));
+        assertEquals(2, g.degreeOf(0));
+        assertEquals(3, g.degreeOf(1));
+        assertEquals(3, g.degreeOf(2));
+        assertEquals(new HashSet<>(Arrays.asList(2, 3)), g.edgesOf(2));
+        assertEquals(1.0, g.getEdgeWeight(2), 1e-9);
+    }
+
+    @Test
+    public void testSameAsSparseIntGraph()
+        throws IOException
+    {
+        Random rng = new Random(17);
+        for (boolean directed : new boolean[] { true, false }) {
+            int n = 100;
+            SparseIntGraphBuilder<? extends SparseIntGraph> builder =
+                directed ? SparseIntGraphBuilder.directed() : SparseIntGraphBuilder.undirected();
+            builder.vertexCount(n).weighted(true).allowingMultipleEdges(true).allowingSelfLoops(
+                true);
+            MappedSparseIntGraphWriter writer = directed ? MappedSparseIntGraphWriter.directed()
+                : MappedSparseIntGraphWriter.undirected();
+            writer.vertexCount(n).weighted(true);
+            for (int i = 0; i < 1000; i++) {
+                int s = rng.nextInt(n);
+                int t = rng.nextInt(n);
+                double w = rng.nextDouble();
+                builder.addEdge(s, t, w);
+                writer.addEdge(s, t, w);
+            }
+            Path file = folder.newFile().toPath();
+            writer.write(file);
+
+            SparseIntGraph expected = builder.build();
+            MappedSparseIntGraph g = MappedSparseIntGraph.open(file);
+            assertEquals(expected.vertexSet(), g.vertexSet());
+            assertEquals(expected.edgeSet(), g.edgeSet());
+            for (Integer e : expected.edgeSet()) {
+                assertEquals(expected.getEdgeSource(e), g.getEdgeSource(e));
+                assertEquals(expected.getEdgeTarget(e), g.getEdgeTarget(e));
+                assertEquals(expected.getEdgeWeight(e), g.getEdgeWeight(e), 0.0);
+            }
+            for (Integer v : expected.vertexSet()) {
+                assertEquals(expected.degreeOf(v), g.degreeOf(v));
+                assertEquals(expected.inDegreeOf(v), g.inDegreeOf(v));
+                assertEquals(expected.outDegreeOf(v), g.outDegreeOf(v));
+                assertEquals(expected.edgesOf(v), g.edgesOf(v));
+                assertEquals(expected.incomingEdgesOf(v), g.incomingEdgesOf(v));
+                assertEquals(expected.outgoingEdgesOf(v), g.outgoingEdgesOf(v));
+                for (int u = 0; u < n; u += 7) {
+                    assertEquals(expected.getEdge(v, u), g.getEdge(v, u));
+                    assertEquals(expected.getAllEdges(v, u), g.getAllEdges(v, u));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAlgorithms()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> source =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(source, Arrays.asList(0, 1, 2, 3, 4));
+        Graphs.addEdge(source, 0, 1, 1.0);
+        Graphs.addEdge(source, 1, 2, 1.0);
+        Graphs.addEdge(source, 0, 2, 5.0);
+        Graphs.addEdge(source, 2, 3, 1.0);
+
+        Path file = folder.newFile().toPath();
+        try (MappedSparseIntGraphWriter writer =
+            MappedSparseIntGraphWriter.directed().weighted(true))
+        {
+            writer.addGraph(source).write(file);
+        }
+        MappedSparseIntGraph g = MappedSparseIntGraph.open(file);
+        assertEquals(5, g.vertexSet().size());
+
+        List<Integer> visited = new ArrayList<>();
+        new BreadthFirstIterator<>(g, 0).forEachRemaining(visited::add);
+        assertEquals(Arrays.asList(0, 1, 2, 3), visited);
+
+        GraphPath<Integer, Integer> path = new DijkstraShortestPath<>(g).getPath(0, 3);
+        assertEquals(3.0, path.getWeight(), 1e-9);
+        assertEquals(Arrays.asList(0, 1, 2, 3), path.getVertexList());
+    }
+
+    @Test
+    public void testEmpty()
+        throws IOException
+    {
+        Path file = folder.newFile().toPath();
+        MappedSparseIntGraphWriter.directed().write(file);
+        MappedSparseIntGraph g = MappedSparseIntGraph.open(file);
+        assertTrue(g.vertexSet().isEmpty());
+        assertTrue(g.edgeSet().isEmpty());
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidFile()
+        throws IOException
+    {
+        Path file = folder.newFile().toPath();
+        Files.write(file, new byte[100]);
+        MappedSparseIntGraph.open(file);
+    }
+
+}
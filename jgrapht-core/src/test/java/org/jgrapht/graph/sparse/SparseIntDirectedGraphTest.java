@@ -0,0 +1,187 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link SparseIntDirectedGraph}.
+ * 
+ * @author agent
+ */
+public class SparseIntDirectedGraphTest
+{
+
+    @Test
+    public void testSmall()
+    {
+        SparseIntDirectedGraph g = SparseIntGraphBuilder
+            .directed().vertexCount(5).allowingSelfLoops(true).addEdge(3, 1).addEdge(0, 1)
+            .addEdge(0, 2).addEdge(1, 2).addEdge(2, 3).addEdge(2, 3).addEdge(3, 3).build();
+
+        assertEquals(5, g.vertexSet().size());
+        assertEquals(6, g.edgeSet().size());
+        assertTrue(g.getType().isDirected());
+        assertFalse(g.getType().isModifiable());
+        assertFalse(g.getType().isAllowingMultipleEdges());
+
+        // edges are numbered in (source, target) order
+        assertEquals(Integer.valueOf(0), g.getEdge(0, 1));
+        assertEquals(Integer.valueOf(1), g.getEdge(0, 2));
+        assertEquals(Integer.valueOf(2), g.getEdge(1, 2));
+        assertEquals(Integer.valueOf(3), g.getEdge(2, 3));
+        assertEquals(Integer.valueOf(4), g.getEdge(3, 1));
+        assertNull(g.getEdge(1, 0));
+        assertNull(g.getEdge(5, 0));
+        assertTrue(g.containsEdge(3, 3));
+        assertFalse(g.containsEdge(4, 3));
+
+        assertEquals(Integer.valueOf(3), g.getEdgeSource(4));
+        assertEquals(Integer.valueOf(1), g.getEdgeTarget(4));
+
+        assertEquals(2, g.outDegreeOf(0));
+        assertEquals(0, g.inDegreeOf(0));
+        assertEquals(2, g.inDegreeOf(1));
+        assertEquals(2, g.outDegreeOf(3));
+        assertEquals(2, g.inDegreeOf(3));
+        assertEquals(4, g.degreeOf(3));
+        assertEquals(0, g.degreeOf(4));
+
+        assertEquals(new HashSet<>(Arrays.asList(4, 5)), g.outgoingEdgesOf(3));
+        assertEquals(new HashSet<>(Arrays.asList(3, 5)), g.incomingEdgesOf(3));
+        assertEquals(new HashSet<>(Arrays.asList(3, 4, 5)), g.edgesOf(3));
+        assertEquals(3, g.edgesOf(3).size());
+        assertTrue(g.edgesOf(4).isEmpty());
+
+        assertEquals(Collections.singleton(3), g.getAllEdges(2, 3));
+        assertTrue(g.getAllEdges(3, 2).isEmpty());
+        assertNull(g.getAllEdges(3, 7));
+    }
+
+    @Test
+    public void testMultipleEdgesAndWeights()
+    {
+        SparseIntDirectedGraph g = SparseIntGraphBuilder
+            .directed().allowingMultipleEdges(true).weighted(true).addEdge(1, 0, 5.0)
+            .addEdge(0, 1, 1.0).addEdge(1, 0, 3.0).addEdge(0, 2, 2.0).build();
+
+        assertEquals(3, g.vertexSet().size());
+        assertEquals(4, g.edgeSet().size());
+        assertTrue(g.getType().isWeighted());
+        assertEquals(new HashSet<>(Arrays.asList(2, 3)), g.getAllEdges(1, 0));
+        // stable order of parallel edges
+        assertEquals(5.0, g.getEdgeWeight(2), 0.0);
+        assertEquals(3.0, g.getEdgeWeight(3), 0.0);
+        assertEquals(1.0, g.getEdgeWeight(g.getEdge(0, 1)), 0.0);
+        assertEquals(2.0, g.getEdgeWeight(g.getEdge(0, 2)), 0.0);
+    }
+
+    @Test
+    public void testDeduplicateKeepsFirstWeight()
+    {
+        SparseIntDirectedGraph g = SparseIntGraphBuilder
+            .directed().weighted(true).addEdge(0, 1, 5.0).addEdge(0, 1, 3.0).build();
+
+        assertEquals(1, g.edgeSet().size());
+        assertEquals(5.0, g.getEdgeWeight(0), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoSelfLoops()
+    {
+        SparseIntGraphBuilder.directed().addEdge(0, 0).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testVertexOutOfRange()
+    {
+        SparseIntGraphBuilder.directed().vertexCount(2).addEdge(0, 2).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeVertex()
+    {
+        SparseIntGraphBuilder.directed().addEdge(-1, 2);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testWeightOnUnweighted()
+    {
+        SparseIntGraphBuilder.directed().addEdge(0, 1, 2.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingEdge()
+    {
+        SparseIntDirectedGraph g = SparseIntGraphBuilder.directed().addEdge(0, 1).build();
+        g.getEdgeSource(1);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiable()
+    {
+        SparseIntDirectedGraph g = SparseIntGraphBuilder.directed().addEdge(0, 1).build();
+        g.addEdge(1, 0);
+    }
+
+    @Test
+    public void testAgainstDefaultGraph()
+    {
+        Graph<Integer, DefaultWeightedEdge> source = new DirectedWeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(100, 800, 17, true, true)
+            .generateGraph(source);
+        Random rng = new Random(17);
+        for (DefaultWeightedEdge e : source.edgeSet()) {
+            source.setEdgeWeight(e, rng.nextDouble());
+        }
+
+        SparseIntDirectedGraph g = SparseIntGraphBuilder
+            .directed().allowingMultipleEdges(true).allowingSelfLoops(true).weighted(true)
+            .addGraph(source).build();
+
+        assertEquals(source.vertexSet(), g.vertexSet());
+        assertEquals(source.edgeSet().size(), g.edgeSet().size());
+        for (Integer v : source.vertexSet()) {
+            assertEquals(source.outDegreeOf(v), g.outDegreeOf(v));
+            assertEquals(source.inDegreeOf(v), g.inDegreeOf(v));
+            assertEquals(source.degreeOf(v), g.degreeOf(v));
+            assertEquals(source.edgesOf(v).size(), g.edgesOf(v).size());
+            for (Integer u : source.vertexSet()) {
+                assertEquals(source.getAllEdges(v, u).size(), g.getAllEdges(v, u).size());
+            }
+        }
+
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> expected =
+            new DijkstraShortestPath<>(source);
+        DijkstraShortestPath<Integer, Integer> actual = new DijkstraShortestPath<>(g);
+        for (Integer v : source.vertexSet()) {
+            assertEquals(expected.getPathWeight(0, v), actual.getPathWeight(0, v), 1e-9);
+        }
+    }
+
+}
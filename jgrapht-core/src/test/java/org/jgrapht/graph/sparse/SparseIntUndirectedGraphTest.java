@@ -0,0 +1,124 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.connectivity.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link SparseIntUndirectedGraph}.
+ * 
+ * @author agent
+ */
+public class SparseIntUndirectedGraphTest
+{
+
+    @Test
+    public void testSmall()
+    {
+        SparseIntUndirectedGraph g = SparseIntGraphBuilder
+            .undirected().vertexCount(5).allowingSelfLoops(true).addEdge(3, 1).addEdge(1, 0)
+            .addEdge(0, 2).addEdge(2, 1).addEdge(2, 3).addEdge(3, 2).addEdge(3, 3).build();
+
+        assertEquals(5, g.vertexSet().size());
+        assertEquals(6, g.edgeSet().size());
+        assertTrue(g.getType().isUndirected());
+        assertFalse(g.getType().isModifiable());
+
+        // edges are numbered in (min, max) order
+        assertEquals(Integer.valueOf(0), g.getEdge(0, 1));
+        assertEquals(Integer.valueOf(0), g.getEdge(1, 0));
+        assertEquals(Integer.valueOf(1), g.getEdge(2, 0));
+        assertEquals(Integer.valueOf(2), g.getEdge(1, 2));
+        assertEquals(Integer.valueOf(3), g.getEdge(1, 3));
+        assertEquals(Integer.valueOf(4), g.getEdge(3, 2));
+        assertEquals(Integer.valueOf(5), g.getEdge(3, 3));
+        assertNull(g.getEdge(0, 3));
+        assertNull(g.getEdge(4, 3));
+
+        assertEquals(Integer.valueOf(1), g.getEdgeSource(3));
+        assertEquals(Integer.valueOf(3), g.getEdgeTarget(3));
+
+        assertEquals(2, g.degreeOf(0));
+        assertEquals(3, g.degreeOf(1));
+        assertEquals(3, g.degreeOf(2));
+        assertEquals(4, g.degreeOf(3));
+        assertEquals(4, g.inDegreeOf(3));
+        assertEquals(4, g.outDegreeOf(3));
+        assertEquals(0, g.degreeOf(4));
+
+        assertEquals(new HashSet<>(Arrays.asList(3, 4, 5)), g.edgesOf(3));
+        assertEquals(g.edgesOf(3), g.outgoingEdgesOf(3));
+        assertEquals(g.edgesOf(3), g.incomingEdgesOf(3));
+        assertEquals(Collections.singleton(4), g.getAllEdges(2, 3));
+        assertEquals(Collections.singleton(4), g.getAllEdges(3, 2));
+        assertTrue(g.getAllEdges(0, 3).isEmpty());
+        assertNull(g.getAllEdges(0, 7));
+    }
+
+    @Test
+    public void testMultipleEdges()
+    {
+        SparseIntUndirectedGraph g = SparseIntGraphBuilder
+            .undirected().allowingMultipleEdges(true).weighted(true).addEdge(1, 0, 2.0)
+            .addEdge(0, 1, 3.0).addEdge(0, 2).build();
+
+        assertEquals(3, g.edgeSet().size());
+        assertEquals(2, g.getAllEdges(1, 0).size());
+        assertEquals(2.0, g.getEdgeWeight(0), 0.0);
+        assertEquals(3.0, g.getEdgeWeight(1), 0.0);
+        assertEquals(Graph.DEFAULT_EDGE_WEIGHT, g.getEdgeWeight(2), 0.0);
+    }
+
+    @Test
+    public void testAgainstDefaultGraph()
+    {
+        Graph<Integer, DefaultEdge> source = new Pseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(200, 300, 7, true, true)
+            .generateGraph(source);
+
+        SparseIntUndirectedGraph g = SparseIntGraphBuilder
+            .undirected().allowingMultipleEdges(true).allowingSelfLoops(true).addGraph(source)
+            .build();
+
+        assertEquals(source.vertexSet(), g.vertexSet());
+        assertEquals(source.edgeSet().size(), g.edgeSet().size());
+        for (Integer v : source.vertexSet()) {
+            assertEquals(source.degreeOf(v), g.degreeOf(v));
+            assertEquals(source.edgesOf(v).size(), g.edgesOf(v).size());
+            for (Integer u : source.vertexSet()) {
+                assertEquals(source.getAllEdges(v, u).size(), g.getAllEdges(v, u).size());
+                assertEquals(source.containsEdge(v, u), g.containsEdge(v, u));
+            }
+        }
+
+        assertEquals(
+            new ConnectivityInspector<>(source).connectedSets().size(),
+            new ConnectivityInspector<>(g).connectedSets().size());
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.concurrent.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmark of {@link AsSynchronizedGraph} with and without optimistic reads under a read-mostly
+ * workload, where 99% of the operations are point queries and 1% are edge insertions followed by
+ * the removal of the inserted edge. The point queries are {@code containsVertex},
+ * {@code containsEdge}, {@code getEdge} and {@code degreeOf}. The benchmark is executed for
+ * increasing numbers of threads in order to show how the two modes scale.
+ * 
+ * @author agent
+ */
+public class AsSynchronizedGraphPerformanceTest
+{
+    public static final int PERF_BENCHMARK_VERTICES_COUNT = 10000;
+    public static final int PERF_BENCHMARK_EDGES_COUNT = 50000;
+    public static final int PERF_BENCHMARK_WRITE_PERCENTAGE = 1;
+    public static final long SEED = 17;
+
+    @State(Scope.Benchmark)
+    public static class ReadMostlyBenchmark
+    {
+        @Param({ "false", "true" })
+        public boolean optimisticReads;
+
+        private Graph<Integer, DefaultEdge> graph;
+
+        private DefaultEdge[] edges;
+
+        @Setup
+        public void setup()
+        {
+            AsSynchronizedGraph.Builder<Integer, DefaultEdge> builder =
+                new AsSynchronizedGraph.Builder<>();
+            if (optimisticReads) {
+                builder.setOptimisticReads();
+            }
+            graph = builder
+                .build(new DirectedPseudograph<>(null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, false));
+            for (int v = 0; v < PERF_BENCHMARK_VERTICES_COUNT; v++) {
+                graph.addVertex(v);
+            }
+            Random rng = new Random(SEED);
+            edges = new DefaultEdge[PERF_BENCHMARK_EDGES_COUNT];
+            for (int i = 0; i < PERF_BENCHMARK_EDGES_COUNT; i++) {
+                edges[i] = graph.addEdge(
+                    rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT),
+                    rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT));
+            }
+        }
+
+        @Benchmark
+        public void readMostlyBenchmark(Blackhole blackhole)
+        {
+            ThreadLocalRandom rng = ThreadLocalRandom.current();
+            int u = rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT);
+            int v = rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT);
+            if (rng.nextInt(100) < PERF_BENCHMARK_WRITE_PERCENTAGE) {
+                DefaultEdge e = graph.addEdge(u, v);
+                blackhole.consume(graph.removeEdge(e));
+            } else {
+                blackhole.consume(graph.containsVertex(u));
+                blackhole.consume(graph.containsEdge(edges[rng.nextInt(edges.length)]));
+                blackhole.consume(graph.containsEdge(u, v));
+                blackhole.consume(graph.getEdge(u, v));
+                blackhole.consume(graph.degreeOf(v));
+            }
+        }
+    }
+
+    @Test
+    public void testReadMostlyBenchmark()
+        throws RunnerException
+    {
+        int maxThreads = Math.max(1, Runtime.getRuntime().availableProcessors());
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            Options opt = new OptionsBuilder()
+                .include(".*" + ReadMostlyBenchmark.class.getSimpleName() + ".*")
+                .mode(Mode.Throughput).timeUnit(TimeUnit.MILLISECONDS).threads(threads)
+                .warmupIterations(3).measurementIterations(5).forks(1).shouldFailOnError(true)
+                .shouldDoGC(true).build();
+
+            new Runner(opt).run();
+        }
+    }
+}
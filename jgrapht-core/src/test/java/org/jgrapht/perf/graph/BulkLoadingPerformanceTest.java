@@ -0,0 +1,105 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmark comparing the construction of a large graph by incremental insertion with the bulk
+ * loading methods of {@link AbstractBaseGraph}.
+ * 
+ * @author agent
+ */
+public class BulkLoadingPerformanceTest
+{
+    public static final int PERF_BENCHMARK_VERTICES_COUNT = 100000;
+    public static final int PERF_BENCHMARK_EDGES_COUNT = 1000000;
+    public static final long SEED = 17;
+
+    @State(Scope.Benchmark)
+    public static class Data
+    {
+        List<Integer> vertices;
+        List<Integer> sources;
+        List<Integer> targets;
+        List<DefaultEdge> edges;
+
+        @Setup
+        public void setup()
+        {
+            Random rng = new Random(SEED);
+            vertices = new ArrayList<>(PERF_BENCHMARK_VERTICES_COUNT);
+            for (int v = 0; v < PERF_BENCHMARK_VERTICES_COUNT; v++) {
+                vertices.add(v);
+            }
+            sources = new ArrayList<>(PERF_BENCHMARK_EDGES_COUNT);
+            targets = new ArrayList<>(PERF_BENCHMARK_EDGES_COUNT);
+            edges = new ArrayList<>(PERF_BENCHMARK_EDGES_COUNT);
+            for (int i = 0; i < PERF_BENCHMARK_EDGES_COUNT; i++) {
+                sources.add(rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT));
+                targets.add(rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT));
+                edges.add(new DefaultEdge());
+            }
+        }
+    }
+
+    @Benchmark
+    public Graph<Integer, DefaultEdge> incrementalInsertion(Data data)
+    {
+        DirectedPseudograph<Integer, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        for (Integer v : data.vertices) {
+            g.addVertex(v);
+        }
+        for (int i = 0; i < PERF_BENCHMARK_EDGES_COUNT; i++) {
+            g.addEdge(data.sources.get(i), data.targets.get(i), data.edges.get(i));
+        }
+        return g;
+    }
+
+    @Benchmark
+    public Graph<Integer, DefaultEdge> bulkInsertion(Data data)
+    {
+        DirectedPseudograph<Integer, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        g.ensureCapacity(PERF_BENCHMARK_VERTICES_COUNT, PERF_BENCHMARK_EDGES_COUNT);
+        for (Integer v : data.vertices) {
+            g.addVertex(v);
+        }
+        g.addEdges(data.sources, data.targets, data.edges);
+        return g;
+    }
+
+    @Test
+    public void testBulkLoadingBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + BulkLoadingPerformanceTest.class.getSimpleName() + ".*")
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(3)
+            .measurementIterations(5).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.concurrent.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmark comparing {@link ConcurrentGraph} with {@link AsSynchronizedGraph} under a mixed
+ * read/write load executed by several threads. Each operation is, with a configurable
+ * probability, an edge insertion followed by the removal of the inserted edge, and otherwise a
+ * couple of point queries.
+ * 
+ * @author agent
+ */
+public class ConcurrentGraphPerformanceTest
+{
+    public static final int PERF_BENCHMARK_VERTICES_COUNT = 10000;
+    public static final int PERF_BENCHMARK_EDGES_COUNT = 50000;
+    public static final long SEED = 17;
+
+    @State(Scope.Benchmark)
+    public static abstract class BenchmarkBase
+    {
+        @Param({ "10", "50" })
+        public int writePercentage;
+
+        protected Graph<Integer, DefaultEdge> graph;
+
+        abstract Graph<Integer, DefaultEdge> createGraph();
+
+        @Setup
+        public void setup()
+        {
+            graph = createGraph();
+            for (int v = 0; v < PERF_BENCHMARK_VERTICES_COUNT; v++) {
+                graph.addVertex(v);
+            }
+            Random rng = new Random(SEED);
+            for (int i = 0; i < PERF_BENCHMARK_EDGES_COUNT; i++) {
+                graph.addEdge(
+                    rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT),
+                    rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT));
+            }
+        }
+
+        @Benchmark
+        public void mixedBenchmark(Blackhole blackhole)
+        {
+            ThreadLocalRandom rng = ThreadLocalRandom.current();
+            int u = rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT);
+            int v = rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT);
+            if (rng.nextInt(100) < writePercentage) {
+                DefaultEdge e = graph.addEdge(u, v);
+                blackhole.consume(graph.removeEdge(e));
+            } else {
+                blackhole.consume(graph.getEdge(u, v));
+                blackhole.consume(graph.degreeOf(u));
+            }
+        }
+    }
+
+    public static class AsSynchronizedGraphBenchmark
+        extends
+        BenchmarkBase
+    {
+        @Override
+        Graph<Integer, DefaultEdge> createGraph()
+        {
+            return new AsSynchronizedGraph<>(
+                new DirectedPseudograph<>(null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, false));
+        }
+    }
+
+    public static class ConcurrentGraphBenchmark
+        extends
+        BenchmarkBase
+    {
+        @Override
+        Graph<Integer, DefaultEdge> createGraph()
+        {
+            return new ConcurrentGraph<>(
+                null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.directedPseudograph());
+        }
+    }
+
+    @Test
+    public void testConcurrentGraphBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + AsSynchronizedGraphBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + ConcurrentGraphBenchmark.class.getSimpleName() + ".*")
+            .mode(Mode.Throughput).timeUnit(TimeUnit.MILLISECONDS)
+            .threads(Runtime.getRuntime().availableProcessors()).warmupIterations(3)
+            .measurementIterations(5).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.sparse.*;
+import org.jgrapht.traverse.*;
+import org.junit.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmark comparing the immutable {@link SparseIntDirectedGraph} with
+ * {@link DefaultDirectedWeightedGraph}. The benchmark measures graph construction from an edge list
+ * as well as a breadth-first traversal and a single-source shortest path computation on the
+ * constructed graph.
+ * 
+ * @author agent
+ */
+public class SparseIntGraphPerformanceTest
+{
+    public static final int PERF_BENCHMARK_VERTICES_COUNT = 100000;
+    public static final int PERF_BENCHMARK_EDGES_COUNT = 1000000;
+    public static final long SEED = 17;
+
+    @State(Scope.Benchmark)
+    private static abstract class BenchmarkBase
+    {
+        protected int[] sources;
+        protected int[] targets;
+        protected double[] weights;
+        protected Graph<Integer, ?> graph;
+
+        abstract Graph<Integer, ?> constructGraph();
+
+        @Setup
+        public void setup()
+        {
+            Random rng = new Random(SEED);
+            sources = new int[PERF_BENCHMARK_EDGES_COUNT];
+            targets = new int[PERF_BENCHMARK_EDGES_COUNT];
+            weights = new double[PERF_BENCHMARK_EDGES_COUNT];
+            for (int i = 0; i < PERF_BENCHMARK_EDGES_COUNT; i++) {
+                sources[i] = rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT);
+                targets[i] = rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT);
+                weights[i] = rng.nextDouble();
+            }
+            graph = constructGraph();
+        }
+
+        @Benchmark
+        public void constructionBenchmark(Blackhole blackhole)
+        {
+            blackhole.consume(constructGraph());
+        }
+
+        @Benchmark
+        public void breadthFirstBenchmark(Blackhole blackhole)
+        {
+            BreadthFirstIterator<Integer, ?> it = new BreadthFirstIterator<>(graph, 0);
+            while (it.hasNext()) {
+                blackhole.consume(it.next());
+            }
+        }
+
+        @Benchmark
+        public void dijkstraBenchmark(Blackhole blackhole)
+        {
+            blackhole.consume(new DijkstraShortestPath<>(graph).getPaths(0));
+        }
+    }
+
+    public static class DefaultDirectedGraphBenchmark
+        extends
+        BenchmarkBase
+    {
+        @Override
+        Graph<Integer, ?> constructGraph()
+        {
+            Graph<Integer, DefaultWeightedEdge> g =
+                new DefaultDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+            for (int v = 0; v < PERF_BENCHMARK_VERTICES_COUNT; v++) {
+                g.addVertex(v);
+            }
+            for (int i = 0; i < PERF_BENCHMARK_EDGES_COUNT; i++) {
+                if (sources[i] != targets[i]) {
+                    DefaultWeightedEdge e = g.addEdge(sources[i], targets[i]);
+                    if (e != null) {
+                        g.setEdgeWeight(e, weights[i]);
+                    }
+                }
+            }
+            return g;
+        }
+    }
+
+    public static class SparseIntDirectedGraphBenchmark
+        extends
+        BenchmarkBase
+    {
+        @Override
+        Graph<Integer, ?> constructGraph()
+        {
+            SparseIntGraphBuilder<SparseIntDirectedGraph> builder = SparseIntGraphBuilder
+                .directed().vertexCount(PERF_BENCHMARK_VERTICES_COUNT).weighted(true)
+                .expectedEdgeCount(PERF_BENCHMARK_EDGES_COUNT);
+            for (int i = 0; i < PERF_BENCHMARK_EDGES_COUNT; i++) {
+                if (sources[i] != targets[i]) {
+                    builder.addEdge(sources[i], targets[i], weights[i]);
+                }
+            }
+            return builder.build();
+        }
+    }
+
+    @Test
+    public void testSparseGraphBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + DefaultDirectedGraphBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + SparseIntDirectedGraphBenchmark.class.getSimpleName() + ".*")
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(3)
+            .measurementIterations(5).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.alg.shortestpath.ALTAdmissibleHeuristic.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmark of the landmark selection strategies of {@link ALTAdmissibleHeuristic} on a directed
+ * grid graph with random integer weights. It measures separately the time to select the landmarks
+ * and compute their distances, and the time of a batch of A* queries between random vertices using
+ * the resulting heuristic.
+ * 
+ * @author agent
+ */
+public class ALTPerformanceTest
+{
+    public static final int PERF_BENCHMARK_GRID_SIZE = 200;
+    public static final int PERF_BENCHMARK_LANDMARKS = 16;
+    public static final int PERF_BENCHMARK_QUERIES = 20;
+    public static final int PERF_BENCHMARK_MAX_WEIGHT = 100;
+    public static final long SEED = 13;
+
+    @State(Scope.Benchmark)
+    public static class Data
+    {
+        @Param({ "RANDOM", "FARTHEST", "AVOID", "PARTITION" })
+        public String strategy;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+        List<Integer> sources;
+        List<Integer> targets;
+        ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> heuristic;
+
+        @Setup
+        public void setup()
+        {
+            Random rng = new Random(SEED);
+            int n = PERF_BENCHMARK_GRID_SIZE;
+            graph = WeightedGridGraphs.create(n, PERF_BENCHMARK_MAX_WEIGHT, rng);
+
+            sources = new ArrayList<>();
+            targets = new ArrayList<>();
+            for (int i = 0; i < PERF_BENCHMARK_QUERIES; i++) {
+                sources.add(rng.nextInt(n * n));
+                targets.add(rng.nextInt(n * n));
+            }
+            heuristic = createHeuristic();
+        }
+
+        ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> createHeuristic()
+        {
+            return new ALTAdmissibleHeuristic<>(
+                graph, PERF_BENCHMARK_LANDMARKS, LandmarkSelection.valueOf(strategy),
+                new Random(SEED), ForkJoinPool.commonPool());
+        }
+    }
+
+    @Benchmark
+    public ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> preprocessing(Data data)
+    {
+        return data.createHeuristic();
+    }
+
+    @Benchmark
+    public double queries(Data data)
+    {
+        AStarShortestPath<Integer, DefaultWeightedEdge> sp =
+            new AStarShortestPath<>(data.graph, data.heuristic);
+        double total = 0d;
+        for (int i = 0; i < PERF_BENCHMARK_QUERIES; i++) {
+            total += sp.getPathWeight(data.sources.get(i), data.targets.get(i));
+        }
+        return total;
+    }
+
+    @Test
+    public void testALTBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + ALTPerformanceTest.class.getSimpleName() + ".*")
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(3)
+            .measurementIterations(5).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.traverse.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmark comparing the breadth-first iterator with the direction-optimizing breadth-first
+ * search, on a scale-free graph which resembles a social network.
+ * 
+ * @author agent
+ */
+public class BFSPerformanceTest
+{
+    public static final int PERF_BENCHMARK_VERTICES_COUNT = 200000;
+    public static final int PERF_BENCHMARK_EDGES_PER_VERTEX = 8;
+    public static final int PERF_BENCHMARK_SOURCES = 5;
+    public static final long SEED = 13;
+
+    @State(Scope.Benchmark)
+    public static class Data
+    {
+        Graph<Integer, DefaultEdge> graph;
+        GraphIndexView<Integer, DefaultEdge> index;
+        List<Integer> sources;
+        int[] distances;
+        int[] parentEdges;
+
+        @Setup
+        public void setup()
+        {
+            graph = new SimpleGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new BarabasiAlbertGraphGenerator<Integer, DefaultEdge>(
+                PERF_BENCHMARK_EDGES_PER_VERTEX, PERF_BENCHMARK_EDGES_PER_VERTEX,
+                PERF_BENCHMARK_VERTICES_COUNT, SEED).generateGraph(graph);
+            index = new GraphIndexView<>(graph);
+            index.vertexCount();
+
+            Random rng = new Random(SEED);
+            sources = new ArrayList<>();
+            for (int i = 0; i < PERF_BENCHMARK_SOURCES; i++) {
+                sources.add(rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT));
+            }
+            distances = new int[index.vertexCount()];
+            parentEdges = new int[index.vertexCount()];
+        }
+    }
+
+    @Benchmark
+    public int breadthFirstIterator(Data data)
+    {
+        int count = 0;
+        for (Integer source : data.sources) {
+            BreadthFirstIterator<Integer, DefaultEdge> it =
+                new BreadthFirstIterator<>(data.graph, source);
+            while (it.hasNext()) {
+                it.next();
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int topDown(Data data)
+    {
+        return search(
+            new DirectionOptimizingBFSShortestPath<>(
+                data.index, Double.MIN_VALUE, DirectionOptimizingBFSShortestPath.DEFAULT_BETA,
+                ForkJoinPool.commonPool()),
+            data);
+    }
+
+    @Benchmark
+    public int directionOptimizing(Data data)
+    {
+        return search(
+            new DirectionOptimizingBFSShortestPath<>(
+                data.index, DirectionOptimizingBFSShortestPath.DEFAULT_ALPHA,
+                DirectionOptimizingBFSShortestPath.DEFAULT_BETA, ForkJoinPool.commonPool()),
+            data);
+    }
+
+    private int search(DirectionOptimizingBFSShortestPath<Integer, DefaultEdge> bfs, Data data)
+    {
+        int total = 0;
+        for (Integer source : data.sources) {
+            bfs.search(data.index.getVertexIndex(source), data.distances, data.parentEdges);
+            for (int d : data.distances) {
+                total += d;
+            }
+        }
+        return total;
+    }
+
+    @Test
+    public void testBFSBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + BFSPerformanceTest.class.getSimpleName() + ".*")
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(3)
+            .measurementIterations(5).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
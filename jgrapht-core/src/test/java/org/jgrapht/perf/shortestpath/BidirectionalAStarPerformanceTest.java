@@ -0,0 +1,130 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.alg.shortestpath.ALTAdmissibleHeuristic.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmark comparing bidirectional A* with A* and bidirectional Dijkstra. The benchmark runs
+ * point-to-point queries on graphs created by {@link GridGraphGenerator}, either with unit weights
+ * or with random integer weights which resemble a road network. The A* variants use an
+ * {@link ALTAdmissibleHeuristic}.
+ * 
+ * @author agent
+ */
+public class BidirectionalAStarPerformanceTest
+{
+    public static final int PERF_BENCHMARK_GRID_SIZE = 100;
+    public static final int PERF_BENCHMARK_LANDMARKS = 16;
+    public static final int PERF_BENCHMARK_QUERIES = 20;
+    public static final int PERF_BENCHMARK_MAX_WEIGHT = 100;
+    public static final long SEED = 13;
+
+    @State(Scope.Benchmark)
+    public static class Data
+    {
+        @Param({ "grid", "road" })
+        public String graphType;
+
+        @Param({ "bidirectional-dijkstra", "astar", "bidirectional-astar" })
+        public String algorithm;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+        List<Integer> sources;
+        List<Integer> targets;
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> sp;
+
+        @Setup
+        public void setup()
+        {
+            Random rng = new Random(SEED);
+            int n = PERF_BENCHMARK_GRID_SIZE;
+            if (graphType.equals("grid")) {
+                graph = new SimpleWeightedGraph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            } else {
+                graph = new SimpleDirectedWeightedGraph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            }
+            new GridGraphGenerator<Integer, DefaultWeightedEdge>(n, n).generateGraph(graph);
+            if (graphType.equals("road")) {
+                for (DefaultWeightedEdge e : graph.edgeSet()) {
+                    graph.setEdgeWeight(e, 1 + rng.nextInt(PERF_BENCHMARK_MAX_WEIGHT));
+                }
+            }
+
+            sources = new ArrayList<>();
+            targets = new ArrayList<>();
+            for (int i = 0; i < PERF_BENCHMARK_QUERIES; i++) {
+                sources.add(rng.nextInt(n * n));
+                targets.add(rng.nextInt(n * n));
+            }
+
+            if (algorithm.equals("bidirectional-dijkstra")) {
+                sp = new BidirectionalDijkstraShortestPath<>(graph);
+            } else {
+                ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> heuristic =
+                    new ALTAdmissibleHeuristic<>(
+                        graph, PERF_BENCHMARK_LANDMARKS, LandmarkSelection.FARTHEST,
+                        new Random(SEED), ForkJoinPool.commonPool());
+                if (algorithm.equals("astar")) {
+                    sp = new AStarShortestPath<>(graph, heuristic);
+                } else {
+                    sp = new BidirectionalAStarShortestPath<>(graph, heuristic);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public double queries(Data data)
+    {
+        double total = 0d;
+        for (int i = 0; i < PERF_BENCHMARK_QUERIES; i++) {
+            total += data.sp.getPathWeight(data.sources.get(i), data.targets.get(i));
+        }
+        return total;
+    }
+
+    @Test
+    public void testBidirectionalAStarBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + BidirectionalAStarPerformanceTest.class.getSimpleName() + ".*")
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(3)
+            .measurementIterations(5).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmark comparing point-to-point hop distance queries using Dijkstra's algorithm, a full
+ * direction-optimizing breadth-first search and a bidirectional breadth-first search, on a
+ * scale-free graph which resembles a social network.
+ * 
+ * @author agent
+ */
+public class BidirectionalBFSPerformanceTest
+{
+    public static final int PERF_BENCHMARK_VERTICES_COUNT = 200000;
+    public static final int PERF_BENCHMARK_EDGES_PER_VERTEX = 8;
+    public static final int PERF_BENCHMARK_QUERIES = 20;
+    public static final long SEED = 13;
+
+    @State(Scope.Benchmark)
+    public static class Data
+    {
+        Graph<Integer, DefaultEdge> graph;
+        GraphIndexView<Integer, DefaultEdge> index;
+        BidirectionalBFSShortestPath<Integer, DefaultEdge> bidirectional;
+        List<Pair<Integer, Integer>> queries;
+        int[] distances;
+        int[] parentEdges;
+
+        @Setup
+        public void setup()
+        {
+            graph = new SimpleGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new BarabasiAlbertGraphGenerator<Integer, DefaultEdge>(
+                PERF_BENCHMARK_EDGES_PER_VERTEX, PERF_BENCHMARK_EDGES_PER_VERTEX,
+                PERF_BENCHMARK_VERTICES_COUNT, SEED).generateGraph(graph);
+            index = new GraphIndexView<>(graph);
+            index.vertexCount();
+            bidirectional = new BidirectionalBFSShortestPath<>(index);
+
+            Random rng = new Random(SEED);
+            queries = new ArrayList<>();
+            for (int i = 0; i < PERF_BENCHMARK_QUERIES; i++) {
+                queries.add(
+                    Pair.of(
+                        rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT),
+                        rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT)));
+            }
+            distances = new int[index.vertexCount()];
+            parentEdges = new int[index.vertexCount()];
+        }
+    }
+
+    @Benchmark
+    public double dijkstra(Data data)
+    {
+        DijkstraShortestPath<Integer, DefaultEdge> sp = new DijkstraShortestPath<>(data.graph);
+        double total = 0d;
+        for (Pair<Integer, Integer> q : data.queries) {
+            total += sp.getPathWeight(q.getFirst(), q.getSecond());
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double directionOptimizing(Data data)
+    {
+        DirectionOptimizingBFSShortestPath<Integer, DefaultEdge> bfs =
+            new DirectionOptimizingBFSShortestPath<>(
+                data.index, DirectionOptimizingBFSShortestPath.DEFAULT_ALPHA,
+                DirectionOptimizingBFSShortestPath.DEFAULT_BETA, ForkJoinPool.commonPool());
+        double total = 0d;
+        for (Pair<Integer, Integer> q : data.queries) {
+            bfs.search(
+                data.index.getVertexIndex(q.getFirst()), data.distances, data.parentEdges);
+            total += data.distances[data.index.getVertexIndex(q.getSecond())];
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double bidirectional(Data data)
+    {
+        double total = 0d;
+        for (Pair<Integer, Integer> q : data.queries) {
+            total += data.bidirectional.getPathWeight(q.getFirst(), q.getSecond());
+        }
+        return total;
+    }
+
+    @Test
+    public void testBidirectionalBFSBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + BidirectionalBFSPerformanceTest.class.getSimpleName() + ".*")
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(3)
+            .measurementIterations(5).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
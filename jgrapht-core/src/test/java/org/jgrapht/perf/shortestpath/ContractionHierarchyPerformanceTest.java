@@ -0,0 +1,110 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmark of the query time of contraction hierarchies compared with Dijkstra's algorithm and
+ * its bidirectional variant. Each iteration answers a batch of point-to-point queries between
+ * random vertices of a directed grid graph with random integer weights. The contraction hierarchy
+ * is built during setup and its preprocessing is excluded from the measurement.
+ * 
+ * @author agent
+ */
+public class ContractionHierarchyPerformanceTest
+{
+    public static final int PERF_BENCHMARK_GRID_SIZE = 200;
+    public static final int PERF_BENCHMARK_QUERIES = 100;
+    public static final int PERF_BENCHMARK_MAX_WEIGHT = 100;
+    public static final long SEED = 13;
+
+    @State(Scope.Benchmark)
+    public static class Data
+    {
+        @Param({ "dijkstra", "bidirectional-dijkstra", "contraction-hierarchy" })
+        public String algorithm;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+        int[] sources;
+        int[] targets;
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> sp;
+
+        @Setup
+        public void setup()
+        {
+            Random rng = new Random(SEED);
+            int n = PERF_BENCHMARK_GRID_SIZE;
+            graph = WeightedGridGraphs.create(n, PERF_BENCHMARK_MAX_WEIGHT, rng);
+
+            sources = new int[PERF_BENCHMARK_QUERIES];
+            targets = new int[PERF_BENCHMARK_QUERIES];
+            for (int i = 0; i < PERF_BENCHMARK_QUERIES; i++) {
+                sources[i] = rng.nextInt(n * n);
+                targets[i] = rng.nextInt(n * n);
+            }
+
+            switch (algorithm) {
+            case "dijkstra":
+                sp = new DijkstraShortestPath<>(graph);
+                break;
+            case "bidirectional-dijkstra":
+                sp = new BidirectionalDijkstraShortestPath<>(graph);
+                break;
+            default:
+                ContractionHierarchyShortestPath<Integer, DefaultWeightedEdge> ch =
+                    new ContractionHierarchyShortestPath<>(graph, ForkJoinPool.commonPool());
+                ch.getShortcutCount();
+                sp = ch;
+                break;
+            }
+        }
+    }
+
+    @Benchmark
+    public double pointToPointQueries(Data data)
+    {
+        double total = 0d;
+        for (int i = 0; i < PERF_BENCHMARK_QUERIES; i++) {
+            total += data.sp.getPath(data.sources[i], data.targets[i]).getWeight();
+        }
+        return total;
+    }
+
+    @Test
+    public void testContractionHierarchyBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + ContractionHierarchyPerformanceTest.class.getSimpleName() + ".*")
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(3)
+            .measurementIterations(5).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmark comparing Dijkstra's algorithm with the parallel delta-stepping algorithm using an
+ * increasing number of threads. The benchmark computes single-source shortest paths on a sparse
+ * random graph with uniform random weights, which has small diameter and therefore large buckets.
+ * The speedup of delta-stepping depends on the number of available cores.
+ * 
+ * @author agent
+ */
+public class DeltaSteppingPerformanceTest
+{
+    public static final int PERF_BENCHMARK_VERTICES = 100000;
+    public static final int PERF_BENCHMARK_EDGES = 800000;
+    public static final int PERF_BENCHMARK_SOURCES = 5;
+    public static final long SEED = 13;
+
+    @State(Scope.Benchmark)
+    public static class Data
+    {
+        @Param({ "dijkstra", "delta-stepping-1", "delta-stepping-2", "delta-stepping-4",
+            "delta-stepping-8" })
+        public String algorithm;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+        List<Integer> sources;
+        Integer target;
+        ForkJoinPool pool;
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> sp;
+
+        @Setup
+        public void setup()
+        {
+            Random rng = new Random(SEED);
+            graph = new DefaultDirectedWeightedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            for (int v = 0; v < PERF_BENCHMARK_VERTICES; v++) {
+                graph.addVertex(v);
+            }
+            while (graph.edgeSet().size() < PERF_BENCHMARK_EDGES) {
+                int u = rng.nextInt(PERF_BENCHMARK_VERTICES);
+                int v = rng.nextInt(PERF_BENCHMARK_VERTICES);
+                if (u != v) {
+                    DefaultWeightedEdge e = graph.addEdge(u, v);
+                    if (e != null) {
+                        graph.setEdgeWeight(e, rng.nextDouble());
+                    }
+                }
+            }
+
+            sources = new ArrayList<>();
+            for (int i = 0; i < PERF_BENCHMARK_SOURCES; i++) {
+                sources.add(rng.nextInt(PERF_BENCHMARK_VERTICES));
+            }
+            target = rng.nextInt(PERF_BENCHMARK_VERTICES);
+
+            if (algorithm.equals("dijkstra")) {
+                sp = new DijkstraShortestPath<>(graph);
+            } else {
+                int parallelism =
+                    Integer.parseInt(algorithm.substring(algorithm.lastIndexOf('-') + 1));
+                pool = new ForkJoinPool(parallelism);
+                sp = new DeltaSteppingShortestPath<>(
+                    graph, DeltaSteppingShortestPath.AUTOMATIC_DELTA, pool);
+                // build the index outside of the measurement
+                sp.getPaths(target);
+            }
+        }
+
+        @TearDown
+        public void tearDown()
+        {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Benchmark
+    public double singleSourceShortestPaths(Data data)
+    {
+        double total = 0d;
+        for (Integer source : data.sources) {
+            total += data.sp.getPaths(source).getWeight(data.target);
+        }
+        return total;
+    }
+
+    @Test
+    public void testDeltaSteppingBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + DeltaSteppingPerformanceTest.class.getSimpleName() + ".*")
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(3)
+            .measurementIterations(5).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
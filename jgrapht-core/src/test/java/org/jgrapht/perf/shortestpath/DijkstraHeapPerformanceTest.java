@@ -0,0 +1,120 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Benchmark comparing the priority queues which can be used by Dijkstra's algorithm. Each
+ * iteration computes the shortest path trees of a few random sources on a directed grid graph
+ * with random integer weights. Since weights are integral and bounded, the monotone integer queues
+ * can be used as well.
+ * 
+ * @author agent
+ */
+public class DijkstraHeapPerformanceTest
+{
+    public static final int PERF_BENCHMARK_GRID_SIZE = 200;
+    public static final int PERF_BENCHMARK_SOURCES = 5;
+    public static final int PERF_BENCHMARK_MAX_WEIGHT = 100;
+    public static final long SEED = 13;
+
+    @State(Scope.Benchmark)
+    public static class Data
+    {
+        @Param({ "fibonacci", "pairing", "binary", "4-ary", "radix", "dial" })
+        public String heap;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+        List<Integer> sources;
+        Integer target;
+        Supplier<AddressableDoubleHeap> heapSupplier;
+
+        @Setup
+        public void setup()
+        {
+            Random rng = new Random(SEED);
+            int n = PERF_BENCHMARK_GRID_SIZE;
+            graph = WeightedGridGraphs.create(n, PERF_BENCHMARK_MAX_WEIGHT, rng);
+
+            List<Integer> vertices = new ArrayList<>(graph.vertexSet());
+            sources = new ArrayList<>();
+            for (int i = 0; i < PERF_BENCHMARK_SOURCES; i++) {
+                sources.add(vertices.get(rng.nextInt(vertices.size())));
+            }
+            target = vertices.get(rng.nextInt(vertices.size()));
+
+            switch (heap) {
+            case "fibonacci":
+                heapSupplier = FibonacciDoubleHeap::new;
+                break;
+            case "pairing":
+                heapSupplier = PairingDoubleHeap::new;
+                break;
+            case "binary":
+                heapSupplier = () -> new DaryDoubleHeap(2);
+                break;
+            case "radix":
+                heapSupplier = RadixDoubleHeap::new;
+                break;
+            case "dial":
+                heapSupplier = () -> new BucketDoubleHeap(PERF_BENCHMARK_MAX_WEIGHT);
+                break;
+            default:
+                heapSupplier = () -> new DaryDoubleHeap(4);
+                break;
+            }
+        }
+    }
+
+    @Benchmark
+    public double singleSourceShortestPaths(Data data)
+    {
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> sp =
+            new DijkstraShortestPath<>(data.graph, data.heapSupplier);
+        double total = 0d;
+        for (Integer source : data.sources) {
+            total += sp.getPaths(source).getWeight(data.target);
+        }
+        return total;
+    }
+
+    @Test
+    public void testDijkstraHeapBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + DijkstraHeapPerformanceTest.class.getSimpleName() + ".*")
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(3)
+            .measurementIterations(5).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmark comparing the Floyd-Warshall algorithm with its blocked and parallel version. The
+ * benchmark computes all-pairs shortest paths on a random directed graph with random integer
+ * weights and queries a few path weights.
+ * 
+ * @author agent
+ */
+public class FloydWarshallPerformanceTest
+{
+    public static final double PERF_BENCHMARK_EDGE_PROBABILITY = 0.01;
+    public static final int PERF_BENCHMARK_MAX_WEIGHT = 100;
+    public static final int PERF_BENCHMARK_QUERIES = 100;
+    public static final long SEED = 13;
+
+    @State(Scope.Benchmark)
+    public static class Data
+    {
+        @Param({ "500", "1000" })
+        public int vertices;
+
+        @Param({ "original", "blocked-1", "blocked-4" })
+        public String algorithm;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+        List<Integer> sources;
+        List<Integer> targets;
+        ForkJoinPool pool;
+
+        @Setup
+        public void setup()
+        {
+            Random rng = new Random(SEED);
+            graph = new DefaultDirectedWeightedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                vertices, PERF_BENCHMARK_EDGE_PROBABILITY, rng, false).generateGraph(graph);
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                graph.setEdgeWeight(e, 1 + rng.nextInt(PERF_BENCHMARK_MAX_WEIGHT));
+            }
+
+            sources = new ArrayList<>();
+            targets = new ArrayList<>();
+            for (int i = 0; i < PERF_BENCHMARK_QUERIES; i++) {
+                sources.add(rng.nextInt(vertices));
+                targets.add(rng.nextInt(vertices));
+            }
+
+            if (algorithm.startsWith("blocked-")) {
+                pool = new ForkJoinPool(Integer.parseInt(algorithm.substring(8)));
+            }
+        }
+
+        @TearDown
+        public void tearDown()
+        {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> createAlgorithm()
+        {
+            if (pool == null) {
+                return new FloydWarshallShortestPaths<>(graph);
+            }
+            return new BlockedFloydWarshallShortestPaths<>(graph, pool);
+        }
+    }
+
+    @Benchmark
+    public double allPairsShortestPaths(Data data)
+    {
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> sp = data.createAlgorithm();
+        double total = 0d;
+        for (int i = 0; i < PERF_BENCHMARK_QUERIES; i++) {
+            total += sp.getPathWeight(data.sources.get(i), data.targets.get(i));
+        }
+        return total;
+    }
+
+    @Test
+    public void testFloydWarshallBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + FloydWarshallPerformanceTest.class.getSimpleName() + ".*")
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(3)
+            .measurementIterations(5).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
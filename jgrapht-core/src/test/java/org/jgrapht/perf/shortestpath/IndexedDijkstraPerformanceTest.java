@@ -0,0 +1,122 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmark of the per-query overhead of point-to-point searches. Each iteration answers a batch
+ * of queries whose targets lie in a small square next to the source, on a directed grid graph with
+ * random integer weights, so that the searches are short and setup costs dominate. It compares
+ * {@link DijkstraShortestPath}, which allocates new maps and a new heap per query, with
+ * {@link IndexedDijkstraShortestPath}, which reuses its search space, both when computing the
+ * paths and when computing only their weights.
+ * 
+ * @author agent
+ */
+public class IndexedDijkstraPerformanceTest
+{
+    public static final int PERF_BENCHMARK_GRID_SIZE = 200;
+    public static final int PERF_BENCHMARK_QUERIES = 1000;
+    public static final int PERF_BENCHMARK_QUERY_RADIUS = 10;
+    public static final int PERF_BENCHMARK_MAX_WEIGHT = 100;
+    public static final long SEED = 13;
+
+    @State(Scope.Benchmark)
+    public static class Data
+    {
+        Graph<Integer, DefaultWeightedEdge> graph;
+        int[] sources;
+        int[] targets;
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra;
+        IndexedDijkstraShortestPath<Integer, DefaultWeightedEdge> indexed;
+
+        @Setup
+        public void setup()
+        {
+            Random rng = new Random(SEED);
+            int n = PERF_BENCHMARK_GRID_SIZE;
+            graph = WeightedGridGraphs.create(n, PERF_BENCHMARK_MAX_WEIGHT, rng);
+
+            int r = PERF_BENCHMARK_QUERY_RADIUS;
+            sources = new int[PERF_BENCHMARK_QUERIES];
+            targets = new int[PERF_BENCHMARK_QUERIES];
+            for (int i = 0; i < PERF_BENCHMARK_QUERIES; i++) {
+                int row = rng.nextInt(n - r);
+                int col = rng.nextInt(n - r);
+                sources[i] = row * n + col;
+                targets[i] = (row + rng.nextInt(r)) * n + col + rng.nextInt(r);
+            }
+
+            dijkstra = new DijkstraShortestPath<>(graph);
+            indexed = new IndexedDijkstraShortestPath<>(graph);
+            indexed.getPathWeight(sources[0], targets[0]);
+        }
+    }
+
+    @Benchmark
+    public double dijkstraPaths(Data data)
+    {
+        double total = 0d;
+        for (int i = 0; i < PERF_BENCHMARK_QUERIES; i++) {
+            total += data.dijkstra.getPath(data.sources[i], data.targets[i]).getWeight();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double indexedDijkstraPaths(Data data)
+    {
+        double total = 0d;
+        for (int i = 0; i < PERF_BENCHMARK_QUERIES; i++) {
+            total += data.indexed.getPath(data.sources[i], data.targets[i]).getWeight();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double indexedDijkstraPathWeights(Data data)
+    {
+        double total = 0d;
+        for (int i = 0; i < PERF_BENCHMARK_QUERIES; i++) {
+            total += data.indexed.getPathWeight(data.sources[i], data.targets[i]);
+        }
+        return total;
+    }
+
+    @Test
+    public void testIndexedDijkstraBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + IndexedDijkstraPerformanceTest.class.getSimpleName() + ".*")
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(3)
+            .measurementIterations(5).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
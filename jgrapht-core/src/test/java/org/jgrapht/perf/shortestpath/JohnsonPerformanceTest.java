@@ -0,0 +1,118 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Benchmark of all-pairs shortest paths on a directed grid graph with random integer weights. Each
+ * iteration computes the distances from every vertex to a fixed target, either by running
+ * {@link DijkstraShortestPath} from every vertex or by Johnson's algorithm with one or more
+ * threads. Johnson's algorithm is measured both when storing all shortest path trees and when
+ * streaming them one source at a time.
+ * 
+ * @author agent
+ */
+public class JohnsonPerformanceTest
+{
+    public static final int PERF_BENCHMARK_GRID_SIZE = 50;
+    public static final int PERF_BENCHMARK_MAX_WEIGHT = 100;
+    public static final long SEED = 13;
+
+    @State(Scope.Benchmark)
+    public static class Data
+    {
+        @Param({ "1", "4" })
+        public int threads;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+        Integer target;
+        ForkJoinPool pool;
+
+        @Setup
+        public void setup()
+        {
+            Random rng = new Random(SEED);
+            int n = PERF_BENCHMARK_GRID_SIZE;
+            graph = WeightedGridGraphs.create(n, PERF_BENCHMARK_MAX_WEIGHT, rng);
+            target = rng.nextInt(n * n);
+            pool = new ForkJoinPool(threads);
+        }
+
+        @TearDown
+        public void tearDown()
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public double dijkstraFromEveryVertex(Data data)
+    {
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> sp =
+            new DijkstraShortestPath<>(data.graph);
+        double total = 0d;
+        for (Integer v : data.graph.vertexSet()) {
+            total += sp.getPaths(v).getWeight(data.target);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double johnson(Data data)
+    {
+        JohnsonShortestPaths<Integer, DefaultWeightedEdge> sp =
+            new JohnsonShortestPaths<>(data.graph, data.pool);
+        double total = 0d;
+        for (Integer v : data.graph.vertexSet()) {
+            total += sp.getPathWeight(v, data.target);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double johnsonStreaming(Data data)
+    {
+        DoubleAdder total = new DoubleAdder();
+        new JohnsonShortestPaths<>(data.graph, data.pool)
+            .forEachSourcePaths(p -> total.add(p.getWeight(data.target)));
+        return total.sum();
+    }
+
+    @Test
+    public void testJohnsonBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + JohnsonPerformanceTest.class.getSimpleName() + ".*")
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(3)
+            .measurementIterations(5).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmark comparing Yen's algorithm with the Bellman-Ford based {@link KShortestSimplePaths}.
+ * Each iteration computes the $k$ shortest simple paths between opposite corners of a small
+ * directed grid graph with random integer weights.
+ * 
+ * @author agent
+ */
+public class KShortestPathsPerformanceTest
+{
+    public static final int PERF_BENCHMARK_GRID_SIZE = 15;
+    public static final int PERF_BENCHMARK_MAX_WEIGHT = 100;
+    public static final long SEED = 13;
+
+    @State(Scope.Benchmark)
+    public static class Data
+    {
+        @Param({ "10", "50", "200" })
+        public int k;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+        Integer source;
+        Integer target;
+
+        @Setup
+        public void setup()
+        {
+            Random rng = new Random(SEED);
+            int n = PERF_BENCHMARK_GRID_SIZE;
+            graph = WeightedGridGraphs.create(n, PERF_BENCHMARK_MAX_WEIGHT, rng);
+            source = 0;
+            target = n * n - 1;
+        }
+    }
+
+    @Benchmark
+    public double yen(Data data)
+    {
+        return totalWeight(new YenKShortestPath<>(data.graph), data);
+    }
+
+    @Benchmark
+    public double kShortestSimplePaths(Data data)
+    {
+        return totalWeight(new KShortestSimplePaths<>(data.graph), data);
+    }
+
+    private double totalWeight(KShortestPathAlgorithm<Integer, DefaultWeightedEdge> alg, Data data)
+    {
+        double total = 0d;
+        for (GraphPath<Integer, DefaultWeightedEdge> path : alg
+            .getPaths(data.source, data.target, data.k))
+        {
+            total += path.getWeight();
+        }
+        return total;
+    }
+
+    @Test
+    public void testKShortestPathsBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + KShortestPathsPerformanceTest.class.getSimpleName() + ".*")
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(3)
+            .measurementIterations(5).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmark comparing the computation of a many-to-many distance table using sequential
+ * single-source Dijkstra searches, parallel Dijkstra searches which stop when all targets are
+ * settled, and the bucket-based method on a contraction hierarchy. Each iteration computes the
+ * table between random sources and random targets of a directed grid graph with random integer
+ * weights. The contraction hierarchy is built during setup and its preprocessing is excluded from
+ * the measurement.
+ * 
+ * @author agent
+ */
+public class ManyToManyPerformanceTest
+{
+    public static final int PERF_BENCHMARK_GRID_SIZE = 200;
+    public static final int PERF_BENCHMARK_SOURCES = 100;
+    public static final int PERF_BENCHMARK_TARGETS = 100;
+    public static final int PERF_BENCHMARK_MAX_WEIGHT = 100;
+    public static final long SEED = 13;
+
+    @State(Scope.Benchmark)
+    public static class Data
+    {
+        @Param({ "sequential-dijkstra", "dijkstra", "contraction-hierarchy" })
+        public String algorithm;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+        List<Integer> sources;
+        List<Integer> targets;
+        ManyToManyShortestPathsAlgorithm<Integer, DefaultWeightedEdge> alg;
+
+        @Setup
+        public void setup()
+        {
+            Random rng = new Random(SEED);
+            int n = PERF_BENCHMARK_GRID_SIZE;
+            graph = WeightedGridGraphs.create(n, PERF_BENCHMARK_MAX_WEIGHT, rng);
+
+            sources = new ArrayList<>();
+            for (int i = 0; i < PERF_BENCHMARK_SOURCES; i++) {
+                sources.add(rng.nextInt(n * n));
+            }
+            targets = new ArrayList<>();
+            for (int i = 0; i < PERF_BENCHMARK_TARGETS; i++) {
+                targets.add(rng.nextInt(n * n));
+            }
+
+            switch (algorithm) {
+            case "sequential-dijkstra":
+                alg = (sources, targets) -> {
+                    DijkstraShortestPath<Integer, DefaultWeightedEdge> sp =
+                        new DijkstraShortestPath<>(graph);
+                    double[][] d = new double[sources.size()][targets.size()];
+                    for (int i = 0; i < sources.size(); i++) {
+                        ShortestPathAlgorithm.SingleSourcePaths<Integer,
+                            DefaultWeightedEdge> paths = sp.getPaths(sources.get(i));
+                        for (int j = 0; j < targets.size(); j++) {
+                            d[i][j] = paths.getWeight(targets.get(j));
+                        }
+                    }
+                    return d;
+                };
+                break;
+            case "dijkstra":
+                alg = new DijkstraManyToManyShortestPaths<>(graph, ForkJoinPool.commonPool());
+                break;
+            default:
+                ContractionHierarchyShortestPath<Integer, DefaultWeightedEdge> ch =
+                    new ContractionHierarchyShortestPath<>(graph, ForkJoinPool.commonPool());
+                ch.getShortcutCount();
+                alg = ch;
+                break;
+            }
+        }
+    }
+
+    @Benchmark
+    public double[][] distanceTable(Data data)
+    {
+        return data.alg.getDistances(data.sources, data.targets);
+    }
+
+    @Test
+    public void testManyToManyBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + ManyToManyPerformanceTest.class.getSimpleName() + ".*")
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(3)
+            .measurementIterations(5).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.MultiObjectiveShortestPathAlgorithm.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmark for Martin's multi-objective shortest path algorithm on random directed graphs with
+ * random integer weights in each objective.
+ * 
+ * @author agent
+ */
+public class MartinPerformanceTest
+{
+    public static final int PERF_BENCHMARK_VERTICES_COUNT = 5000;
+    public static final int PERF_BENCHMARK_EDGES_COUNT = 30000;
+    public static final int PERF_BENCHMARK_MAX_WEIGHT = 100;
+    public static final long SEED = 13;
+
+    @State(Scope.Benchmark)
+    public static class Data
+    {
+        @Param({ "2", "3" })
+        public int objectives;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+        Map<DefaultWeightedEdge, double[]> weights;
+        Integer source;
+        Integer target;
+
+        @Setup
+        public void setup()
+        {
+            Random rng = new Random(SEED);
+            graph = new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                PERF_BENCHMARK_VERTICES_COUNT, PERF_BENCHMARK_EDGES_COUNT, SEED, false, false)
+                    .generateGraph(graph);
+            weights = new HashMap<>();
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                double[] w = new double[objectives];
+                for (int i = 0; i < objectives; i++) {
+                    w[i] = 1 + rng.nextInt(PERF_BENCHMARK_MAX_WEIGHT);
+                }
+                weights.put(e, w);
+            }
+            List<Integer> vertices = new ArrayList<>(graph.vertexSet());
+            source = vertices.get(rng.nextInt(vertices.size()));
+            target = vertices.get(rng.nextInt(vertices.size()));
+        }
+    }
+
+    @Benchmark
+    public int singleSource(Data data)
+    {
+        int count = 0;
+        MultiObjectiveSingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+            new MartinShortestPath<>(data.graph, data.weights::get).getPaths(data.source);
+        for (Integer v : data.graph.vertexSet()) {
+            count += paths.getPaths(v).size();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int singleSourceParallel(Data data)
+    {
+        int count = 0;
+        MultiObjectiveSingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+            new MartinShortestPath<>(data.graph, data.weights::get, ForkJoinPool.commonPool())
+                .getPaths(data.source);
+        for (Integer v : data.graph.vertexSet()) {
+            count += paths.getPaths(v).size();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int sourceSink(Data data)
+    {
+        return new MartinShortestPath<>(data.graph, data.weights::get)
+            .getPaths(data.source, data.target).size();
+    }
+
+    @Test
+    public void testMartinBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + MartinPerformanceTest.class.getSimpleName() + ".*")
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(3)
+            .measurementIterations(5).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * Input graphs shared by the shortest path benchmarks.
+ *
+ * @author agent
+ */
+final class WeightedGridGraphs
+{
+    private WeightedGridGraphs()
+    {
+    }
+
+    /**
+     * Create a directed $n \times n$ grid graph. Vertex $v$ is the cell in row $v / n$ and column
+     * $v \bmod n$. Neighboring cells are connected by a pair of opposite edges, each with an
+     * independent random integer weight in $[1, maxWeight]$.
+     *
+     * @param n the number of rows and columns
+     * @param maxWeight the maximum edge weight
+     * @param rng the random number generator used for the weights
+     * @return the grid graph
+     */
+    static Graph<Integer, DefaultWeightedEdge> create(int n, int maxWeight, Random rng)
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = new DefaultDirectedWeightedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        for (int v = 0; v < n * n; v++) {
+            graph.addVertex(v);
+        }
+        for (int v = 0; v < n * n; v++) {
+            if (v % n < n - 1) {
+                addEdges(graph, v, v + 1, maxWeight, rng);
+            }
+            if (v + n < n * n) {
+                addEdges(graph, v, v + n, maxWeight, rng);
+            }
+        }
+        return graph;
+    }
+
+    private static void addEdges(
+        Graph<Integer, DefaultWeightedEdge> graph, Integer u, Integer v, int maxWeight, Random rng)
+    {
+        graph.setEdgeWeight(graph.addEdge(u, v), 1 + rng.nextInt(maxWeight));
+        graph.setEdgeWeight(graph.addEdge(v, u), 1 + rng.nextInt(maxWeight));
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link AddressableDoubleHeap} implementations.
+ *
+ * @author agent
+ */
+public abstract class AddressableDoubleHeapTest
+{
+    abstract AddressableDoubleHeap createHeap();
+
+    @Test
+    public void testEmpty()
+    {
+        AddressableDoubleHeap h = createHeap();
+        assertTrue(h.isEmpty());
+        assertEquals(0, h.size());
+        try {
+            h.findMin();
+            fail("No exception thrown");
+        } catch (NoSuchElementException e) {
+            // expected
+        }
+        try {
+            h.deleteMin();
+            fail("No exception thrown");
+        } catch (NoSuchElementException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testHandles()
+    {
+        AddressableDoubleHeap h = createHeap();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, h.insert(100 - i));
+        }
+        assertEquals(100, h.size());
+        assertEquals(99, h.findMin());
+        assertEquals(99, h.deleteMin());
+        assertFalse(h.contains(99));
+        assertTrue(h.contains(98));
+        assertEquals(1d, h.getKey(99), 0d);
+
+        h.clear();
+        assertTrue(h.isEmpty());
+        assertEquals(0, h.insert(5d));
+        assertEquals(1, h.insert(3d));
+        assertEquals(1, h.findMin());
+    }
+
+    @Test
+    public void testSortRandom()
+    {
+        Random rng = new Random(13);
+        AddressableDoubleHeap h = createHeap();
+        int n = 1000;
+        double[] keys = new double[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = rng.nextDouble();
+            h.insert(keys[i]);
+        }
+        Arrays.sort(keys);
+        for (int i = 0; i < n; i++) {
+            int handle = h.deleteMin();
+            assertEquals(keys[i], h.getKey(handle), 0d);
+        }
+        assertTrue(h.isEmpty());
+    }
+
+    @Test
+    public void testDecreaseKeyRandom()
+    {
+        Random rng = new Random(17);
+        AddressableDoubleHeap h = createHeap();
+        int n = 1000;
+        double[] keys = new double[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = rng.nextDouble();
+            h.insert(keys[i]);
+        }
+
+        // interleave deletions and decrease key operations
+        double last = 0d;
+        int removed = 0;
+        while (!h.isEmpty()) {
+            for (int j = 0; j < 5; j++) {
+                int handle = rng.nextInt(n);
+                if (h.contains(handle)) {
+                    double key = last + (h.getKey(handle) - last) * rng.nextDouble();
+                    h.decreaseKey(handle, key);
+                    keys[handle] = key;
+                }
+            }
+            int min = h.findMin();
+            assertEquals(min, h.deleteMin());
+            assertTrue(h.getKey(min) >= last);
+            assertEquals(keys[min], h.getKey(min), 0d);
+            last = h.getKey(min);
+            removed++;
+            assertEquals(n - removed, h.size());
+        }
+        assertEquals(n, removed);
+    }
+
+    @Test
+    public void testReinsert()
+    {
+        AddressableDoubleHeap h = createHeap();
+        int a = h.insert(1d);
+        int b = h.insert(2d);
+        int c = h.insert(3d);
+
+        assertEquals(a, h.deleteMin());
+        h.reinsert(a, 5d);
+        assertTrue(h.contains(a));
+        assertEquals(b, h.deleteMin());
+        assertEquals(c, h.deleteMin());
+        assertEquals(a, h.deleteMin());
+        assertEquals(5d, h.getKey(a), 0d);
+        assertTrue(h.isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadReinsert()
+    {
+        AddressableDoubleHeap h = createHeap();
+        int a = h.insert(1d);
+        h.reinsert(a, 2d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadDecreaseKey()
+    {
+        AddressableDoubleHeap h = createHeap();
+        h.insert(1d);
+        int b = h.insert(2d);
+        h.decreaseKey(b, 3d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecreaseKeyRemoved()
+    {
+        AddressableDoubleHeap h = createHeap();
+        int a = h.insert(1d);
+        h.insert(2d);
+        h.deleteMin();
+        h.decreaseKey(a, 0d);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link BucketDoubleHeap}.
+ *
+ * @author agent
+ */
+public class BucketDoubleHeapTest
+    extends
+    MonotoneDoubleHeapTest
+{
+    @Override
+    AddressableDoubleHeap createHeap(int maxKeyDifference)
+    {
+        return new BucketDoubleHeap(maxKeyDifference);
+    }
+
+    @Test
+    public void testWrapAround()
+    {
+        BucketDoubleHeap h = new BucketDoubleHeap(3, 0);
+        assertEquals(3, h.getMaxKeyDifference());
+        int a = h.insert(0d);
+        assertEquals(a, h.deleteMin());
+        int b = h.insert(3d);
+        int c = h.insert(2d);
+        assertEquals(c, h.deleteMin());
+        int d = h.insert(5d);
+        h.decreaseKey(b, 2d);
+        assertEquals(b, h.deleteMin());
+        assertEquals(d, h.deleteMin());
+        assertTrue(h.isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testKeyOutOfRange()
+    {
+        BucketDoubleHeap h = new BucketDoubleHeap(3);
+        h.insert(0d);
+        h.insert(4d);
+    }
+}
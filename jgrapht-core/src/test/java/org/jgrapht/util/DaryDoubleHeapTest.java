@@ -0,0 +1,59 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link DaryDoubleHeap}.
+ *
+ * @author agent
+ */
+public class DaryDoubleHeapTest
+    extends
+    AddressableDoubleHeapTest
+{
+    @Override
+    AddressableDoubleHeap createHeap()
+    {
+        return new DaryDoubleHeap();
+    }
+
+    @Test
+    public void testArity()
+    {
+        for (int d = 2; d <= 5; d++) {
+            DaryDoubleHeap h = new DaryDoubleHeap(d, 0);
+            assertEquals(d, h.getArity());
+            for (int i = 0; i < 100; i++) {
+                h.insert((i * 37) % 100);
+            }
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i, h.getKey(h.deleteMin()), 0d);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidArity()
+    {
+        new DaryDoubleHeap(1);
+    }
+}
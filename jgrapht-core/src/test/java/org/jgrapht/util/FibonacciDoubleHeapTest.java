@@ -0,0 +1,34 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+/**
+ * Tests for {@link FibonacciDoubleHeap}.
+ *
+ * @author agent
+ */
+public class FibonacciDoubleHeapTest
+    extends
+    AddressableDoubleHeapTest
+{
+    @Override
+    AddressableDoubleHeap createHeap()
+    {
+        return new FibonacciDoubleHeap();
+    }
+}
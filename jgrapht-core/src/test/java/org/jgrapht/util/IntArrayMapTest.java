@@ -0,0 +1,100 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link IntArrayMap}.
+ * 
+ * @author agent
+ */
+public class IntArrayMapTest
+{
+
+    @Test
+    public void testBasic()
+    {
+        Map<Integer, String> map = new IntArrayMap<>(2);
+        assertTrue(map.isEmpty());
+        assertNull(map.put(5, "5"));
+        assertNull(map.put(1, "1"));
+        assertEquals("1", map.put(1, "one"));
+        assertEquals(2, map.size());
+        assertEquals("one", map.get(1));
+        assertNull(map.get(0));
+        assertNull(map.get(100));
+        assertNull(map.get("1"));
+        assertTrue(map.containsKey(5));
+        assertFalse(map.containsKey(-1));
+
+        assertEquals(Arrays.asList(1, 5), new ArrayList<>(map.keySet()));
+        assertEquals(Arrays.asList("one", "5"), new ArrayList<>(map.values()));
+
+        Map<Integer, String> expected = new HashMap<>();
+        expected.put(1, "one");
+        expected.put(5, "5");
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+
+        assertTrue(map.keySet().remove(5));
+        assertFalse(map.keySet().remove(5));
+        assertEquals(1, map.size());
+        assertNull(map.remove(3));
+        assertEquals("one", map.remove(1));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testIteratorRemove()
+    {
+        Map<Integer, Integer> map = new IntArrayMap<>();
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i * i);
+        }
+        Iterator<Map.Entry<Integer, Integer>> it = map.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, Integer> entry = it.next();
+            if (entry.getKey() % 2 == 0) {
+                it.remove();
+            } else {
+                entry.setValue(-entry.getValue());
+            }
+        }
+        assertEquals(5, map.size());
+        assertEquals(Integer.valueOf(-9), map.get(3));
+        assertFalse(map.containsKey(4));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeKey()
+    {
+        new IntArrayMap<String>().put(-1, "a");
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullValue()
+    {
+        new IntArrayMap<String>().put(1, null);
+    }
+
+}
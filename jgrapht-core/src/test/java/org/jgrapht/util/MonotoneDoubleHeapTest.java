@@ -0,0 +1,139 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for monotone {@link AddressableDoubleHeap} implementations with integer keys.
+ *
+ * @author agent
+ */
+public abstract class MonotoneDoubleHeapTest
+{
+    abstract AddressableDoubleHeap createHeap(int maxKeyDifference);
+
+    @Test
+    public void testEmpty()
+    {
+        AddressableDoubleHeap h = createHeap(10);
+        assertTrue(h.isEmpty());
+        try {
+            h.deleteMin();
+            fail("No exception thrown");
+        } catch (NoSuchElementException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testSort()
+    {
+        AddressableDoubleHeap h = createHeap(100);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, h.insert((i * 37) % 100));
+        }
+        for (int i = 0; i < 100; i++) {
+            int handle = h.deleteMin();
+            assertEquals(i, h.getKey(handle), 0d);
+            assertFalse(h.contains(handle));
+        }
+        assertTrue(h.isEmpty());
+    }
+
+    @Test
+    public void testMonotoneRandom()
+    {
+        Random rng = new Random(7);
+        int maxWeight = 20;
+        AddressableDoubleHeap h = createHeap(maxWeight);
+        List<Integer> inHeap = new ArrayList<>();
+        h.insert(0d);
+        inHeap.add(0);
+
+        long last = 0;
+        int removed = 0;
+        while (!h.isEmpty()) {
+            int min = h.findMin();
+            assertEquals(min, h.deleteMin());
+            long key = (long) h.getKey(min);
+            assertTrue(key >= last);
+            last = key;
+            inHeap.remove(Integer.valueOf(min));
+            for (int handle : inHeap) {
+                assertTrue(h.getKey(handle) >= key);
+            }
+            removed++;
+
+            // simulate edge relaxations
+            int relaxations = removed < 500 ? 3 : 0;
+            for (int j = 0; j < relaxations; j++) {
+                double newKey = key + rng.nextInt(maxWeight + 1);
+                if (!inHeap.isEmpty() && rng.nextBoolean()) {
+                    int handle = inHeap.get(rng.nextInt(inHeap.size()));
+                    if (newKey < h.getKey(handle)) {
+                        h.decreaseKey(handle, newKey);
+                    }
+                } else {
+                    inHeap.add(h.insert(newKey));
+                }
+            }
+            assertEquals(inHeap.size(), h.size());
+        }
+        assertTrue(removed > 500);
+    }
+
+    @Test
+    public void testReinsert()
+    {
+        AddressableDoubleHeap h = createHeap(10);
+        int a = h.insert(1d);
+        int b = h.insert(2d);
+        assertEquals(a, h.deleteMin());
+        h.reinsert(a, 4d);
+        assertEquals(b, h.deleteMin());
+        assertEquals(a, h.deleteMin());
+        assertTrue(h.isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonIntegralKey()
+    {
+        createHeap(10).insert(1.5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeKey()
+    {
+        createHeap(10).insert(-1d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testKeySmallerThanMinimum()
+    {
+        AddressableDoubleHeap h = createHeap(10);
+        h.insert(3d);
+        h.insert(5d);
+        h.deleteMin();
+        h.insert(2d);
+    }
+}
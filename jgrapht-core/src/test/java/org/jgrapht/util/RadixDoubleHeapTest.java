@@ -0,0 +1,52 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link RadixDoubleHeap}.
+ *
+ * @author agent
+ */
+public class RadixDoubleHeapTest
+    extends
+    MonotoneDoubleHeapTest
+{
+    @Override
+    AddressableDoubleHeap createHeap(int maxKeyDifference)
+    {
+        return new RadixDoubleHeap();
+    }
+
+    @Test
+    public void testLargeKeys()
+    {
+        RadixDoubleHeap h = new RadixDoubleHeap(0);
+        int a = h.insert(RadixDoubleHeap.MAX_KEY);
+        int b = h.insert(1L << 40);
+        int c = h.insert(0d);
+        assertEquals(c, h.deleteMin());
+        assertEquals(b, h.deleteMin());
+        h.decreaseKey(a, (1L << 40) + 1);
+        assertEquals(a, h.deleteMin());
+        assertTrue(h.isEmpty());
+    }
+}